@@ -16,12 +16,30 @@
 
 package io.jmix.autoconfigure.appsettings;
 
+import io.jmix.appsettings.AppSettings;
 import io.jmix.appsettings.AppSettingsConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 
+import javax.cache.Cache;
+import javax.cache.configuration.MutableConfiguration;
+
 @AutoConfiguration
 @Import({AppSettingsConfiguration.class})
 public class AppSettingsAutoConfiguration {
+
+    @Bean
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    JCacheManagerCustomizer appSettingsCacheCustomizer() {
+        return cacheManager -> {
+            Cache<Object, Object> cache = cacheManager.getCache(AppSettings.APP_SETTINGS_CACHE_NAME);
+            if (cache == null) {
+                MutableConfiguration configuration = new MutableConfiguration();
+                cacheManager.createCache(AppSettings.APP_SETTINGS_CACHE_NAME, configuration);
+            }
+        };
+    }
 }
 
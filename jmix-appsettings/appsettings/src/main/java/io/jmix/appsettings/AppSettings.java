@@ -4,9 +4,15 @@ import io.jmix.appsettings.entity.AppSettingsEntity;
 
 public interface AppSettings {
 
+    String APP_SETTINGS_CACHE_NAME = "jmix-app-settings-cache";
+
     /**
      * Loads application settings entity of type {@code T}.
      * Note, that in default implementation attributes with empty values will be replaced with default values if specified.
+     * <p>
+     * Loaded entities are kept in the {@link #APP_SETTINGS_CACHE_NAME} cache until they are saved by {@link #save},
+     * so changes made to the settings records bypassing this method are not visible until then.
+     * Each call returns a new copy of the cached entity.
      *
      * @param clazz class of entity that extends {@link AppSettingsEntity}
      */
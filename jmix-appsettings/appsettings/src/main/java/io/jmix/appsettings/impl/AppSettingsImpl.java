@@ -3,16 +3,22 @@ package io.jmix.appsettings.impl;
 import io.jmix.appsettings.AppSettings;
 import io.jmix.appsettings.AppSettingsTools;
 import io.jmix.appsettings.entity.AppSettingsEntity;
-import io.jmix.core.UnconstrainedDataManager;
+import io.jmix.core.*;
 import io.jmix.core.entity.EntityValues;
 import io.jmix.core.metamodel.datatype.DatatypeRegistry;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component("appset_AppSettings")
 public class AppSettingsImpl implements AppSettings {
@@ -28,15 +34,57 @@ public class AppSettingsImpl implements AppSettings {
     @Autowired
     protected AppSettingsTools appSettingsTools;
 
+    @Autowired
+    protected ExtendedEntities extendedEntities;
+
+    @Autowired
+    protected MetadataTools metadataTools;
+
+    @Autowired
+    protected EntitySystemStateSupport entitySystemStateSupport;
+
+    @Autowired
+    protected CacheManager cacheManager;
+
+    protected Cache cache;
+
+    /**
+     * Incremented on each save to detect entities that were saved while being loaded into the cache.
+     */
+    protected final AtomicLong saveGeneration = new AtomicLong();
+
+    @PostConstruct
+    protected void init() {
+        cache = cacheManager.getCache(APP_SETTINGS_CACHE_NAME);
+        if (cache == null) {
+            throw new IllegalStateException(String.format("Unable to find cache: %s", APP_SETTINGS_CACHE_NAME));
+        }
+    }
+
     @Override
+    @SuppressWarnings("unchecked")
     public <T extends AppSettingsEntity> T load(Class<T> clazz) {
         log.debug("load application settings entity by class [{}]", clazz);
 
-        T settingsEntity = getAppSettingsEntity(clazz);
+        String cacheKey = getCacheKey(clazz);
+        T settingsEntity;
 
-        setDefaultValuesForMissingProperties(settingsEntity, getPropertyNames(clazz));
+        Cache.ValueWrapper wrapper = cache.get(cacheKey);
+        if (wrapper != null) {
+            settingsEntity = (T) Objects.requireNonNull(wrapper.get());
+        } else {
+            long generation = saveGeneration.get();
+            settingsEntity = loadAppSettingsEntity(clazz);
+            cache.put(cacheKey, settingsEntity);
 
-        return settingsEntity;
+            if (saveGeneration.get() != generation) {
+                // a concurrent save could evict the entry before the loaded entity was put
+                cache.evict(cacheKey);
+            }
+        }
+
+        // callers are free to modify the returned instance
+        return copyAppSettingsEntity(settingsEntity);
     }
 
     @Override
@@ -50,6 +98,46 @@ public class AppSettingsImpl implements AppSettings {
         updatePropertyValues(settingsEntityToSave, settingsEntity, getPropertyNames(clazz));
 
         saveAppSettingsEntity(settingsEntity);
+
+        String cacheKey = getCacheKey(clazz);
+        evictSavedEntity(cacheKey);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // the saved entity is visible to other transactions only after commit
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictSavedEntity(cacheKey);
+                }
+            });
+        }
+    }
+
+    protected void evictSavedEntity(String cacheKey) {
+        saveGeneration.incrementAndGet();
+        cache.evict(cacheKey);
+    }
+
+    /**
+     * Loads the entity from the data store and sets default values for properties having no value.
+     */
+    protected <T extends AppSettingsEntity> T loadAppSettingsEntity(Class<T> clazz) {
+        T settingsEntity = getAppSettingsEntity(clazz);
+
+        setDefaultValuesForMissingProperties(settingsEntity, getPropertyNames(clazz));
+
+        return settingsEntity;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <T extends AppSettingsEntity> T copyAppSettingsEntity(T settingsEntity) {
+        T copy = metadataTools.copy(settingsEntity);
+        entitySystemStateSupport.copySystemState((Entity) settingsEntity, (Entity) copy);
+        return copy;
+    }
+
+    protected String getCacheKey(Class<? extends AppSettingsEntity> clazz) {
+        return extendedEntities.getEffectiveMetaClass(clazz).getName();
     }
 
     protected <T extends AppSettingsEntity> T getAppSettingsEntity(Class<T> clazz) {
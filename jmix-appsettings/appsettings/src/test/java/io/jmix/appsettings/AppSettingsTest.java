@@ -1,12 +1,16 @@
 package io.jmix.appsettings;
 
 
+import io.jmix.appsettings.entity.AppSettingsEntity;
+import io.jmix.appsettings.impl.AppSettingsImpl;
 import io.jmix.appsettings.test_entity.TestAppSettingsEntity;
 import io.jmix.core.Metadata;
 import io.jmix.core.UnconstrainedDataManager;
+import io.jmix.eclipselink.testsupport.StatementCountingDataSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.boot.test.context.SpringBootTest;
 
 @SpringBootTest(classes = AppSettingsTestConfiguration.class)
@@ -21,6 +25,12 @@ class AppSettingsTest {
     @Autowired
     private Metadata metadata;
 
+    @Autowired
+    private StatementCountingDataSource dataSource;
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
     @Test
     void testGetDefaultValuesForAppSettings() {
         //ensure default values are returned without actual record in database
@@ -90,4 +100,70 @@ class AppSettingsTest {
         Assertions.assertEquals("access granted", loadedTestAppSettingsEntity.getTestStringValue());
     }
 
+    @Test
+    void testRepeatedLoadsAreServedFromCache() {
+        //warm up the cache
+        TestAppSettingsEntity testAppSettingsEntity = appSettings.load(TestAppSettingsEntity.class);
+        testAppSettingsEntity.setTestStringValue("modifiedCopy");
+
+        //ensure repeated loads issue no SQL and return unmodified copies
+        dataSource.resetStatementCount();
+        for (int i = 0; i < 10; i++) {
+            testAppSettingsEntity = appSettings.load(TestAppSettingsEntity.class);
+            Assertions.assertNotEquals("modifiedCopy", testAppSettingsEntity.getTestStringValue());
+        }
+        Assertions.assertEquals(0, dataSource.getStatementCount());
+
+        //ensure saving invalidates cached entity
+        testAppSettingsEntity.setTestLongValue(777L);
+        appSettings.save(testAppSettingsEntity);
+        dataSource.resetStatementCount();
+        testAppSettingsEntity = appSettings.load(TestAppSettingsEntity.class);
+        Assertions.assertEquals(777L, testAppSettingsEntity.getTestLongValue());
+        Assertions.assertTrue(dataSource.getStatementCount() > 0);
+
+        //restore default value
+        testAppSettingsEntity.setTestLongValue(null);
+        appSettings.save(testAppSettingsEntity);
+    }
+
+    @Test
+    void testEntitySavedWhileLoadingIsNotCached() {
+        SaveWhileLoadingAppSettings racingAppSettings = beanFactory.createBean(SaveWhileLoadingAppSettings.class);
+
+        //ensure the entity is not cached
+        TestAppSettingsEntity testAppSettingsEntity = racingAppSettings.load(TestAppSettingsEntity.class);
+        racingAppSettings.save(testAppSettingsEntity);
+
+        //save a changed entity after the stale one is loaded but before it is put to the cache
+        testAppSettingsEntity.setTestStringValue("savedWhileLoading");
+        racingAppSettings.entityToSave = testAppSettingsEntity;
+        racingAppSettings.load(TestAppSettingsEntity.class);
+
+        //ensure the stale entity is not served from the cache
+        testAppSettingsEntity = racingAppSettings.load(TestAppSettingsEntity.class);
+        Assertions.assertEquals("savedWhileLoading", testAppSettingsEntity.getTestStringValue());
+        Assertions.assertEquals("savedWhileLoading",
+                appSettings.load(TestAppSettingsEntity.class).getTestStringValue());
+
+        //restore default value
+        testAppSettingsEntity.setTestStringValue(null);
+        racingAppSettings.save(testAppSettingsEntity);
+    }
+
+    static class SaveWhileLoadingAppSettings extends AppSettingsImpl {
+
+        TestAppSettingsEntity entityToSave;
+
+        @Override
+        protected <T extends AppSettingsEntity> T loadAppSettingsEntity(Class<T> clazz) {
+            T settingsEntity = super.loadAppSettingsEntity(clazz);
+            if (entityToSave != null) {
+                TestAppSettingsEntity savedEntity = entityToSave;
+                entityToSave = null;
+                save(savedEntity);
+            }
+            return settingsEntity;
+        }
+    }
 }
@@ -10,6 +10,7 @@ import io.jmix.data.impl.JmixEntityManagerFactoryBean;
 import io.jmix.data.impl.JmixTransactionManager;
 import io.jmix.data.persistence.DbmsSpecifics;
 import io.jmix.eclipselink.EclipselinkConfiguration;
+import io.jmix.eclipselink.testsupport.StatementCountingDataSource;
 import liquibase.integration.spring.SpringLiquibase;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.cache.CacheManager;
@@ -34,10 +35,10 @@ public class AppSettingsTestConfiguration {
     @Bean
     @Primary
     DataSource dataSource() {
-        return new EmbeddedDatabaseBuilder()
+        return new StatementCountingDataSource(new EmbeddedDatabaseBuilder()
                 .generateUniqueName(true)
                 .setType(EmbeddedDatabaseType.HSQL)
-                .build();
+                .build());
     }
 
     @Bean
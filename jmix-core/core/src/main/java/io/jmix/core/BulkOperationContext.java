@@ -0,0 +1,210 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.core;
+
+import io.jmix.core.constraint.AccessConstraint;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.querycondition.Condition;
+import org.springframework.lang.Nullable;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Defines a set-based update or delete of entities of one type, executed by a single statement in the data store
+ * instead of loading and saving each instance.
+ *
+ * @see UnconstrainedDataManager#bulkUpdate(Class)
+ * @see UnconstrainedDataManager#bulkDelete(Class)
+ */
+public class BulkOperationContext implements Serializable {
+
+    private static final long serialVersionUID = -1733479425917633521L;
+
+    /**
+     * Type of the operation: {@link #UPDATE} or {@link #DELETE}.
+     */
+    public enum Type {
+        UPDATE,
+        DELETE
+    }
+
+    protected MetaClass entityMetaClass;
+    protected Type type;
+    protected Map<String, Object> values = new LinkedHashMap<>();
+    protected Condition condition;
+    protected Map<String, Object> parameters = new HashMap<>();
+    protected boolean publishChangedEvent;
+    protected boolean joinTransaction = true;
+    protected List<AccessConstraint<?>> accessConstraints;
+    protected Map<String, Serializable> hints;
+
+    /**
+     * @param entityMetaClass metaclass of affected entities
+     * @param type            type of the operation
+     */
+    public BulkOperationContext(MetaClass entityMetaClass, Type type) {
+        this.entityMetaClass = entityMetaClass;
+        this.type = type;
+    }
+
+    /**
+     * @return metaclass of affected entities
+     */
+    public MetaClass getEntityMetaClass() {
+        return entityMetaClass;
+    }
+
+    /**
+     * @return type of the operation
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return new values of entity attributes by attribute names, for {@link Type#UPDATE} operation only
+     */
+    public Map<String, Object> getValues() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Sets a new value of the entity attribute.
+     *
+     * @param property name of a local or to-one reference attribute
+     * @param value    new value, can be null
+     */
+    public BulkOperationContext setValue(String property, @Nullable Object value) {
+        values.put(property, value);
+        return this;
+    }
+
+    /**
+     * @return condition selecting affected entities, or null if the operation affects all entities of the type
+     */
+    @Nullable
+    public Condition getCondition() {
+        return condition;
+    }
+
+    /**
+     * Sets condition selecting affected entities. Parameters of the condition are set by {@link #setParameter}.
+     */
+    public BulkOperationContext setCondition(@Nullable Condition condition) {
+        this.condition = condition;
+        return this;
+    }
+
+    /**
+     * @return parameters of the condition
+     */
+    public Map<String, Object> getParameters() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    /**
+     * Sets value of a condition parameter.
+     */
+    public BulkOperationContext setParameter(String name, @Nullable Object value) {
+        parameters.put(name, value);
+        return this;
+    }
+
+    /**
+     * @return whether a single {@code BulkEntityChangedEvent} should be published after the operation
+     */
+    public boolean isPublishChangedEvent() {
+        return publishChangedEvent;
+    }
+
+    /**
+     * Sets whether a single {@code BulkEntityChangedEvent} should be published after the operation. Regular
+     * {@code EntityChangedEvent}s are not published for entities affected by bulk operations.
+     */
+    public BulkOperationContext setPublishChangedEvent(boolean publishChangedEvent) {
+        this.publishChangedEvent = publishChangedEvent;
+        return this;
+    }
+
+    /**
+     * @return custom hints which can be used by data store
+     */
+    public Map<String, Serializable> getHints() {
+        return hints == null ? Collections.emptyMap() : Collections.unmodifiableMap(hints);
+    }
+
+    /**
+     * Sets custom hint that should be used by data store.
+     */
+    public BulkOperationContext setHint(String hintName, Serializable value) {
+        if (hints == null) {
+            hints = new HashMap<>();
+        }
+        hints.put(hintName, value);
+        return this;
+    }
+
+    /**
+     * Sets custom hints that should be used by data store.
+     */
+    public BulkOperationContext setHints(Map<String, Serializable> hints) {
+        this.hints = hints;
+        return this;
+    }
+
+    /**
+     * @return list of access constraints
+     */
+    public List<AccessConstraint<?>> getAccessConstraints() {
+        return this.accessConstraints == null ? Collections.emptyList() : this.accessConstraints;
+    }
+
+    /**
+     * Sets the list of access constraints.
+     */
+    public BulkOperationContext setAccessConstraints(List<AccessConstraint<?>> accessConstraints) {
+        this.accessConstraints = accessConstraints;
+        return this;
+    }
+
+    /**
+     * @return whether to join existing transaction or always start a new one
+     */
+    public boolean isJoinTransaction() {
+        return joinTransaction;
+    }
+
+    /**
+     * Sets whether to join existing transaction or always start a new one.
+     */
+    public BulkOperationContext setJoinTransaction(boolean joinTransaction) {
+        this.joinTransaction = joinTransaction;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkOperationContext{" +
+                "entity=" + entityMetaClass.getName() +
+                ", type=" + type +
+                ", values=" + values.keySet() +
+                ", condition=" + condition +
+                '}';
+    }
+}
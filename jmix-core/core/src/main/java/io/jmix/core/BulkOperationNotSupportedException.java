@@ -0,0 +1,41 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core;
+
+/**
+ * Exception that is raised on attempt to execute a bulk update or delete operation for entities
+ * of a data store that cannot execute such operations.
+ *
+ * @see DataStore#executeBulkOperation(BulkOperationContext)
+ */
+public class BulkOperationNotSupportedException extends RuntimeException {
+
+    private static final long serialVersionUID = 2484101452339187214L;
+
+    private final String storeName;
+
+    public static final String ERR_MESSAGE = "Bulk operations are not supported by data store '%s'";
+
+    public BulkOperationNotSupportedException(String storeName) {
+        super(String.format(ERR_MESSAGE, storeName));
+        this.storeName = storeName;
+    }
+
+    public String getStoreName() {
+        return storeName;
+    }
+}
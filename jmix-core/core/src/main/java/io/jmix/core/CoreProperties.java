@@ -104,6 +104,18 @@ public class CoreProperties {
      */
     boolean roundDecimalValueByFormat;
 
+    /**
+     * Whether classpath indexes generated by the Jmix Gradle plugin are used instead of scanning base packages
+     * of Jmix modules at startup.
+     */
+    boolean classpathIndexEnabled;
+
+    /**
+     * Whether executors created by {@link io.jmix.core.concurrent.TaskExecutorFactory} start a virtual thread per task
+     * when the application runs on Java 21 or later.
+     */
+    boolean virtualThreadsEnabled;
+
     public CoreProperties(
             String webHostName,
             String webPort,
@@ -124,7 +136,9 @@ public class CoreProperties {
             @DefaultValue("true") boolean triggerFilesEnabled,
             @DefaultValue("5000") Duration triggerFilesProcessInterval,
             @DefaultValue PessimisticLock pessimisticLock,
-            @DefaultValue("true") boolean roundDecimalValueByFormat) {
+            @DefaultValue("true") boolean roundDecimalValueByFormat,
+            @DefaultValue("true") boolean classpathIndexEnabled,
+            @DefaultValue("true") boolean virtualThreadsEnabled) {
         this.webHostName = webHostName;
         this.webPort = webPort;
         this.confDir = confDir;
@@ -154,6 +168,8 @@ public class CoreProperties {
         this.triggerFilesProcessInterval = triggerFilesProcessInterval;
         this.pessimisticLock = pessimisticLock;
         this.roundDecimalValueByFormat = roundDecimalValueByFormat;
+        this.classpathIndexEnabled = classpathIndexEnabled;
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
     }
 
     public String getWebHostName() {
@@ -266,10 +282,18 @@ public class CoreProperties {
          */
         boolean useDefaultQuartzConfiguration;
 
+        /**
+         * Interval of checking all locks of the cache for expiration. Between these checks, only locks registered
+         * in the expiration index of the current instance are checked. Zero disables periodic full checks.
+         */
+        Duration expirationFullScanInterval;
+
         public PessimisticLock(@DefaultValue("0 * * * * ?") String expirationCron,
-                               @DefaultValue("true") boolean useDefaultQuartzConfiguration) {
+                               @DefaultValue("true") boolean useDefaultQuartzConfiguration,
+                               @DefaultValue("10m") Duration expirationFullScanInterval) {
             this.expirationCron = expirationCron;
             this.useDefaultQuartzConfiguration = useDefaultQuartzConfiguration;
+            this.expirationFullScanInterval = expirationFullScanInterval;
         }
 
         /**
@@ -286,6 +310,13 @@ public class CoreProperties {
             return useDefaultQuartzConfiguration;
         }
 
+        /**
+         * @see #expirationFullScanInterval
+         */
+        public Duration getExpirationFullScanInterval() {
+            return expirationFullScanInterval;
+        }
+
     }
 
     /**
@@ -294,4 +325,18 @@ public class CoreProperties {
     public boolean isRoundDecimalValueByFormat() {
         return roundDecimalValueByFormat;
     }
+
+    /**
+     * @see #classpathIndexEnabled
+     */
+    public boolean isClasspathIndexEnabled() {
+        return classpathIndexEnabled;
+    }
+
+    /**
+     * @see #virtualThreadsEnabled
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
 }
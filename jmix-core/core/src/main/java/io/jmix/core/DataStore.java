@@ -84,4 +84,13 @@ public interface DataStore {
      * @return number of key-value pairs in the data store
      */
     long getCount(ValueLoadContext context);
+
+    /**
+     * Updates or deletes entities selected by a condition using a single statement.
+     *
+     * @param context defines the operation
+     * @return number of affected entities
+     * @throws BulkOperationNotSupportedException if the data store does not support bulk operations
+     */
+    int executeBulkOperation(BulkOperationContext context);
 }
@@ -23,6 +23,7 @@ import io.jmix.core.entity.SecurityState;
 import io.jmix.core.entity.annotation.JmixGeneratedValue;
 import io.jmix.core.entity.annotation.JmixId;
 import io.jmix.core.impl.EntityInternals;
+import io.jmix.core.metamodel.model.MetaProperty;
 
 import org.springframework.lang.Nullable;
 import jakarta.persistence.EmbeddedId;
@@ -79,6 +80,23 @@ public interface EntityEntry extends Serializable {
 
     void setAttributeValue(String name, @Nullable Object value, boolean checkEquals);
 
+    /**
+     * Returns value of the attribute corresponding to the given property. Implementations can use
+     * {@link MetaProperty#getOrdinal()} to access the attribute without lookup by name.
+     */
+    @Nullable
+    default <T> T getAttributeValue(MetaProperty property) {
+        return getAttributeValue(property.getName());
+    }
+
+    /**
+     * Sets value of the attribute corresponding to the given property. Implementations can use
+     * {@link MetaProperty#getOrdinal()} to access the attribute without lookup by name.
+     */
+    default void setAttributeValue(MetaProperty property, @Nullable Object value, boolean checkEquals) {
+        setAttributeValue(property.getName(), value, checkEquals);
+    }
+
     default boolean isEmbeddable() {
         return false;
     }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.core;
+
+import io.jmix.core.querycondition.Condition;
+import org.springframework.lang.Nullable;
+
+import java.io.Serializable;
+
+/**
+ * Fluent API for set-based deletion of entities.
+ * <p>
+ * Usage example:
+ * <pre>
+ * int count = dataManager.bulkDelete(LogRecord.class)
+ *      .where(PropertyCondition.less("date", someDate))
+ *      .execute();
+ * </pre>
+ * Soft-deletable entities are marked as deleted unless soft deletion is turned off by the
+ * {@code PersistenceHints.SOFT_DELETION} hint. The deletion is executed by a single statement in the data store,
+ * so entity listeners and {@code EntityChangedEvent}s are not processed for affected instances. Compositions and
+ * delete policies cannot be processed either, so entities having them cannot be deleted this way.
+ *
+ * @param <E> entity type
+ */
+public class FluentBulkDelete<E> {
+
+    private final BulkOperationContext context;
+    private final UnconstrainedDataManager dataManager;
+
+    public FluentBulkDelete(BulkOperationContext context, UnconstrainedDataManager dataManager) {
+        this.context = context;
+        this.dataManager = dataManager;
+    }
+
+    /**
+     * Sets condition selecting deleted entities. If not set, all entities of the type are deleted.
+     */
+    public FluentBulkDelete<E> where(Condition condition) {
+        context.setCondition(condition);
+        return this;
+    }
+
+    /**
+     * Sets value of a condition parameter.
+     */
+    public FluentBulkDelete<E> parameter(String name, @Nullable Object value) {
+        context.setParameter(name, value);
+        return this;
+    }
+
+    /**
+     * Sets custom hint that should be used by data store.
+     */
+    public FluentBulkDelete<E> hint(String hintName, Serializable value) {
+        context.setHint(hintName, value);
+        return this;
+    }
+
+    /**
+     * Sets whether to join existing transaction or always start a new one.
+     */
+    public FluentBulkDelete<E> joinTransaction(boolean join) {
+        context.setJoinTransaction(join);
+        return this;
+    }
+
+    /**
+     * Requests publishing of a single {@code BulkEntityChangedEvent} after the deletion.
+     */
+    public FluentBulkDelete<E> publishChangedEvent() {
+        context.setPublishChangedEvent(true);
+        return this;
+    }
+
+    /**
+     * Executes the deletion.
+     *
+     * @return number of deleted entities
+     */
+    public int execute() {
+        return dataManager.executeBulkOperation(context);
+    }
+}
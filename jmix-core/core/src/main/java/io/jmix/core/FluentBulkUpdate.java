@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.core;
+
+import io.jmix.core.querycondition.Condition;
+import org.springframework.lang.Nullable;
+
+import java.io.Serializable;
+
+/**
+ * Fluent API for set-based update of entities.
+ * <p>
+ * Usage example:
+ * <pre>
+ * int count = dataManager.bulkUpdate(Order.class)
+ *      .set("status", OrderStatus.ARCHIVED)
+ *      .where(PropertyCondition.less("date", someDate))
+ *      .execute();
+ * </pre>
+ * The update is executed by a single statement in the data store, so entity listeners and
+ * {@code EntityChangedEvent}s are not invoked for affected instances. Use {@link #publishChangedEvent()}
+ * to get notified about the change by a single {@code BulkEntityChangedEvent}.
+ *
+ * @param <E> entity type
+ */
+public class FluentBulkUpdate<E> {
+
+    private final BulkOperationContext context;
+    private final UnconstrainedDataManager dataManager;
+
+    public FluentBulkUpdate(BulkOperationContext context, UnconstrainedDataManager dataManager) {
+        this.context = context;
+        this.dataManager = dataManager;
+    }
+
+    /**
+     * Sets a new value of the entity attribute.
+     *
+     * @param property name of a local or to-one reference attribute
+     * @param value    new value, can be null
+     */
+    public FluentBulkUpdate<E> set(String property, @Nullable Object value) {
+        context.setValue(property, value);
+        return this;
+    }
+
+    /**
+     * Sets condition selecting updated entities. If not set, all entities of the type are updated.
+     */
+    public FluentBulkUpdate<E> where(Condition condition) {
+        context.setCondition(condition);
+        return this;
+    }
+
+    /**
+     * Sets value of a condition parameter.
+     */
+    public FluentBulkUpdate<E> parameter(String name, @Nullable Object value) {
+        context.setParameter(name, value);
+        return this;
+    }
+
+    /**
+     * Sets custom hint that should be used by data store.
+     */
+    public FluentBulkUpdate<E> hint(String hintName, Serializable value) {
+        context.setHint(hintName, value);
+        return this;
+    }
+
+    /**
+     * Sets whether to join existing transaction or always start a new one.
+     */
+    public FluentBulkUpdate<E> joinTransaction(boolean join) {
+        context.setJoinTransaction(join);
+        return this;
+    }
+
+    /**
+     * Requests publishing of a single {@code BulkEntityChangedEvent} after the update.
+     */
+    public FluentBulkUpdate<E> publishChangedEvent() {
+        context.setPublishChangedEvent(true);
+        return this;
+    }
+
+    /**
+     * Executes the update.
+     *
+     * @return number of updated entities
+     */
+    public int execute() {
+        return dataManager.executeBulkOperation(context);
+    }
+}
@@ -33,6 +33,7 @@ public class SaveContext implements Serializable {
     protected Set<Object> entitiesToRemove = new LinkedHashSet<>();
 
     protected Map<Object, FetchPlan> fetchPlans = new HashMap<>();
+    protected Map<Object, Set<String>> changedAttributes = new HashMap<>();
 
     protected boolean discardSaved;
     protected boolean joinTransaction = true;
@@ -117,6 +118,17 @@ public class SaveContext implements Serializable {
         return fetchPlans;
     }
 
+    /**
+     * Enables defining names of changed attributes for saved entities. If an existing entity has an entry in this map,
+     * a data store may apply only the listed attributes to the stored instance instead of merging the whole entity.
+     * Entities without an entry are saved entirely.
+     *
+     * @return mutable map of entities to names of their changed attributes
+     */
+    public Map<Object, Set<String>> getChangedAttributes() {
+        return changedAttributes;
+    }
+
     /**
      * @return custom hints which are used by the query
      */
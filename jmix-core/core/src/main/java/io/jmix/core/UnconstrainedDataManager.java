@@ -114,6 +114,44 @@ public interface UnconstrainedDataManager {
      */
     long getCount(ValueLoadContext context);
 
+    /**
+     * Updates or deletes entities selected by a condition using a single statement in the data store.
+     *
+     * @param context defines the operation
+     * @return number of affected entities
+     * @throws BulkOperationNotSupportedException if the data store of the entity does not support bulk operations
+     */
+    int executeBulkOperation(BulkOperationContext context);
+
+    /**
+     * Entry point to the fluent API for set-based update of entities.
+     * <p>
+     * Usage example:
+     * <pre>
+     * int count = dataManager.bulkUpdate(Order.class)
+     *      .set("status", OrderStatus.ARCHIVED)
+     *      .where(PropertyCondition.less("date", someDate))
+     *      .execute();
+     * </pre>
+     *
+     * @param entityClass class of the updated entities
+     */
+    <E> FluentBulkUpdate<E> bulkUpdate(Class<E> entityClass);
+
+    /**
+     * Entry point to the fluent API for set-based deletion of entities.
+     * <p>
+     * Usage example:
+     * <pre>
+     * int count = dataManager.bulkDelete(LogRecord.class)
+     *      .where(PropertyCondition.less("date", someDate))
+     *      .execute();
+     * </pre>
+     *
+     * @param entityClass class of the deleted entities
+     */
+    <E> FluentBulkDelete<E> bulkDelete(Class<E> entityClass);
+
     /**
      * Entry point to the fluent API for loading entities.
      * <p>
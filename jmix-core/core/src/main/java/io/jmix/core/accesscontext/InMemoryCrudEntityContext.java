@@ -35,6 +35,8 @@ public class InMemoryCrudEntityContext implements AccessContext {
     protected BiPredicate updatePredicate;
     protected BiPredicate deletePredicate;
 
+    protected boolean inMemoryOnlyReadPredicate;
+
     protected ApplicationContext applicationContext;
 
     public InMemoryCrudEntityContext(MetaClass entityClass, ApplicationContext applicationContext) {
@@ -72,11 +74,33 @@ public class InMemoryCrudEntityContext implements AccessContext {
     }
 
     public void addReadPredicate(BiPredicate predicate) {
+        addReadPredicate(predicate, false);
+    }
+
+    /**
+     * Adds a predicate checking that an entity can be read.
+     *
+     * @param predicate      predicate
+     * @param appliedToQuery whether the same restriction is also applied to JPQL queries loading the entity, so
+     *                       the predicate cannot exclude instances returned by a query
+     */
+    public void addReadPredicate(BiPredicate predicate, boolean appliedToQuery) {
         if (this.readPredicate == null) {
             this.readPredicate = predicate;
         } else {
             this.readPredicate = this.readPredicate.and(predicate);
         }
+        if (!appliedToQuery) {
+            inMemoryOnlyReadPredicate = true;
+        }
+    }
+
+    /**
+     * @return true if any of the read predicates is not applied to JPQL queries, so paging and counting
+     * of loaded instances must take the predicate into account
+     */
+    public boolean hasInMemoryOnlyReadPredicate() {
+        return inMemoryOnlyReadPredicate;
     }
 
     public boolean isUpdatePermitted(Object entity) {
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.concurrent;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.jmix.core.CoreProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.*;
+
+/**
+ * Creates executors for framework tasks that mostly block on I/O: background UI tasks, file storage writes,
+ * mail sending and synchronization, document conversion, etc.
+ * <p>
+ * When the application runs on Java 21 or later and {@link CoreProperties#isVirtualThreadsEnabled()} is true,
+ * created executors start a new virtual thread for each task and limit the number of concurrently running tasks
+ * by a semaphore. Otherwise, they are backed by a pool of platform threads with the same maximum size.
+ */
+@Component("core_TaskExecutorFactory")
+public class TaskExecutorFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskExecutorFactory.class);
+
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private static final VirtualThreadSupport virtualThreadSupport = VirtualThreadSupport.create();
+
+    @Autowired
+    protected CoreProperties coreProperties;
+
+    /**
+     * Creates an executor.
+     *
+     * @param threadNamePrefix prefix of names of the executor threads, a sequence number is appended to it
+     * @param maxConcurrency   maximum number of concurrently running tasks, not limited if zero or negative
+     * @return new executor which must be shut down by the caller when not needed anymore
+     */
+    public TaskExecutorService create(String threadNamePrefix, int maxConcurrency) {
+        return create(threadNamePrefix, maxConcurrency, 0);
+    }
+
+    /**
+     * Creates an executor with a bounded queue. When {@code maxConcurrency} tasks are running and
+     * {@code queueCapacity} tasks are waiting, new tasks are rejected with
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     *
+     * @param threadNamePrefix prefix of names of the executor threads, a sequence number is appended to it
+     * @param maxConcurrency   maximum number of concurrently running tasks, not limited if zero or negative
+     * @param queueCapacity    maximum number of waiting tasks, not limited if zero or negative
+     * @return new executor which must be shut down by the caller when not needed anymore
+     */
+    public TaskExecutorService create(String threadNamePrefix, int maxConcurrency, int queueCapacity) {
+        if (isVirtualThreadsUsed()) {
+            log.debug("Creating virtual thread executor '{}' with max concurrency {}", threadNamePrefix, maxConcurrency);
+            return new TaskExecutorService(virtualThreadSupport.createExecutor(threadNamePrefix),
+                    maxConcurrency, queueCapacity);
+        }
+        return new TaskExecutorService(
+                createPlatformThreadExecutor(threadNamePrefix, maxConcurrency, queueCapacity), 0);
+    }
+
+    /**
+     * @return true if created executors use virtual threads
+     */
+    public boolean isVirtualThreadsUsed() {
+        return virtualThreadSupport != null && coreProperties.isVirtualThreadsEnabled();
+    }
+
+    protected ExecutorService createPlatformThreadExecutor(String threadNamePrefix, int maxConcurrency,
+                                                           int queueCapacity) {
+        ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat(threadNamePrefix + "%d")
+                .setDaemon(true)
+                .build();
+
+        if (maxConcurrency <= 0) {
+            return Executors.newCachedThreadPool(threadFactory);
+        }
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                maxConcurrency,
+                maxConcurrency,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                queueCapacity > 0 ? new LinkedBlockingQueue<>(queueCapacity) : new LinkedBlockingQueue<>(),
+                threadFactory
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Creates virtual thread executors using method handles, as the module is compiled for Java 17.
+     */
+    protected static class VirtualThreadSupport {
+
+        protected final MethodHandle ofVirtual;
+        protected final MethodHandle name;
+        protected final MethodHandle factory;
+        protected final MethodHandle newThreadPerTaskExecutor;
+
+        protected VirtualThreadSupport(MethodHandle ofVirtual, MethodHandle name,
+                                       MethodHandle factory, MethodHandle newThreadPerTaskExecutor) {
+            this.ofVirtual = ofVirtual;
+            this.name = name;
+            this.factory = factory;
+            this.newThreadPerTaskExecutor = newThreadPerTaskExecutor;
+        }
+
+        @Nullable
+        protected static VirtualThreadSupport create() {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+                Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+                return new VirtualThreadSupport(
+                        lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass)),
+                        lookup.findVirtual(builderClass, "name",
+                                MethodType.methodType(builderClass, String.class, long.class)),
+                        lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class)),
+                        lookup.findStatic(Executors.class, "newThreadPerTaskExecutor",
+                                MethodType.methodType(ExecutorService.class, ThreadFactory.class))
+                );
+            } catch (ReflectiveOperationException e) {
+                log.debug("Virtual threads are not supported by the current Java runtime");
+                return null;
+            }
+        }
+
+        protected ExecutorService createExecutor(String threadNamePrefix) {
+            try {
+                Object builder = ofVirtual.invoke();
+                builder = name.invoke(builder, threadNamePrefix, 0L);
+                ThreadFactory threadFactory = (ThreadFactory) factory.invoke(builder);
+                return (ExecutorService) newThreadPerTaskExecutor.invoke(threadFactory);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Unable to create virtual thread executor", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.concurrent;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor service created by {@link TaskExecutorFactory}.
+ * <p>
+ * Delegates execution to another executor service and optionally limits the number of concurrently running tasks
+ * with a fair semaphore. The limit is used with executors starting a thread per task: a submitted task waits for
+ * a permit in its own thread in the order of submission, so the caller is never blocked. The number of tasks
+ * waiting for a permit can be limited too: when the limit is reached, new tasks are rejected with
+ * {@link RejectedExecutionException}, like in a thread pool with a bounded queue.
+ * <p>
+ * Implements {@link TaskExecutor}, so it can be registered as a Spring task executor bean.
+ */
+public class TaskExecutorService extends AbstractExecutorService implements TaskExecutor {
+
+    protected final ExecutorService delegate;
+    @Nullable
+    protected final Semaphore semaphore;
+    @Nullable
+    protected final Semaphore capacity;
+
+    /**
+     * @param delegate       executor service running the tasks
+     * @param maxConcurrency maximum number of concurrently running tasks, not limited if zero or negative
+     */
+    public TaskExecutorService(ExecutorService delegate, int maxConcurrency) {
+        this(delegate, maxConcurrency, 0);
+    }
+
+    /**
+     * @param delegate       executor service running the tasks
+     * @param maxConcurrency maximum number of concurrently running tasks, not limited if zero or negative
+     * @param queueCapacity  maximum number of tasks waiting for execution when {@code maxConcurrency} tasks
+     *                       are running, not limited if zero or negative
+     */
+    public TaskExecutorService(ExecutorService delegate, int maxConcurrency, int queueCapacity) {
+        this.delegate = delegate;
+        this.semaphore = maxConcurrency > 0 ? new Semaphore(maxConcurrency, true) : null;
+        this.capacity = maxConcurrency > 0 && queueCapacity > 0 ? new Semaphore(maxConcurrency + queueCapacity) : null;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (semaphore == null) {
+            delegate.execute(command);
+            return;
+        }
+
+        if (capacity != null && !capacity.tryAcquire()) {
+            throw new RejectedExecutionException("Task " + command + " rejected: executor queue is full");
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    try {
+                        semaphore.acquire();
+                    } catch (InterruptedException e) {
+                        // cancelled or shut down before the task has started
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    try {
+                        command.run();
+                    } finally {
+                        semaphore.release();
+                    }
+                } finally {
+                    if (capacity != null) {
+                        capacity.release();
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            if (capacity != null) {
+                capacity.release();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
@@ -24,6 +24,7 @@ import io.jmix.core.annotation.Internal;
 import io.jmix.core.common.util.ReflectionHelper;
 import io.jmix.core.entity.annotation.JmixGeneratedValue;
 import io.jmix.core.entity.annotation.JmixId;
+import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.core.metamodel.model.utils.MethodsCache;
 import io.jmix.core.metamodel.model.utils.RelatedPropertiesCache;
 import org.springframework.lang.NonNull;
@@ -57,6 +58,13 @@ public abstract class BaseEntityEntry implements EntityEntry, Cloneable {
 
     protected static final int PROPERTY_CHANGE_LISTENERS_INITIAL_CAPACITY = 4;
 
+    /**
+     * Name of the static {@code String[]} field generated by enhancing in subclasses. The field contains names
+     * of the entity attributes, and the index of a name is the ordinal of the attribute
+     * (see {@link MetaProperty#getOrdinal()}).
+     */
+    public static final String ATTRIBUTE_NAMES_FIELD = "ATTRIBUTE_NAMES";
+
     public BaseEntityEntry(Entity source) {
         this.source = source;
     }
@@ -85,6 +93,66 @@ public abstract class BaseEntityEntry implements EntityEntry, Cloneable {
         return (T) MethodsCache.getOrCreate(getSource().getClass()).getGetter(name).apply(getSource());
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getAttributeValue(@NonNull MetaProperty property) {
+        if (isDirectAccessSupported(property)) {
+            return (T) getAttributeValueByOrdinal(property.getOrdinal());
+        }
+        return getAttributeValue(property.getName());
+    }
+
+    @Override
+    public void setAttributeValue(@NonNull MetaProperty property, Object value, boolean checkEquals) {
+        if (isDirectAccessSupported(property)) {
+            int ordinal = property.getOrdinal();
+            if (!checkEquals || !EntityValues.propertyValueEquals(getAttributeValueByOrdinal(ordinal), value)) {
+                setAttributeValueByOrdinal(ordinal, value);
+            }
+        } else {
+            setAttributeValue(property.getName(), value, checkEquals);
+        }
+    }
+
+    /**
+     * Whether the attribute can be accessed by {@link MetaProperty#getOrdinal()} using the accessors generated
+     * by enhancing. Attributes provided by {@link EntityValuesProvider}s are always accessed by name.
+     */
+    protected boolean isDirectAccessSupported(MetaProperty property) {
+        int ordinal = property.getOrdinal();
+        if (ordinal < 0 || entityValuesProviders != null) {
+            return false;
+        }
+        String[] names = getOrdinalAttributeNames();
+        return names != null && ordinal < names.length && names[ordinal].equals(property.getName());
+    }
+
+    /**
+     * Returns names of attributes in the order of their ordinals. The method is generated by enhancing,
+     * see {@link #ATTRIBUTE_NAMES_FIELD}.
+     *
+     * @return attribute names or null if the entry doesn't support access by ordinal
+     */
+    @Nullable
+    protected String[] getOrdinalAttributeNames() {
+        return null;
+    }
+
+    /**
+     * Returns attribute value by its ordinal. The method is generated by enhancing.
+     */
+    @Nullable
+    protected Object getAttributeValueByOrdinal(int ordinal) {
+        throw new UnsupportedOperationException("Access by ordinal is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Sets attribute value by its ordinal. The method is generated by enhancing.
+     */
+    protected void setAttributeValueByOrdinal(int ordinal, @Nullable Object value) {
+        throw new UnsupportedOperationException("Access by ordinal is not supported by " + getClass().getName());
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public void setAttributeValue(@NonNull String name, Object value, boolean checkEquals) {
@@ -18,6 +18,8 @@ package io.jmix.core.entity;
 
 import io.jmix.core.Entity;
 import io.jmix.core.annotation.Internal;
+import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.metamodel.model.MetaPropertyPath;
 import io.jmix.core.metamodel.model.PropertyPath;
 import org.apache.commons.lang3.ArrayUtils;
 
@@ -100,6 +102,31 @@ public class EntityValues {
         return getEntityEntry(entity).getAttributeValue(name);
     }
 
+    /**
+     * Get an attribute value. Uses {@link MetaProperty#getOrdinal()} to access the attribute directly if the
+     * entity class is enhanced accordingly.
+     *
+     * @param property meta-property of the attribute
+     * @return attribute value
+     */
+    @Nullable
+    public static <T> T getValue(Object entity, MetaProperty property) {
+        return getEntityEntry(entity).getAttributeValue(property);
+    }
+
+    /**
+     * Set an attribute value. Uses {@link MetaProperty#getOrdinal()} to access the attribute directly if the
+     * entity class is enhanced accordingly.
+     *
+     * @param property    meta-property of the attribute
+     * @param value       attribute value
+     * @param checkEquals check equals for previous and new value.
+     *                    If flag is true and objects equals, then setter will not be invoked
+     */
+    public static void setValue(Object entity, MetaProperty property, @Nullable Object value, boolean checkEquals) {
+        getEntityEntry(entity).setAttributeValue(property, value, checkEquals);
+    }
+
     /**
      * Get an attribute value. Locates the attribute by the given path in object graph starting from this instance.
      * <br>
@@ -125,8 +152,32 @@ public class EntityValues {
      * @return attribute value. If any traversing attribute value is null or is not an {@link Entity}, this method
      * stops here and returns this value.
      */
+    @SuppressWarnings("unchecked")
     @Nullable
     public static <T> T getValueEx(Object entity, PropertyPath propertyPath) {
+        if (propertyPath instanceof MetaPropertyPath) {
+            MetaProperty[] metaProperties = ((MetaPropertyPath) propertyPath).getMetaProperties();
+            if (metaProperties.length == 1) {
+                return getValue(entity, metaProperties[0]);
+            }
+
+            Object currentValue = null;
+            Object currentEntity = entity;
+            for (MetaProperty property : metaProperties) {
+                if (currentEntity == null) {
+                    break;
+                }
+
+                currentValue = getValue(currentEntity, property);
+
+                if (currentValue == null) {
+                    break;
+                }
+
+                currentEntity = currentValue instanceof Entity ? currentValue : null;
+            }
+            return (T) currentValue;
+        }
         if (propertyPath.isDirectProperty()) {
             return getValue(entity, propertyPath.getFirstPropertyName());
         } else {
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.core.event;
+
+import io.jmix.core.annotation.Internal;
+import io.jmix.core.metamodel.model.MetaClass;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+import java.util.Set;
+
+/**
+ * A Spring application event that is sent after a set-based update or deletion of entities performed by
+ * {@code DataManager.bulkUpdate()} or {@code DataManager.bulkDelete()}, if it was requested by the caller.
+ * <p>
+ * The event describes the whole operation instead of individual instances. As {@link EntityChangedEvent}, it is
+ * published inside the transaction, so you can handle it by {@code @EventListener} or
+ * {@code @TransactionalEventListener}:
+ * <pre>
+ * {@literal @}EventListener
+ * protected void ordersChanged(BulkEntityChangedEvent&lt;Order&gt; event) {
+ *     if (event.getChangedAttributes().contains("status")) {
+ *         //...
+ *     }
+ * }
+ * </pre>
+ *
+ * @param <E> entity type
+ */
+public class BulkEntityChangedEvent<E> extends ApplicationEvent implements ResolvableTypeProvider {
+
+    private final EntityChangedEvent.Type type;
+    private final Set<String> changedAttributes;
+    private final int count;
+    private final MetaClass originalMetaClass;
+
+    /**
+     * INTERNAL.
+     */
+    @Internal
+    public BulkEntityChangedEvent(Object source, EntityChangedEvent.Type type, Set<String> changedAttributes,
+                                  int count, MetaClass originalMetaClass) {
+        super(source);
+        this.type = type;
+        this.changedAttributes = changedAttributes;
+        this.count = count;
+        this.originalMetaClass = originalMetaClass;
+    }
+
+    /**
+     * Returns the event type: {@link EntityChangedEvent.Type#UPDATED} or {@link EntityChangedEvent.Type#DELETED}.
+     */
+    public EntityChangedEvent.Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns names of the attributes set by the update. Empty for deletion.
+     */
+    public Set<String> getChangedAttributes() {
+        return changedAttributes;
+    }
+
+    /**
+     * Returns the number of affected entities.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the metaclass of affected entities.
+     */
+    public MetaClass getMetaClass() {
+        return originalMetaClass;
+    }
+
+    /**
+     * INTERNAL.
+     */
+    @Internal
+    @Override
+    public ResolvableType getResolvableType() {
+        return ResolvableType.forClassWithGenerics(getClass(),
+                ResolvableType.forClass(originalMetaClass.getJavaClass()));
+    }
+
+    @Override
+    public String toString() {
+        return "BulkEntityChangedEvent{" +
+                "entity=" + originalMetaClass.getName() +
+                ", type=" + type +
+                ", changedAttributes=" + changedAttributes +
+                ", count=" + count +
+                '}';
+    }
+}
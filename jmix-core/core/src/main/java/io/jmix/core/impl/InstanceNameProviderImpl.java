@@ -37,6 +37,9 @@ import org.springframework.stereotype.Component;
 import jakarta.annotation.Nonnull;
 import org.springframework.lang.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -95,13 +98,34 @@ public class InstanceNameProviderImpl implements InstanceNameProvider {
          */
         public final MetaProperty[] nameProperties;
 
+        /**
+         * Renderer compiled for the instance name definition or null
+         */
+        @Nullable
+        public final InstanceNameRenderer renderer;
+
         public InstanceNameRec(String format, @Nullable Method method, MetaProperty[] nameProperties) {
+            this(format, method, nameProperties, null);
+        }
+
+        public InstanceNameRec(String format, @Nullable Method method, MetaProperty[] nameProperties,
+                               @Nullable InstanceNameRenderer renderer) {
             this.format = format;
             this.method = method;
             this.nameProperties = nameProperties;
+            this.renderer = renderer;
         }
     }
 
+    /**
+     * Computes instance name of an entity according to the {@link InstanceName} definition it has been created for.
+     */
+    @FunctionalInterface
+    public interface InstanceNameRenderer {
+
+        String render(Object instance);
+    }
+
     public ArgumentResolverComposite getResolvers() {
         return resolvers;
     }
@@ -131,6 +155,10 @@ public class InstanceNameProviderImpl implements InstanceNameProvider {
 
         InstanceNameRec rec = optional.get();
 
+        if (rec.renderer != null) {
+            return rec.renderer.render(instance);
+        }
+
         if (rec.method != null) {
             try {
                 Object result = rec.method.invoke(instance, methodArgumentsProvider.getMethodArgumentValues(rec.method));
@@ -205,7 +233,59 @@ public class InstanceNameProviderImpl implements InstanceNameProvider {
         validateInstanceNameAnnotation(metaClass, instanceNameMethods, nameProperties);
         return new InstanceNameRec("%s", method,
                 getInstanceNameProperties(metaClass, method, nameProperty).stream()
-                        .toArray(MetaProperty[]::new));
+                        .toArray(MetaProperty[]::new),
+                createRenderer(method, nameProperty));
+    }
+
+    /**
+     * Creates a renderer which invokes the instance name method through a method handle or formats the value
+     * of the instance name property, so the definition is not interpreted on each call.
+     */
+    @Nullable
+    protected InstanceNameRenderer createRenderer(@Nullable Method method, @Nullable MetaProperty nameProperty) {
+        if (method != null) {
+            return createMethodRenderer(method);
+        }
+        if (nameProperty != null) {
+            String propertyName = nameProperty.getName();
+            // the name pattern is always "%s", so formatting the single value is enough
+            return instance -> String.valueOf(
+                    metadataTools.format(EntityValues.getValue(instance, propertyName), nameProperty));
+        }
+        return null;
+    }
+
+    @Nullable
+    protected InstanceNameRenderer createMethodRenderer(Method method) {
+        MethodHandle methodHandle;
+        try {
+            methodHandle = MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            log.debug("Cannot create method handle for {}, reflection will be used", method, e);
+            return null;
+        }
+
+        int parameterCount = method.getParameterCount();
+        if (parameterCount == 0) {
+            MethodHandle invoker = methodHandle.asType(MethodType.methodType(Object.class, Object.class));
+            return instance -> {
+                try {
+                    return (String) (Object) invoker.invokeExact(instance);
+                } catch (Throwable e) {
+                    throw new RuntimeException("Error getting instance name", e);
+                }
+            };
+        }
+
+        MethodHandle invoker = methodHandle.asSpreader(Object[].class, parameterCount)
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+        return instance -> {
+            try {
+                return (String) (Object) invoker.invokeExact(instance, methodArgumentsProvider.getMethodArgumentValues(method));
+            } catch (Throwable e) {
+                throw new RuntimeException("Error getting instance name", e);
+            }
+        };
     }
 
     private void validateInstanceNameAnnotation(MetaClass metaClass, List<Method> instanceNameMethods, List<MetaProperty> nameProperties) {
@@ -26,6 +26,7 @@ import io.jmix.core.annotation.DeletedBy;
 import io.jmix.core.annotation.DeletedDate;
 import io.jmix.core.annotation.TenantId;
 import io.jmix.core.common.util.ReflectionHelper;
+import io.jmix.core.entity.BaseEntityEntry;
 import io.jmix.core.entity.annotation.JmixGeneratedValue;
 import io.jmix.core.entity.annotation.JmixId;
 import io.jmix.core.entity.annotation.MetaAnnotation;
@@ -98,6 +99,8 @@ public class MetaModelLoader {
 
     protected FormatStringsRegistry formatStringsRegistry;
 
+    protected static final String ENTITY_ENTRY_CLASS_NAME = "JmixEntityEntry";
+
     private static final Logger log = LoggerFactory.getLogger(MetaModelLoader.class);
 
     @Autowired
@@ -147,6 +150,7 @@ public class MetaModelLoader {
 
         for (MetaClass metaClass : session.getClasses()) {
             initInheritedProperties(metaClass);
+            initOrdinals(metaClass);
         }
     }
 
@@ -204,6 +208,43 @@ public class MetaModelLoader {
         }
     }
 
+    /**
+     * Assigns ordinals to the properties according to the attribute names generated by enhancing
+     * in the entity entry class.
+     */
+    protected void initOrdinals(MetaClass metaClass) {
+        String[] attributeNames = getOrdinalAttributeNames(metaClass.getJavaClass());
+        if (attributeNames == null) {
+            return;
+        }
+        List<String> names = Arrays.asList(attributeNames);
+        for (MetaProperty property : metaClass.getProperties()) {
+            if (property instanceof MetaPropertyImpl && property.getOrdinal() < 0) {
+                ((MetaPropertyImpl) property).setOrdinal(names.indexOf(property.getName()));
+            }
+        }
+    }
+
+    @Nullable
+    protected String[] getOrdinalAttributeNames(Class<?> javaClass) {
+        for (Class<?> aClass = javaClass; aClass != null && aClass != Object.class; aClass = aClass.getSuperclass()) {
+            Class<?> entryClass;
+            try {
+                entryClass = Class.forName(aClass.getName() + "$" + ENTITY_ENTRY_CLASS_NAME, false, aClass.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                continue;
+            }
+            try {
+                Field field = entryClass.getDeclaredField(BaseEntityEntry.ATTRIBUTE_NAMES_FIELD);
+                return (String[]) field.get(null);
+            } catch (NoSuchFieldException | IllegalAccessException e) {
+                // enhanced by a previous version of the plugin
+                return null;
+            }
+        }
+        return null;
+    }
+
     @Nullable
     protected MetaClassImpl createClass(Session session, Class<?> javaClass) {
         if (!Entity.class.isAssignableFrom(javaClass)) {
@@ -16,6 +16,7 @@
 
 package io.jmix.core.impl;
 
+import io.jmix.core.BulkOperationContext;
 import io.jmix.core.DataStore;
 import io.jmix.core.LoadContext;
 import io.jmix.core.SaveContext;
@@ -84,4 +85,9 @@ public class NoopDataStore implements DataStore {
     public long getCount(ValueLoadContext context) {
         return 0;
     }
+
+    @Override
+    public int executeBulkOperation(BulkOperationContext context) {
+        return 0;
+    }
 }
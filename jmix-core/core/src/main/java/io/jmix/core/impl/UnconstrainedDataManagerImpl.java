@@ -166,6 +166,10 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
             FetchPlan fetchPlan = context.getFetchPlans().get(entity);
             if (fetchPlan != null)
                 sc.getFetchPlans().put(entity, fetchPlan);
+            Set<String> changedAttributes = context.getChangedAttributes().get(entity);
+            // attributes written for cross-datastore references are not known as changed
+            if (changedAttributes != null && !hasCrossDataStoreReferences(metaClass))
+                sc.getChangedAttributes().put(entity, changedAttributes);
         }
         for (Object entity : context.getEntitiesToRemove()) {
             MetaClass metaClass = metadata.getClass(entity);
@@ -271,6 +275,30 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
         return store.getCount(context);
     }
 
+    @Override
+    public int executeBulkOperation(BulkOperationContext context) {
+        MetaClass metaClass = extendedEntities.getEffectiveMetaClass(context.getEntityMetaClass());
+        DataStore storage = dataStoreFactory.get(getStoreName(metaClass));
+
+        context.setAccessConstraints(mergeConstraints(context.getAccessConstraints()));
+
+        return storage.executeBulkOperation(context);
+    }
+
+    @Override
+    public <E> FluentBulkUpdate<E> bulkUpdate(Class<E> entityClass) {
+        BulkOperationContext context = new BulkOperationContext(metadata.getClass(entityClass),
+                BulkOperationContext.Type.UPDATE);
+        return new FluentBulkUpdate<>(context, this);
+    }
+
+    @Override
+    public <E> FluentBulkDelete<E> bulkDelete(Class<E> entityClass) {
+        BulkOperationContext context = new BulkOperationContext(metadata.getClass(entityClass),
+                BulkOperationContext.Type.DELETE);
+        return new FluentBulkDelete<>(context, this);
+    }
+
     @Override
     public <E> FluentLoader<E> load(Class<E> entityClass) {
         //noinspection unchecked
@@ -329,6 +357,19 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
         return getReference(entityId.getEntityClass(), entityId.getValue());
     }
 
+    protected boolean hasCrossDataStoreReferences(MetaClass metaClass) {
+        if (stores.getAdditional().isEmpty())
+            return false;
+
+        for (MetaProperty property : metaClass.getProperties()) {
+            if (property.getRange().isClass() && !property.getRange().getCardinality().isMany()
+                    && !Objects.equals(property.getRange().asClass().getStore().getName(), metaClass.getStore().getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected boolean writeCrossDataStoreReferences(Object entity, Collection<Object> allEntities) {
         if (stores.getAdditional().isEmpty())
             return false;
@@ -101,6 +101,11 @@ public class KeyValueMetaProperty extends MetadataObjectImpl implements MetaProp
         return store;
     }
 
+    @Override
+    public int getOrdinal() {
+        return -1;
+    }
+
     public void setStore(Store store) {
         this.store = store;
     }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.impl.scanning;
+
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * Build-time index of the classes of a Jmix module.
+ * <p>
+ * The index is generated by the Jmix Gradle plugin into the {@link #INDEX_FILE_NAME} file located in the module's
+ * base package. It maps type names (annotations, implemented interfaces and superclasses) to the names of module
+ * classes declaring them directly. An index describes only the classes of the classpath root (jar or directory)
+ * it is located in. {@link JmixModulesClasspathScanner} uses the index to read only the classes
+ * relevant for the registered {@link ClasspathScanCandidateDetector}s instead of scanning the whole package.
+ */
+public class ClasspathIndex {
+
+    public static final String INDEX_FILE_NAME = "jmix-classpath-index.properties";
+
+    protected final Map<String, Set<String>> classNamesByType;
+
+    protected ClasspathIndex(Map<String, Set<String>> classNamesByType) {
+        this.classNamesByType = classNamesByType;
+    }
+
+    /**
+     * Loads the index located in the given package directory of a single classpath root, e.g. a jar or a classes
+     * directory. Indexes of other roots containing the same package are not taken into account, as they list only
+     * classes of their own roots.
+     *
+     * @param packageDir package directory, e.g. {@code jar:file:/app.jar!/com/company/app/}
+     * @return index or null if the package directory is not indexed
+     */
+    @Nullable
+    public static ClasspathIndex load(Resource packageDir) {
+        Resource resource;
+        try {
+            resource = packageDir.createRelative(INDEX_FILE_NAME);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to find classpath index in " + packageDir, e);
+        }
+        if (!resource.exists()) {
+            return null;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream stream = resource.getInputStream()) {
+            properties.load(stream);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read classpath index " + resource, e);
+        }
+
+        Map<String, Set<String>> classNamesByType = new HashMap<>();
+        for (String type : properties.stringPropertyNames()) {
+            classNamesByType.put(type, new LinkedHashSet<>(
+                    StringUtils.commaDelimitedListToSet(properties.getProperty(type))));
+        }
+        return new ClasspathIndex(classNamesByType);
+    }
+
+    /**
+     * Returns names of classes which directly declare any of the given types, i.e. are annotated with them,
+     * implement them or extend them.
+     */
+    public Set<String> getClassNames(Collection<String> types) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String type : types) {
+            result.addAll(classNamesByType.getOrDefault(type, Collections.emptySet()));
+        }
+        return result;
+    }
+}
@@ -17,8 +17,23 @@
 package io.jmix.core.impl.scanning;
 
 import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
 
 public interface ClasspathScanCandidateDetector {
 
     boolean isCandidate(MetadataReader metadataReader);
+
+    /**
+     * Returns names of annotations, interfaces or superclasses that candidate classes declare directly.
+     * <p>
+     * If the detector returns a non-null value, {@link JmixModulesClasspathScanner} can use a build-time
+     * {@link ClasspathIndex} to pass to {@link #isCandidate(MetadataReader)} only the classes declaring these types.
+     * If null is returned, the whole package is always scanned.
+     */
+    @Nullable
+    default Collection<String> getIndexedTypes() {
+        return null;
+    }
 }
@@ -20,6 +20,9 @@ import io.jmix.core.metamodel.annotation.JmixEntity;
 import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Collections;
+
 @Component("core_EntityDetector")
 public class EntityDetector implements ClasspathScanCandidateDetector {
 
@@ -27,4 +30,9 @@ public class EntityDetector implements ClasspathScanCandidateDetector {
     public boolean isCandidate(MetadataReader metadataReader) {
         return metadataReader.getAnnotationMetadata().hasAnnotation(JmixEntity.class.getName());
     }
+
+    @Override
+    public Collection<String> getIndexedTypes() {
+        return Collections.singleton(JmixEntity.class.getName());
+    }
 }
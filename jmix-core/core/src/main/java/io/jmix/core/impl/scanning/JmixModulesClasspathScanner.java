@@ -16,20 +16,29 @@
 
 package io.jmix.core.impl.scanning;
 
+import io.jmix.core.CoreProperties;
 import io.jmix.core.JmixModuleDescriptor;
 import io.jmix.core.JmixModules;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 import jakarta.annotation.PostConstruct;
+import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Scans classpath of all Jmix modules used in the application and detects classes according to
@@ -37,6 +46,10 @@ import java.util.stream.Collectors;
  * <p>
  * Detected class names are stored and available through the {@link #getClassNames(Class)} method. This method
  * accepts a {@code ClasspathScanCandidateDetector} type and returns names of classes selected by this detector.
+ * <p>
+ * If a jar or a classes directory of a module contains the {@link ClasspathIndex} generated at build time, only
+ * the indexed classes of this jar or directory are examined. Jars and directories without the index are scanned
+ * at runtime.
  */
 @Component("core_JmixModulesClasspathScanner")
 public class JmixModulesClasspathScanner extends AbstractClasspathScanner {
@@ -55,6 +68,9 @@ public class JmixModulesClasspathScanner extends AbstractClasspathScanner {
     @Autowired
     protected List<ClasspathScanCandidateDetector> candidateDetectors;
 
+    @Autowired
+    protected CoreProperties coreProperties;
+
     @Autowired
     public void setMetadataReaderFactory(AnnotationScanMetadataReaderFactory metadataReaderFactory) {
         this.metadataReaderFactory = metadataReaderFactory;
@@ -73,7 +89,7 @@ public class JmixModulesClasspathScanner extends AbstractClasspathScanner {
         long startTime = System.currentTimeMillis();
 
         basePackages.stream()
-                .flatMap(this::scanPackage)
+                .flatMap(basePackage -> scanPackage(basePackage, candidateDetectors))
                 .forEach(metadataReader -> {
                     for (ClasspathScanCandidateDetector detector : candidateDetectors) {
                         if (detector.isCandidate(metadataReader)) {
@@ -99,7 +115,7 @@ public class JmixModulesClasspathScanner extends AbstractClasspathScanner {
      */
     public void refreshClassNames(ClasspathScanCandidateDetector detector) {
         basePackages.stream()
-                .flatMap(this::scanPackage)
+                .flatMap(basePackage -> scanPackage(basePackage, Collections.singletonList(detector)))
                 .forEach(metadataReader -> {
                     if (detector.isCandidate(metadataReader)) {
                         Set<String> classNames = detectedClasses.computeIfAbsent(
@@ -109,6 +125,96 @@ public class JmixModulesClasspathScanner extends AbstractClasspathScanner {
                 });
     }
 
+    /**
+     * Returns classes of the given package that should be passed to the detectors. If all detectors support
+     * the build-time {@link ClasspathIndex}, each classpath root containing the package is examined separately:
+     * only the indexed classes are read from roots having the index, other roots are scanned fully.
+     * Otherwise, the whole package is scanned.
+     */
+    protected Stream<MetadataReader> scanPackage(String basePackage,
+                                                 Collection<ClasspathScanCandidateDetector> detectors) {
+        if (isClasspathIndexEnabled()) {
+            Set<String> indexedTypes = new HashSet<>();
+            for (ClasspathScanCandidateDetector detector : detectors) {
+                Collection<String> detectorTypes = detector.getIndexedTypes();
+                if (detectorTypes == null) {
+                    log.debug("Detector {} does not support classpath index, scanning package {}", detector, basePackage);
+                    return scanPackage(basePackage);
+                }
+                indexedTypes.addAll(detectorTypes);
+            }
+            return scanPackageDirs(basePackage, indexedTypes);
+        }
+        return scanPackage(basePackage);
+    }
+
+    protected Stream<MetadataReader> scanPackageDirs(String basePackage, Set<String> indexedTypes) {
+        String packagePath = resolveBasePackage(basePackage);
+        ResourcePatternResolver resourcePatternResolver = new PathMatchingResourcePatternResolver(getResourceLoader());
+        Resource[] packageDirs;
+        try {
+            packageDirs = resourcePatternResolver.getResources(
+                    ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + packagePath + '/');
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to scan package " + basePackage, e);
+        }
+
+        return Arrays.stream(packageDirs)
+                .flatMap(packageDir -> scanPackageDir(resourcePatternResolver, packageDir, packagePath, indexedTypes));
+    }
+
+    /**
+     * Returns classes of the package located in a single classpath root.
+     */
+    protected Stream<MetadataReader> scanPackageDir(ResourcePatternResolver resourcePatternResolver,
+                                                    Resource packageDir,
+                                                    String packagePath,
+                                                    Set<String> indexedTypes) {
+        ClasspathIndex index = ClasspathIndex.load(packageDir);
+        if (index != null) {
+            log.debug("Using classpath index of {}", packageDir);
+            return index.getClassNames(indexedTypes).stream()
+                    .map(className -> getMetadataReader(packageDir, packagePath, className));
+        }
+
+        log.debug("No classpath index in {}, scanning it", packageDir);
+        Resource[] resources;
+        try {
+            String packageDirUrl = StringUtils.appendIfMissing(packageDir.getURL().toString(), "/");
+            resources = resourcePatternResolver.getResources(packageDirUrl + DEFAULT_CLASS_RESOURCE_PATTERN);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to scan " + packageDir, e);
+        }
+        return Arrays.stream(resources)
+                .filter(Resource::isReadable)
+                .map(this::getMetadataReader);
+    }
+
+    protected MetadataReader getMetadataReader(Resource packageDir, String packagePath, String className) {
+        String classPath = ClassUtils.convertClassNameToResourcePath(className) + ClassUtils.CLASS_FILE_SUFFIX;
+        if (!classPath.startsWith(packagePath + '/')) {
+            throw new IllegalStateException(
+                    String.format("Indexed class %s is not located in %s", className, packageDir));
+        }
+        try {
+            return getMetadataReader(packageDir.createRelative(classPath.substring(packagePath.length() + 1)));
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read indexed class " + className, e);
+        }
+    }
+
+    protected MetadataReader getMetadataReader(Resource resource) {
+        try {
+            return getMetadataReaderFactory().getMetadataReader(resource);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read resource " + resource, e);
+        }
+    }
+
+    protected boolean isClasspathIndexEnabled() {
+        return coreProperties.isClasspathIndexEnabled();
+    }
+
     @Override
     protected MetadataReaderFactory getMetadataReaderFactory() {
         return metadataReaderFactory;
@@ -20,6 +20,8 @@ import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.stereotype.Component;
 
 import jakarta.persistence.Converter;
+import java.util.Collection;
+import java.util.Collections;
 
 @Component("core_JpaConverterDetector")
 public class JpaConverterDetector implements ClasspathScanCandidateDetector {
@@ -28,4 +30,9 @@ public class JpaConverterDetector implements ClasspathScanCandidateDetector {
     public boolean isCandidate(MetadataReader metadataReader) {
         return metadataReader.getAnnotationMetadata().hasAnnotation(Converter.class.getName());
     }
+
+    @Override
+    public Collection<String> getIndexedTypes() {
+        return Collections.singleton(Converter.class.getName());
+    }
 }
@@ -32,6 +32,7 @@ import java.time.temporal.TemporalQuery;
 import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class AbstractTemporalDatatype<T extends TemporalAccessor> implements Datatype<T>, ParameterizedDatatype {
 
@@ -40,6 +41,9 @@ public abstract class AbstractTemporalDatatype<T extends TemporalAccessor> imple
 
     protected final DateTimeFormatter formatter;
 
+    // formatters are immutable, so they are shared by all threads
+    protected final Map<FormatStrings, Map<Locale, DateTimeFormatter>> localizedFormatters = new ConcurrentHashMap<>();
+
     public AbstractTemporalDatatype(DateTimeFormatter formatter) {
         this.formatter = formatter;
     }
@@ -74,7 +78,7 @@ public abstract class AbstractTemporalDatatype<T extends TemporalAccessor> imple
             return format(value);
         }
 
-        DateTimeFormatter formatter = getDateTimeFormatter(formatStrings, locale);
+        DateTimeFormatter formatter = getCachedDateTimeFormatter(formatStrings, locale);
         return formatter.format((TemporalAccessor) value);
     }
 
@@ -99,7 +103,7 @@ public abstract class AbstractTemporalDatatype<T extends TemporalAccessor> imple
             return parse(value);
         }
 
-        DateTimeFormatter formatter = getDateTimeFormatter(formatStrings, locale);
+        DateTimeFormatter formatter = getCachedDateTimeFormatter(formatStrings, locale);
         return formatter.parse(value.trim(), newInstance());
     }
 
@@ -113,6 +117,23 @@ public abstract class AbstractTemporalDatatype<T extends TemporalAccessor> imple
         return getClass().getSimpleName();
     }
 
+    /**
+     * Returns formatter created by {@link #getDateTimeFormatter(FormatStrings, Locale)} once for the given format
+     * strings and locale.
+     */
+    protected DateTimeFormatter getCachedDateTimeFormatter(FormatStrings formatStrings, Locale locale) {
+        Map<Locale, DateTimeFormatter> formatters = localizedFormatters.get(formatStrings);
+        if (formatters == null) {
+            formatters = localizedFormatters.computeIfAbsent(formatStrings, fs -> new ConcurrentHashMap<>());
+        }
+        DateTimeFormatter formatter = formatters.get(locale);
+        if (formatter == null) {
+            formatter = getDateTimeFormatter(formatStrings, locale);
+            formatters.putIfAbsent(locale, formatter);
+        }
+        return formatter;
+    }
+
     protected abstract DateTimeFormatter getDateTimeFormatter();
 
     protected abstract DateTimeFormatter getDateTimeFormatter(FormatStrings formatStrings, Locale locale);
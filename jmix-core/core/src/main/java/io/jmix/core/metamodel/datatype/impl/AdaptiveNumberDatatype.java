@@ -62,7 +62,19 @@ public class AdaptiveNumberDatatype extends NumberDatatype implements Datatype<N
         if (formatStrings == null) {
             return createFormat();
         }
+        return createFormat(formatStrings);
+    }
 
+    protected java.text.NumberFormat getLocalizedFormat(Locale locale) {
+        FormatStrings formatStrings = formatStringsRegistry.getFormatStringsOrNull(locale);
+        if (formatStrings == null) {
+            return getFormat();
+        }
+        return getFormat(formatStrings);
+    }
+
+    @Override
+    protected java.text.NumberFormat createFormat(FormatStrings formatStrings) {
         DecimalFormatSymbols formatSymbols = formatStrings.getFormatSymbols();
         if (!decimalSeparator.equals("")) {
             formatSymbols.setDecimalSeparator(decimalSeparator.charAt(0));
@@ -90,12 +102,12 @@ public class AdaptiveNumberDatatype extends NumberDatatype implements Datatype<N
 
     @Override
     public String format(Object value) {
-        return value == null ? "" : createFormat().format(value);
+        return value == null ? "" : getFormat().format(value);
     }
 
     @Override
     public String format(Object value, Locale locale) {
-        return value == null ? "" : createLocalizedFormat(locale).format(value);
+        return value == null ? "" : getLocalizedFormat(locale).format(value);
     }
 
     @Nullable
@@ -105,7 +117,7 @@ public class AdaptiveNumberDatatype extends NumberDatatype implements Datatype<N
             return null;
         }
 
-        Number number = parse(value, createFormat());
+        Number number = parse(value, getFormat());
         checkRange(value, number);
         return requestedType(number);
     }
@@ -117,7 +129,7 @@ public class AdaptiveNumberDatatype extends NumberDatatype implements Datatype<N
             return null;
         }
 
-        Number number = parse(value, createLocalizedFormat(locale));
+        Number number = parse(value, getLocalizedFormat(locale));
         checkRange(value, number);
         return requestedType(number);
     }
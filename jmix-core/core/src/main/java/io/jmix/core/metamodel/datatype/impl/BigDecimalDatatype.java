@@ -28,7 +28,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
 import java.text.ParseException;
 import java.util.Locale;
 
@@ -56,7 +55,7 @@ public class BigDecimalDatatype extends NumberDatatype implements Datatype<BigDe
 
     @Override
     public String format(Object value) {
-        return value == null ? "" : createFormat().format(value);
+        return value == null ? "" : getFormat().format(value);
     }
 
     @Override
@@ -70,8 +69,7 @@ public class BigDecimalDatatype extends NumberDatatype implements Datatype<BigDe
             return format(value);
         }
 
-        DecimalFormatSymbols formatSymbols = formatStrings.getFormatSymbols();
-        java.text.NumberFormat format = new DecimalFormat(formatStrings.getDecimalFormat(), formatSymbols);
+        java.text.NumberFormat format = getFormat(formatStrings);
         return format.format(value);
     }
 
@@ -81,7 +79,7 @@ public class BigDecimalDatatype extends NumberDatatype implements Datatype<BigDe
             return null;
         }
 
-        return (BigDecimal) parse(value, createFormat());
+        return (BigDecimal) parse(value, getFormat());
     }
 
     @Override
@@ -95,9 +93,7 @@ public class BigDecimalDatatype extends NumberDatatype implements Datatype<BigDe
             return parse(value);
         }
 
-        DecimalFormatSymbols formatSymbols = formatStrings.getFormatSymbols();
-        DecimalFormat format = new DecimalFormat(formatStrings.getDecimalFormat(), formatSymbols);
-        format.setParseBigDecimal(true);
+        java.text.NumberFormat format = getFormat(formatStrings);
         return (BigDecimal) parse(value, format);
     }
 
@@ -111,6 +107,13 @@ public class BigDecimalDatatype extends NumberDatatype implements Datatype<BigDe
         return result;
     }
 
+    @Override
+    protected java.text.NumberFormat createFormat(FormatStrings formatStrings) {
+        DecimalFormat format = new DecimalFormat(formatStrings.getDecimalFormat(), formatStrings.getFormatSymbols());
+        format.setParseBigDecimal(true);
+        return format;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName();
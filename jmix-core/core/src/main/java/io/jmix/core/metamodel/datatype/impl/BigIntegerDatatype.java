@@ -28,7 +28,6 @@ import org.springframework.lang.Nullable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
 import java.text.ParseException;
 import java.util.Locale;
 
@@ -53,7 +52,7 @@ public class BigIntegerDatatype extends NumberDatatype implements Datatype<BigIn
 
     @Override
     public String format(@Nullable Object value) {
-        return value == null ? "" : createFormat().format(value);
+        return value == null ? "" : getFormat().format(value);
     }
 
     @Override
@@ -67,8 +66,7 @@ public class BigIntegerDatatype extends NumberDatatype implements Datatype<BigIn
             return format(value);
         }
 
-        DecimalFormatSymbols formatSymbols = formatStrings.getFormatSymbols();
-        java.text.NumberFormat format = new DecimalFormat(formatStrings.getIntegerFormat(), formatSymbols);
+        java.text.NumberFormat format = getFormat(formatStrings);
         return format.format(value);
     }
 
@@ -78,7 +76,7 @@ public class BigIntegerDatatype extends NumberDatatype implements Datatype<BigIn
             return null;
         }
 
-        return ((BigDecimal) parse(value, createFormat())).toBigInteger();
+        return ((BigDecimal) parse(value, getFormat())).toBigInteger();
     }
 
     @Override
@@ -92,13 +90,17 @@ public class BigIntegerDatatype extends NumberDatatype implements Datatype<BigIn
             return parse(value);
         }
 
-        DecimalFormatSymbols formatSymbols = formatStrings.getFormatSymbols();
-        DecimalFormat format = new DecimalFormat(formatStrings.getIntegerFormat(), formatSymbols);
+        java.text.NumberFormat format = getFormat(formatStrings);
 
+        return ((BigDecimal) parse(value, format)).toBigInteger();
+    }
+
+    @Override
+    protected java.text.NumberFormat createFormat(FormatStrings formatStrings) {
+        DecimalFormat format = new DecimalFormat(formatStrings.getIntegerFormat(), formatStrings.getFormatSymbols());
         format.setParseIntegerOnly(true);
         format.setParseBigDecimal(true);
-
-        return ((BigDecimal) parse(value, format)).toBigInteger();
+        return format;
     }
 
     @Override
@@ -47,6 +47,8 @@ public class DateDatatype implements Datatype<Date>, ParameterizedDatatype {
     @Autowired
     protected FormatStringsRegistry formatStringsRegistry;
 
+    protected final FormatPrototypes<DateFormat> formats = new FormatPrototypes<>(this::createFormat);
+
     @Override
     public String format(Object value) {
         if (!(value instanceof Date)) {
@@ -70,7 +72,7 @@ public class DateDatatype implements Datatype<Date>, ParameterizedDatatype {
             return format(value);
         }
 
-        DateFormat format = new SimpleDateFormat(formatStrings.getDateFormat());
+        DateFormat format = formats.get(formatStrings);
         return format.format(value);
     }
 
@@ -104,10 +106,17 @@ public class DateDatatype implements Datatype<Date>, ParameterizedDatatype {
             return parse(value);
         }
 
+        DateFormat format = formats.get(formatStrings);
+        return normalize(format.parse(value.trim()));
+    }
+
+    /**
+     * Creates format for the given locale-specific format strings. Formats are cloned from a cached prototype.
+     */
+    protected DateFormat createFormat(FormatStrings formatStrings) {
         DateFormat format = new SimpleDateFormat(formatStrings.getDateFormat());
         format.setLenient(false);
-
-        return normalize(format.parse(value.trim()));
+        return format;
     }
 
     @Override
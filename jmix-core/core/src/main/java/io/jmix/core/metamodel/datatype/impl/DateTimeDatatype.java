@@ -40,6 +40,8 @@ public class DateTimeDatatype implements Datatype<Date>, ParameterizedDatatype,
 
     protected FormatStringsRegistry formatStringsRegistry;
 
+    protected final FormatPrototypes<DateFormat> formats = new FormatPrototypes<>(this::createFormat);
+
     @Autowired
     public void setFormatStringsRegistry(FormatStringsRegistry formatStringsRegistry) {
         this.formatStringsRegistry = formatStringsRegistry;
@@ -73,10 +75,8 @@ public class DateTimeDatatype implements Datatype<Date>, ParameterizedDatatype,
             return format(value);
         }
 
-        DateFormat format = new SimpleDateFormat(formatStrings.getDateTimeFormat());
-        if (timeZone != null) {
-            format.setTimeZone(timeZone);
-        }
+        DateFormat format = formats.get(formatStrings);
+        format.setTimeZone(timeZone != null ? timeZone : TimeZone.getDefault());
 
         return format.format(value);
     }
@@ -107,15 +107,20 @@ public class DateTimeDatatype implements Datatype<Date>, ParameterizedDatatype,
             return parse(value);
         }
 
-        DateFormat format = new SimpleDateFormat(formatStrings.getDateTimeFormat());
-
-        if (timeZone != null) {
-            format.setTimeZone(timeZone);
-        }
+        DateFormat format = formats.get(formatStrings);
+        format.setTimeZone(timeZone != null ? timeZone : TimeZone.getDefault());
 
         return format.parse(value.trim());
     }
 
+    /**
+     * Creates format for the given locale-specific format strings. Formats are cloned from a cached
+     * prototype, the time zone is set on each call.
+     */
+    protected DateFormat createFormat(FormatStrings formatStrings) {
+        return new SimpleDateFormat(formatStrings.getDateTimeFormat());
+    }
+
     @Override
     public Map<String, Object> getParameters() {
         return ParamsMap.of("format", "yyyy-MM-dd'T'HH:mm:ss.SSS");
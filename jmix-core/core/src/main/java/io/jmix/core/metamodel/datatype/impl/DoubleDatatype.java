@@ -27,7 +27,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
@@ -50,7 +49,7 @@ public class DoubleDatatype extends NumberDatatype implements Datatype<Double> {
 
     @Override
     public String format(Object value) {
-        return value == null ? "" : createFormat().format(value);
+        return value == null ? "" : getFormat().format(value);
     }
 
     @Override
@@ -64,8 +63,7 @@ public class DoubleDatatype extends NumberDatatype implements Datatype<Double> {
             return format(value);
         }
 
-        DecimalFormatSymbols formatSymbols = formatStrings.getFormatSymbols();
-        NumberFormat format = new DecimalFormat(formatStrings.getDoubleFormat(), formatSymbols);
+        NumberFormat format = getFormat(formatStrings);
         return format.format(value);
     }
 
@@ -75,7 +73,7 @@ public class DoubleDatatype extends NumberDatatype implements Datatype<Double> {
             return null;
         }
 
-        return parse(value, createFormat()).doubleValue();
+        return parse(value, getFormat()).doubleValue();
     }
 
     @Override
@@ -89,9 +87,7 @@ public class DoubleDatatype extends NumberDatatype implements Datatype<Double> {
             return parse(value);
         }
 
-        DecimalFormatSymbols formatSymbols = formatStrings.getFormatSymbols();
-        DecimalFormat format = new DecimalFormat(formatStrings.getDoubleFormat(), formatSymbols);
-        format.setParseBigDecimal(true);
+        NumberFormat format = getFormat(formatStrings);
         return parse(value, format).doubleValue();
     }
 
@@ -123,6 +119,13 @@ public class DoubleDatatype extends NumberDatatype implements Datatype<Double> {
         return result.compareTo(DOUBLE_MAX_VALUE) <= 0 && result.compareTo(DOUBLE_MIN_VALUE) >= 0;
     }
 
+    @Override
+    protected NumberFormat createFormat(FormatStrings formatStrings) {
+        DecimalFormat format = new DecimalFormat(formatStrings.getDoubleFormat(), formatStrings.getFormatSymbols());
+        format.setParseBigDecimal(true);
+        return format;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName();
@@ -28,7 +28,6 @@ import org.springframework.lang.Nullable;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
@@ -51,7 +50,7 @@ public class FloatDatatype extends NumberDatatype implements Datatype<Float> {
 
     @Override
     public String format(@Nullable Object value) {
-        return value == null ? "" : createFormat().format(value);
+        return value == null ? "" : getFormat().format(value);
     }
 
     @Override
@@ -65,8 +64,7 @@ public class FloatDatatype extends NumberDatatype implements Datatype<Float> {
             return format(value);
         }
 
-        DecimalFormatSymbols formatSymbols = formatStrings.getFormatSymbols();
-        NumberFormat format = new DecimalFormat(formatStrings.getDoubleFormat(), formatSymbols);
+        NumberFormat format = getFormat(formatStrings);
         return format.format(value);
     }
 
@@ -76,7 +74,7 @@ public class FloatDatatype extends NumberDatatype implements Datatype<Float> {
             return null;
         }
 
-        return parse(value, createFormat()).floatValue();
+        return parse(value, getFormat()).floatValue();
     }
 
     @Override
@@ -90,9 +88,7 @@ public class FloatDatatype extends NumberDatatype implements Datatype<Float> {
             return parse(value);
         }
 
-        DecimalFormatSymbols formatSymbols = formatStrings.getFormatSymbols();
-        DecimalFormat format = new DecimalFormat(formatStrings.getDoubleFormat(), formatSymbols);
-        format.setParseBigDecimal(true);
+        NumberFormat format = getFormat(formatStrings);
         return parse(value, format).floatValue();
     }
 
@@ -125,6 +121,13 @@ public class FloatDatatype extends NumberDatatype implements Datatype<Float> {
         return result.compareTo(FLOAT_MAX_VALUE) <= 0 && result.compareTo(FLOAT_MIN_VALUE) >= 0;
     }
 
+    @Override
+    protected NumberFormat createFormat(FormatStrings formatStrings) {
+        DecimalFormat format = new DecimalFormat(formatStrings.getDoubleFormat(), formatStrings.getFormatSymbols());
+        format.setParseBigDecimal(true);
+        return format;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName();
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.core.metamodel.datatype.impl;
+
+import io.jmix.core.metamodel.datatype.FormatStrings;
+
+import java.text.Format;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caches prototypes of localized formats which are not thread-safe, such as {@link java.text.DecimalFormat} and
+ * {@link java.text.SimpleDateFormat}. A prototype is created once per {@link FormatStrings} instance, and each call
+ * returns its clone, which is much cheaper than creating a format from the pattern. Clones are not bound to the
+ * calling thread, so the cache does not grow with the number of threads, including virtual ones.
+ *
+ * @param <F> format type
+ */
+public class FormatPrototypes<F extends Format> {
+
+    protected final Map<FormatStrings, F> prototypes = new ConcurrentHashMap<>();
+
+    protected final Function<FormatStrings, F> factory;
+
+    public FormatPrototypes(Function<FormatStrings, F> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * @return new copy of the format for the given format strings, which can be changed by the caller
+     */
+    @SuppressWarnings("unchecked")
+    public F get(FormatStrings formatStrings) {
+        return (F) prototypes.computeIfAbsent(formatStrings, factory).clone();
+    }
+}
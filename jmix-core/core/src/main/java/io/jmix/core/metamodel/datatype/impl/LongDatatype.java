@@ -24,7 +24,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
@@ -40,7 +39,7 @@ public class LongDatatype extends NumberDatatype implements Datatype<Long> {
 
     @Override
     public String format(Object value) {
-        return value == null ? "" : createFormat().format(value);
+        return value == null ? "" : getFormat().format(value);
     }
 
     @Override
@@ -54,8 +53,7 @@ public class LongDatatype extends NumberDatatype implements Datatype<Long> {
             return format(value);
         }
 
-        DecimalFormatSymbols formatSymbols = formatStrings.getFormatSymbols();
-        NumberFormat format = new DecimalFormat(formatStrings.getIntegerFormat(), formatSymbols);
+        NumberFormat format = getFormat(formatStrings);
         return format.format(value);
     }
 
@@ -65,7 +63,7 @@ public class LongDatatype extends NumberDatatype implements Datatype<Long> {
             return null;
         }
 
-        return parse(value, createFormat()).longValue();
+        return parse(value, getFormat()).longValue();
     }
 
     @Override
@@ -79,8 +77,7 @@ public class LongDatatype extends NumberDatatype implements Datatype<Long> {
             return parse(value);
         }
 
-        DecimalFormatSymbols formatSymbols = formatStrings.getFormatSymbols();
-        NumberFormat format = new DecimalFormat(formatStrings.getIntegerFormat(), formatSymbols);
+        NumberFormat format = getFormat(formatStrings);
 
         return parse(value, format).longValue();
     }
@@ -106,6 +103,11 @@ public class LongDatatype extends NumberDatatype implements Datatype<Long> {
         return true;
     }
 
+    @Override
+    protected NumberFormat createFormat(FormatStrings formatStrings) {
+        return new DecimalFormat(formatStrings.getIntegerFormat(), formatStrings.getFormatSymbols());
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName();
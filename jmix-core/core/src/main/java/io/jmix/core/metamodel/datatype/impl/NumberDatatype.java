@@ -17,6 +17,7 @@
 package io.jmix.core.metamodel.datatype.impl;
 
 import io.jmix.core.common.util.ParamsMap;
+import io.jmix.core.metamodel.datatype.FormatStrings;
 import io.jmix.core.metamodel.datatype.ParameterizedDatatype;
 import org.apache.commons.lang3.StringUtils;
 
@@ -29,6 +30,10 @@ public abstract class NumberDatatype implements ParameterizedDatatype {
     protected String decimalSeparator;
     protected String groupingSeparator;
 
+    // number formats are not thread-safe, so each call gets a clone of the cached prototype
+    protected volatile NumberFormat defaultFormat;
+    protected final FormatPrototypes<NumberFormat> localizedFormats = new FormatPrototypes<>(this::createFormat);
+
     protected NumberDatatype(String formatPattern, String decimalSeparator, String groupingSeparator) {
         this.formatPattern = formatPattern;
         this.decimalSeparator = decimalSeparator;
@@ -72,6 +77,32 @@ public abstract class NumberDatatype implements ParameterizedDatatype {
         }
     }
 
+    /**
+     * Returns copy of non-localized format created by {@link #createFormat()}.
+     */
+    protected NumberFormat getFormat() {
+        NumberFormat format = defaultFormat;
+        if (format == null) {
+            format = createFormat();
+            defaultFormat = format;
+        }
+        return (NumberFormat) format.clone();
+    }
+
+    /**
+     * Returns copy of format created by {@link #createFormat(FormatStrings)}.
+     */
+    protected NumberFormat getFormat(FormatStrings formatStrings) {
+        return localizedFormats.get(formatStrings);
+    }
+
+    /**
+     * Creates format for the given locale-specific format strings. By default, uses the decimal format pattern.
+     */
+    protected NumberFormat createFormat(FormatStrings formatStrings) {
+        return new DecimalFormat(formatStrings.getDecimalFormat(), formatStrings.getFormatSymbols());
+    }
+
     protected Number parse(String value, NumberFormat format) throws ParseException {
         ParsePosition pos = new ParsePosition(0);
         Number res = format.parse(value.trim(), pos);
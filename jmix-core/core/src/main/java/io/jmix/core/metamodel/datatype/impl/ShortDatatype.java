@@ -25,7 +25,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import org.springframework.lang.Nullable;
 import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
@@ -41,7 +40,7 @@ public class ShortDatatype extends NumberDatatype implements Datatype<Short> {
 
     @Override
     public String format(@Nullable Object value) {
-        return value == null ? "" : createFormat().format(value);
+        return value == null ? "" : getFormat().format(value);
     }
 
     @Override
@@ -55,8 +54,7 @@ public class ShortDatatype extends NumberDatatype implements Datatype<Short> {
             return format(value);
         }
 
-        DecimalFormatSymbols formatSymbols = formatStrings.getFormatSymbols();
-        NumberFormat format = new DecimalFormat(formatStrings.getIntegerFormat(), formatSymbols);
+        NumberFormat format = getFormat(formatStrings);
         return format.format(value);
     }
 
@@ -66,7 +64,7 @@ public class ShortDatatype extends NumberDatatype implements Datatype<Short> {
             return null;
         }
 
-        return parse(value, createFormat()).shortValue();
+        return parse(value, getFormat()).shortValue();
     }
 
     @Override
@@ -80,8 +78,7 @@ public class ShortDatatype extends NumberDatatype implements Datatype<Short> {
             return parse(value);
         }
 
-        DecimalFormatSymbols formatSymbols = formatStrings.getFormatSymbols();
-        NumberFormat format = new DecimalFormat(formatStrings.getIntegerFormat(), formatSymbols);
+        NumberFormat format = getFormat(formatStrings);
 
         return parse(value, format).shortValue();
     }
@@ -114,6 +111,11 @@ public class ShortDatatype extends NumberDatatype implements Datatype<Short> {
         return true;
     }
 
+    @Override
+    protected NumberFormat createFormat(FormatStrings formatStrings) {
+        return new DecimalFormat(formatStrings.getIntegerFormat(), formatStrings.getFormatSymbols());
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName();
@@ -47,6 +47,8 @@ public class TimeDatatype implements Datatype<Date>, ParameterizedDatatype {
     @Autowired
     protected FormatStringsRegistry formatStringsRegistry;
 
+    protected final FormatPrototypes<DateFormat> formats = new FormatPrototypes<>(this::createFormat);
+
     @Override
     public String format(Object value) {
         if (!(value instanceof Date)) {
@@ -70,9 +72,7 @@ public class TimeDatatype implements Datatype<Date>, ParameterizedDatatype {
             return format(value);
         }
 
-        DateFormat format = new SimpleDateFormat(formatStrings.getTimeFormat());
-        format.setLenient(false);
-
+        DateFormat format = formats.get(formatStrings);
         return format.format(value);
     }
 
@@ -99,10 +99,18 @@ public class TimeDatatype implements Datatype<Date>, ParameterizedDatatype {
             return parse(value);
         }
 
-        DateFormat format = new SimpleDateFormat(formatStrings.getTimeFormat());
+        DateFormat format = formats.get(formatStrings);
         return format.parse(value.trim());
     }
 
+    /**
+     * Creates format for the given locale-specific format strings. Formats are cloned from a cached prototype.
+     */
+    protected DateFormat createFormat(FormatStrings formatStrings) {
+        // leniency affects only parsing
+        return new SimpleDateFormat(formatStrings.getTimeFormat());
+    }
+
     @Override
     public Map<String, Object> getParameters() {
         return ParamsMap.of("format", "HH:mm:ss");
@@ -114,4 +114,14 @@ public interface MetaProperty extends MetadataObject {
     Class<?> getDeclaringClass();
 
     Store getStore();
+
+    /**
+     * Returns the ordinal of the property that is stable for the entity class and its descendants. The ordinal is
+     * used to access the attribute value through the accessors generated by enhancing, without lookup by name.
+     *
+     * @return ordinal or -1 if the property cannot be accessed by ordinal
+     */
+    default int getOrdinal() {
+        return -1;
+    }
 }
\ No newline at end of file
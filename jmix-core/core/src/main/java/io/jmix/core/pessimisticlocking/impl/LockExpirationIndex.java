@@ -0,0 +1,119 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.core.pessimisticlocking.impl;
+
+import io.jmix.core.pessimisticlocking.impl.LockManagerImpl.LockKey;
+import org.springframework.lang.Nullable;
+
+import java.util.*;
+
+/**
+ * Index of pessimistic locks ordered by expiration deadline.
+ * <p>
+ * Allows {@link LockManagerImpl} to find expired locks without iterating over all keys of the locks cache:
+ * {@link #pollExpired(long)} takes time proportional to the number of expired locks. Entries of removed and
+ * re-registered locks are removed from the ordered set right away, so its size is always equal to the number of
+ * registered locks.
+ * <p>
+ * The current time is passed to the methods explicitly, so the index does not depend on a clock.
+ */
+public class LockExpirationIndex {
+
+    protected static class Entry {
+        protected final LockKey key;
+        protected final long deadline;
+        protected final long sequence;
+
+        protected Entry(LockKey key, long deadline, long sequence) {
+            this.key = key;
+            this.deadline = deadline;
+            this.sequence = sequence;
+        }
+    }
+
+    // entries with equal deadlines are distinguished by the registration sequence
+    protected final NavigableSet<Entry> queue = new TreeSet<>(
+            Comparator.<Entry>comparingLong(e -> e.deadline).thenComparingLong(e -> e.sequence));
+
+    protected long sequence;
+
+    protected final Map<LockKey, Entry> entries = new HashMap<>();
+
+    /**
+     * Registers the lock expiring at the given time, replacing previous registration of the same key.
+     *
+     * @param key      lock key
+     * @param deadline time in milliseconds after which the lock is considered expired
+     */
+    public synchronized void add(LockKey key, long deadline) {
+        Entry entry = new Entry(key, deadline, sequence++);
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            queue.remove(previous);
+        }
+        queue.add(entry);
+    }
+
+    /**
+     * Removes the lock from the index.
+     */
+    public synchronized void remove(LockKey key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            queue.remove(entry);
+        }
+    }
+
+    /**
+     * Removes from the index and returns keys of locks which deadline is before the given time.
+     *
+     * @param now current time in milliseconds
+     * @return keys of expired locks in the order of their deadlines
+     */
+    public synchronized List<LockKey> pollExpired(long now) {
+        List<LockKey> result = new ArrayList<>();
+        Entry entry;
+        while (!queue.isEmpty() && (entry = queue.first()).deadline < now) {
+            queue.pollFirst();
+            entries.remove(entry.key);
+            result.add(entry.key);
+        }
+        return result;
+    }
+
+    /**
+     * @return deadline of the registered lock or null if the lock is not registered
+     */
+    @Nullable
+    public synchronized Long getDeadline(LockKey key) {
+        Entry entry = entries.get(key);
+        return entry == null ? null : entry.deadline;
+    }
+
+    /**
+     * @return number of registered locks
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        queue.clear();
+    }
+}
@@ -33,6 +33,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.lang.Nullable;
 import jakarta.annotation.PostConstruct;
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -80,6 +81,10 @@ public class LockManagerImpl implements LockManager {
 
     protected Cache locks;
 
+    protected LockExpirationIndex expirationIndex = new LockExpirationIndex();
+
+    protected volatile long lastFullScanTime;
+
     @Autowired
     protected ExtendedEntities extendedEntities;
 
@@ -101,6 +106,9 @@ public class LockManagerImpl implements LockManager {
     @Autowired
     protected CacheOperations cacheOperations;
 
+    @Autowired
+    protected CoreProperties coreProperties;
+
     @Autowired
     protected List<LockDescriptorProvider> lockDescriptorProviders = new ArrayList<>();
 
@@ -146,6 +154,7 @@ public class LockManagerImpl implements LockManager {
         UserDetails user = currentAuthentication.getUser();
         lockInfo = new LockInfo(user.getUsername(), name, id, timeSource.currentTimestamp());
         locks.put(key, lockInfo);
+        registerExpiration(key, ld, lockInfo);
         log.debug("Locked {}/{}", name, id);
 
         return null;
@@ -164,7 +173,9 @@ public class LockManagerImpl implements LockManager {
 
     @Override
     public void unlock(String name, String id) {
-        if (locks.evictIfPresent(new LockKey(name, id))) {
+        LockKey key = new LockKey(name, id);
+        expirationIndex.remove(key);
+        if (locks.evictIfPresent(key)) {
             log.debug("Unlocked {}/{}", name, id);
         }
     }
@@ -201,37 +212,106 @@ public class LockManagerImpl implements LockManager {
 
     @Override
     public void expireLocks() {
-        if (cacheOperations.isIterableCache(locks)) {
-            log.trace("Start expiring locks operation");
-            Collection<LockKey> keys = cacheOperations.getKeys(locks);
-            for (LockKey key : keys) {
-                LockInfo lockInfo = locks.get(key, LockInfo.class);
-                if (lockInfo != null) {
-                    LockDescriptor ld = getConfig().get(key.name);
-                    if (ld == null) {
-                        log.debug("Lock {}/{} configuration not found, remove it", key.name, key.id);
-                        locks.evict(key);
-                    } else {
-                        Integer timeoutSec = ld.getTimeoutSec();
-                        if (timeoutSec != null && timeoutSec > 0) {
-                            Date since = lockInfo.getSince();
-                            if (since.getTime() + timeoutSec * 1000 < timeSource.currentTimestamp().getTime()) {
-                                log.debug("Lock {}/{} expired", key.name, key.id);
-                                locks.evict(key);
-                            }
-                        }
-                    }
+        long now = timeSource.currentTimestamp().getTime();
+        if (isFullScanRequired(now)) {
+            lastFullScanTime = now;
+            if (cacheOperations.isIterableCache(locks)) {
+                scanLocks(now);
+            } else {
+                log.debug("Checking all locks for expiration is unsupported by cache provider, " +
+                        "only locks of this instance are expired");
+            }
+        }
+
+        log.trace("Start expiring locks operation");
+        for (LockKey key : expirationIndex.pollExpired(now)) {
+            LockInfo lockInfo = locks.get(key, LockInfo.class);
+            if (lockInfo == null) {
+                log.trace("Lock info not found for key '{}'", key);
+                continue;
+            }
+            LockDescriptor ld = getConfig().get(key.name);
+            if (ld == null) {
+                log.debug("Lock {}/{} configuration not found, remove it", key.name, key.id);
+                locks.evict(key);
+            } else if (isExpired(ld, lockInfo, now)) {
+                log.debug("Lock {}/{} expired", key.name, key.id);
+                locks.evict(key);
+            } else {
+                // the lock has been re-created after registration, e.g. on another cluster instance
+                registerExpiration(key, ld, lockInfo);
+            }
+        }
+    }
+
+    /**
+     * Checks all locks of the cache for expiration and registers not expired ones in the expiration index.
+     * Picks up locks created before start of this instance, on other cluster instances or with timeouts changed
+     * by {@link #reloadConfiguration()}.
+     */
+    protected void scanLocks(long now) {
+        log.trace("Start checking all locks for expiration");
+        Collection<LockKey> keys = cacheOperations.getKeys(locks);
+        for (LockKey key : keys) {
+            LockInfo lockInfo = locks.get(key, LockInfo.class);
+            if (lockInfo != null) {
+                LockDescriptor ld = getConfig().get(key.name);
+                if (ld == null) {
+                    log.debug("Lock {}/{} configuration not found, remove it", key.name, key.id);
+                    expirationIndex.remove(key);
+                    locks.evict(key);
+                } else if (isExpired(ld, lockInfo, now)) {
+                    log.debug("Lock {}/{} expired", key.name, key.id);
+                    expirationIndex.remove(key);
+                    locks.evict(key);
                 } else {
-                    log.trace("Lock info not found for key '{}'", key);
+                    Long deadline = getDeadline(ld, lockInfo);
+                    if (deadline != null && !deadline.equals(expirationIndex.getDeadline(key))) {
+                        expirationIndex.add(key, deadline);
+                    }
                 }
+            } else {
+                log.trace("Lock info not found for key '{}'", key);
             }
-        } else {
-            log.debug("Expiring locks operation is unsupported by cache provider");
         }
     }
 
+    protected boolean isFullScanRequired(long now) {
+        if (lastFullScanTime == 0) {
+            return true;
+        }
+        Duration interval = coreProperties.getPessimisticLock().getExpirationFullScanInterval();
+        return interval != null && !interval.isZero() && lastFullScanTime + interval.toMillis() <= now;
+    }
+
+    protected void registerExpiration(LockKey key, LockDescriptor ld, LockInfo lockInfo) {
+        Long deadline = getDeadline(ld, lockInfo);
+        if (deadline != null) {
+            expirationIndex.add(key, deadline);
+        }
+    }
+
+    protected boolean isExpired(LockDescriptor ld, LockInfo lockInfo, long now) {
+        Long deadline = getDeadline(ld, lockInfo);
+        return deadline != null && deadline < now;
+    }
+
+    /**
+     * @return time in milliseconds after which the lock is expired or null if the lock never expires
+     */
+    @Nullable
+    protected Long getDeadline(LockDescriptor ld, LockInfo lockInfo) {
+        Integer timeoutSec = ld.getTimeoutSec();
+        if (timeoutSec != null && timeoutSec > 0) {
+            return lockInfo.getSince().getTime() + timeoutSec * 1000L;
+        }
+        return null;
+    }
+
     @Override
     public void reloadConfiguration() {
         config = null;
+        // re-register locks with new timeouts on the next expiration
+        lastFullScanTime = 0;
     }
 }
@@ -21,6 +21,9 @@ import io.jmix.core.impl.scanning.ClasspathScanCandidateDetector;
 import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Collections;
+
 @Component("core_SpecificOperationAccessContextDetector")
 public class SpecificOperationAccessContextDetector implements ClasspathScanCandidateDetector {
 
@@ -28,4 +31,9 @@ public class SpecificOperationAccessContextDetector implements ClasspathScanCand
     public boolean isCandidate(MetadataReader metadataReader) {
         return SpecificOperationAccessContext.class.getName().equals(metadataReader.getClassMetadata().getSuperClassName());
     }
+
+    @Override
+    public Collection<String> getIndexedTypes() {
+        return Collections.singleton(SpecificOperationAccessContext.class.getName());
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package concurrent
+
+import io.jmix.core.concurrent.TaskExecutorService
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class TaskExecutorServiceTest extends Specification {
+
+    def "number of concurrently running tasks is limited"() {
+
+        def executor = new TaskExecutorService(Executors.newCachedThreadPool(), 2)
+        def running = new AtomicInteger()
+        def maxRunning = new AtomicInteger()
+        def done = new CountDownLatch(10)
+
+        when:
+
+        10.times {
+            executor.execute {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), { a, b -> Math.max(a, b) })
+                Thread.sleep(20)
+                running.decrementAndGet()
+                done.countDown()
+            }
+        }
+
+        then:
+
+        done.await(10, TimeUnit.SECONDS)
+        maxRunning.get() <= 2
+
+        cleanup:
+
+        executor.shutdownNow()
+    }
+
+    def "tasks exceeding the queue capacity are rejected"() {
+
+        def executor = new TaskExecutorService(Executors.newCachedThreadPool(), 1, 1)
+        def release = new CountDownLatch(1)
+        def started = new CountDownLatch(1)
+
+        when:
+
+        executor.execute {
+            started.countDown()
+            release.await(10, TimeUnit.SECONDS)
+        }
+        started.await(10, TimeUnit.SECONDS)
+        executor.execute { release.await(10, TimeUnit.SECONDS) }
+        executor.execute {}
+
+        then:
+
+        thrown(RejectedExecutionException)
+
+        when:
+
+        release.countDown()
+        def future = null
+        for (int i = 0; i < 100 && future == null; i++) {
+            try {
+                future = executor.submit({ 'done' } as Callable)
+            } catch (RejectedExecutionException ignored) {
+                Thread.sleep(20)
+            }
+        }
+
+        then:
+
+        future.get(10, TimeUnit.SECONDS) == 'done'
+
+        cleanup:
+
+        executor.shutdownNow()
+    }
+
+    def "submitted task returns result"() {
+
+        def executor = new TaskExecutorService(Executors.newCachedThreadPool(), 0)
+
+        when:
+
+        def future = executor.submit({ 'done' } as Callable)
+
+        then:
+
+        future.get(10, TimeUnit.SECONDS) == 'done'
+
+        cleanup:
+
+        executor.shutdown()
+    }
+}
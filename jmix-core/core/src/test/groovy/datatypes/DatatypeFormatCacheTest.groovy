@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package datatypes
+
+import format_strings.TestFormatStringsRegistry
+import io.jmix.core.metamodel.datatype.impl.BigDecimalDatatype
+import io.jmix.core.metamodel.datatype.impl.DateTimeDatatype
+import io.jmix.core.metamodel.datatype.impl.IntegerDatatype
+import io.jmix.core.metamodel.datatype.impl.LocalDateDatatype
+import spock.lang.Specification
+import test_support.TestCoreProperties
+
+import java.text.DecimalFormat
+import java.text.DecimalFormatSymbols
+import java.text.SimpleDateFormat
+import java.time.LocalDate
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+
+class DatatypeFormatCacheTest extends Specification {
+
+    def "cached formats give the same results in concurrent threads"() {
+        def datatype = new BigDecimalDatatype()
+        datatype.formatStringsRegistry = new TestFormatStringsRegistry()
+        datatype.coreProperties = TestCoreProperties.builder().build()
+
+        def values = (1..1000).collect { new BigDecimal("${it * 1000}.${it}") }
+        def expected = values.collect { new DecimalFormat('#,##0.00', new DecimalFormatSymbols(Locale.ENGLISH)).format(it) }
+
+        def executor = Executors.newFixedThreadPool(8)
+
+        when:
+        def results = executor.invokeAll((1..8).collect {
+            { -> values.collect { datatype.format(it, Locale.ENGLISH) } } as Callable<List<String>>
+        })*.get()
+
+        then:
+        results.every { it == expected }
+
+        when:
+        def parsed = executor.invokeAll((1..8).collect {
+            { -> expected.collect { datatype.parse(it, Locale.ENGLISH) } } as Callable<List<BigDecimal>>
+        })*.get()
+
+        then:
+        parsed.every { it == parsed[0] }
+        parsed[0].withIndex().every { BigDecimal value, int i -> datatype.format(value, Locale.ENGLISH) == expected[i] }
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    def "format prototypes are not bound to threads"() {
+        def datatype = new IntegerDatatype()
+        datatype.formatStringsRegistry = new TestFormatStringsRegistry()
+
+        when: "every call is made by a new thread"
+        def results = (1..20).collect { i ->
+            String result = null
+            def thread = Thread.start { result = datatype.format(i * 1000, Locale.ENGLISH) }
+            thread.join()
+            result
+        }
+
+        then:
+        results == (1..20).collect { String.format(Locale.ENGLISH, '%,d', it * 1000) }
+        datatype.localizedFormats.prototypes.size() == 1
+    }
+
+    def "cached number format keeps parsing settings"() {
+        def datatype = new IntegerDatatype()
+        datatype.formatStringsRegistry = new TestFormatStringsRegistry()
+
+        expect:
+        datatype.format(1234567, Locale.ENGLISH) == '1,234,567'
+        datatype.parse('1,234,567', Locale.ENGLISH) == 1234567
+        datatype.format(1234567, Locale.ENGLISH) == '1,234,567'
+        datatype.format(42) == '42'
+        datatype.parse('42') == 42
+    }
+
+    def "cached date format uses time zone of each call"() {
+        def datatype = new DateTimeDatatype()
+        datatype.formatStringsRegistry = new TestFormatStringsRegistry()
+
+        def date = new SimpleDateFormat('yyyy-MM-dd HH:mm Z').parse('2023-05-10 12:30 +0000')
+
+        expect:
+        datatype.format(date, Locale.ENGLISH, TimeZone.getTimeZone('GMT+3')) == '10/05/2023 15:30'
+        datatype.format(date, Locale.ENGLISH, TimeZone.getTimeZone('GMT')) == '10/05/2023 12:30'
+        datatype.format(date, Locale.ENGLISH) == new SimpleDateFormat('dd/MM/yyyy HH:mm').format(date)
+    }
+
+    def "cached temporal formatter"() {
+        def datatype = new LocalDateDatatype()
+        datatype.formatStringsRegistry = new TestFormatStringsRegistry()
+
+        expect:
+        datatype.format(LocalDate.of(2023, 5, 10), Locale.ENGLISH) == '10/05/2023'
+        datatype.format(LocalDate.of(2023, 5, 11), Locale.ENGLISH) == '11/05/2023'
+        datatype.parse('12/05/2023', Locale.ENGLISH) == LocalDate.of(2023, 5, 12)
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package entity_scanning
+
+import io.jmix.core.impl.scanning.ClasspathIndex
+import io.jmix.core.impl.scanning.ClasspathScanCandidateDetector
+import io.jmix.core.impl.scanning.EntityDetector
+import io.jmix.core.impl.scanning.JmixModulesClasspathScanner
+import io.jmix.core.impl.scanning.JpaConverterDetector
+import io.jmix.core.metamodel.annotation.JmixEntity
+import jakarta.persistence.Converter
+import org.springframework.core.env.Environment
+import org.springframework.core.env.StandardEnvironment
+import org.springframework.core.io.DefaultResourceLoader
+import org.springframework.core.io.ResourceLoader
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver
+import org.springframework.core.type.classreading.MetadataReader
+import org.springframework.core.type.classreading.MetadataReaderFactory
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.stream.Collectors
+
+class ClasspathIndexTest extends Specification {
+
+    def resolver = new PathMatchingResourcePatternResolver()
+
+    @TempDir
+    Path tempDir
+
+    def "index is loaded from the package"() {
+
+        when:
+
+        def index = ClasspathIndex.load(resolver.getResource('classpath:test_support/classpath_index/'))
+
+        then:
+
+        index != null
+        index.getClassNames([JmixEntity.name]) == ['test_support.classpath_index.Foo', 'test_support.classpath_index.Bar'] as Set
+        index.getClassNames([JmixEntity.name, Converter.name]).size() == 3
+        index.getClassNames(['some.UnknownType']).isEmpty()
+    }
+
+    def "not indexed package"() {
+
+        expect:
+
+        ClasspathIndex.load(resolver.getResource('classpath:test_support/not_indexed/')) == null
+    }
+
+    def "index is used only for the classpath root containing it"() {
+
+        given: "a root with the index listing only one of its classes"
+
+        def indexedRoot = tempDir.resolve('indexed')
+        copyClass(indexedRoot, EntityDetector)
+        copyClass(indexedRoot, ClasspathIndex)
+        Files.writeString(indexedRoot.resolve('io/jmix/core/impl/scanning').resolve(ClasspathIndex.INDEX_FILE_NAME),
+                "${ClasspathScanCandidateDetector.name}=${EntityDetector.name}\n")
+
+        and: "a root of the same package without the index"
+
+        def notIndexedRoot = tempDir.resolve('not_indexed')
+        copyClass(notIndexedRoot, JpaConverterDetector)
+
+        def classLoader = new URLClassLoader(
+                [indexedRoot.toUri().toURL(), notIndexedRoot.toUri().toURL()] as URL[], (ClassLoader) null)
+
+        when:
+
+        def classNames = new TestClasspathScanner(classLoader)
+                .scanPackage('io.jmix.core.impl.scanning', [new DetectorImplementationDetector()])
+                .map { it.classMetadata.className }
+                .collect(Collectors.toSet())
+
+        then:
+
+        classNames == [EntityDetector.name, JpaConverterDetector.name] as Set
+    }
+
+    private void copyClass(Path root, Class<?> aClass) {
+        def path = root.resolve(aClass.name.replace('.', '/') + '.class')
+        Files.createDirectories(path.parent)
+        aClass.getResourceAsStream("/${aClass.name.replace('.', '/')}.class").withCloseable {
+            Files.copy(it, path)
+        }
+    }
+
+    static class DetectorImplementationDetector implements ClasspathScanCandidateDetector {
+
+        @Override
+        boolean isCandidate(MetadataReader metadataReader) {
+            return metadataReader.classMetadata.interfaceNames.contains(ClasspathScanCandidateDetector.name)
+        }
+
+        @Override
+        Collection<String> getIndexedTypes() {
+            return [ClasspathScanCandidateDetector.name]
+        }
+    }
+
+    static class TestClasspathScanner extends JmixModulesClasspathScanner {
+
+        ClassLoader classLoader
+
+        TestClasspathScanner(ClassLoader classLoader) {
+            this.classLoader = classLoader
+        }
+
+        @Override
+        protected MetadataReaderFactory getMetadataReaderFactory() {
+            return new SimpleMetadataReaderFactory(classLoader)
+        }
+
+        @Override
+        protected ResourceLoader getResourceLoader() {
+            return new DefaultResourceLoader(classLoader)
+        }
+
+        @Override
+        protected Environment getEnvironment() {
+            return new StandardEnvironment()
+        }
+
+        @Override
+        protected boolean isClasspathIndexEnabled() {
+            return true
+        }
+    }
+}
@@ -19,6 +19,7 @@ package metadata
 import io.jmix.core.InstanceNameProvider
 import io.jmix.core.CoreConfiguration
 import io.jmix.core.Metadata
+import io.jmix.core.impl.InstanceNameProviderImpl
 import io.jmix.core.security.ClientDetails
 import io.jmix.core.security.SystemAuthenticationToken
 import org.springframework.security.authentication.AuthenticationManager
@@ -136,4 +137,38 @@ class InstanceNameTest extends Specification {
         cleanup:
         authenticator.end()
     }
+
+    def "instance name definitions are compiled to renderers"() {
+        def impl = instanceNameProvider as InstanceNameProviderImpl
+
+        def device = metadata.create(GPSDeviceWithMethodName)
+        device.name = "gps"
+        def address = metadata.create(Address)
+        address.city = "Samara"
+        address.zip = "443011"
+        def owner = metadata.create(Owner)
+        owner.name = "John"
+
+        authenticator.begin()
+
+        expect:
+        impl.parseNamePattern(metadata.getClass(GPSDeviceWithMethodName)).renderer != null
+        impl.parseNamePattern(metadata.getClass(Address)).renderer != null
+        impl.parseNamePattern(metadata.getClass(Owner)).renderer != null
+
+        instanceNameProvider.getInstanceName(device) == "device:gps"
+        instanceNameProvider.getInstanceName(address) == "City: Samara, zip: 443011"
+        instanceNameProvider.getInstanceName(owner) == "John"
+
+        when: "values are changed after the renderer is compiled"
+        device.name = "gps2"
+        owner.name = "Jack"
+
+        then:
+        instanceNameProvider.getInstanceName(device) == "device:gps2"
+        instanceNameProvider.getInstanceName(owner) == "Jack"
+
+        cleanup:
+        authenticator.end()
+    }
 }
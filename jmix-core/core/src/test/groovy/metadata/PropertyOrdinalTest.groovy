@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package metadata
+
+import io.jmix.core.CoreConfiguration
+import io.jmix.core.Metadata
+import io.jmix.core.entity.EntityValues
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.test.context.ContextConfiguration
+import spock.lang.Specification
+import test_support.addon1.TestAddon1Configuration
+import test_support.app.TestAppConfiguration
+import test_support.app.entity.Owner
+import test_support.app.entity.Pet
+import test_support.base.entity.BaseEntity
+
+@ContextConfiguration(classes = [CoreConfiguration, TestAddon1Configuration, TestAppConfiguration])
+class PropertyOrdinalTest extends Specification {
+
+    @Autowired
+    Metadata metadata
+
+    def "inherited properties have the same ordinal"() {
+
+        def baseProp = metadata.getClass(BaseEntity).getProperty('createTs')
+        def petProp = metadata.getClass(Pet).getProperty('createTs')
+
+        expect:
+
+        baseProp.ordinal >= 0
+        petProp.ordinal == baseProp.ordinal
+        metadata.getClass(Pet).getProperty('name').ordinal > baseProp.ordinal
+    }
+
+    def "values are accessed by meta-property"() {
+
+        def metaClass = metadata.getClass(Pet)
+        def pet = metadata.create(Pet)
+        def owner = metadata.create(Owner)
+
+        when:
+
+        EntityValues.setValue(pet, metaClass.getProperty('name'), 'Buddy', true)
+        EntityValues.setValue(pet, metaClass.getProperty('owner'), owner, true)
+
+        then:
+
+        pet.name == 'Buddy'
+        pet.owner == owner
+        EntityValues.getValue(pet, metaClass.getProperty('name')) == 'Buddy'
+        EntityValues.getValue(pet, metaClass.getProperty('version')) == EntityValues.getValue(pet, 'version')
+        EntityValues.getValueEx(pet, metaClass.getPropertyPath('owner.id')) == owner.id
+    }
+}
@@ -18,8 +18,11 @@ package pessimisticlocking
 
 import io.jmix.core.CoreConfiguration
 import io.jmix.core.Metadata
+import io.jmix.core.TimeSource
 import io.jmix.core.pessimisticlocking.LockInfo
 import io.jmix.core.pessimisticlocking.LockManager
+import io.jmix.core.pessimisticlocking.impl.LockExpirationIndex
+import io.jmix.core.pessimisticlocking.impl.LockManagerImpl
 import io.jmix.core.security.SystemAuthenticator
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.test.context.ContextConfiguration
@@ -93,4 +96,75 @@ class LockManagerTest extends Specification {
         then:
         assertNull(lockInfo)
     }
+
+    def "Test lock expiration by controllable clock"() {
+        LockManagerImpl lockManagerImpl = (LockManagerImpl) lockManager
+        TimeSource originalTimeSource = lockManagerImpl.timeSource
+        long now = System.currentTimeMillis()
+        lockManagerImpl.timeSource = Stub(TimeSource) {
+            currentTimestamp() >> { new Date(now) }
+        }
+
+        LockableParentEntity lockedFirst = metadata.create(LockableParentEntity.class)
+        LockableParentEntity lockedLater = metadata.create(LockableParentEntity.class)
+
+        when:
+        lockManager.lock(lockedFirst)
+        now += 60_000
+        lockManager.lock(lockedLater)
+        lockManager.expireLocks()
+
+        then:
+        lockManager.getLockInfo("app_LockableParentEntity", lockedFirst.getId().toString()) != null
+
+        when:
+        now += 61_000
+        lockManager.expireLocks()
+
+        then:
+        lockManager.getLockInfo("app_LockableParentEntity", lockedFirst.getId().toString()) == null
+        lockManager.getLockInfo("app_LockableParentEntity", lockedLater.getId().toString()) != null
+
+        cleanup:
+        lockManager.unlock(lockedLater)
+        lockManagerImpl.timeSource = originalTimeSource
+    }
+
+    def "Test expiration index returns only expired and not removed locks"() {
+        def index = new LockExpirationIndex()
+        def key1 = new LockManagerImpl.LockKey("test", "1")
+        def key2 = new LockManagerImpl.LockKey("test", "2")
+        def key3 = new LockManagerImpl.LockKey("test", "3")
+
+        when:
+        index.add(key1, 100)
+        index.add(key2, 200)
+        index.add(key3, 300)
+        index.remove(key2)
+        index.add(key1, 250)
+
+        then:
+        index.pollExpired(150).isEmpty()
+        index.pollExpired(301) == [key1, key3]
+        index.size() == 0
+    }
+
+    def "Test expiration index does not keep entries of removed and re-registered locks"() {
+        def index = new LockExpirationIndex()
+        def key = new LockManagerImpl.LockKey("test", "1")
+
+        when:
+        (1..1000).each {
+            index.add(key, 1000 + it)
+            index.remove(key)
+        }
+        (1..1000).each {
+            index.add(key, 1000 + it)
+        }
+
+        then:
+        index.size() == 1
+        index.queue.size() == 1
+        index.getDeadline(key) == 2000
+    }
 }
@@ -42,13 +42,15 @@ public class TestCoreProperties extends CoreProperties {
                               boolean triggerFilesEnabled,
                               Duration triggerFilesProcessInterval,
                               PessimisticLock pessimisticLock,
-                              boolean roundDecimalValueByFormat) {
+                              boolean roundDecimalValueByFormat,
+                              boolean classpathIndexEnabled,
+                              boolean virtualThreadsEnabled) {
         super(webHostName, webPort, confDir, workDir, tempDir, dbDir, availableLocales,
                 crossDataStoreReferenceLoadingBatchSize, idGenerationForEntitiesInAdditionalDataStoresEnabled,
                 dom4jMaxPoolSize, dom4jMaxBorrowWaitMillis, anonymousAuthenticationTokenKey, defaultFileStorage,
                 entitySerializationTokenRequired, entitySerializationTokenEncryptionKey,
                 legacyFetchPlanSerializationAttributeName, triggerFilesEnabled, triggerFilesProcessInterval,
-                pessimisticLock, roundDecimalValueByFormat);
+                pessimisticLock, roundDecimalValueByFormat, classpathIndexEnabled, virtualThreadsEnabled);
     }
 
     public static Builder builder() {
@@ -74,8 +76,10 @@ public class TestCoreProperties extends CoreProperties {
         boolean legacyFetchPlanSerializationAttributeName = false;
         boolean triggerFilesEnabled = true;
         Duration triggerFilesProcessInterval = Duration.ofSeconds(5000);
-        PessimisticLock pessimisticLock = new PessimisticLock("0 * * * * ?", true);
+        PessimisticLock pessimisticLock = new PessimisticLock("0 * * * * ?", true, Duration.ofMinutes(10));
         boolean roundDecimalValueByFormat = true;
+        boolean classpathIndexEnabled = true;
+        boolean virtualThreadsEnabled = true;
 
         public Builder setWebHostName(String webHostName) {
             this.webHostName = webHostName;
@@ -177,6 +181,16 @@ public class TestCoreProperties extends CoreProperties {
             return this;
         }
 
+        public Builder setClasspathIndexEnabled(boolean classpathIndexEnabled) {
+            this.classpathIndexEnabled = classpathIndexEnabled;
+            return this;
+        }
+
+        public Builder setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+            this.virtualThreadsEnabled = virtualThreadsEnabled;
+            return this;
+        }
+
         public TestCoreProperties build() {
             return new TestCoreProperties(
                     this.webHostName,
@@ -198,7 +212,9 @@ public class TestCoreProperties extends CoreProperties {
                     this.triggerFilesEnabled,
                     this.triggerFilesProcessInterval,
                     this.pessimisticLock,
-                    this.roundDecimalValueByFormat);
+                    this.roundDecimalValueByFormat,
+                    this.classpathIndexEnabled,
+                    this.virtualThreadsEnabled);
         }
     }
 }
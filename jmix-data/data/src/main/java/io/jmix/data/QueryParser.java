@@ -89,6 +89,15 @@ public interface QueryParser {
 
     boolean isParameterUsedInAnyCondition(String paramName);
 
+    /**
+     * Returns the condition of the WHERE clause of the query without the {@code where} keyword.
+     * Example: select u from sec$User u where u.active = true -&gt; u.active = true
+     *
+     * @return condition or null if the query has no WHERE clause
+     */
+    @Nullable
+    String getWhereCondition();
+
     class QueryPath {
         protected String entityName;
         protected String pathString;
@@ -19,6 +19,7 @@ import io.jmix.core.Sort;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * Transforms JPQL query
@@ -102,4 +103,13 @@ public interface QueryTransformer {
      * @return {@code true} if at least one statement was replaced, {@code false} otherwise
      */
     default boolean replaceIsNullStatements(String paramName, boolean isNullValue) {return false;}
+
+    /**
+     * Appends the suffix to all identification variables and named parameters of the query, so it can be nested
+     * as a subquery into another query declaring the same variables and parameters.
+     *
+     * @param suffix          suffix to append
+     * @param parameterFilter accepts names of the parameters to rename, other parameters keep their names
+     */
+    void addSuffixToVariablesAndParameters(String suffix, Predicate<String> parameterFilter);
 }
@@ -18,6 +18,7 @@ package io.jmix.data.impl;
 
 import io.jmix.core.*;
 import io.jmix.core.accesscontext.InMemoryCrudEntityContext;
+import io.jmix.core.constraint.AccessConstraint;
 import io.jmix.core.datastore.*;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.security.AccessDeniedException;
@@ -34,6 +35,8 @@ public class DataStoreInMemoryCrudListener implements DataStoreEventListener {
 
     private static final Logger log = LoggerFactory.getLogger(DataStoreInMemoryCrudListener.class);
 
+    protected static final String CRUD_CONTEXTS_STATE_KEY = "inMemoryCrudContexts";
+
     @Autowired
     protected AccessManager accessManager;
     @Autowired
@@ -54,7 +57,7 @@ public class DataStoreInMemoryCrudListener implements DataStoreEventListener {
     public void beforeEntityLoad(DataStoreBeforeEntityLoadEvent event) {
         LoadContext<?> context = event.getLoadContext();
 
-        if (hasInMemoryRead(context)) {
+        if (hasInMemoryRead(context, event.getEventState())) {
             context.setLoadPartialEntities(false);
         }
     }
@@ -62,7 +65,7 @@ public class DataStoreInMemoryCrudListener implements DataStoreEventListener {
     public void beforeEntityCount(DataStoreBeforeEntityCountEvent event) {
         LoadContext<?> context = event.getLoadContext();
 
-        if (hasInMemoryRead(context)) {
+        if (hasInMemoryOnlyRead(context, event.getEventState())) {
             event.setCountByItems();
         }
     }
@@ -87,8 +90,8 @@ public class DataStoreInMemoryCrudListener implements DataStoreEventListener {
 
         MetaClass metaClass = extendedEntities.getEffectiveMetaClass(context.getEntityMetaClass());
 
-        InMemoryCrudEntityContext crudContext = new InMemoryCrudEntityContext(metaClass, applicationContext);
-        accessManager.applyConstraints(crudContext, context.getAccessConstraints());
+        Map<MetaClass, InMemoryCrudEntityContext> crudContexts = getCrudContexts(event.getEventState());
+        InMemoryCrudEntityContext crudContext = getCrudContext(metaClass, context.getAccessConstraints(), crudContexts);
 
         List<Object> entities = new ArrayList<>();
 
@@ -101,17 +104,18 @@ public class DataStoreInMemoryCrudListener implements DataStoreEventListener {
             }
         }
 
+        // the same instance can be referenced by many entities, so test it only once
+        Map<Object, Boolean> readPermissions = new IdentityHashMap<>();
         EntityAttributesEraser.ReferencesCollector references = entityAttributesEraser.collectErasingReferences(entities,
-                entity -> {
+                entity -> readPermissions.computeIfAbsent(entity, e -> {
                     InMemoryCrudEntityContext childCrudContext =
-                            new InMemoryCrudEntityContext(metadata.getClass(entity), applicationContext);
-                    accessManager.applyConstraints(childCrudContext, context.getAccessConstraints());
-                    boolean readPermitted = childCrudContext.isReadPermitted(entity);
+                            getCrudContext(metadata.getClass(e), context.getAccessConstraints(), crudContexts);
+                    boolean readPermitted = childCrudContext.isReadPermitted(e);
                     if (!readPermitted) {
-                        log.debug("Reading entity {} is not permitted by access constraints", entity);
+                        log.debug("Reading entity {} is not permitted by access constraints", e);
                     }
                     return readPermitted;
-                });
+                }));
         event.getEventState().setValue("erasedReferences", references);
     }
 
@@ -127,12 +131,11 @@ public class DataStoreInMemoryCrudListener implements DataStoreEventListener {
     @Override
     public void entitySaving(DataStoreEntitySavingEvent event) {
         SaveContext context = event.getSaveContext();
+        Map<MetaClass, InMemoryCrudEntityContext> crudContexts = getCrudContexts(event.getEventState());
 
         for (Object entity : event.getEntities()) {
-            MetaClass metaClass = metadata.getClass(entity);
-
-            InMemoryCrudEntityContext entityContext = new InMemoryCrudEntityContext(metaClass, applicationContext);
-            accessManager.applyConstraints(entityContext, context.getAccessConstraints());
+            InMemoryCrudEntityContext entityContext =
+                    getCrudContext(metadata.getClass(entity), context.getAccessConstraints(), crudContexts);
 
             if (isNew(context, entity)) {
                 if (!entityContext.isCreatePermitted(entity)) {
@@ -149,12 +152,11 @@ public class DataStoreInMemoryCrudListener implements DataStoreEventListener {
     @Override
     public void entityDeleting(DataStoreEntityDeletingEvent event) {
         SaveContext context = event.getSaveContext();
+        Map<MetaClass, InMemoryCrudEntityContext> crudContexts = getCrudContexts(event.getEventState());
 
         for (Object entity : event.getEntities()) {
-            MetaClass metaClass = metadata.getClass(entity);
-
-            InMemoryCrudEntityContext entityContext = new InMemoryCrudEntityContext(metaClass, applicationContext);
-            accessManager.applyConstraints(entityContext, context.getAccessConstraints());
+            InMemoryCrudEntityContext entityContext =
+                    getCrudContext(metadata.getClass(entity), context.getAccessConstraints(), crudContexts);
 
             if (!entityContext.isDeletePermitted(entity)) {
                 throw new AccessDeniedException("entity", entity.toString(), "delete");
@@ -167,13 +169,47 @@ public class DataStoreInMemoryCrudListener implements DataStoreEventListener {
         return JmixOrder.HIGHEST_PRECEDENCE + 10;
     }
 
-    protected boolean hasInMemoryRead(LoadContext<?> context) {
+    protected boolean hasInMemoryRead(LoadContext<?> context, EventSharedState eventState) {
+        Map<MetaClass, InMemoryCrudEntityContext> crudContexts = getCrudContexts(eventState);
+        return collectEntityClasses(context).stream()
+                .anyMatch(entityClass ->
+                        getCrudContext(entityClass, context.getAccessConstraints(), crudContexts).readPredicate() != null);
+    }
+
+    /**
+     * Checks whether read predicates can exclude instances returned by queries, i.e. some of them are not
+     * applied to queries as JPQL conditions.
+     */
+    protected boolean hasInMemoryOnlyRead(LoadContext<?> context, EventSharedState eventState) {
+        Map<MetaClass, InMemoryCrudEntityContext> crudContexts = getCrudContexts(eventState);
         return collectEntityClasses(context).stream()
-                .anyMatch(entityClass -> {
-                    InMemoryCrudEntityContext crudContext = new InMemoryCrudEntityContext(entityClass, applicationContext);
-                    accessManager.applyConstraints(crudContext, context.getAccessConstraints());
-                    return crudContext.readPredicate() != null;
-                });
+                .anyMatch(entityClass ->
+                        getCrudContext(entityClass, context.getAccessConstraints(), crudContexts).hasInMemoryOnlyReadPredicate());
+    }
+
+    /**
+     * Returns contexts created during the current load or save operation. Access constraints do not change
+     * within an operation, so a context created for an entity class can be reused for all its instances.
+     */
+    @SuppressWarnings("unchecked")
+    protected Map<MetaClass, InMemoryCrudEntityContext> getCrudContexts(EventSharedState eventState) {
+        Map<MetaClass, InMemoryCrudEntityContext> crudContexts =
+                (Map<MetaClass, InMemoryCrudEntityContext>) eventState.getValue(CRUD_CONTEXTS_STATE_KEY);
+        if (crudContexts == null) {
+            crudContexts = new HashMap<>();
+            eventState.setValue(CRUD_CONTEXTS_STATE_KEY, crudContexts);
+        }
+        return crudContexts;
+    }
+
+    protected InMemoryCrudEntityContext getCrudContext(MetaClass metaClass,
+                                                       List<AccessConstraint<?>> accessConstraints,
+                                                       Map<MetaClass, InMemoryCrudEntityContext> crudContexts) {
+        return crudContexts.computeIfAbsent(metaClass, entityClass -> {
+            InMemoryCrudEntityContext crudContext = new InMemoryCrudEntityContext(entityClass, applicationContext);
+            accessManager.applyConstraints(crudContext, accessConstraints);
+            return crudContext;
+        });
     }
 
     protected Collection<MetaClass> collectEntityClasses(LoadContext<?> context) {
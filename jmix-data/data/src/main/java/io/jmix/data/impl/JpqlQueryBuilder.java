@@ -62,9 +62,7 @@ public class JpqlQueryBuilder<Q extends JmixQuery> {
     protected String entityName;
     protected List<String> valueProperties;
 
-    protected boolean previousResults;
-    protected UUID sessionId;
-    protected int queryKey;
+    protected List<LoadContext.Query> previousQueries;
 
     protected boolean countQuery;
     protected LockModeType lockMode;
@@ -136,10 +134,12 @@ public class JpqlQueryBuilder<Q extends JmixQuery> {
         return this;
     }
 
-    public JpqlQueryBuilder setPreviousResults(UUID sessionId, int queryKey) {
-        this.previousResults = true;
-        this.sessionId = sessionId;
-        this.queryKey = queryKey;
+    /**
+     * Restricts the result by the results of the given queries. Each query is added to the result query
+     * as an {@code in} subquery selecting the entity identifiers.
+     */
+    public JpqlQueryBuilder setPreviousQueries(List<LoadContext.Query> previousQueries) {
+        this.previousQueries = previousQueries;
         return this;
     }
 
@@ -220,7 +220,7 @@ public class JpqlQueryBuilder<Q extends JmixQuery> {
         applyFiltering();
         applySorting();
         applyCount();
-        restrictByPreviousResults();
+        restrictByPreviousQueries();
     }
 
     protected void applySorting() {
@@ -275,33 +275,43 @@ public class JpqlQueryBuilder<Q extends JmixQuery> {
         }
     }
 
-    protected void restrictByPreviousResults() {
-        if (previousResults) {
-            Class type = getPrimaryKeyProperty().getJavaType();
-            String entityIdField;
-            if (UUID.class.equals(type)) {
-                entityIdField = "entityId";
-            } else if (Long.class.equals(type)) {
-                entityIdField = "longEntityId";
-            } else if (Integer.class.equals(type)) {
-                entityIdField = "intEntityId";
-            } else if (String.class.equals(type)) {
-                entityIdField = "stringEntityId";
-            } else {
-                throw new IllegalStateException(
-                        String.format("Unsupported primary key type: %s for %s", type.getSimpleName(), entityName));
+    protected void restrictByPreviousQueries() {
+        if (previousQueries == null || previousQueries.isEmpty()) {
+            return;
+        }
+        String primaryKeyName = getPrimaryKeyProperty().getName();
+        Map<String, Object> parameters = resultParameters != null ? new HashMap<>(resultParameters) : new HashMap<>();
+
+        for (int i = 0; i < previousQueries.size(); i++) {
+            LoadContext.Query previousQuery = previousQueries.get(i);
+            String suffix = "_pq" + i;
+
+            JpqlQueryBuilder<?> previousQueryBuilder = beanFactory.getBean(JpqlQueryBuilder.class);
+            previousQueryBuilder.setEntityName(entityName)
+                    .setQueryString(previousQuery.getQueryString())
+                    .setCondition(previousQuery.getCondition())
+                    .setQueryParameters(new HashMap<>(previousQuery.getParameters()));
+
+            QueryTransformer transformer = queryTransformerFactory.transformer(previousQueryBuilder.getResultQueryString());
+            transformer.replaceWithSelectId(primaryKeyName);
+            transformer.removeOrderBy();
+            // parameters assigned by QueryParamValueProviders keep their names to be resolved by the provider
+            transformer.addSuffixToVariablesAndParameters(suffix, name -> !queryParamValuesManager.supports(name));
+            String subquery = transformer.getResult();
+
+            for (Map.Entry<String, Object> entry : previousQueryBuilder.getResultParameters().entrySet()) {
+                if (queryParamValuesManager.supports(entry.getKey())) {
+                    parameters.putIfAbsent(entry.getKey(), entry.getValue());
+                } else {
+                    parameters.put(entry.getKey() + suffix, entry.getValue());
+                }
             }
 
-            QueryTransformer transformer = queryTransformerFactory.transformer(resultQuery);
-            transformer.addJoinAndWhere(
-                    ", sys$QueryResult _qr",
-                    String.format("_qr.%s = {E}.%s and _qr.sessionId = :_qr_sessionId and _qr.queryKey = %s",
-                            entityIdField, getPrimaryKeyProperty().getName(), queryKey)
-            );
-
-            this.resultQuery = transformer.getResult();
-            this.resultParameters.put("_qr_sessionId", sessionId);
+            transformer = queryTransformerFactory.transformer(resultQuery);
+            transformer.addWhere(String.format("{E}.%s in (%s)", primaryKeyName, subquery));
+            resultQuery = transformer.getResult();
         }
+        resultParameters = parameters;
     }
 
     protected void replaceParamsInMacros(Q query) {
@@ -16,8 +16,6 @@
 
 package io.jmix.data.impl;
 
-import io.jmix.core.LoadContext;
-
 import java.util.List;
 
 /**
@@ -26,8 +24,6 @@ import java.util.List;
  */
 public interface QueryResultsManager {
 
-    void savePreviousQueryResults(LoadContext loadContext);
-
     void insert(int queryKey, List idList);
 
     void delete(int queryKey);
@@ -18,12 +18,10 @@ package io.jmix.data.impl;
 
 import io.jmix.core.*;
 import io.jmix.core.security.CurrentAuthentication;
-import io.jmix.data.*;
 import io.jmix.data.persistence.DbTypeConverter;
 import io.jmix.data.persistence.DbmsSpecifics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -34,7 +32,6 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import javax.sql.DataSource;
 import java.util.*;
@@ -57,18 +54,9 @@ public class QueryResultsManagerImpl implements QueryResultsManager {
     @Autowired
     protected Metadata metadata;
 
-    @Autowired
-    private MetadataTools metadataTools;
-
     @PersistenceContext
     private EntityManager entityManager;
 
-    @Autowired
-    protected QueryTransformerFactory queryTransformerFactory;
-
-    @Autowired
-    protected ObjectProvider<JpqlQueryBuilder> jpqlQueryBuilderProvider;
-
     protected JdbcTemplate jdbcTemplate;
 
     protected TransactionTemplate transaction;
@@ -90,92 +78,6 @@ public class QueryResultsManagerImpl implements QueryResultsManager {
         transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
-    @Override
-    public void savePreviousQueryResults(LoadContext loadContext) {
-        @SuppressWarnings("unchecked") List<LoadContext.Query> prevQueries = loadContext.getPreviousQueries();
-        if (prevQueries.isEmpty())
-            return;
-
-        LoadContext.Query contextQuery = prevQueries.get(prevQueries.size() - 1);
-        String entityName = loadContext.getEntityMetaClass().getName();
-
-        QueryParser parser = queryTransformerFactory.parser(contextQuery.getQueryString());
-        if (!parser.isEntitySelect(entityName))
-            return;
-
-        int queryKey = loadContext.getQueryKey();
-
-        if (resultsAlreadySaved(queryKey, contextQuery))
-            return;
-
-        List idList = transaction.execute(status -> {
-            entityManager.setProperty(PersistenceHints.SOFT_DELETION,
-                    loadContext.getHints().get(PersistenceHints.SOFT_DELETION));
-
-            QueryTransformer transformer = queryTransformerFactory.transformer(contextQuery.getQueryString());
-            String primaryKeyName = metadataTools.getPrimaryKeyName(metadata.getClass(entityName));
-            if (primaryKeyName == null) {
-                throw new IllegalStateException("Cannot find primarykey name for " + entityName);
-            }
-            transformer.replaceWithSelectId(primaryKeyName);
-            transformer.removeOrderBy();
-            String queryString = transformer.getResult();
-
-            JpqlQueryBuilder queryBuilder = jpqlQueryBuilderProvider.getObject();
-            queryBuilder.setQueryString(queryString)
-                    .setEntityName(entityName)
-                    .setCondition(contextQuery.getCondition())
-                    .setSort(contextQuery.getSort())
-                    .setQueryParameters(contextQuery.getParameters());
-
-            if (prevQueries.size() > 1) {
-                //todo MG
-//                queryBuilder.setPreviousResults(userSessionSource.getUserSession().getId(), loadContext.getQueryKey());
-            }
-
-            Query query = queryBuilder.getQuery(entityManager);
-
-            String logMsg = "Load previous query results: " + JpqlQueryBuilder.printQuery(((JmixQuery) query).getQueryString());
-            log.debug(logMsg);
-            long start = System.currentTimeMillis();
-
-            List resultList = query.getResultList();
-            log.debug("Done in " + (System.currentTimeMillis() - start) + "ms : " + logMsg);
-            return resultList;
-        });
-        assert idList != null;
-
-        delete(queryKey);
-        insert(queryKey, idList);
-    }
-
-    protected boolean resultsAlreadySaved(Integer queryKey, LoadContext.Query query) {
-        //todo MG
-//        LinkedHashMap<Integer, QueryHolder> recentQueries =
-//                userSessionSource.getUserSession().getAttribute("_recentQueries");
-        LinkedHashMap<Integer, QueryHolder> recentQueries = null;
-        if (recentQueries == null) {
-            recentQueries = new LinkedHashMap<Integer, QueryHolder>() {
-                private static final long serialVersionUID = -901296839279897248L;
-
-                @Override
-                protected boolean removeEldestEntry(Map.Entry<Integer, QueryHolder> eldest) {
-                    return size() > 10;
-                }
-            };
-        }
-
-        QueryHolder queryHolder = new QueryHolder(query);
-        QueryHolder oldQueryHolder = recentQueries.put(queryKey, queryHolder);
-
-        // do not set to session attribute recentQueries directly, it contains reference to QueryResultsManager class
-        // copy data to new LinkedHashMap
-        //todo MG
-//        userSessionSource.getUserSession().setAttribute("_recentQueries", new LinkedHashMap<>(recentQueries));
-
-        return queryHolder.equals(oldQueryHolder);
-    }
-
     @Override
     public void insert(int queryKey, List idList) {
         if (idList.isEmpty())
@@ -22,10 +22,12 @@ import io.jmix.data.impl.jpql.model.JpqlEntityModel;
 import io.jmix.data.impl.jpql.tree.IdentificationVariableNode;
 import io.jmix.data.impl.jpql.tree.PathNode;
 import io.jmix.data.impl.jpql.tree.SimpleConditionNode;
+import io.jmix.data.impl.jpql.tree.WhereNode;
 import org.antlr.runtime.tree.TreeVisitor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Scope;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -216,6 +218,20 @@ public class QueryParserAstBased implements QueryParser {
                 .collect(Collectors.toList());
     }
 
+    @Nullable
+    @Override
+    public String getWhereCondition() {
+        WhereNode whereNode = getTree().getAstWhereNode();
+        if (whereNode == null) {
+            return null;
+        }
+        TreeToQuery toQuery = new TreeToQuery();
+        new TreeVisitor().visit(whereNode, toQuery);
+        String where = toQuery.getQueryString().trim();
+        // the rendered node starts with the 'where' keyword
+        return StringUtils.removeStartIgnoreCase(where, "where").trim();
+    }
+
     protected EntityNameAndPath getOriginEntityNameAndPath() {
         PathNode pathNode = getAnalyzer().getMainSelectedPathNode();
         IdentificationVariableNode identificationVariable = getAnalyzer().getMainIdentificationVariableNode();
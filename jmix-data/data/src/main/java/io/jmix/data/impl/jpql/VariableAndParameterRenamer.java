@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.data.impl.jpql;
+
+import io.jmix.data.impl.jpql.tree.BaseJoinNode;
+import io.jmix.data.impl.jpql.tree.IdentificationVariableNode;
+import io.jmix.data.impl.jpql.tree.ParameterNode;
+import io.jmix.data.impl.jpql.tree.PathNode;
+import org.antlr.runtime.tree.TreeVisitorAction;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Appends a suffix to all identification variables and named parameters of the query tree, including
+ * the ones declared in subqueries. Parameters not accepted by the parameter filter keep their names. Call {@link #renamePaths()} after visiting the tree to rename the variables
+ * in path expressions, because paths can be visited before the declarations of their variables.
+ */
+public class VariableAndParameterRenamer implements TreeVisitorAction {
+    private final String suffix;
+    private final Predicate<String> parameterFilter;
+    private final Set<String> variables = new HashSet<>();
+    private final List<PathNode> pathNodes = new ArrayList<>();
+
+    public VariableAndParameterRenamer(String suffix, Predicate<String> parameterFilter) {
+        this.suffix = suffix;
+        this.parameterFilter = parameterFilter;
+    }
+
+    @Override
+    public Object pre(Object o) {
+        if (o instanceof IdentificationVariableNode) {
+            IdentificationVariableNode node = (IdentificationVariableNode) o;
+            if (node.getVariableName() != null) {
+                variables.add(node.getVariableName());
+                node.renameVariableTo(node.getVariableName() + suffix);
+            }
+        } else if (o instanceof BaseJoinNode) {
+            BaseJoinNode node = (BaseJoinNode) o;
+            if (node.getVariableName() != null) {
+                variables.add(node.getVariableName());
+                node.setVariableName(node.getVariableName() + suffix);
+            }
+        } else if (o instanceof PathNode) {
+            pathNodes.add((PathNode) o);
+        } else if (o instanceof ParameterNode) {
+            ParameterNode node = (ParameterNode) o;
+            if (node.isNamed() && parameterFilter.test(node.getParameterReference())) {
+                node.renameTo(node.getParameterReference() + suffix);
+            }
+        }
+        return o;
+    }
+
+    @Override
+    public Object post(Object o) {
+        return o;
+    }
+
+    public void renamePaths() {
+        for (PathNode pathNode : pathNodes) {
+            if (variables.contains(pathNode.getEntityVariableName())) {
+                pathNode.renameVariableTo(pathNode.getEntityVariableName() + suffix);
+            }
+        }
+        pathNodes.clear();
+    }
+}
@@ -30,6 +30,7 @@ import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -215,6 +216,11 @@ public class QueryTransformerAstBased implements QueryTransformer {
         getTransformer().replaceEntityName(newName, getAnalyzer().getMainIdentificationVariableNode());
     }
 
+    @Override
+    public void addSuffixToVariablesAndParameters(String suffix, Predicate<String> parameterFilter) {
+        getTree().visit(new VariableAndParameterRenamer(suffix, parameterFilter)).renamePaths();
+    }
+
     @Override
     public void reset() {
         queryTree = null;
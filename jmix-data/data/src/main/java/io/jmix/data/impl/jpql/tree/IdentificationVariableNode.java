@@ -50,6 +50,10 @@ public class IdentificationVariableNode extends BaseCustomNode {
         return variableName;
     }
 
+    public void renameVariableTo(String newVariableName) {
+        variableName = newVariableName;
+    }
+
     public void identifyVariableEntity(
             DomainModel model,
             Deque<QueryVariableContext> stack,
@@ -73,4 +73,14 @@ public class ParameterNode extends BaseCustomNode {
     public String getParameterReference() {
         return isIndexed() ? getChild(1).getText() : getChild(0).getText().substring(1);
     }
+
+    /**
+     * Renames the named parameter.
+     */
+    public void renameTo(String newName) {
+        if (!isNamed()) {
+            throw new IllegalStateException("Parameter is not named");
+        }
+        ((CommonTree) getChild(0)).getToken().setText(":" + newName);
+    }
 }
\ No newline at end of file
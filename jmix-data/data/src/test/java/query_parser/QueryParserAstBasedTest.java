@@ -132,6 +132,19 @@ public class QueryParserAstBasedTest {
         assertTrue(paramNames.contains("par"));
     }
 
+    @Test
+    public void testGetWhereCondition() {
+        QueryParserAstBased parser = new QueryParserAstBased(prepareDomainModel(),
+                "select u from sec_User u where u.login = :login and u.int1 > 1"
+        );
+        assertEquals("u.login = :login and u.int1 > 1", parser.getWhereCondition());
+
+        parser = new QueryParserAstBased(prepareDomainModel(),
+                "select u from sec_User u"
+        );
+        assertNull(parser.getWhereCondition());
+    }
+
     @Test
     public void testErrorsInJoin() {
         try {
@@ -230,6 +243,25 @@ public class QueryParserAstBasedTest {
         assertTrue(entityNames.contains("sec_Group"));
     }
 
+    @Test
+    public void testAddSuffixToVariablesAndParameters() {
+        QueryTransformerAstBased transformer = new QueryTransformerAstBased(prepareDomainModel(),
+                "select c.id from sec_Constraint c join sec_Group g on g.name = :par " +
+                        "where c.group.group = g and c.id in (select c1.id from sec_Constraint c1 where c1.id = :id) " +
+                        "and c.group.createdBy = :current_user_id"
+        );
+        transformer.addSuffixToVariablesAndParameters("_pq0", name -> !name.startsWith("current_user_"));
+        String result = transformer.getResult();
+
+        assertTrue(result.startsWith("select c_pq0.id from sec_Constraint c_pq0"));
+        assertTrue(result.contains("sec_Group g_pq0"));
+        assertTrue(result.contains("g_pq0.name = :par_pq0"));
+        assertTrue(result.contains("c_pq0.group.group = g_pq0"));
+        assertTrue(result.contains("select c1_pq0.id from sec_Constraint c1_pq0 where c1_pq0.id = :id_pq0"));
+        assertTrue(result.contains("c_pq0.group.createdBy = :current_user_id"));
+        assertFalse(result.contains("current_user_id_pq0"));
+    }
+
     @Test
     public void testEntityAlias() throws Exception {
         QueryParserAstBased parser = new QueryParserAstBased(prepareDomainModel(),
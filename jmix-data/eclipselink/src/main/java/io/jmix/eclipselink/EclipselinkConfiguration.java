@@ -28,6 +28,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.PropertySource;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 @Configuration
@@ -35,6 +36,7 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @ConfigurationPropertiesScan
 @JmixModule(dependsOn = DataConfiguration.class)
 @EnableTransactionManagement
+@PropertySource(name = "io.jmix.eclipselink", value = "classpath:/io/jmix/eclipselink/module.properties")
 public class EclipselinkConfiguration {
     @Bean("data_PersistentAttributesLoadChecker")
     @Primary
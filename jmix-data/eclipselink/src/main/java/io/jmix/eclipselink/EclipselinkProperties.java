@@ -19,15 +19,153 @@ package io.jmix.eclipselink;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "jmix.eclipselink")
 public class EclipselinkProperties {
     boolean queryCacheEnabled;
 
-    public EclipselinkProperties(@DefaultValue("true") boolean queryCacheEnabled) {
+    /**
+     * Whether EclipseLink JDBC batch writing is enabled. EclipseLink writes changes class by class, so statements
+     * for the same table are sent in batches.
+     */
+    boolean batchWritingEnabled;
+
+    /**
+     * Maximum number of statements in a JDBC batch.
+     */
+    int batchWritingSize;
+
+    /**
+     * Whether {@code EntityChangedEvent}s of the main data store entities are also written to the transactional
+     * outbox and delivered asynchronously to {@code EntityChangedEventOutboxListener} beans after commit.
+     * Synchronous publishing of the events is not affected.
+     * <p>
+     * The outbox table is created by Liquibase only if this property is set.
+     */
+    boolean entityChangedEventOutboxEnabled;
+
+    /**
+     * Whether this application instance drains the outbox. In a cluster, enable processing on a single node
+     * to keep the per-entity ordering of events.
+     */
+    boolean entityChangedEventOutboxProcessingEnabled;
+
+    /**
+     * Number of worker threads draining the outbox. The outbox has a fixed number of partitions distributed among
+     * the workers, so the value can be changed between restarts. Events of the same entity instance are always
+     * processed by the same worker.
+     */
+    int entityChangedEventOutboxWorkers;
+
+    /**
+     * Maximum number of events passed to a listener at once.
+     */
+    int entityChangedEventOutboxBatchSize;
+
+    /**
+     * Interval of polling the outbox for events left by failed deliveries or by other application instances.
+     */
+    Duration entityChangedEventOutboxPollInterval;
+
+    /**
+     * Number of delivery attempts after which an event is marked as dead letter and left in the outbox
+     * without further delivery.
+     */
+    int entityChangedEventOutboxMaxAttempts;
+
+    /**
+     * Maximum number of query results cached in each partition of the query cache. Used only if the query cache
+     * is partitioned by a {@code QueryCachePartitionProvider} bean.
+     */
+    int queryCachePartitionMaxSize;
+
+    public EclipselinkProperties(@DefaultValue("true") boolean queryCacheEnabled,
+                                 @DefaultValue("false") boolean batchWritingEnabled,
+                                 @DefaultValue("100") int batchWritingSize,
+                                 @DefaultValue("false") boolean entityChangedEventOutboxEnabled,
+                                 @DefaultValue("true") boolean entityChangedEventOutboxProcessingEnabled,
+                                 @DefaultValue("4") int entityChangedEventOutboxWorkers,
+                                 @DefaultValue("100") int entityChangedEventOutboxBatchSize,
+                                 @DefaultValue("10s") Duration entityChangedEventOutboxPollInterval,
+                                 @DefaultValue("10") int entityChangedEventOutboxMaxAttempts,
+                                 @DefaultValue("1000") int queryCachePartitionMaxSize) {
         this.queryCacheEnabled = queryCacheEnabled;
+        this.batchWritingEnabled = batchWritingEnabled;
+        this.batchWritingSize = batchWritingSize;
+        this.entityChangedEventOutboxEnabled = entityChangedEventOutboxEnabled;
+        this.entityChangedEventOutboxProcessingEnabled = entityChangedEventOutboxProcessingEnabled;
+        this.entityChangedEventOutboxWorkers = entityChangedEventOutboxWorkers;
+        this.entityChangedEventOutboxBatchSize = entityChangedEventOutboxBatchSize;
+        this.entityChangedEventOutboxPollInterval = entityChangedEventOutboxPollInterval;
+        this.entityChangedEventOutboxMaxAttempts = entityChangedEventOutboxMaxAttempts;
+        this.queryCachePartitionMaxSize = queryCachePartitionMaxSize;
     }
 
     public boolean isQueryCacheEnabled() {
         return queryCacheEnabled;
     }
+
+    /**
+     * @see #batchWritingEnabled
+     */
+    public boolean isBatchWritingEnabled() {
+        return batchWritingEnabled;
+    }
+
+    /**
+     * @see #batchWritingSize
+     */
+    public int getBatchWritingSize() {
+        return batchWritingSize;
+    }
+
+    /**
+     * @see #entityChangedEventOutboxEnabled
+     */
+    public boolean isEntityChangedEventOutboxEnabled() {
+        return entityChangedEventOutboxEnabled;
+    }
+
+    /**
+     * @see #entityChangedEventOutboxProcessingEnabled
+     */
+    public boolean isEntityChangedEventOutboxProcessingEnabled() {
+        return entityChangedEventOutboxProcessingEnabled;
+    }
+
+    /**
+     * @see #entityChangedEventOutboxWorkers
+     */
+    public int getEntityChangedEventOutboxWorkers() {
+        return entityChangedEventOutboxWorkers;
+    }
+
+    /**
+     * @see #entityChangedEventOutboxBatchSize
+     */
+    public int getEntityChangedEventOutboxBatchSize() {
+        return entityChangedEventOutboxBatchSize;
+    }
+
+    /**
+     * @see #entityChangedEventOutboxPollInterval
+     */
+    public Duration getEntityChangedEventOutboxPollInterval() {
+        return entityChangedEventOutboxPollInterval;
+    }
+
+    /**
+     * @see #entityChangedEventOutboxMaxAttempts
+     */
+    public int getEntityChangedEventOutboxMaxAttempts() {
+        return entityChangedEventOutboxMaxAttempts;
+    }
+
+    /**
+     * @see #queryCachePartitionMaxSize
+     */
+    public int getQueryCachePartitionMaxSize() {
+        return queryCachePartitionMaxSize;
+    }
 }
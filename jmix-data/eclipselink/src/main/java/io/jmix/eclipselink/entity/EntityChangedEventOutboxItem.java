@@ -0,0 +1,159 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.eclipselink.entity;
+
+import io.jmix.core.entity.annotation.SystemLevel;
+import io.jmix.core.event.EntityChangedEvent;
+import io.jmix.core.metamodel.annotation.JmixEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Row of the transactional outbox of {@link EntityChangedEvent}s. Contains the id of the changed entity instance,
+ * the type of the change and the names of changed attributes. Old values of the attributes are not stored.
+ * <p>
+ * The id is assigned by the database identity column on insert, so ids of the rows of an entity instance grow
+ * in the order of the changes regardless of the application instance writing them.
+ */
+@JmixEntity
+@SystemLevel
+@Table(name = "ECLIPSELINK_EVENT_OUTBOX", indexes = {
+        @Index(name = "IDX_ECL_EVENT_OUTBOX_PART", columnList = "PARTITION_NUM")
+})
+@Entity(name = "eclipselink_EntityChangedEventOutboxItem")
+public class EntityChangedEventOutboxItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID", nullable = false)
+    private Long id;
+
+    @NotNull
+    @Column(name = "ENTITY_NAME", nullable = false)
+    private String entityName;
+
+    @NotNull
+    @Column(name = "ENTITY_ID", nullable = false, length = 1000)
+    private String entityId;
+
+    @NotNull
+    @Column(name = "TYPE_", nullable = false, length = 10)
+    private String type;
+
+    @Lob
+    @Column(name = "ATTRIBUTES")
+    private String attributes;
+
+    @NotNull
+    @Column(name = "PARTITION_NUM", nullable = false)
+    private Integer partition;
+
+    @NotNull
+    @Column(name = "ATTEMPTS", nullable = false)
+    private Integer attempts = 0;
+
+    @NotNull
+    @Column(name = "DEAD_LETTER", nullable = false)
+    private Boolean deadLetter = false;
+
+    @Lob
+    @Column(name = "ERROR_")
+    private String error;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getEntityName() {
+        return entityName;
+    }
+
+    public void setEntityName(String entityName) {
+        this.entityName = entityName;
+    }
+
+    public String getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(String entityId) {
+        this.entityId = entityId;
+    }
+
+    public EntityChangedEvent.Type getType() {
+        return type == null ? null : EntityChangedEvent.Type.valueOf(type);
+    }
+
+    public void setType(EntityChangedEvent.Type type) {
+        this.type = type == null ? null : type.name();
+    }
+
+    /**
+     * @return comma-separated names of changed attributes, embedded attributes are represented by dot-separated paths
+     */
+    public String getAttributes() {
+        return attributes;
+    }
+
+    public void setAttributes(String attributes) {
+        this.attributes = attributes;
+    }
+
+    public Integer getPartition() {
+        return partition;
+    }
+
+    public void setPartition(Integer partition) {
+        this.partition = partition;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(Integer attempts) {
+        this.attempts = attempts;
+    }
+
+    /**
+     * @return true if the event has not been delivered after the maximum number of attempts and is not delivered
+     * anymore
+     */
+    public Boolean getDeadLetter() {
+        return deadLetter;
+    }
+
+    public void setDeadLetter(Boolean deadLetter) {
+        this.deadLetter = deadLetter;
+    }
+
+    /**
+     * @return stack trace of the exception thrown by the last failed delivery
+     */
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -28,6 +28,7 @@ import io.jmix.core.metamodel.datatype.EnumClass;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.data.impl.EntityChangedEventInfo;
+import io.jmix.eclipselink.impl.outbox.EntityChangedEventOutbox;
 import org.eclipse.persistence.descriptors.changetracking.ChangeTracker;
 import org.eclipse.persistence.internal.descriptors.changetracking.AttributeChangeListener;
 import org.eclipse.persistence.sessions.changesets.AggregateChangeRecord;
@@ -65,6 +66,9 @@ public class EntityChangedEventManager {
     @Autowired
     private ExtendedEntities extendedEntities;
 
+    @Autowired
+    protected EntityChangedEventOutbox outbox;
+
     private static class AccumulatedInfoHolder extends ResourceHolderSupport {
 
         List<EntityChangedEventInfo> accumulatedList;
@@ -169,6 +173,7 @@ public class EntityChangedEventManager {
         for (EntityChangedEvent event : events) {
             eventPublisher.publishEvent(event);
         }
+        outbox.write(events);
     }
 
     @SuppressWarnings("unchecked")
@@ -294,10 +294,10 @@ public class JmixEclipseLinkQuery<E> implements JmixQuery<E> {
         Cache cache = jpaQuery.getEntityManager().getEntityManagerFactory().getCache();
         if (referenceClass != null) {
             cache.evict(referenceClass);
-            queryCacheMgr.invalidate(referenceClass);
+            queryCacheMgr.invalidate(referenceClass, true);
         } else {
             cache.evictAll();
-            queryCacheMgr.invalidateAll();
+            queryCacheMgr.invalidateAll(true);
         }
         preExecute(jpaQuery);
         return jpaQuery.executeUpdate();
@@ -813,6 +813,7 @@ public class JmixEclipseLinkQuery<E> implements JmixQuery<E> {
             String entityName = parser.getEntityName();
             useQueryCache = parser.isEntitySelect(entityName);
             QueryKey queryKey = null;
+            Map<String, String> generations = null;
             if (useQueryCache) {
                 queryKey = QueryKey.create(
                         transformedQueryString,
@@ -825,12 +826,15 @@ public class JmixEclipseLinkQuery<E> implements JmixQuery<E> {
                 if (result != null) {
                     return result;
                 }
+                // obtained before the query execution, so changes committed meanwhile make the result outdated
+                generations = queryCacheMgr.getGenerations(entityName, parser.getAllEntityNames());
             }
             try {
                 result = singleResult ? jpaQuery.getSingleResult() : jpaQuery.getResultList();
             } catch (NoResultException | NonUniqueResultException ex) {
                 if (useQueryCache && singleResult) {
-                    queryCacheMgr.putResultToCache(queryKey, null, entityName, parser.getAllEntityNames(), ex);
+                    queryCacheMgr.putResultToCache(queryKey, null, entityName, parser.getAllEntityNames(), ex,
+                            generations);
                 }
                 throw ex;
             }
@@ -838,7 +842,7 @@ public class JmixEclipseLinkQuery<E> implements JmixQuery<E> {
             if (useQueryCache) {
                 queryCacheMgr.putResultToCache(queryKey,
                         singleResult ? Collections.singletonList(result) : (List) result,
-                        entityName, parser.getAllEntityNames());
+                        entityName, parser.getAllEntityNames(), generations);
             }
         } else {
             result = singleResult ? jpaQuery.getSingleResult() : jpaQuery.getResultList();
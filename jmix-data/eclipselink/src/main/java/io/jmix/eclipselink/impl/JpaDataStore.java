@@ -19,13 +19,25 @@ package io.jmix.eclipselink.impl;
 import com.google.common.collect.Lists;
 import io.jmix.core.Id;
 import io.jmix.core.*;
+import io.jmix.core.accesscontext.CrudEntityContext;
+import io.jmix.core.accesscontext.EntityAttributeContext;
+import io.jmix.core.accesscontext.InMemoryCrudEntityContext;
 import io.jmix.core.datastore.AbstractDataStore;
+import io.jmix.core.entity.EntityPropertyChangeListener;
+import io.jmix.core.entity.EntitySystemAccess;
 import io.jmix.core.entity.EntityValues;
+import io.jmix.core.entity.annotation.OnDelete;
+import io.jmix.core.entity.annotation.OnDeleteInverse;
+import io.jmix.core.event.BulkEntityChangedEvent;
 import io.jmix.core.event.EntityChangedEvent;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.security.AccessDeniedException;
+import io.jmix.data.AuditInfoProvider;
 import io.jmix.data.DataProperties;
 import io.jmix.data.PersistenceHints;
+import io.jmix.data.QueryParser;
+import io.jmix.data.QueryTransformer;
 import io.jmix.data.QueryTransformerFactory;
 import io.jmix.data.StoreAwareLocator;
 import io.jmix.data.accesscontext.ReadEntityQueryContext;
@@ -33,9 +45,12 @@ import io.jmix.data.exception.UniqueConstraintViolationException;
 import io.jmix.data.impl.EntityChangedEventInfo;
 import io.jmix.data.impl.EntityEventManager;
 import io.jmix.data.impl.JpqlQueryBuilder;
-import io.jmix.data.impl.QueryResultsManager;
+import io.jmix.data.impl.converters.AuditConversionService;
 import io.jmix.data.persistence.DbmsSpecifics;
 import io.jmix.eclipselink.impl.lazyloading.LazyLoadingContext;
+import io.jmix.eclipselink.impl.mapping.SoftDeleteAdditionalCriteriaProvider;
+import io.jmix.eclipselink.persistence.AdditionalCriteriaProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.persistence.exceptions.QueryException;
 import org.slf4j.Logger;
@@ -85,9 +100,6 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
     @Autowired
     protected AccessManager accessManager;
 
-    @Autowired
-    protected QueryResultsManager queryResultsManager;
-
     @Autowired
     protected QueryTransformerFactory queryTransformerFactory;
 
@@ -118,10 +130,27 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
     @Autowired
     protected FetchPlanRepository fetchPlanRepository;
 
+    @Autowired
+    protected MeterRegistry meterRegistry;
+
+    @Autowired
+    protected TimeSource timeSource;
+
+    @Autowired
+    protected AuditInfoProvider auditInfoProvider;
+
+    @Autowired
+    protected AuditConversionService auditConverter;
+
+    @Autowired
+    protected ObjectProvider<AdditionalCriteriaProvider> additionalCriteriaProviders;
+
     protected String storeName;
 
     protected static final AtomicLong txCount = new AtomicLong();
 
+    protected static final int BULK_IDS_CHUNK_SIZE = 1000;
+
     @Override
     public String getName() {
         return storeName;
@@ -151,8 +180,6 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
     protected List<Object> loadAll(LoadContext<?> context) {
         MetaClass metaClass = extendedEntities.getEffectiveMetaClass(context.getEntityMetaClass());
 
-        queryResultsManager.savePreviousQueryResults(context);
-
         EntityManager em = storeAwareLocator.getEntityManager(storeName);
         em.setProperty(PersistenceHints.SOFT_DELETION, context.getHints().get(PersistenceHints.SOFT_DELETION));
 
@@ -207,8 +234,6 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
 
     @Override
     protected long countAll(LoadContext<?> context) {
-        queryResultsManager.savePreviousQueryResults(context);
-
         EntityManager em = storeAwareLocator.getEntityManager(storeName);
         em.setProperty(PersistenceHints.SOFT_DELETION, context.getHints().get(PersistenceHints.SOFT_DELETION));
 
@@ -283,25 +308,113 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
         EntityManager em = storeAwareLocator.getEntityManager(storeName);
 
         Set<Object> result = new HashSet<>();
+        Map<MetaClass, Integer> insertCounts = new LinkedHashMap<>();
         for (Object entity : context.getEntitiesToSave()) {
             if (entityStates.isNew(entity)) {
                 entityEventManager.publishEntitySavingEvent(entity, true);
                 em.persist(entity);
                 result.add(entity);
+                insertCounts.merge(metadata.getClass(entity), 1, Integer::sum);
             }
         }
 
+        Map<MetaClass, Integer> updateCounts = new LinkedHashMap<>();
         for (Object entity : context.getEntitiesToSave()) {
             if (!entityStates.isNew(entity)) {
-                entityEventManager.publishEntitySavingEvent(entity, false);
-                Object merged = em.merge(entity);
-                result.add(merged);
+                updateCounts.merge(metadata.getClass(entity), 1, Integer::sum);
+                Set<String> changedAttributes = context.getChangedAttributes().get(entity);
+                Object saved = null;
+                if (changedAttributes != null) {
+                    // attributes can also be changed by EntitySavingEvent listeners
+                    Set<String> attributes = new HashSet<>(changedAttributes);
+                    EntityPropertyChangeListener listener = e -> attributes.add(e.getProperty());
+                    EntitySystemAccess.addPropertyChangeListener(entity, listener);
+                    try {
+                        entityEventManager.publishEntitySavingEvent(entity, false);
+                    } finally {
+                        EntitySystemAccess.removePropertyChangeListener(entity, listener);
+                    }
+                    saved = applyChangedAttributes(em, entity, attributes);
+                } else {
+                    entityEventManager.publishEntitySavingEvent(entity, false);
+                }
+                if (saved == null) {
+                    saved = em.merge(entity);
+                }
+                result.add(saved);
             }
         }
 
+        recordSavedEntitiesPerType("insert", insertCounts);
+        recordSavedEntitiesPerType("update", updateCounts);
+
         return result;
     }
 
+    /**
+     * Records the number of entities of each type inserted or updated by one save operation into the
+     * {@code jmix.JpaDataStore.savedEntitiesPerType} distribution summary. The summary is recorded regardless of
+     * JDBC batch writing. With batch writing enabled, EclipseLink writes entities of the same type together, so
+     * these numbers are upper bounds of the batch sizes.
+     */
+    protected void recordSavedEntitiesPerType(String operation, Map<MetaClass, Integer> counts) {
+        for (Integer count : counts.values()) {
+            meterRegistry.summary("jmix.JpaDataStore.savedEntitiesPerType", "store", storeName, "operation", operation)
+                    .record(count);
+        }
+    }
+
+    /**
+     * Copies the given attributes of a detached entity to the managed instance instead of merging the whole entity.
+     *
+     * @return managed instance or null if the attributes cannot be applied separately and the entity must be merged
+     */
+    @Nullable
+    protected Object applyChangedAttributes(EntityManager em, Object entity, Set<String> attributes) {
+        MetaClass metaClass = metadata.getClass(entity);
+        for (String attribute : attributes) {
+            MetaProperty property = metaClass.findProperty(attribute);
+            if (property == null
+                    || property.isReadOnly()
+                    || !metadataTools.isJpa(property)
+                    || metadataTools.isEmbedded(property)
+                    || property.getRange().getCardinality().isMany()
+                    || !entityStates.isLoaded(entity, attribute)) {
+                return null;
+            }
+            if (property.getRange().isClass()) {
+                Object value = EntityValues.getValue(entity, attribute);
+                if (value != null && EntityValues.getId(value) == null) {
+                    return null;
+                }
+            }
+        }
+
+        Object id = EntityValues.getId(entity);
+        if (id == null) {
+            return null;
+        }
+        Object managed = em.find(entity.getClass(), id);
+        if (managed == null) {
+            return null;
+        }
+        if (EntityValues.isVersionSupported(entity)
+                && !Objects.equals(EntityValues.getVersion(entity), EntityValues.getVersion(managed))) {
+            // let merge report the optimistic lock failure
+            return null;
+        }
+
+        for (String attribute : attributes) {
+            MetaProperty property = metaClass.getProperty(attribute);
+            Object value = EntityValues.getValue(entity, attribute);
+            if (value != null && property.getRange().isClass()) {
+                value = em.getReference(value.getClass(), Objects.requireNonNull(EntityValues.getId(value)));
+            }
+            EntityValues.setValue(managed, attribute, value);
+        }
+        return managed;
+    }
+
     @Override
     protected Set<Object> deleteAll(SaveContext context) {
         JpaSaveContext jpaContext = (JpaSaveContext) context;
@@ -331,6 +444,283 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
         return result;
     }
 
+    @Override
+    public int executeBulkOperation(BulkOperationContext context) {
+        MetaClass metaClass = extendedEntities.getEffectiveMetaClass(context.getEntityMetaClass());
+        if (!metadataTools.isJpaEntity(metaClass)) {
+            throw new IllegalArgumentException("Bulk operations are supported only for JPA entities: " + metaClass.getName());
+        }
+        checkBulkOperationPermitted(metaClass, context);
+
+        int count;
+        Object transaction = beginSaveTransaction(context.isJoinTransaction());
+        try {
+            EntityManager em = storeAwareLocator.getEntityManager(storeName);
+            boolean softDeletionBefore = PersistenceHints.isSoftDeletion(em);
+            try {
+                em.setProperty(PersistenceHints.SOFT_DELETION, context.getHints().get(PersistenceHints.SOFT_DELETION));
+                count = executeBulkStatement(em, metaClass, context);
+            } finally {
+                em.setProperty(PersistenceHints.SOFT_DELETION, softDeletionBefore);
+            }
+
+            if (context.isPublishChangedEvent() && count > 0) {
+                EntityChangedEvent.Type type = context.getType() == BulkOperationContext.Type.DELETE ?
+                        EntityChangedEvent.Type.DELETED : EntityChangedEvent.Type.UPDATED;
+                applicationContext.publishEvent(new BulkEntityChangedEvent<>(this, type,
+                        new LinkedHashSet<>(context.getValues().keySet()), count,
+                        extendedEntities.getOriginalOrThisMetaClass(metaClass)));
+            }
+            commitTransaction(transaction);
+        } finally {
+            LazyLoadingContext.setEnabled();
+            rollbackTransaction(transaction);
+        }
+        return count;
+    }
+
+    /**
+     * Checks entity and attribute permissions for a bulk operation. In-memory row-level constraints cannot be
+     * evaluated without loading the affected instances, so the operation is denied if any of them applies.
+     */
+    protected void checkBulkOperationPermitted(MetaClass metaClass, BulkOperationContext context) {
+        CrudEntityContext entityContext = new CrudEntityContext(metaClass);
+        accessManager.applyConstraints(entityContext, context.getAccessConstraints());
+
+        InMemoryCrudEntityContext inMemoryContext = new InMemoryCrudEntityContext(metaClass, applicationContext);
+        accessManager.applyConstraints(inMemoryContext, context.getAccessConstraints());
+
+        if (context.getType() == BulkOperationContext.Type.DELETE) {
+            if (!entityContext.isDeletePermitted() || inMemoryContext.deletePredicate() != null) {
+                throw new AccessDeniedException("entity", metaClass.getName(), "delete");
+            }
+            checkBulkDeleteSupported(metaClass);
+        } else {
+            if (!entityContext.isUpdatePermitted() || inMemoryContext.updatePredicate() != null) {
+                throw new AccessDeniedException("entity", metaClass.getName(), "update");
+            }
+            for (String property : context.getValues().keySet()) {
+                EntityAttributeContext attributeContext = new EntityAttributeContext(metaClass, property);
+                accessManager.applyConstraints(attributeContext, context.getAccessConstraints());
+                if (!attributeContext.canModify()) {
+                    throw new AccessDeniedException("entityAttribute", metaClass.getName() + "." + property, "modify");
+                }
+            }
+        }
+        if (inMemoryContext.hasInMemoryOnlyReadPredicate()) {
+            throw new AccessDeniedException("entity", metaClass.getName(), "read");
+        }
+    }
+
+    /**
+     * Bulk deletion doesn't process compositions and delete policies ({@link OnDelete}, {@link OnDeleteInverse}),
+     * so it is not supported for entities having them.
+     */
+    protected void checkBulkDeleteSupported(MetaClass metaClass) {
+        List<MetaClass> metaClasses = new ArrayList<>();
+        metaClasses.add(metaClass);
+        metaClasses.addAll(metaClass.getAncestors());
+        for (MetaClass aClass : metaClasses) {
+            if (aClass.getAnnotations().get(OnDelete.class.getName()) != null
+                    || aClass.getAnnotations().get(OnDeleteInverse.class.getName()) != null) {
+                throw new UnsupportedOperationException("Bulk delete is not supported for entities with " +
+                        "delete policies: " + metaClass.getName());
+            }
+        }
+        for (MetaProperty property : metaClass.getProperties()) {
+            if (property.getType() == MetaProperty.Type.COMPOSITION) {
+                throw new UnsupportedOperationException("Bulk delete is not supported for entities with " +
+                        "compositions: " + metaClass.getName());
+            }
+        }
+    }
+
+    protected int executeBulkStatement(EntityManager em, MetaClass metaClass, BulkOperationContext context) {
+        boolean softDeletion = PersistenceHints.isSoftDeletion(em)
+                && metadataTools.isSoftDeletable(metaClass.getJavaClass());
+
+        Map<String, Object> parameters = new HashMap<>();
+        String selectQuery = buildBulkSelectQuery(em, metaClass, context, softDeletion, parameters);
+        QueryParser parser = queryTransformerFactory.parser(selectQuery);
+        parameters.keySet().retainAll(parser.getParamNames());
+        String alias = parser.getEntityAlias();
+
+        Map<String, Object> statementParameters = new HashMap<>(parameters);
+        String statement;
+        if (context.getType() == BulkOperationContext.Type.DELETE && !softDeletion) {
+            statement = String.format("delete from %s %s", metaClass.getName(), alias);
+        } else {
+            statement = String.format("update %s %s set %s", metaClass.getName(), alias,
+                    buildBulkSetClause(metaClass, alias, context, statementParameters));
+        }
+
+        if (!parser.isQueryWithJoins()) {
+            String where = parser.getWhereCondition();
+            if (where != null) {
+                statement += " where " + where;
+            }
+            return executeBulkStatement(em, statement, statementParameters);
+        }
+
+        // row-level constraints have added joins, select identifiers first
+        String pkName = metadataTools.getPrimaryKeyName(metaClass);
+        if (pkName == null || metadataTools.hasCompositePrimaryKey(metaClass)) {
+            throw new UnsupportedOperationException("Bulk operation with joins is not supported for entities " +
+                    "with composite primary key: " + metaClass.getName());
+        }
+        QueryTransformer transformer = queryTransformerFactory.transformer(selectQuery);
+        transformer.replaceWithSelectId(pkName);
+        Query idsQuery = em.createQuery(transformer.getResult());
+        setBulkParameters(idsQuery, parameters);
+        @SuppressWarnings("unchecked")
+        List<Object> ids = idsQuery.getResultList();
+
+        // the statement parameters are replaced by the identifiers
+        statementParameters.keySet().removeAll(parameters.keySet());
+        int count = 0;
+        for (List<Object> chunk : Lists.partition(ids, BULK_IDS_CHUNK_SIZE)) {
+            Map<String, Object> chunkParameters = new HashMap<>(statementParameters);
+            chunkParameters.put("bulkIds", chunk);
+            count += executeBulkStatement(em, statement + " where " + alias + "." + pkName + " in :bulkIds", chunkParameters);
+        }
+        return count;
+    }
+
+    protected int executeBulkStatement(EntityManager em, String statement, Map<String, Object> parameters) {
+        Query query = em.createQuery(statement);
+        setBulkParameters(query, parameters);
+        return query.executeUpdate();
+    }
+
+    protected void setBulkParameters(Query query, Map<String, Object> parameters) {
+        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+            if (entry.getValue() instanceof TemporalValue) {
+                TemporalValue temporalValue = (TemporalValue) entry.getValue();
+                query.setParameter(entry.getKey(), temporalValue.date, temporalValue.type);
+            } else {
+                query.setParameter(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Builds a query selecting entities affected by the bulk operation with the condition, soft deletion,
+     * additional criteria (e.g. tenant restriction) and row-level constraints applied.
+     */
+    protected String buildBulkSelectQuery(EntityManager em, MetaClass metaClass, BulkOperationContext context,
+                                          boolean softDeletion, Map<String, Object> parameters) {
+        //noinspection unchecked
+        JpqlQueryBuilder<JmixEclipseLinkQuery<?>> queryBuilder = jpqlQueryBuilderProvider.getObject();
+        queryBuilder.setEntityName(metaClass.getName())
+                .setCondition(context.getCondition())
+                .setQueryParameters(new HashMap<>(context.getParameters()));
+
+        QueryTransformer transformer = queryTransformerFactory.transformer(queryBuilder.getResultQueryString());
+        parameters.putAll(queryBuilder.getResultParameters());
+
+        Class<?> javaClass = metaClass.getJavaClass();
+        if (softDeletion) {
+            transformer.addWhere("{E}." + metadataTools.findDeletedDateProperty(javaClass) + " is null");
+        }
+        for (AdditionalCriteriaProvider provider : additionalCriteriaProviders) {
+            if (!(provider instanceof SoftDeleteAdditionalCriteriaProvider)
+                    && provider.requiresAdditionalCriteria(javaClass)) {
+                transformer.addWhere(provider.getAdditionalCriteria(javaClass).replaceAll("\\bthis\\.", "{E}."));
+                if (provider.getCriteriaParameters() != null) {
+                    parameters.putAll(provider.getCriteriaParameters());
+                }
+            }
+        }
+
+        JmixEclipseLinkQuery<?> query = (JmixEclipseLinkQuery<?>) em.createQuery(transformer.getResult());
+        ReadEntityQueryContext queryContext = new ReadEntityQueryContext(query, metaClass, queryTransformerFactory);
+        accessManager.applyConstraints(queryContext, context.getAccessConstraints());
+
+        return queryContext.getResultQuery().getQueryString();
+    }
+
+    protected String buildBulkSetClause(MetaClass metaClass, String alias, BulkOperationContext context,
+                                        Map<String, Object> parameters) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        Class<?> javaClass = metaClass.getJavaClass();
+        if (context.getType() == BulkOperationContext.Type.DELETE) {
+            String deletedDateProperty = metadataTools.findDeletedDateProperty(javaClass);
+            values.put(deletedDateProperty, convertAuditValue(metaClass, deletedDateProperty, timeSource.currentTimestamp()));
+            String deletedByProperty = metadataTools.findDeletedByProperty(javaClass);
+            if (deletedByProperty != null) {
+                values.put(deletedByProperty, convertAuditValue(metaClass, deletedByProperty, auditInfoProvider.getCurrentUser()));
+            }
+        } else {
+            if (context.getValues().isEmpty()) {
+                throw new IllegalArgumentException("No attributes to update for " + metaClass.getName());
+            }
+            for (Map.Entry<String, Object> entry : context.getValues().entrySet()) {
+                checkBulkUpdatedProperty(metaClass, entry.getKey());
+                values.put(entry.getKey(), entry.getValue());
+            }
+            String lastModifiedDateProperty = metadataTools.findLastModifiedDateProperty(javaClass);
+            if (lastModifiedDateProperty != null && !values.containsKey(lastModifiedDateProperty)) {
+                values.put(lastModifiedDateProperty,
+                        convertAuditValue(metaClass, lastModifiedDateProperty, timeSource.currentTimestamp()));
+            }
+            String lastModifiedByProperty = findPropertyByAnnotation(metaClass,
+                    org.springframework.data.annotation.LastModifiedBy.class);
+            if (lastModifiedByProperty != null && !values.containsKey(lastModifiedByProperty)) {
+                values.put(lastModifiedByProperty,
+                        convertAuditValue(metaClass, lastModifiedByProperty, auditInfoProvider.getCurrentUser()));
+            }
+        }
+
+        List<String> assignments = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            String path = alias + "." + entry.getKey();
+            if (entry.getValue() == null) {
+                assignments.add(path + " = NULL");
+            } else {
+                String paramName = "bulk_" + entry.getKey();
+                assignments.add(path + " = :" + paramName);
+                parameters.put(paramName, entry.getValue());
+            }
+        }
+        // increment version to make concurrent saves of affected instances fail with optimistic lock exception
+        String versionProperty = findPropertyByAnnotation(metaClass, Version.class);
+        if (versionProperty != null) {
+            String path = alias + "." + versionProperty;
+            assignments.add(path + " = " + path + " + 1");
+        }
+        return String.join(", ", assignments);
+    }
+
+    protected void checkBulkUpdatedProperty(MetaClass metaClass, String name) {
+        MetaProperty property = metaClass.findProperty(name);
+        if (property == null) {
+            throw new IllegalArgumentException(String.format("Property '%s' not found in %s", name, metaClass.getName()));
+        }
+        if (property.isReadOnly()
+                || !metadataTools.isJpa(property)
+                || metadataTools.isEmbedded(property)
+                || name.equals(metadataTools.getPrimaryKeyName(metaClass))
+                || property.getRange().getCardinality().isMany()) {
+            throw new IllegalArgumentException(String.format(
+                    "Property '%s' of %s cannot be changed by bulk update", name, metaClass.getName()));
+        }
+    }
+
+    @Nullable
+    protected Object convertAuditValue(MetaClass metaClass, String property, @Nullable Object value) {
+        return auditConverter.convert(value, metaClass.getProperty(property).getJavaType());
+    }
+
+    @Nullable
+    protected String findPropertyByAnnotation(MetaClass metaClass, Class<? extends java.lang.annotation.Annotation> annotationClass) {
+        for (MetaProperty property : metaClass.getProperties()) {
+            if (property.getAnnotatedElement() != null && property.getAnnotatedElement().isAnnotationPresent(annotationClass)) {
+                return property.getName();
+            }
+        }
+        return null;
+    }
+
     @Override
     protected List<Object> loadAllValues(ValueLoadContext context) {
         EntityManager em = storeAwareLocator.getEntityManager(storeName);
@@ -484,9 +874,8 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
         }
 
         if (!context.getPreviousQueries().isEmpty()) {
-            log.debug("Restrict query by previous results");
-            //todo MG maybe use user key instead of session id
-//            queryBuilder.setPreviousResults(userSessionSource.getUserSession().getId(), context.getQueryKey());
+            log.debug("Restrict query by previous queries");
+            queryBuilder.setPreviousQueries(context.getPreviousQueries());
         }
 
         JmixEclipseLinkQuery<?> query = queryBuilder.getQuery(em);
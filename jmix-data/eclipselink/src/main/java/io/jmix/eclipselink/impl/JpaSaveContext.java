@@ -19,6 +19,7 @@ public class JpaSaveContext extends SaveContext {
         this.entitiesToRemove = context.getEntitiesToRemove();
 
         this.fetchPlans = context.getFetchPlans();
+        this.changedAttributes = context.getChangedAttributes();
         this.discardSaved = context.isDiscardSaved();
         this.joinTransaction = context.isJoinTransaction();
         this.accessConstraints = context.getAccessConstraints();
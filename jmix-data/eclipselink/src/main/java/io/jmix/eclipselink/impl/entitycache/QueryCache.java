@@ -16,7 +16,8 @@
 
 package io.jmix.eclipselink.impl.entitycache;
 
-
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -34,6 +35,19 @@ public interface QueryCache {
      */
     void put(QueryKey queryKey, QueryResult queryResult);
 
+    /**
+     * Returns the current generations of the given metaClass names. A generation changes each time the type
+     * is invalidated.
+     * <p>
+     * Generations must be obtained before executing the query and passed to the cached {@link QueryResult}:
+     * if the type is invalidated while the query is running, the result is considered outdated.
+     *
+     * @return generations by type names, empty if the cache doesn't support generations
+     */
+    default Map<String, String> getGenerations(Set<String> typeNames) {
+        return Collections.emptyMap();
+    }
+
     /**
      * Discards cached query results for metaClass name {@code typeName}.
      */
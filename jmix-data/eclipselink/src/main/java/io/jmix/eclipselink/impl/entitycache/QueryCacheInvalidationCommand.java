@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.eclipselink.impl.entitycache;
+
+import org.springframework.lang.Nullable;
+
+import java.io.Serializable;
+import java.util.Set;
+
+/**
+ * Message sent to other application instances through the EclipseLink cluster channel to make them invalidate
+ * their query caches.
+ *
+ * @see io.jmix.eclipselink.impl.support.JmixEclipseLinkRemoteConnection
+ */
+public class QueryCacheInvalidationCommand implements Serializable {
+    private static final long serialVersionUID = 4471907452166180371L;
+
+    protected final Set<String> typeNames;
+
+    /**
+     * @param typeNames names of metaClasses to invalidate, or null to invalidate all cached queries
+     */
+    public QueryCacheInvalidationCommand(@Nullable Set<String> typeNames) {
+        this.typeNames = typeNames;
+    }
+
+    /**
+     * @return names of metaClasses to invalidate, or null if all cached queries should be invalidated
+     */
+    @Nullable
+    public Set<String> getTypeNames() {
+        return typeNames;
+    }
+}
@@ -40,9 +40,30 @@ public class QueryCacheManagementFacade {
         return queryCache.size();
     }
 
+    @ManagedAttribute(description = "Number of cached queries found with all entities in the entity cache")
+    public long getHitCount() {
+        return queryCacheMgr.getHitCount();
+    }
+
+    @ManagedAttribute(description = "Number of cached queries found with some entities missing in the entity cache")
+    public long getPartialHitCount() {
+        return queryCacheMgr.getPartialHitCount();
+    }
+
+    @ManagedAttribute(description = "Number of queries not found in the cache")
+    public long getMissCount() {
+        return queryCacheMgr.getMissCount();
+    }
+
+    @ManagedOperation(description = "Reset hit, partial hit and miss counters")
+    public String resetStatistics() {
+        queryCacheMgr.resetStatistics();
+        return "Done";
+    }
+
     @ManagedOperation(description = "Discard all cached queries")
     public String evictAll() {
-        queryCacheMgr.invalidateAll();
+        queryCacheMgr.invalidateAll(true);
         return "Done";
     }
 
@@ -54,7 +75,7 @@ public class QueryCacheManagementFacade {
         Preconditions.checkNotEmptyString(entityName, "Entity name is not specified");
         Preconditions.checkNotNullArgument(metadata.findClass(entityName), "Entity " + entityName + " doesn't exist");
 
-        queryCacheMgr.invalidate(entityName);
+        queryCacheMgr.invalidate(entityName, true);
         return "Done";
     }
 }
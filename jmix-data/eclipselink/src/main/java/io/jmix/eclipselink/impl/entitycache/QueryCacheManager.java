@@ -16,25 +16,34 @@
 
 package io.jmix.eclipselink.impl.entitycache;
 
+import com.google.common.collect.Lists;
 import io.jmix.core.Entity;
+import io.jmix.core.ExtendedEntities;
 import io.jmix.core.FetchPlan;
 import io.jmix.core.Metadata;
 import io.jmix.core.MetadataTools;
 import io.jmix.core.entity.EntityValues;
+import io.jmix.core.impl.StandardSerialization;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetadataObject;
 import io.jmix.data.PersistenceHints;
 import io.jmix.data.StoreAwareLocator;
 import io.jmix.eclipselink.EclipselinkProperties;
+import io.jmix.eclipselink.impl.support.EclipseLinkChannelSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
 
+import jakarta.persistence.Cache;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 @Component("eclipselink_QueryCacheManager")
@@ -49,10 +58,25 @@ public class QueryCacheManager {
     @Autowired
     protected MetadataTools metadataTools;
     @Autowired
+    protected ExtendedEntities extendedEntities;
+    @Autowired
     protected StoreAwareLocator storeAwareLocator;
+    @Autowired
+    protected StandardSerialization serialization;
+    @Autowired(required = false)
+    protected EclipseLinkChannelSupplier channelSupplier;
 
     protected static final Logger log = LoggerFactory.getLogger(QueryCacheManager.class);
 
+    /**
+     * Maximum number of identifiers in a query loading cached results missing in the entity cache
+     */
+    protected static final int HYDRATION_BATCH_SIZE = 500;
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder partialHitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+
     /**
      * Returns true if query cache enabled
      */
@@ -61,7 +85,9 @@ public class QueryCacheManager {
     }
 
     /**
-     * Get query results from query cache by specified {@code queryKey}
+     * Get query results from query cache by specified {@code queryKey}.
+     * <p>
+     * Entities missing in the entity cache are loaded by batches in a few queries instead of a query per entity.
      */
     @SuppressWarnings("unchecked")
     public <T> List<T> getResultListFromCache(QueryKey queryKey, List<FetchPlan> fetchPlans) {
@@ -72,19 +98,84 @@ public class QueryCacheManager {
             MetaClass metaClass = metadata.getClass(queryResult.getType());
             String storeName = metaClass.getStore().getName();
             EntityManager em = storeAwareLocator.getEntityManager(storeName);
-            resultList = new ArrayList<>(queryResult.getResult().size());
             if (!metadataTools.isCacheable(metaClass)) {
                 log.warn("Using cacheable query without entity cache for {}", queryResult.getType());
             }
-            for (Object id : queryResult.getResult()) {
-                resultList.add(em.find(metaClass.getJavaClass(), id, PersistenceHints.builder().withFetchPlans(fetchPlans).build()));
+            List<Object> ids = queryResult.getResult();
+            List<Object> missingIds = getIdsMissingInCache(em, metaClass, ids);
+            if (missingIds.isEmpty()) {
+                hitCount.increment();
+            } else {
+                partialHitCount.increment();
+            }
+            Map<Object, Object> loadedEntities = loadEntities(em, metaClass, missingIds, fetchPlans);
+
+            resultList = new ArrayList<>(ids.size());
+            for (Object id : ids) {
+                if (loadedEntities.containsKey(id)) {
+                    resultList.add((T) loadedEntities.get(id));
+                } else {
+                    resultList.add((T) em.find(metaClass.getJavaClass(), id, PersistenceHints.builder().withFetchPlans(fetchPlans).build()));
+                }
             }
         } else {
+            missCount.increment();
             log.debug("Query results are not found in cache: {}", queryKey.printDescription());
         }
         return resultList;
     }
 
+    /**
+     * Returns identifiers of cached query results which are not in the entity cache.
+     */
+    protected List<Object> getIdsMissingInCache(EntityManager em, MetaClass metaClass, List<Object> ids) {
+        Class<?> javaClass = extendedEntities.getEffectiveMetaClass(metaClass).getJavaClass();
+        Cache cache = em.getEntityManagerFactory().getCache();
+        List<Object> missingIds = new ArrayList<>();
+        for (Object id : ids) {
+            if (!cache.contains(javaClass, id)) {
+                missingIds.add(id);
+            }
+        }
+        return missingIds;
+    }
+
+    /**
+     * Loads entities which are not in the entity cache by {@code IN} queries. A single entity and entities with
+     * composite keys are not loaded here and are found one by one by the caller.
+     *
+     * @return map of identifiers to loaded entities, containing null values for entities which are not found
+     */
+    protected Map<Object, Object> loadEntities(EntityManager em, MetaClass metaClass,
+                                               List<Object> missingIds, List<FetchPlan> fetchPlans) {
+        if (missingIds.size() < 2 || metadataTools.hasCompositePrimaryKey(metaClass)) {
+            return Collections.emptyMap();
+        }
+
+        MetaClass effectiveMetaClass = extendedEntities.getEffectiveMetaClass(metaClass);
+        log.debug("Loading {} cached {} instances missing in entity cache",
+                missingIds.size(), effectiveMetaClass.getName());
+
+        String pkName = metadataTools.getPrimaryKeyName(effectiveMetaClass);
+        Map<Object, Object> loadedEntities = new HashMap<>();
+        for (List<Object> batchIds : Lists.partition(missingIds, HYDRATION_BATCH_SIZE)) {
+            Query query = em.createQuery(String.format("select e from %s e where e.%s in ?1",
+                    effectiveMetaClass.getName(), pkName));
+            query.setParameter(1, batchIds);
+            if (!fetchPlans.isEmpty()) {
+                query.setHint(PersistenceHints.FETCH_PLAN, fetchPlans);
+            }
+            for (Object entity : query.getResultList()) {
+                loadedEntities.put(EntityValues.getId(entity), entity);
+            }
+        }
+        for (Object id : missingIds) {
+            // em.find() returns null for not found entities
+            loadedEntities.putIfAbsent(id, null);
+        }
+        return loadedEntities;
+    }
+
     /**
      * Get single query results from query cache by specified {@code queryKey}
      * If query is cached and no results found exception is thrown
@@ -99,39 +190,81 @@ public class QueryCacheManager {
                 log.warn("Using cacheable query without entity cache for {}", queryResult.getType());
             }
             if (queryResult.getException() != null) {
+                hitCount.increment();
                 RuntimeException ex = queryResult.getException();
                 ex.fillInStackTrace();
                 throw queryResult.getException();
             }
             String storeName = metaClass.getStore().getName();
             EntityManager em = storeAwareLocator.getEntityManager(storeName);
+            if (getIdsMissingInCache(em, metaClass, queryResult.getResult()).isEmpty()) {
+                hitCount.increment();
+            } else {
+                partialHitCount.increment();
+            }
             for (Object id : queryResult.getResult()) {
                 return (T) em.find(metaClass.getJavaClass(), id, PersistenceHints.builder().withFetchPlans(fetchPlans).build());
             }
+        } else {
+            missCount.increment();
         }
         log.debug("Query results are not found in cache: {}", queryKey.printDescription());
         return null;
     }
 
 
+    /**
+     * Returns the current generations of the query result type and related types. Must be called before executing
+     * the query, and the result must be passed to {@code putResultToCache()}, so that changes committed while the
+     * query is running make the cached result outdated.
+     *
+     * @param type         - result entity type (metaClass name)
+     * @param relatedTypes - query dependent types (metaClass names). It's a list of entity types used in query
+     */
+    public Map<String, String> getGenerations(String type, Set<String> relatedTypes) {
+        Set<String> types = new HashSet<>();
+        types.add(type);
+        Set<String> relatedTypesWithDescendants = getDescendants(relatedTypes);
+        if (relatedTypesWithDescendants != null) {
+            types.addAll(relatedTypesWithDescendants);
+        }
+        return queryCache.getGenerations(types);
+    }
+
     /**
      * Put query results into query cache for specified query {@code queryKey}.
      * Results are extracted as identifiers from {@code resultList}
      *
      * @param type         - result entity type (metaClass name)
      * @param relatedTypes - query dependent types (metaClass names). It's a list of entity types used in query
+     * @deprecated use {@link #putResultToCache(QueryKey, List, String, Set, Map)} with generations obtained
+     * before executing the query
      */
-    @SuppressWarnings("unchecked")
+    @Deprecated
     public void putResultToCache(QueryKey queryKey, List resultList, String type, Set<String> relatedTypes) {
+        putResultToCache(queryKey, resultList, type, relatedTypes, getGenerations(type, relatedTypes));
+    }
+
+    /**
+     * Put query results into query cache for specified query {@code queryKey}.
+     * Results are extracted as identifiers from {@code resultList}
+     *
+     * @param type         - result entity type (metaClass name)
+     * @param relatedTypes - query dependent types (metaClass names). It's a list of entity types used in query
+     * @param generations  - generations returned by {@link #getGenerations(String, Set)} before executing the query
+     */
+    @SuppressWarnings("unchecked")
+    public void putResultToCache(QueryKey queryKey, List resultList, String type, Set<String> relatedTypes,
+                                 Map<String, String> generations) {
         QueryResult queryResult;
         if (resultList.size() > 0) {
             List idList = (List) resultList.stream()
                     .filter(item -> item instanceof Entity)
                     .map(item -> EntityValues.getId(((Entity) item)))
                     .collect(Collectors.toList());
-            queryResult = new QueryResult(idList, type, getDescendants(relatedTypes));
+            queryResult = new QueryResult(idList, type, getDescendants(relatedTypes), null, generations);
         } else {
-            queryResult = new QueryResult(Collections.emptyList(), type, getDescendants(relatedTypes));
+            queryResult = new QueryResult(Collections.emptyList(), type, getDescendants(relatedTypes), null, generations);
         }
         log.debug("Put results into cache for query: {}, relatedTypes: {}", queryKey.printDescription(), relatedTypes);
         queryCache.put(queryKey, queryResult);
@@ -144,14 +277,31 @@ public class QueryCacheManager {
      * @param type         - result entity type (metaClass name)
      * @param relatedTypes - query dependent types (metaClass names). It's a list of entity types used in query
      * @param exception    - store exception in the query cache if {@link TypedQuery#getSingleResult()} throws exception
+     * @deprecated use {@link #putResultToCache(QueryKey, Object, String, Set, RuntimeException, Map)} with
+     * generations obtained before executing the query
      */
-    @SuppressWarnings("unchecked")
+    @Deprecated
     public <T> void putResultToCache(QueryKey queryKey, T result, String type, Set<String> relatedTypes, RuntimeException exception) {
+        putResultToCache(queryKey, result, type, relatedTypes, exception, getGenerations(type, relatedTypes));
+    }
+
+    /**
+     * Put query results into query cache for specified query {@code queryKey}.
+     * Results are extracted as identifiers from entity {@code result}
+     *
+     * @param type         - result entity type (metaClass name)
+     * @param relatedTypes - query dependent types (metaClass names). It's a list of entity types used in query
+     * @param exception    - store exception in the query cache if {@link TypedQuery#getSingleResult()} throws exception
+     * @param generations  - generations returned by {@link #getGenerations(String, Set)} before executing the query
+     */
+    public <T> void putResultToCache(QueryKey queryKey, T result, String type, Set<String> relatedTypes,
+                                     RuntimeException exception, Map<String, String> generations) {
         QueryResult queryResult;
         if (exception == null) {
-            queryResult = new QueryResult(Collections.singletonList(EntityValues.getId(((Entity) result))), type, relatedTypes);
+            queryResult = new QueryResult(Collections.singletonList(EntityValues.getId(((Entity) result))), type,
+                    relatedTypes, null, generations);
         } else {
-            queryResult = new QueryResult(Collections.emptyList(), type, relatedTypes, exception);
+            queryResult = new QueryResult(Collections.emptyList(), type, relatedTypes, exception, generations);
         }
         log.debug("Put results into cache for query: {}, relatedTypes: {}", queryKey.printDescription(), relatedTypes);
         queryCache.put(queryKey, queryResult);
@@ -161,9 +311,18 @@ public class QueryCacheManager {
      * Discards cached query results for java class (associated with metaClass) {@code typeClass}
      */
     public void invalidate(Class typeClass) {
+        invalidate(typeClass, false);
+    }
+
+    /**
+     * Discards cached query results for java class (associated with metaClass) {@code typeClass}
+     *
+     * @param propagate whether to discard the results in other application instances too
+     */
+    public void invalidate(Class typeClass, boolean propagate) {
         if (isEnabled()) {
             MetaClass metaClass = metadata.getClass(typeClass);
-            invalidate(metaClass.getName());
+            invalidate(metaClass.getName(), propagate);
         }
     }
 
@@ -171,8 +330,20 @@ public class QueryCacheManager {
      * Discards cached query results for metaClass name {@code typeName}
      */
     public void invalidate(String typeName) {
+        invalidate(typeName, false);
+    }
+
+    /**
+     * Discards cached query results for metaClass name {@code typeName}
+     *
+     * @param propagate whether to discard the results in other application instances too
+     */
+    public void invalidate(String typeName, boolean propagate) {
         if (isEnabled()) {
             queryCache.invalidate(typeName);
+            if (propagate) {
+                propagateInvalidation(Collections.singleton(typeName));
+            }
         }
     }
 
@@ -188,11 +359,64 @@ public class QueryCacheManager {
     }
 
     public void invalidateAll() {
+        invalidateAll(false);
+    }
+
+    /**
+     * Discards all cached query results
+     *
+     * @param propagate whether to discard the results in other application instances too
+     */
+    public void invalidateAll(boolean propagate) {
         if (isEnabled()) {
             queryCache.invalidateAll();
+            if (propagate) {
+                propagateInvalidation(null);
+            }
+        }
+    }
+
+    /**
+     * Sends {@link QueryCacheInvalidationCommand} to other application instances if the cluster channel is configured.
+     * Changes committed by entity manager don't need it, as they are propagated by EclipseLink cache coordination.
+     */
+    protected void propagateInvalidation(@Nullable Set<String> typeNames) {
+        if (channelSupplier != null) {
+            QueryCacheInvalidationCommand command = new QueryCacheInvalidationCommand(typeNames);
+            channelSupplier.get().send(MessageBuilder.withPayload(serialization.serialize(command)).build());
         }
     }
 
+    /**
+     * Returns number of cached query results found with all entities in the entity cache
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns number of cached query results found with some entities missing in the entity cache
+     */
+    public long getPartialHitCount() {
+        return partialHitCount.sum();
+    }
+
+    /**
+     * Returns number of queries not found in the query cache
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Resets hit, partial hit and miss counters
+     */
+    public void resetStatistics() {
+        hitCount.reset();
+        partialHitCount.reset();
+        missCount.reset();
+    }
+
     protected Set<String> getDescendants(Set<String> relatedTypes) {
         if (relatedTypes == null) return null;
         Set<String> newRelatedTypes = new HashSet<>();
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.eclipselink.impl.entitycache;
+
+/**
+ * Divides the query cache into partitions, e.g. by tenant of the current user.
+ * <p>
+ * If a bean implementing this interface exists, {@link StandardQueryCache} stores results of each partition
+ * in its own local store bounded by {@code jmix.eclipselink.query-cache-partition-max-size}, so filling one
+ * partition doesn't evict results of other partitions, and records hit and miss statistics per partition.
+ * <p>
+ * Only query results are partitioned. The entity cache and fetch plans are shared by all partitions.
+ */
+public interface QueryCachePartitionProvider {
+
+    /**
+     * @return partition of the query cache used in the current context
+     */
+    String getCurrentPartition();
+}
@@ -16,9 +16,12 @@
 
 package io.jmix.eclipselink.impl.entitycache;
 
+import org.springframework.lang.Nullable;
+
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class QueryResult implements Serializable {
@@ -28,16 +31,39 @@ public class QueryResult implements Serializable {
     protected final String type;
     protected final Set<String> relatedTypes;
     protected final RuntimeException exception;
+    protected final Map<String, String> generations;
 
     public QueryResult(List<?> result, String type, Set<String> relatedTypes) {
         this(result, type, relatedTypes, null);
     }
 
     public QueryResult(List<?> result, String type, Set<String> relatedTypes, RuntimeException exception) {
+        this(result, type, relatedTypes, exception, null);
+    }
+
+    /**
+     * @param generations generations of the result type and related types obtained by
+     *                    {@link QueryCache#getGenerations(Set)} before the query has been executed,
+     *                    or null if the result should be stamped when it is put into the cache
+     */
+    public QueryResult(List<?> result, String type, Set<String> relatedTypes, RuntimeException exception,
+                       @Nullable Map<String, String> generations) {
         this.result = Collections.unmodifiableList(result);
         this.type = type;
         this.relatedTypes = relatedTypes;
         this.exception = exception;
+        this.generations = generations;
+    }
+
+    /**
+     * Creates a copy of the {@code source} result stamped with the given generations.
+     */
+    public QueryResult(QueryResult source, Map<String, String> generations) {
+        this.result = source.result;
+        this.type = source.type;
+        this.relatedTypes = source.relatedTypes;
+        this.exception = source.exception;
+        this.generations = generations;
     }
 
     public List getResult() {
@@ -55,4 +81,12 @@ public class QueryResult implements Serializable {
     public RuntimeException getException() {
         return exception;
     }
+
+    /**
+     * @return generations of the result type and related types the result corresponds to, or null if not stamped
+     */
+    @Nullable
+    public Map<String, String> getGenerations() {
+        return generations;
+    }
 }
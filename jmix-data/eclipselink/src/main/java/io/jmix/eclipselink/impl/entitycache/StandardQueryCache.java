@@ -16,33 +16,75 @@
 
 package io.jmix.eclipselink.impl.entitycache;
 
-import com.google.common.collect.Sets;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import io.jmix.core.CacheOperations;
-import org.apache.commons.collections4.CollectionUtils;
+import io.jmix.core.UuidProvider;
+import io.jmix.eclipselink.EclipselinkProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
+import java.io.Serializable;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Query cache based on the {@link #QUERY_CACHE_NAME} Spring cache.
+ * <p>
+ * Invalidation does not walk through cached queries. Instead, each entity type has a generation stored in the same
+ * cache, which is replaced by a new unique value on invalidation, and each stored {@link QueryResult} is stamped
+ * with the generations of its related types obtained before the query execution. A result whose stamp doesn't match
+ * the current generations is not returned and is overwritten by the next {@link #put(QueryKey, QueryResult)} or
+ * removed by the cache eviction policy. If a generation is evicted from the cache, a new one is created, so results
+ * stamped with the evicted generation become outdated too.
+ * <p>
+ * As generations are kept in the cache, application instances sharing a clustered cache share the invalidation
+ * state as well.
+ * <p>
+ * If a {@link QueryCachePartitionProvider} bean exists, results are not stored in the Spring cache. Instead, each
+ * partition has its own local store bounded by {@link EclipselinkProperties#getQueryCachePartitionMaxSize()}, which
+ * evicts the least recently used results of this partition only, so filling one partition never evicts results of
+ * other partitions. Hits, misses and evictions are counted per partition. Generations are still kept in the Spring
+ * cache and shared by all partitions, so invalidation applies to partitioned results of all instances.
+ */
 @Component("eclipselink_QueryCache")
 public class StandardQueryCache implements QueryCache {
 
     protected Cache queries;
 
+    protected final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+    protected long partitionMaxSize;
+
     @Autowired
     protected CacheManager cacheManager;
     @Autowired
     protected CacheOperations cacheOperations;
+    @Autowired
+    protected EclipselinkProperties properties;
+    @Autowired
+    protected MeterRegistry meterRegistry;
+    @Autowired(required = false)
+    protected QueryCachePartitionProvider partitionProvider;
 
     public static final String QUERY_CACHE_NAME = "jmix-eclipselink-query-cache";
 
+    protected static final String PARTITION_METRICS_NAME = "jmix.eclipselink.queryCache";
+
     protected static final Logger log = LoggerFactory.getLogger(QueryCache.class);
 
     @PostConstruct
@@ -51,63 +93,209 @@ public class StandardQueryCache implements QueryCache {
         if (queries == null) {
             throw new IllegalStateException(String.format("Unable to find cache: %s", QUERY_CACHE_NAME));
         }
+        partitionMaxSize = properties.getQueryCachePartitionMaxSize();
     }
 
     @Override
     public QueryResult get(QueryKey queryKey) {
-        return queries.get(queryKey, QueryResult.class);
+        Partition partition = getCurrentPartition();
+        QueryResult queryResult;
+        if (partition != null) {
+            queryResult = partition.results.getIfPresent(queryKey);
+        } else {
+            queryResult = queries.get(queryKey, QueryResult.class);
+        }
+        if (queryResult != null && !isActual(queryResult)) {
+            log.debug("Cached query result is outdated: {}", queryKey.printDescription());
+            return null;
+        }
+        return queryResult;
     }
 
     @Override
     public void put(QueryKey queryKey, QueryResult queryResult) {
-        queries.put(queryKey, queryResult);
+        QueryResult stampedResult = queryResult.getGenerations() != null
+                ? queryResult
+                : new QueryResult(queryResult, getGenerations(getStampedTypes(queryResult)));
+        Partition partition = getCurrentPartition();
+        if (partition != null) {
+            partition.results.put(queryKey, stampedResult);
+        } else {
+            queries.put(queryKey, stampedResult);
+        }
+    }
+
+    /**
+     * Returns hit, miss and eviction statistics of partitions.
+     *
+     * @return statistics by partition, empty if the cache is not partitioned
+     */
+    public Map<String, CacheStats> getPartitionStats() {
+        Map<String, CacheStats> result = new TreeMap<>();
+        partitions.forEach((name, partition) -> result.put(name, partition.results.stats()));
+        return result;
+    }
+
+    @Nullable
+    protected Partition getCurrentPartition() {
+        if (partitionProvider == null) {
+            return null;
+        }
+        return partitions.computeIfAbsent(partitionProvider.getCurrentPartition(), this::createPartition);
+    }
+
+    protected Partition createPartition(String name) {
+        log.debug("Create query cache partition {}", name);
+        Partition partition = new Partition(name, partitionMaxSize);
+        Tags tags = Tags.of("cache", PARTITION_METRICS_NAME, "partition", name);
+        FunctionCounter.builder("cache.gets", partition, p -> p.results.stats().hitCount())
+                .tags(tags).tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", partition, p -> p.results.stats().missCount())
+                .tags(tags).tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", partition, p -> p.results.stats().evictionCount())
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("cache.size", partition, p -> p.results.size())
+                .tags(tags)
+                .register(meterRegistry);
+        return partition;
+    }
+
+    @Override
+    public Map<String, String> getGenerations(Set<String> typeNames) {
+        Map<String, String> result = new HashMap<>();
+        for (String typeName : typeNames) {
+            result.put(typeName, getGeneration(typeName));
+        }
+        return result;
     }
 
     @Override
     public void invalidate(String typeName) {
         log.debug("Invalidate cache for type {}", typeName);
-        invalidateByTypes(Sets.newHashSet(typeName));
+        renewGeneration(typeName);
     }
 
     @Override
     public void invalidate(Set<String> typeNames) {
         log.debug("Invalidate cache for types {}", typeNames);
-        invalidateByTypes(typeNames);
+        for (String typeName : typeNames) {
+            renewGeneration(typeName);
+        }
     }
 
-    protected void invalidateByTypes(Set<String> typeNames) {
-        if (cacheOperations.isIterableCache(queries)) {
-            Set<QueryKey> evicted = new HashSet<>();
+    protected void renewGeneration(String typeName) {
+        queries.put(new GenerationKey(typeName), createGeneration());
+    }
 
-            cacheOperations.<QueryKey, QueryResult>forEach(queries, (queryKey, queryResult) -> {
-                if (CollectionUtils.containsAny(queryResult.getRelatedTypes(), typeNames)) {
-                    evicted.add(queryKey);
-                }
-            });
+    protected String getGeneration(String typeName) {
+        GenerationKey key = new GenerationKey(typeName);
+        String generation = queries.get(key, String.class);
+        if (generation == null) {
+            String newGeneration = createGeneration();
+            Cache.ValueWrapper existing = queries.putIfAbsent(key, newGeneration);
+            generation = existing != null && existing.get() != null ? (String) existing.get() : newGeneration;
+        }
+        return generation;
+    }
 
-            for (QueryKey queryKey : evicted) {
-                queries.evictIfPresent(queryKey);
+    protected String createGeneration() {
+        return UuidProvider.createUuid().toString();
+    }
 
+    protected Set<String> getStampedTypes(QueryResult queryResult) {
+        Set<String> result = new HashSet<>();
+        result.add(queryResult.getType());
+        if (queryResult.getRelatedTypes() != null) {
+            result.addAll(queryResult.getRelatedTypes());
+        }
+        return result;
+    }
+
+    protected boolean isActual(QueryResult queryResult) {
+        Map<String, String> stamp = queryResult.getGenerations();
+        if (stamp == null || stamp.isEmpty()) {
+            return false;
+        }
+        for (Map.Entry<String, String> entry : stamp.entrySet()) {
+            if (!getGeneration(entry.getKey()).equals(entry.getValue())) {
+                return false;
             }
-        } else {
-            queries.invalidate();
         }
+        return true;
     }
 
     @Override
     public void invalidateAll() {
         log.debug("Invalidate all cache");
         queries.invalidate();
+        partitions.values().forEach(partition -> partition.results.invalidateAll());
     }
 
     @Override
     public long size() {
+        long partitionedCount = partitions.values().stream()
+                .mapToLong(partition -> partition.results.size())
+                .sum();
         if (cacheOperations.isIterableCache(queries)) {
-            AtomicLong count = new AtomicLong();
-            cacheOperations.forEach(queries, (queryKey, queryResult) -> count.incrementAndGet());
+            AtomicLong count = new AtomicLong(partitionedCount);
+            cacheOperations.forEach(queries, (key, value) -> {
+                if (key instanceof QueryKey) {
+                    count.incrementAndGet();
+                }
+            });
             return count.get();
         } else {
-            return 0;
+            return partitionedCount;
+        }
+    }
+
+    /**
+     * Bounded store of query results of a partition.
+     */
+    protected static class Partition {
+
+        protected final String name;
+        protected final com.google.common.cache.Cache<QueryKey, QueryResult> results;
+
+        public Partition(String name, long maxSize) {
+            this.name = name;
+            this.results = CacheBuilder.newBuilder()
+                    .maximumSize(maxSize)
+                    .recordStats()
+                    .build();
+        }
+    }
+
+    /**
+     * Key of the generation of an entity type stored in the query cache.
+     */
+    protected static class GenerationKey implements Serializable {
+        private static final long serialVersionUID = -1405384958733519622L;
+
+        protected final String typeName;
+
+        public GenerationKey(String typeName) {
+            this.typeName = typeName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            return typeName.equals(((GenerationKey) o).typeName);
+        }
+
+        @Override
+        public int hashCode() {
+            return typeName.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "GenerationKey{" + typeName + "}";
         }
     }
 }
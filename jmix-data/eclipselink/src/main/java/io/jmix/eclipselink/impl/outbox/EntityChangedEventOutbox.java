@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.eclipselink.impl.outbox;
+
+import io.jmix.core.ExtendedEntities;
+import io.jmix.core.IdSerialization;
+import io.jmix.core.Metadata;
+import io.jmix.core.Stores;
+import io.jmix.core.event.EntityChangedEvent;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.data.StoreAwareLocator;
+import io.jmix.eclipselink.EclipselinkProperties;
+import io.jmix.eclipselink.entity.EntityChangedEventOutboxItem;
+import io.jmix.eclipselink.outbox.EntityChangedEventOutboxListener;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Writes {@link EntityChangedEvent}s of the main data store entities to the transactional outbox if it is enabled
+ * by {@link EclipselinkProperties#isEntityChangedEventOutboxEnabled()} and there are
+ * {@link EntityChangedEventOutboxListener}s supporting the changed entities.
+ * <p>
+ * Rows are persisted in the current transaction, so they are committed or rolled back together with the changes.
+ * After commit, {@link EntityChangedEventOutboxProcessor} is signalled to deliver them.
+ * <p>
+ * Rows are assigned to one of {@link #PARTITION_COUNT} partitions by entity id. The number of partitions does not
+ * depend on the number of workers, so rows written before changing
+ * {@link EclipselinkProperties#getEntityChangedEventOutboxWorkers()} are still delivered.
+ */
+@Component("eclipselink_EntityChangedEventOutbox")
+public class EntityChangedEventOutbox {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityChangedEventOutbox.class);
+
+    /**
+     * Fixed number of outbox partitions distributed among the workers of {@link EntityChangedEventOutboxProcessor}.
+     */
+    public static final int PARTITION_COUNT = 64;
+
+    @Autowired
+    protected EclipselinkProperties properties;
+    @Autowired
+    protected Metadata metadata;
+    @Autowired
+    protected ExtendedEntities extendedEntities;
+    @Autowired
+    protected IdSerialization idSerialization;
+    @Autowired
+    protected StoreAwareLocator storeAwareLocator;
+    @Autowired
+    protected EntityChangedEventOutboxProcessor processor;
+    @Autowired
+    protected ObjectProvider<EntityChangedEventOutboxListener> listeners;
+
+    public void write(Collection<EntityChangedEvent> events) {
+        if (!properties.isEntityChangedEventOutboxEnabled() || events.isEmpty()) {
+            return;
+        }
+        List<EntityChangedEventOutboxListener> listenerList = listeners.orderedStream().collect(Collectors.toList());
+        if (listenerList.isEmpty()) {
+            return;
+        }
+
+        EntityManager entityManager = null;
+        for (EntityChangedEvent<?> event : events) {
+            MetaClass metaClass = extendedEntities.getOriginalOrThisMetaClass(
+                    metadata.getClass(event.getEntityId().getEntityClass()));
+            if (!isWritable(metaClass, listenerList)) {
+                continue;
+            }
+            if (entityManager == null) {
+                entityManager = storeAwareLocator.getEntityManager(Stores.MAIN);
+            }
+
+            String entityId = idSerialization.idToString(event.getEntityId());
+
+            EntityChangedEventOutboxItem item = metadata.create(EntityChangedEventOutboxItem.class);
+            item.setEntityName(metaClass.getName());
+            item.setEntityId(entityId);
+            item.setType(event.getType());
+            item.setAttributes(String.join(",", event.getChanges().getAttributes()));
+            item.setPartition(Math.floorMod(entityId.hashCode(), PARTITION_COUNT));
+            entityManager.persist(item);
+
+            log.trace("Written {} to outbox", event);
+        }
+
+        if (entityManager != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    processor.process();
+                }
+            });
+        }
+    }
+
+    protected boolean isWritable(MetaClass metaClass, List<EntityChangedEventOutboxListener> listenerList) {
+        if (!Stores.MAIN.equals(metaClass.getStore().getName())
+                || EntityChangedEventOutboxItem.class.isAssignableFrom(metaClass.getJavaClass())) {
+            return false;
+        }
+        for (EntityChangedEventOutboxListener listener : listenerList) {
+            if (listener.supports(metaClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.eclipselink.impl.outbox;
+
+import com.google.common.base.Strings;
+import io.jmix.core.Id;
+import io.jmix.core.IdSerialization;
+import io.jmix.core.Metadata;
+import io.jmix.core.UnconstrainedDataManager;
+import io.jmix.core.concurrent.TaskExecutorFactory;
+import io.jmix.core.concurrent.TaskExecutorService;
+import io.jmix.core.event.AttributeChanges;
+import io.jmix.core.event.EntityChangedEvent;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.querycondition.PropertyCondition;
+import io.jmix.core.security.SystemAuthenticator;
+import io.jmix.eclipselink.EclipselinkProperties;
+import io.jmix.eclipselink.entity.EntityChangedEventOutboxItem;
+import io.jmix.eclipselink.outbox.EntityChangedEventOutboxListener;
+import jakarta.annotation.PreDestroy;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers {@link EntityChangedEvent}s from the transactional outbox to {@link EntityChangedEventOutboxListener}s.
+ * <p>
+ * The outbox is split into {@link EntityChangedEventOutbox#PARTITION_COUNT} partitions by entity id. Partitions are
+ * distributed among single-threaded workers, each worker drains rows of its partitions in the order of row ids
+ * assigned by the database, so events of the same entity instance are delivered in the order of their creation.
+ * <p>
+ * Rows are removed after all listeners have processed them. If a listener throws an exception for a batch, the events
+ * of the batch are delivered one by one. The failed event stays in the outbox with the number of attempts and
+ * the error, and is delivered again on the next poll together with later events of the same entity instance.
+ * Events of other instances are delivered and removed. After
+ * {@link EclipselinkProperties#getEntityChangedEventOutboxMaxAttempts()} the failed event is marked as dead letter
+ * and is not delivered anymore.
+ * <p>
+ * Draining is started after commit of transactions writing to the outbox and by periodic polling. In a cluster,
+ * only one instance should have {@link EclipselinkProperties#isEntityChangedEventOutboxProcessingEnabled()} set,
+ * otherwise the ordering is not guaranteed.
+ */
+@Component("eclipselink_EntityChangedEventOutboxProcessor")
+public class EntityChangedEventOutboxProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityChangedEventOutboxProcessor.class);
+
+    protected static final String LOAD_QUERY = "select e from eclipselink_EntityChangedEventOutboxItem e " +
+            "where e.partition in :partitions and e.deadLetter = false order by e.id";
+
+    @Autowired
+    protected EclipselinkProperties properties;
+    @Autowired
+    protected UnconstrainedDataManager dataManager;
+    @Autowired
+    protected Metadata metadata;
+    @Autowired
+    protected IdSerialization idSerialization;
+    @Autowired
+    protected SystemAuthenticator systemAuthenticator;
+    @Autowired
+    protected TaskExecutorFactory taskExecutorFactory;
+    @Autowired
+    @Qualifier("core_ThreadPoolTaskScheduler")
+    protected TaskScheduler taskScheduler;
+    @Autowired
+    protected ObjectProvider<EntityChangedEventOutboxListener> listeners;
+
+    protected volatile TaskExecutorService[] workers;
+    protected List<Integer>[] workerPartitions;
+    protected AtomicBoolean[] drainRequested;
+    protected ScheduledFuture<?> pollFuture;
+
+    @EventListener
+    protected synchronized void onContextRefreshedEvent(ContextRefreshedEvent event) {
+        if (workers != null
+                || !properties.isEntityChangedEventOutboxEnabled()
+                || !properties.isEntityChangedEventOutboxProcessingEnabled()) {
+            return;
+        }
+        int workerCount = Math.max(1,
+                Math.min(properties.getEntityChangedEventOutboxWorkers(), EntityChangedEventOutbox.PARTITION_COUNT));
+        TaskExecutorService[] executors = new TaskExecutorService[workerCount];
+        workerPartitions = createWorkerPartitions(workerCount);
+        drainRequested = new AtomicBoolean[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            executors[i] = taskExecutorFactory.create("jmix-outbox-" + i + "-", 1);
+            drainRequested[i] = new AtomicBoolean();
+        }
+        workers = executors;
+
+        pollFuture = taskScheduler.scheduleWithFixedDelay(this::process,
+                properties.getEntityChangedEventOutboxPollInterval());
+        log.info("Started {} outbox workers", workerCount);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected List<Integer>[] createWorkerPartitions(int workerCount) {
+        List<Integer>[] result = new List[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            result[i] = new ArrayList<>();
+        }
+        for (int partition = 0; partition < EntityChangedEventOutbox.PARTITION_COUNT; partition++) {
+            result[partition % workerCount].add(partition);
+        }
+        return result;
+    }
+
+    @PreDestroy
+    protected synchronized void shutdown() {
+        if (workers == null) {
+            return;
+        }
+        pollFuture.cancel(false);
+        for (TaskExecutorService worker : workers) {
+            worker.shutdownNow();
+        }
+        workers = null;
+    }
+
+    /**
+     * Requests draining of all outbox partitions. Does nothing if the processing is not started.
+     */
+    public void process() {
+        TaskExecutorService[] currentWorkers = workers;
+        if (currentWorkers == null) {
+            return;
+        }
+        for (int worker = 0; worker < currentWorkers.length; worker++) {
+            requestDrain(currentWorkers[worker], worker);
+        }
+    }
+
+    protected void requestDrain(TaskExecutorService worker, int workerIndex) {
+        // at most one drain task is waiting in the queue of the worker
+        if (drainRequested[workerIndex].getAndSet(true)) {
+            return;
+        }
+        try {
+            worker.execute(() -> {
+                drainRequested[workerIndex].set(false);
+                try {
+                    drain(workerPartitions[workerIndex]);
+                } catch (RuntimeException e) {
+                    log.error("Error processing outbox partitions of worker {}", workerIndex, e);
+                }
+            });
+        } catch (RuntimeException e) {
+            drainRequested[workerIndex].set(false);
+            log.debug("Unable to submit draining of outbox by worker {}: {}", workerIndex, e.toString());
+        }
+    }
+
+    protected void drain(List<Integer> partitions) {
+        int batchSize = properties.getEntityChangedEventOutboxBatchSize();
+        while (true) {
+            List<EntityChangedEventOutboxItem> items = dataManager.load(EntityChangedEventOutboxItem.class)
+                    .query(LOAD_QUERY)
+                    .parameter("partitions", partitions)
+                    .maxResults(batchSize)
+                    .list();
+            if (items.isEmpty()) {
+                return;
+            }
+            try {
+                systemAuthenticator.runWithSystem(() -> deliver(items));
+            } catch (RuntimeException e) {
+                log.debug("Unable to deliver {} outbox events in a batch, delivering them one by one", items.size(), e);
+                deliverOneByOne(items);
+                return;
+            }
+            remove(items);
+            if (items.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    protected void deliver(List<EntityChangedEventOutboxItem> items) {
+        List<EntityChangedEvent<?>> events = new ArrayList<>(items.size());
+        List<MetaClass> metaClasses = new ArrayList<>(items.size());
+        for (EntityChangedEventOutboxItem item : items) {
+            MetaClass metaClass = metadata.getSession().findClass(item.getEntityName());
+            if (metaClass == null) {
+                log.warn("Skipping outbox event of unknown entity {}", item.getEntityName());
+                continue;
+            }
+            Id<Object> entityId = idSerialization.stringToId(item.getEntityId());
+            events.add(new EntityChangedEvent<>(this, entityId, item.getType(),
+                    createAttributeChanges(item.getAttributes()), metaClass));
+            metaClasses.add(metaClass);
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+
+        for (EntityChangedEventOutboxListener listener : listeners.orderedStream().collect(Collectors.toList())) {
+            List<EntityChangedEvent<?>> supportedEvents = new ArrayList<>(events.size());
+            for (int i = 0; i < events.size(); i++) {
+                if (listener.supports(metaClasses.get(i))) {
+                    supportedEvents.add(events.get(i));
+                }
+            }
+            if (!supportedEvents.isEmpty()) {
+                listener.onEntitiesChanged(supportedEvents);
+            }
+        }
+    }
+
+    protected AttributeChanges createAttributeChanges(String attributes) {
+        AttributeChanges.Builder builder = AttributeChanges.Builder.create();
+        if (!Strings.isNullOrEmpty(attributes)) {
+            for (String attribute : attributes.split(",")) {
+                addChange(builder, attribute);
+            }
+        }
+        return builder.build();
+    }
+
+    protected void addChange(AttributeChanges.Builder builder, String path) {
+        int dotIndex = path.indexOf('.');
+        if (dotIndex < 0) {
+            builder.withChange(path, null);
+        } else {
+            builder.withEmbedded(path.substring(0, dotIndex),
+                    embeddedBuilder -> addChange(embeddedBuilder, path.substring(dotIndex + 1)));
+        }
+    }
+
+    protected void deliverOneByOne(List<EntityChangedEventOutboxItem> items) {
+        // instances having an event waiting for the next attempt, their later events must not overtake it
+        Set<String> retriedInstances = new HashSet<>();
+        for (EntityChangedEventOutboxItem item : items) {
+            String instanceKey = item.getEntityName() + "-" + item.getEntityId();
+            if (retriedInstances.contains(instanceKey)) {
+                continue;
+            }
+            List<EntityChangedEventOutboxItem> singleItem = Collections.singletonList(item);
+            try {
+                systemAuthenticator.runWithSystem(() -> deliver(singleItem));
+            } catch (RuntimeException e) {
+                if (handleDeliveryFailure(item, e)) {
+                    retriedInstances.add(instanceKey);
+                }
+                continue;
+            }
+            remove(singleItem);
+        }
+    }
+
+    /**
+     * Saves the failed attempt of the event delivery.
+     *
+     * @return true if the event will be delivered again, false if it is marked as dead letter
+     */
+    protected boolean handleDeliveryFailure(EntityChangedEventOutboxItem item, RuntimeException exception) {
+        int attempts = item.getAttempts() + 1;
+        boolean deadLetter = attempts >= properties.getEntityChangedEventOutboxMaxAttempts();
+        if (deadLetter) {
+            log.error("Unable to deliver outbox event {} of {} {} after {} attempts, marking it as dead letter",
+                    item.getId(), item.getEntityName(), item.getEntityId(), attempts, exception);
+        } else {
+            log.warn("Unable to deliver outbox event {} of {} {}, attempt {}",
+                    item.getId(), item.getEntityName(), item.getEntityId(), attempts, exception);
+        }
+        dataManager.bulkUpdate(EntityChangedEventOutboxItem.class)
+                .set("attempts", attempts)
+                .set("deadLetter", deadLetter)
+                .set("error", ExceptionUtils.getStackTrace(exception))
+                .where(PropertyCondition.equal("id", item.getId()))
+                .execute();
+        return !deadLetter;
+    }
+
+    protected void remove(List<EntityChangedEventOutboxItem> items) {
+        dataManager.bulkDelete(EntityChangedEventOutboxItem.class)
+                .where(PropertyCondition.inList("id", getIds(items)))
+                .execute();
+    }
+
+    protected List<Long> getIds(List<EntityChangedEventOutboxItem> items) {
+        return items.stream().map(EntityChangedEventOutboxItem::getId).collect(Collectors.toList());
+    }
+}
@@ -17,6 +17,7 @@ package io.jmix.eclipselink.impl.support;
 
 import io.jmix.core.EnvironmentUtils;
 import io.jmix.core.MetadataTools;
+import io.jmix.eclipselink.EclipselinkProperties;
 import io.jmix.eclipselink.impl.JmixPersistenceProvider;
 import jakarta.persistence.spi.PersistenceProvider;
 import jakarta.validation.ValidatorFactory;
@@ -50,6 +51,8 @@ public class JmixEclipseLinkJpaVendorAdapter extends EclipseLinkJpaVendorAdapter
 
     protected final ValidatorFactory validatorFactory;
 
+    protected EclipselinkProperties eclipselinkProperties;
+
     @Autowired
     public JmixEclipseLinkJpaVendorAdapter(Environment environment,
                                            JmixEclipseLinkJpaDialect jpaDialect,
@@ -69,6 +72,11 @@ public class JmixEclipseLinkJpaVendorAdapter extends EclipseLinkJpaVendorAdapter
         setShowSql(true);
     }
 
+    @Autowired(required = false)
+    public void setEclipselinkProperties(EclipselinkProperties eclipselinkProperties) {
+        this.eclipselinkProperties = eclipselinkProperties;
+    }
+
     @Override
     public PersistenceProvider getPersistenceProvider() {
         return persistenceProvider;
@@ -89,6 +97,14 @@ public class JmixEclipseLinkJpaVendorAdapter extends EclipseLinkJpaVendorAdapter
         map.put("eclipselink.session.customizer", new JmixEclipseLinkSessionCustomizer());
         map.put("eclipselink.application-id", Integer.toString(System.identityHashCode(this)));
 
+        if (eclipselinkProperties != null && eclipselinkProperties.isBatchWritingEnabled()) {
+            map.put("eclipselink.jdbc.batch-writing", "JDBC");
+            map.put("eclipselink.jdbc.batch-writing.size", Integer.toString(eclipselinkProperties.getBatchWritingSize()));
+            // EclipseLink writes changes class by class in the order of their dependencies, so statements for
+            // the same table are sent together, and updates of each class are additionally ordered by id
+            map.put("eclipselink.persistence-context.commit-order", "Id");
+        }
+
         for (String name : EnvironmentUtils.getPropertyNames(environment)) {
             if (name.startsWith("eclipselink.")) {
                 map.put(name, environment.getProperty(name));
@@ -21,6 +21,7 @@ import io.jmix.core.Metadata;
 import io.jmix.core.common.util.ReflectionHelper;
 import io.jmix.core.impl.StandardSerialization;
 import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.eclipselink.impl.entitycache.QueryCacheInvalidationCommand;
 import io.jmix.eclipselink.impl.entitycache.QueryCacheManager;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
@@ -105,6 +106,10 @@ public class JmixEclipseLinkRemoteConnection extends BroadcastRemoteConnection {
         }
 
         Object command = serialization.deserialize((byte[]) message.getPayload());
+        if (command instanceof QueryCacheInvalidationCommand) {
+            onQueryCacheInvalidation((QueryCacheInvalidationCommand) command);
+            return;
+        }
         if (queryCacheManager.isEnabled()) {
             invalidateQueryCache(command);
         }
@@ -130,6 +135,15 @@ public class JmixEclipseLinkRemoteConnection extends BroadcastRemoteConnection {
         return false;
     }
 
+    protected void onQueryCacheInvalidation(QueryCacheInvalidationCommand command) {
+        Set<String> typeNames = command.getTypeNames();
+        if (typeNames == null) {
+            queryCacheManager.invalidateAll();
+        } else {
+            queryCacheManager.invalidate(typeNames);
+        }
+    }
+
     protected void invalidateQueryCache(Object command) {
         if (command instanceof MergeChangeSetCommand) {
             MergeChangeSetCommand changeSetCommand = (MergeChangeSetCommand) command;
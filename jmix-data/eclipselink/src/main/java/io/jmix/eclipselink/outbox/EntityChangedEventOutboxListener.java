@@ -0,0 +1,52 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.eclipselink.outbox;
+
+import io.jmix.core.event.EntityChangedEvent;
+import io.jmix.core.metamodel.model.MetaClass;
+
+import java.util.List;
+
+/**
+ * Interface to be implemented by beans receiving {@link EntityChangedEvent}s asynchronously from the transactional
+ * outbox. The outbox is enabled by the {@code jmix.eclipselink.entity-changed-event-outbox-enabled} property.
+ * <p>
+ * Events are written to the outbox in the transaction that changes entities of the main data store and delivered
+ * after commit in batches by a pool of worker threads. Events of the same entity instance are delivered in the order
+ * of their creation, events of different instances may be delivered concurrently.
+ * <p>
+ * The delivery is at-least-once: if the listener throws an exception, the whole batch is delivered again later,
+ * so the listener must be idempotent. Changed attributes are available in the events, but their old values are not.
+ */
+public interface EntityChangedEventOutboxListener {
+
+    /**
+     * Returns true if the listener should receive events of the given entity. Events of unsupported entities
+     * are not written to the outbox if there are no other listeners supporting them.
+     */
+    default boolean supports(MetaClass metaClass) {
+        return true;
+    }
+
+    /**
+     * Invoked by an outbox worker thread with the system authentication.
+     *
+     * @param events events of supported entities in the order of their creation
+     */
+    void onEntitiesChanged(List<EntityChangedEvent<?>> events);
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package data_manager
+
+import io.jmix.core.BulkOperationContext
+import io.jmix.core.BulkOperationNotSupportedException
+import io.jmix.core.DataManager
+import io.jmix.core.Metadata
+import io.jmix.core.constraint.RowLevelConstraint
+import io.jmix.core.event.EntityChangedEvent
+import io.jmix.core.querycondition.PropertyCondition
+import io.jmix.data.PersistenceHints
+import io.jmix.data.accesscontext.ReadEntityQueryContext
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.jdbc.core.JdbcTemplate
+import test_support.DataSpec
+import test_support.TestTenantCriteriaProvider
+import test_support.entity.bulk.BulkItem
+import test_support.entity.multidb.Mem1Customer
+import test_support.entity.sales.Customer
+import test_support.entity.sales.Order
+import test_support.listeners.TestOrderBulkChangedEventListener
+
+class DataManagerBulkOperationTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    JdbcTemplate jdbcTemplate
+
+    @Autowired
+    TestOrderBulkChangedEventListener bulkChangedEventListener
+
+    @Autowired
+    TestTenantCriteriaProvider tenantCriteriaProvider
+
+    @Autowired
+    Metadata metadata
+
+    List<Order> orders
+
+    void setup() {
+        orders = (1..3).collect { i ->
+            def order = dataManager.create(Order)
+            order.number = "$i"
+            order.amount = i * 10.0
+            order
+        }
+        dataManager.save(orders as Object[])
+        bulkChangedEventListener.events.clear()
+    }
+
+    void cleanup() {
+        tenantCriteriaProvider.resetTenant()
+        jdbcTemplate.update('delete from TEST_BULK_ITEM')
+        jdbcTemplate.update('delete from SALES_ORDER')
+        jdbcTemplate.update('delete from SALES_CUSTOMER')
+    }
+
+    def "bulk update changes selected entities"() {
+        def customer = dataManager.create(Customer)
+        customer.name = 'c1'
+        dataManager.save(customer)
+
+        when:
+        def count = dataManager.bulkUpdate(Order)
+                .set('number', 'archived')
+                .set('customer', customer)
+                .where(PropertyCondition.less('amount', 25.0))
+                .execute()
+
+        def loaded = dataManager.load(Order)
+                .all()
+                .fetchPlan { it.addFetchPlan('_base').add('customer') }
+                .list()
+
+        then:
+        count == 2
+
+        loaded.findAll { it.number == 'archived' }*.amount.sort() == [10.0, 20.0]
+        loaded.findAll { it.number == 'archived' }.every { it.customer == customer && it.version == 2 }
+        loaded.find { it.amount == 30.0 }.number == '3'
+    }
+
+    def "bulk update with null value"() {
+        when:
+        def count = dataManager.bulkUpdate(Order)
+                .set('amount', null)
+                .execute()
+
+        then:
+        count == 3
+        dataManager.load(Order).all().list().every { it.amount == null }
+    }
+
+    def "bulk update of unknown property fails"() {
+        when:
+        dataManager.bulkUpdate(Order)
+                .set('unknown', 'x')
+                .execute()
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "bulk delete marks soft-deletable entities as deleted"() {
+        saveItems(TestTenantCriteriaProvider.DEFAULT_TENANT, 'a', 'b', 'c')
+
+        when:
+        def count = dataManager.bulkDelete(BulkItem)
+                .where(PropertyCondition.equal('name', 'a'))
+                .execute()
+
+        then:
+        count == 1
+        dataManager.load(BulkItem).all().list()*.name.sort() == ['b', 'c']
+        jdbcTemplate.queryForObject("select count(*) from TEST_BULK_ITEM where DELETE_TS is not null", Integer) == 1
+
+        when: "deleting again"
+        count = dataManager.bulkDelete(BulkItem)
+                .where(PropertyCondition.equal('name', 'a'))
+                .execute()
+
+        then: "already deleted entities are not affected"
+        count == 0
+    }
+
+    def "bulk delete with soft deletion turned off removes rows"() {
+        saveItems(TestTenantCriteriaProvider.DEFAULT_TENANT, 'a', 'b', 'c')
+
+        when:
+        def count = dataManager.bulkDelete(BulkItem)
+                .where(PropertyCondition.greater('amount', 1))
+                .hint(PersistenceHints.SOFT_DELETION, false)
+                .execute()
+
+        then:
+        count == 2
+        jdbcTemplate.queryForObject("select count(*) from TEST_BULK_ITEM", Integer) == 1
+    }
+
+    def "bulk delete of entity with compositions and delete policies is not supported"() {
+        when:
+        dataManager.bulkDelete(Order)
+                .hint(PersistenceHints.SOFT_DELETION, false)
+                .execute()
+
+        then:
+        thrown(UnsupportedOperationException)
+        jdbcTemplate.queryForObject("select count(*) from SALES_ORDER", Integer) == 3
+    }
+
+    def "bulk operation fails for data store not supporting it"() {
+        when:
+        dataManager.bulkDelete(Mem1Customer).execute()
+
+        then:
+        def e = thrown(BulkOperationNotSupportedException)
+        e.storeName == 'mem1'
+    }
+
+    def "bulk operations are restricted by additional criteria"() {
+        saveItems(TestTenantCriteriaProvider.DEFAULT_TENANT, 'a', 'b')
+        saveItems('tenant2', 'c')
+
+        when:
+        def updated = dataManager.bulkUpdate(BulkItem)
+                .set('amount', 100)
+                .execute()
+
+        then: "only entities of the current tenant are updated"
+        updated == 2
+        jdbcTemplate.queryForObject("select AMOUNT from TEST_BULK_ITEM where NAME = 'c'", Integer) == 1
+
+        when:
+        def deleted = dataManager.bulkDelete(BulkItem)
+                .hint(PersistenceHints.SOFT_DELETION, false)
+                .execute()
+
+        then: "only entities of the current tenant are deleted"
+        deleted == 2
+        jdbcTemplate.queryForList("select NAME from TEST_BULK_ITEM", String) == ['c']
+    }
+
+    def "bulk update is restricted by row-level constraint"() {
+        saveItems(TestTenantCriteriaProvider.DEFAULT_TENANT, 'a', 'b', 'c')
+
+        when:
+        def count = dataManager.unconstrained().executeBulkOperation(
+                new BulkOperationContext(metadata.getClass(BulkItem), BulkOperationContext.Type.UPDATE)
+                        .setValue('name', 'x')
+                        .setAccessConstraints([new BulkItemQueryConstraint(null, '{E}.amount > 1')]))
+
+        then:
+        count == 2
+        dataManager.load(BulkItem).all().list().collect { "${it.amount}${it.name}".toString() }.sort() == ['1a', '2x', '3x']
+    }
+
+    def "bulk update is restricted by row-level constraint with join"() {
+        def c1 = dataManager.create(Customer)
+        c1.name = 'c1'
+        def c2 = dataManager.create(Customer)
+        c2.name = 'c2'
+        dataManager.save(c1, c2)
+
+        // more items than identifiers in one chunk of the update statement
+        def items = (1..1003).collect { createItem(TestTenantCriteriaProvider.DEFAULT_TENANT, "a$it", it, c1) }
+        items << createItem(TestTenantCriteriaProvider.DEFAULT_TENANT, 'b1', 1, c2)
+        items << createItem('tenant2', 'c1', 1, c1)
+        dataManager.save(items as Object[])
+
+        when:
+        def count = dataManager.unconstrained().executeBulkOperation(
+                new BulkOperationContext(metadata.getClass(BulkItem), BulkOperationContext.Type.UPDATE)
+                        .setValue('amount', 0)
+                        .setAccessConstraints([new BulkItemQueryConstraint('join {E}.customer c', "c.name = 'c1'")]))
+
+        then: "identifiers are selected and entities are updated by chunks"
+        count == 1003
+        jdbcTemplate.queryForObject("select count(*) from TEST_BULK_ITEM where AMOUNT = 0", Integer) == 1003
+        jdbcTemplate.queryForObject("select AMOUNT from TEST_BULK_ITEM where NAME = 'b1'", Integer) == 1
+        jdbcTemplate.queryForObject("select AMOUNT from TEST_BULK_ITEM where NAME = 'c1'", Integer) == 1
+    }
+
+    def "bulk operation publishes single changed event on request"() {
+        when:
+        dataManager.bulkUpdate(Order)
+                .set('number', 'x')
+                .execute()
+
+        then: "no event by default"
+        bulkChangedEventListener.events.isEmpty()
+
+        when:
+        dataManager.bulkUpdate(Order)
+                .set('number', 'y')
+                .where(PropertyCondition.less('amount', 25.0))
+                .publishChangedEvent()
+                .execute()
+
+        then:
+        bulkChangedEventListener.events.size() == 1
+        bulkChangedEventListener.events[0].type == EntityChangedEvent.Type.UPDATED
+        bulkChangedEventListener.events[0].changedAttributes == ['number'] as Set
+        bulkChangedEventListener.events[0].count == 2
+    }
+
+    def "loaded entities reflect bulk update"() {
+        def order = dataManager.load(Order).id(orders[0].id).one()
+
+        when:
+        dataManager.bulkUpdate(Order)
+                .set('number', 'changed')
+                .execute()
+
+        then: "entity and query caches are invalidated"
+        dataManager.load(Order).id(order.id).one().number == 'changed'
+        dataManager.load(Order).query('select o from sales_Order o where o.number = :n')
+                .parameter('n', 'changed')
+                .list().size() == 3
+    }
+
+    private void saveItems(String tenant, String... names) {
+        def items = names.toList().withIndex().collect { name, i -> createItem(tenant, name, i + 1, null) }
+        dataManager.save(items as Object[])
+    }
+
+    private BulkItem createItem(String tenant, String name, int amount, Customer customer) {
+        def item = dataManager.create(BulkItem)
+        item.tenant = tenant
+        item.name = name
+        item.amount = amount
+        item.customer = customer
+        return item
+    }
+
+    static class BulkItemQueryConstraint implements RowLevelConstraint<ReadEntityQueryContext> {
+
+        String join
+        String where
+
+        BulkItemQueryConstraint(String join, String where) {
+            this.join = join
+            this.where = where
+        }
+
+        @Override
+        Class<ReadEntityQueryContext> getContextType() {
+            return ReadEntityQueryContext
+        }
+
+        @Override
+        void applyTo(ReadEntityQueryContext context) {
+            if (context.entityClass.javaClass == BulkItem) {
+                context.addJoinAndWhere(join, where)
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@ package data_manager
 
 import io.jmix.core.*
 import io.jmix.data.PersistenceHints
+import io.micrometer.core.instrument.MeterRegistry
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.jdbc.core.JdbcTemplate
 import test_support.DataSpec
@@ -47,6 +48,9 @@ class DataManagerCommitTest extends DataSpec {
     @Autowired
     FetchPlans fetchPlans
 
+    @Autowired
+    MeterRegistry meterRegistry
+
     TestAppEntity appEntity
     TestAppEntityItem appEntityItem
 
@@ -207,4 +211,57 @@ class DataManagerCommitTest extends DataSpec {
         then: 'another overloaded save() method is chosen which accepts and returns a single instance'
         thrown(Exception)
     }
+
+    def "save applies only changed attributes of existing entity"() {
+        given:
+        def customer = dataManager.create(Customer)
+        customer.name = 'c1'
+        customer = dataManager.save(customer)
+
+        def order = dataManager.create(Order)
+        order.number = '1'
+        order.amount = 10.0
+        order = dataManager.save(order)
+
+        when:
+        order.number = '2'
+        order.amount = 20.0
+        order.customer = customer
+
+        def saveContext = new SaveContext().saving(order)
+        saveContext.changedAttributes.put(order, ['number', 'customer'] as Set)
+        dataManager.save(saveContext)
+
+        def loadedOrder = dataManager.load(Id.of(order))
+                .fetchPlan { it.addFetchPlan(FetchPlan.BASE).add('customer') }
+                .one()
+
+        then: "attributes not reported as changed are left intact"
+        loadedOrder.number == '2'
+        loadedOrder.amount == 10.0
+        loadedOrder.customer == customer
+    }
+
+    def "numbers of saved entities per type are recorded"() {
+        def summary = meterRegistry.summary("jmix.JpaDataStore.savedEntitiesPerType", "store", Stores.MAIN, "operation", "insert")
+        def countBefore = summary.count()
+        def totalBefore = summary.totalAmount()
+
+        def entities = []
+        10.times { i ->
+            def customer = dataManager.create(Customer)
+            customer.name = "c$i"
+            def order = dataManager.create(Order)
+            order.number = "$i"
+            order.customer = customer
+            entities << order << customer
+        }
+
+        when:
+        dataManager.save(entities as Object[])
+
+        then: "one group per entity type"
+        summary.count() - countBefore == 2
+        summary.totalAmount() - totalBefore == 20
+    }
 }
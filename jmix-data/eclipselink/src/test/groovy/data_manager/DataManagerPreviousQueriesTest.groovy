@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package data_manager
+
+import io.jmix.core.DataManager
+import io.jmix.core.LoadContext
+import io.jmix.core.Metadata
+import io.jmix.data.impl.JpqlQueryBuilder
+import org.springframework.beans.factory.BeanFactory
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataSpec
+import test_support.entity.sales.Customer
+
+class DataManagerPreviousQueriesTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+    @Autowired
+    Metadata metadata
+    @Autowired
+    BeanFactory beanFactory
+
+    void setup() {
+        ['a1', 'a2', 'b1'].each {
+            def customer = dataManager.create(Customer)
+            customer.name = it
+            dataManager.save(customer)
+        }
+    }
+
+    def "previous query is added as subquery with renamed variables and parameters"() {
+        def previousQuery = new LoadContext.Query('select e from sales_Customer e where e.name like :p')
+                .setParameter('p', 'a%')
+
+        when:
+        JpqlQueryBuilder queryBuilder = beanFactory.getBean(JpqlQueryBuilder)
+        queryBuilder.setQueryString('select e from sales_Customer e where e.name like :p')
+                .setQueryParameters([p: '%1'])
+                .setEntityName('sales_Customer')
+                .setPreviousQueries([previousQuery])
+
+        def queryString = queryBuilder.getResultQueryString()
+
+        then:
+        queryString.contains('select e_pq0.id from sales_Customer e_pq0')
+        queryString.contains('e_pq0.name like :p_pq0')
+        queryBuilder.getResultParameters() == [p: '%1', p_pq0: 'a%']
+    }
+
+    def "load and count within previous results"() {
+        def loadContext = new LoadContext(metadata.getClass(Customer))
+                .setQuery(new LoadContext.Query('select e from sales_Customer e where e.name like :p')
+                        .setParameter('p', '%1'))
+        loadContext.getPreviousQueries().add(
+                new LoadContext.Query('select c from sales_Customer c where c.name like :p').setParameter('p', 'a%'))
+
+        when:
+        List<Customer> customers = dataManager.loadList(loadContext)
+
+        then:
+        customers*.name == ['a1']
+        dataManager.getCount(loadContext) == 1
+    }
+
+    def "load within several previous results"() {
+        def loadContext = new LoadContext(metadata.getClass(Customer))
+                .setQuery(new LoadContext.Query('select e from sales_Customer e'))
+        loadContext.getPreviousQueries().add(
+                new LoadContext.Query('select e from sales_Customer e where e.name like :p').setParameter('p', 'a%'))
+        loadContext.getPreviousQueries().add(
+                new LoadContext.Query('select e from sales_Customer e where e.name <> :p').setParameter('p', 'a1'))
+
+        when:
+        List<Customer> customers = dataManager.loadList(loadContext)
+
+        then:
+        customers*.name == ['a2']
+    }
+}
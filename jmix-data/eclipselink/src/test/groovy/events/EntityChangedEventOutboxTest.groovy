@@ -0,0 +1,188 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package events
+
+import io.jmix.core.DataManager
+import io.jmix.core.Id
+import io.jmix.core.IdSerialization
+import io.jmix.core.event.EntityChangedEvent
+import io.jmix.eclipselink.impl.outbox.EntityChangedEventOutbox
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.test.context.TestPropertySource
+import spock.util.concurrent.PollingConditions
+import test_support.DataSpec
+import test_support.entity.sales.Customer
+import test_support.listeners.TestOutboxListener
+
+@TestPropertySource(properties = [
+        "jmix.eclipselink.entity-changed-event-outbox-enabled = true",
+        "jmix.eclipselink.entity-changed-event-outbox-poll-interval = 1s",
+        "jmix.eclipselink.entity-changed-event-outbox-max-attempts = 2"
+])
+class EntityChangedEventOutboxTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+    @Autowired
+    TestOutboxListener listener
+    @Autowired
+    IdSerialization idSerialization
+
+    PollingConditions conditions = new PollingConditions(timeout: 10)
+
+    void setup() {
+        listener.clear()
+    }
+
+    void cleanup() {
+        listener.clear()
+        jdbc.update('delete from ECLIPSELINK_EVENT_OUTBOX')
+    }
+
+    def "events are delivered after commit in the order of changes"() {
+        def customer = dataManager.create(Customer)
+        customer.name = 'c1'
+
+        when:
+        customer = dataManager.save(customer)
+        customer.name = 'c2'
+        customer = dataManager.save(customer)
+        dataManager.remove(customer)
+
+        then:
+        conditions.eventually {
+            def events = listener.events.findAll { it.entityId.value == customer.id }
+            assert events*.type == [EntityChangedEvent.Type.CREATED, EntityChangedEvent.Type.UPDATED, EntityChangedEvent.Type.DELETED]
+            assert events[1].changes.isChanged('name')
+            assert events[1].changes.getOldValue('name') == null
+        }
+
+        and:
+        conditions.eventually {
+            assert jdbc.queryForObject('select count(*) from ECLIPSELINK_EVENT_OUTBOX', Integer) == 0
+        }
+    }
+
+    def "events of one transaction are delivered in a batch"() {
+        when:
+        def saved = transaction.execute {
+            (1..3).collect {
+                def customer = dataManager.create(Customer)
+                customer.name = "c$it"
+                dataManager.save(customer)
+            }
+        }
+
+        then:
+        conditions.eventually {
+            assert listener.events*.entityId*.value.containsAll(saved*.id)
+        }
+        listener.batchSizes.sum() == listener.events.size()
+    }
+
+    def "events are not written if transaction is rolled back"() {
+        def customer = dataManager.create(Customer)
+        customer.name = 'c1'
+
+        when:
+        transaction.executeWithoutResult { status ->
+            dataManager.save(customer)
+            status.setRollbackOnly()
+        }
+
+        then:
+        jdbc.queryForObject('select count(*) from ECLIPSELINK_EVENT_OUTBOX', Integer) == 0
+        listener.events.isEmpty()
+    }
+
+    def "failed delivery is retried"() {
+        listener.failures.set(1)
+        def customer = dataManager.create(Customer)
+        customer.name = 'c1'
+
+        when:
+        dataManager.save(customer)
+
+        then:
+        conditions.eventually {
+            assert listener.events*.entityId*.value == [customer.id]
+            assert listener.failures.get() == 0
+        }
+    }
+
+    def "rows of all partitions are delivered regardless of the number of workers"() {
+        def customer = dataManager.create(Customer)
+        customer.name = 'c1'
+        customer = dataManager.save(customer)
+
+        when: "a row is left in the last partition, e.g. by an instance with more workers"
+        jdbc.update('insert into ECLIPSELINK_EVENT_OUTBOX (ENTITY_NAME, ENTITY_ID, TYPE_, PARTITION_NUM, ATTEMPTS, DEAD_LETTER) ' +
+                'values (?, ?, ?, ?, 0, false)',
+                'sales_Customer', idSerialization.idToString(Id.of(customer)),
+                EntityChangedEvent.Type.UPDATED.name(), EntityChangedEventOutbox.PARTITION_COUNT - 1)
+
+        then:
+        conditions.eventually {
+            assert listener.events.find { it.entityId.value == customer.id && it.type == EntityChangedEvent.Type.UPDATED }
+            assert jdbc.queryForObject('select count(*) from ECLIPSELINK_EVENT_OUTBOX', Integer) == 0
+        }
+    }
+
+    def "failed event is marked as dead letter without blocking events of other instances"() {
+        def failing = dataManager.create(Customer)
+        failing.name = 'c1'
+        def other = dataManager.create(Customer)
+        other.name = 'c2'
+        listener.failingEntityIds.add(failing.id)
+
+        when:
+        transaction.executeWithoutResult {
+            dataManager.save(failing, other)
+        }
+
+        then:
+        conditions.eventually {
+            assert listener.events*.entityId*.value == [other.id]
+            def rows = jdbc.queryForList('select ENTITY_ID, ATTEMPTS, DEAD_LETTER from ECLIPSELINK_EVENT_OUTBOX')
+            assert rows.size() == 1
+            assert rows[0].ENTITY_ID == idSerialization.idToString(Id.of(failing))
+            assert rows[0].ATTEMPTS == 2
+            assert rows[0].DEAD_LETTER == true
+        }
+        jdbc.queryForObject('select ERROR_ from ECLIPSELINK_EVENT_OUTBOX', String).contains('Test entity delivery failure')
+    }
+
+    def "later events of an instance wait for its failed event"() {
+        def customer = dataManager.create(Customer)
+        customer.name = 'c1'
+        listener.failures.set(2)
+
+        when: "the batch and the single delivery of the first event fail"
+        customer = dataManager.save(customer)
+        transaction.executeWithoutResult {
+            customer.name = 'c2'
+            customer = dataManager.save(customer)
+        }
+
+        then: "events are delivered in the order of changes on the next attempt"
+        conditions.eventually {
+            def events = listener.events.findAll { it.entityId.value == customer.id }
+            assert events*.type == [EntityChangedEvent.Type.CREATED, EntityChangedEvent.Type.UPDATED]
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package query_cache
+
+import io.jmix.core.DataManager
+import io.jmix.data.PersistenceHints
+import io.jmix.eclipselink.impl.entitycache.QueryCache
+import io.jmix.eclipselink.impl.entitycache.QueryCacheManager
+import jakarta.persistence.EntityManagerFactory
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.beans.factory.annotation.Qualifier
+import test_support.DataSpec
+import test_support.entity.query_cache.CachedItem
+
+class QueryCacheHydrationTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    QueryCache queryCache
+
+    @Autowired
+    QueryCacheManager queryCacheManager
+
+    @Autowired
+    @Qualifier("entityManagerFactory")
+    EntityManagerFactory entityManagerFactory
+
+    void setup() {
+        ['c', 'a', 'b'].each { name ->
+            def item = dataManager.create(CachedItem)
+            item.name = name
+            dataManager.save(item)
+        }
+        entityManagerFactory.cache.evictAll()
+        queryCache.invalidateAll()
+        queryCacheManager.resetStatistics()
+    }
+
+    void cleanup() {
+        queryCache.invalidateAll()
+        entityManagerFactory.cache.evictAll()
+        jdbc.update('delete from TEST_QUERY_CACHE_CACHED_ITEM')
+    }
+
+    def "cached result is loaded in cached order"() {
+        when: "query is executed first time"
+        def first = loadItems()
+
+        then: "it is a miss"
+        first*.name == ['a', 'b', 'c']
+        queryCacheManager.missCount == 1
+        queryCacheManager.hitCount + queryCacheManager.partialHitCount == 0
+
+        when: "query is executed again"
+        def second = loadItems()
+
+        then: "result is taken from the cache in the same order and all entities are in the entity cache"
+        second*.name == ['a', 'b', 'c']
+        second*.id == first*.id
+        queryCacheManager.missCount == 1
+        queryCacheManager.hitCount == 1
+        queryCacheManager.partialHitCount == 0
+    }
+
+    def "entity evicted from entity cache is loaded and keeps its position"() {
+        def first = loadItems()
+
+        when: "one of cached entities is evicted from the entity cache"
+        entityManagerFactory.cache.evict(CachedItem, first[1].id)
+        def second = loadItems()
+
+        then: "it is a partial hit and the result keeps the cached order"
+        queryCacheManager.missCount == 1
+        queryCacheManager.hitCount == 0
+        queryCacheManager.partialHitCount == 1
+        second*.name == ['a', 'b', 'c']
+        second*.id == first*.id
+    }
+
+    def "single entity missing in entity cache is a partial hit"() {
+        def first = loadItems("where e.name = 'b'")
+
+        when:
+        entityManagerFactory.cache.evictAll()
+        def second = loadItems("where e.name = 'b'")
+
+        then:
+        queryCacheManager.hitCount == 0
+        queryCacheManager.partialHitCount == 1
+        second*.id == first*.id
+    }
+
+    private List<CachedItem> loadItems(String where = '') {
+        dataManager.load(CachedItem)
+                .query("select e from test_query_cache_CachedItem e $where order by e.name")
+                .hint(PersistenceHints.CACHEABLE, true)
+                .list()
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package query_cache
+
+import io.jmix.eclipselink.impl.entitycache.QueryCache
+import io.jmix.eclipselink.impl.entitycache.QueryKey
+import io.jmix.eclipselink.impl.entitycache.QueryResult
+import io.jmix.eclipselink.impl.entitycache.StandardQueryCache
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory
+import test_support.DataSpec
+
+class QueryCacheInvalidationTest extends DataSpec {
+
+    @Autowired
+    QueryCache queryCache
+
+    @Autowired
+    AutowireCapableBeanFactory beanFactory
+
+    void cleanup() {
+        queryCache.invalidateAll()
+    }
+
+    def "result is not returned after related type is invalidated"() {
+        def customersKey = createKey('select e from test_Customer e')
+        def ordersKey = createKey('select e from test_Order e join e.customer c')
+
+        queryCache.put(customersKey, new QueryResult([1, 2], 'test_Customer', ['test_Customer'] as Set))
+        queryCache.put(ordersKey, new QueryResult([3], 'test_Order', ['test_Order', 'test_Customer'] as Set))
+
+        when:
+        queryCache.invalidate('test_Order')
+
+        then:
+        queryCache.get(customersKey).result == [1, 2]
+        queryCache.get(ordersKey) == null
+
+        when:
+        queryCache.invalidate(['test_Customer'] as Set)
+
+        then:
+        queryCache.get(customersKey) == null
+    }
+
+    def "result stored after invalidation is returned"() {
+        def key = createKey('select e from test_Customer e')
+
+        when:
+        queryCache.invalidate('test_Customer')
+        queryCache.put(key, new QueryResult([1], 'test_Customer', ['test_Customer'] as Set))
+
+        then:
+        queryCache.get(key).result == [1]
+    }
+
+    def "result stamped before invalidation is not returned"() {
+        def key = createKey('select e from test_Customer e')
+
+        when:
+        def generations = queryCache.getGenerations(['test_Customer'] as Set)
+        queryCache.invalidate('test_Customer')
+        queryCache.put(key, new QueryResult([1], 'test_Customer', ['test_Customer'] as Set, null, generations))
+
+        then:
+        queryCache.get(key) == null
+    }
+
+    def "invalidation is visible to another instance sharing the cache"() {
+        def key = createKey('select e from test_Customer e')
+        def anotherInstance = beanFactory.createBean(StandardQueryCache)
+
+        when:
+        queryCache.put(key, new QueryResult([1], 'test_Customer', ['test_Customer'] as Set))
+
+        then:
+        anotherInstance.get(key).result == [1]
+
+        when:
+        anotherInstance.invalidate('test_Customer')
+
+        then:
+        queryCache.get(key) == null
+    }
+
+    private static QueryKey createKey(String queryString) {
+        return new QueryKey(queryString, 0, 0, true, false, null, null, [:])
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package query_cache
+
+import io.jmix.eclipselink.impl.entitycache.QueryCache
+import io.jmix.eclipselink.impl.entitycache.QueryKey
+import io.jmix.eclipselink.impl.entitycache.QueryResult
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+import org.springframework.test.context.ContextConfiguration
+import org.springframework.test.context.TestPropertySource
+import test_support.DataSpec
+import test_support.TestQueryCachePartitionProvider
+
+@ContextConfiguration(classes = PartitionTestConfiguration)
+@TestPropertySource(properties = ["jmix.eclipselink.query-cache-partition-max-size = 10"])
+class QueryCachePartitionTest extends DataSpec {
+
+    @Autowired
+    QueryCache queryCache
+    @Autowired
+    TestQueryCachePartitionProvider partitionProvider
+
+    void cleanup() {
+        queryCache.invalidateAll()
+        partitionProvider.resetPartition()
+    }
+
+    def "results of one partition are not evicted by another partition"() {
+        def key = createKey("select e from test_Customer e")
+
+        when:
+        partitionProvider.partition = 'tenant1'
+        queryCache.put(key, new QueryResult([1], 'test_Customer', ['test_Customer'] as Set))
+
+        partitionProvider.partition = 'tenant2'
+        100.times {
+            queryCache.put(createKey("select e from test_Customer e where e.name = 'name$it'"),
+                    new QueryResult([2], 'test_Customer', ['test_Customer'] as Set))
+        }
+        def tenant2Result = queryCache.get(key)
+
+        partitionProvider.partition = 'tenant1'
+        def tenant1Result = queryCache.get(key)
+
+        then:
+        tenant2Result == null
+        tenant1Result.result == [1]
+        queryCache.size() <= 11
+
+        queryCache.partitionStats['tenant1'].hitCount() == 1
+        queryCache.partitionStats['tenant2'].missCount() == 1
+        queryCache.partitionStats['tenant2'].evictionCount() >= 90
+    }
+
+    def "partitioned results are not stored in the shared cache"() {
+        def key = createKey("select e from test_Customer e")
+
+        when:
+        queryCache.put(key, new QueryResult([1], 'test_Customer', ['test_Customer'] as Set))
+
+        then:
+        queryCache.queries.get(key) == null
+        queryCache.size() == 1
+        queryCache.get(key).result == [1]
+    }
+
+    def "invalidation applies to all partitions"() {
+        def key = createKey("select e from test_Customer e")
+
+        when:
+        partitionProvider.partition = 'tenant1'
+        queryCache.put(key, new QueryResult([1], 'test_Customer', ['test_Customer'] as Set))
+        partitionProvider.partition = 'tenant2'
+        queryCache.put(key, new QueryResult([2], 'test_Customer', ['test_Customer'] as Set))
+
+        queryCache.invalidate('test_Customer')
+
+        then:
+        queryCache.get(key) == null
+
+        when:
+        partitionProvider.partition = 'tenant1'
+
+        then:
+        queryCache.get(key) == null
+    }
+
+    private static QueryKey createKey(String queryString) {
+        return new QueryKey(queryString, 0, 0, true, false, null, null, [:])
+    }
+
+    @Configuration
+    static class PartitionTestConfiguration {
+
+        @Bean
+        TestQueryCachePartitionProvider testQueryCachePartitionProvider() {
+            return new TestQueryCachePartitionProvider()
+        }
+    }
+}
@@ -139,6 +139,11 @@ public class DataTestConfiguration {
         return new TestJpqlSortExpressionProvider();
     }
 
+    @Bean
+    TestTenantCriteriaProvider testTenantCriteriaProvider() {
+        return new TestTenantCriteriaProvider();
+    }
+
     @Bean
     public CacheManager cacheManager() {
         return new ConcurrentMapCacheManager();
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test_support;
+
+import io.jmix.eclipselink.impl.entitycache.QueryCachePartitionProvider;
+
+/**
+ * Partitions the query cache by a partition set in tests, like a multitenancy add-on does by tenant.
+ */
+public class TestQueryCachePartitionProvider implements QueryCachePartitionProvider {
+
+    public static final String DEFAULT_PARTITION = "tenant1";
+
+    protected volatile String partition = DEFAULT_PARTITION;
+
+    @Override
+    public String getCurrentPartition() {
+        return partition;
+    }
+
+    public void setPartition(String partition) {
+        this.partition = partition;
+    }
+
+    public void resetPartition() {
+        this.partition = DEFAULT_PARTITION;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package test_support;
+
+import io.jmix.eclipselink.persistence.AdditionalCriteriaProvider;
+import test_support.entity.bulk.BulkItem;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Restricts {@link BulkItem} instances to the current tenant, like a multitenancy add-on does.
+ */
+public class TestTenantCriteriaProvider implements AdditionalCriteriaProvider {
+
+    public static final String DEFAULT_TENANT = "tenant1";
+
+    protected String tenant = DEFAULT_TENANT;
+
+    @Override
+    public boolean requiresAdditionalCriteria(Class<?> entityClass) {
+        return BulkItem.class.isAssignableFrom(entityClass);
+    }
+
+    @Override
+    public String getAdditionalCriteria(Class<?> entityClass) {
+        return "this.tenant = :testTenant";
+    }
+
+    @Override
+    public Map<String, Object> getCriteriaParameters() {
+        return Collections.singletonMap("testTenant", tenant);
+    }
+
+    public void setTenant(String tenant) {
+        this.tenant = tenant;
+    }
+
+    public void resetTenant() {
+        this.tenant = DEFAULT_TENANT;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package test_support.listeners;
+
+import io.jmix.core.event.EntityChangedEvent;
+import io.jmix.eclipselink.outbox.EntityChangedEventOutboxListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component("test_TestOutboxListener")
+public class TestOutboxListener implements EntityChangedEventOutboxListener {
+
+    public List<EntityChangedEvent<?>> events = new CopyOnWriteArrayList<>();
+
+    public List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    public AtomicInteger failures = new AtomicInteger();
+
+    public Set<Object> failingEntityIds = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void onEntitiesChanged(List<EntityChangedEvent<?>> events) {
+        if (failures.getAndUpdate(value -> Math.max(value - 1, 0)) > 0) {
+            throw new RuntimeException("Test delivery failure");
+        }
+        if (events.stream().anyMatch(event -> failingEntityIds.contains(event.getEntityId().getValue()))) {
+            throw new RuntimeException("Test entity delivery failure");
+        }
+        batchSizes.add(events.size());
+        this.events.addAll(events);
+    }
+
+    public void clear() {
+        events.clear();
+        batchSizes.clear();
+        failures.set(0);
+        failingEntityIds.clear();
+    }
+}
@@ -120,6 +120,11 @@ public class DynAttrMetaProperty extends MetadataObjectImpl implements MetaPrope
         return ownerMetaClass.getStore();
     }
 
+    @Override
+    public int getOrdinal() {
+        return -1;
+    }
+
     //package-local methods for transient attributes filling
     String getOwnerMetaClassName() {
         return ownerMetaClassName;
@@ -17,6 +17,7 @@
 package io.jmix.email;
 
 import io.jmix.core.annotation.JmixModule;
+import io.jmix.core.concurrent.TaskExecutorFactory;
 import io.jmix.data.DataConfiguration;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.annotation.Bean;
@@ -24,7 +25,6 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.core.task.TaskExecutor;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @ComponentScan
@@ -34,11 +34,7 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 public class EmailConfiguration {
 
     @Bean("mailSendTaskExecutor")
-    public TaskExecutor taskExecutor() {
-        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
-        threadPoolTaskExecutor.setCorePoolSize(5);
-        threadPoolTaskExecutor.setMaxPoolSize(10);
-        threadPoolTaskExecutor.setQueueCapacity(200);
-        return threadPoolTaskExecutor;
+    public TaskExecutor taskExecutor(TaskExecutorFactory taskExecutorFactory) {
+        return taskExecutorFactory.create("MailSender-", 10, 200);
     }
 }
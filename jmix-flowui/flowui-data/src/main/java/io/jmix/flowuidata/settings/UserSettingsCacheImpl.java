@@ -16,22 +16,40 @@
 
 package io.jmix.flowuidata.settings;
 
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.server.ServiceInitEvent;
+import com.vaadin.flow.server.SessionDestroyEvent;
+import com.vaadin.flow.server.VaadinServiceInitListener;
 import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.shared.Registration;
 import io.jmix.core.common.util.Preconditions;
+import io.jmix.core.security.CurrentAuthentication;
+import io.jmix.core.security.SystemAuthenticator;
 import io.jmix.flowui.exception.IllegalConcurrentAccessException;
 import io.jmix.flowui.settings.UserSettingsCache;
 import io.jmix.flowui.settings.UserSettingsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
+import java.io.Serializable;
+import java.util.*;
 
+/**
+ * Caches settings of the current user in the {@link VaadinSession}.
+ * <p>
+ * All settings of the user are loaded by a single {@link UserSettingsService#loadAll()} call on the first access,
+ * so absent settings are not requested from the store again. If the service cannot load all settings at once,
+ * each setting is loaded by {@link UserSettingsService#load(String)} on the first access to it. Put and deleted settings are collected and written
+ * by a single {@link UserSettingsService#saveAll(Map, Collection)} call before the response to the current request
+ * is sent to the client, or immediately if there is no current UI or it is closing. Changes left unwritten
+ * because the UI has been detached or the session has been destroyed before the response are written at that moment.
+ * Changes stay pending if writing fails and are written by the next flush.
+ */
 @Component("flowui_UserSettingsCacheImpl")
-public class UserSettingsCacheImpl implements UserSettingsCache {
+public class UserSettingsCacheImpl implements UserSettingsCache, VaadinServiceInitListener {
 
     private static final Logger log = LoggerFactory.getLogger(UserSettingsCacheImpl.class);
 
@@ -39,31 +57,65 @@ public class UserSettingsCacheImpl implements UserSettingsCache {
 
     protected UserSettingsService userSettingsService;
 
+    @Autowired
+    protected CurrentAuthentication currentAuthentication;
+
+    @Autowired
+    protected SystemAuthenticator systemAuthenticator;
+
     public UserSettingsCacheImpl(UserSettingsService userSettingsService) {
         this.userSettingsService = userSettingsService;
     }
 
-    @Nullable
-    @Override
-    public String get(String key) {
-        Preconditions.checkNotNullArgument(key);
+    /**
+     * Settings of a user stored in the session.
+     */
+    protected static class UserSettings implements Serializable {
 
-        Map<String, Optional<String>> settings = getCache();
-        Optional<String> cached = settings.getOrDefault(key, Optional.empty());
+        private static final long serialVersionUID = -2594356237536446873L;
 
-        if (cached.isPresent()) {
-            String value = cached.get();
+        /**
+         * Loaded settings of the user, null until loaded. Deleted settings are kept with null values.
+         */
+        protected Map<String, String> values;
 
-            log.debug("Got from cache by key: '{}', value: '{}'", key, value);
+        /**
+         * Whether {@link #values} contain all settings of the user.
+         */
+        protected boolean complete;
 
-            return value;
+        protected Map<String, String> pendingSaves = new LinkedHashMap<>();
+        protected Set<String> pendingDeletes = new LinkedHashSet<>();
+
+        /**
+         * User the settings belong to, used to write changes when the user is not authenticated in the current thread.
+         */
+        protected String username;
+
+        protected boolean flushScheduled;
+        protected Registration detachRegistration;
+
+        protected boolean hasPendingChanges() {
+            return !pendingSaves.isEmpty() || !pendingDeletes.isEmpty();
         }
+    }
 
-        String value = userSettingsService.load(key).orElse(null);
+    @Nullable
+    @Override
+    public String get(String key) {
+        Preconditions.checkNotNullArgument(key);
+
+        UserSettings settings = getCache();
+        if (settings.values == null) {
+            loadSettings(settings);
+        }
+        if (!settings.complete && !settings.values.containsKey(key)) {
+            settings.values.put(key, userSettingsService.load(key).orElse(null));
+        }
 
-        settings.put(key, Optional.ofNullable(value));
+        String value = settings.values.get(key);
 
-        log.debug("Cache does not contain key: '{}', loaded from store: '{}'", key, value);
+        log.debug("Got from cache by key: '{}', value: '{}'", key, value);
 
         return value;
     }
@@ -72,9 +124,14 @@ public class UserSettingsCacheImpl implements UserSettingsCache {
     public void put(String key, @Nullable String value) {
         Preconditions.checkNotNullArgument(key);
 
-        getCache().put(key, Optional.ofNullable(value));
+        UserSettings settings = getCache();
+        if (settings.values != null) {
+            settings.values.put(key, value);
+        }
+        settings.pendingDeletes.remove(key);
+        settings.pendingSaves.put(key, value);
 
-        userSettingsService.save(key, value);
+        scheduleFlush(settings);
 
         log.debug("Put key: '{}', value: '{}'", key, value);
     }
@@ -83,13 +140,23 @@ public class UserSettingsCacheImpl implements UserSettingsCache {
     public void delete(String key) {
         Preconditions.checkNotNullArgument(key);
 
-        getCache().put(key, Optional.empty());
+        UserSettings settings = getCache();
+        if (settings.values != null) {
+            settings.values.put(key, null);
+        }
+        settings.pendingSaves.remove(key);
+        settings.pendingDeletes.add(key);
 
-        userSettingsService.delete(key);
+        scheduleFlush(settings);
 
         log.debug("key: '{}' is deleted", key);
     }
 
+    @Override
+    public void flush() {
+        flush(getCache());
+    }
+
     @Override
     public void clear() {
         VaadinSession session = VaadinSession.getCurrent();
@@ -97,23 +164,117 @@ public class UserSettingsCacheImpl implements UserSettingsCache {
             throw new IllegalConcurrentAccessException("Illegal access to settings client from background thread");
         }
 
+        if (session.getAttribute(ATTRIBUTE_NAME) != null) {
+            flush();
+        }
         session.setAttribute(ATTRIBUTE_NAME, null);
 
         log.debug("Cache is cleared");
     }
 
-    protected Map<String, Optional<String>> getCache() {
+    protected void loadSettings(UserSettings settings) {
+        Map<String, String> loaded = userSettingsService.loadAll();
+        Map<String, String> values = loaded != null ? new HashMap<>(loaded) : new HashMap<>();
+
+        // changes not written yet override the loaded values
+        values.putAll(settings.pendingSaves);
+        settings.pendingDeletes.forEach(key -> values.put(key, null));
+
+        settings.values = values;
+        settings.complete = loaded != null;
+
+        log.debug("Loaded {} settings from store", values.size());
+    }
+
+    /**
+     * Schedules writing of pending changes before the response to the current request. If the UI is detached before
+     * the response, the changes are written on detach.
+     */
+    protected void scheduleFlush(UserSettings settings) {
+        UI ui = UI.getCurrent();
+        if (ui == null || ui.isClosing() || !ui.isAttached()) {
+            flush(settings);
+            return;
+        }
+
+        if (!settings.flushScheduled) {
+            settings.flushScheduled = true;
+            if (settings.username == null && currentAuthentication.isSet()) {
+                settings.username = currentAuthentication.getUser().getUsername();
+            }
+            ui.beforeClientResponse(ui, context -> flush(settings));
+            settings.detachRegistration = ui.addDetachListener(event -> flushOnClose(settings));
+        }
+    }
+
+    protected void flush(UserSettings settings) {
+        settings.flushScheduled = false;
+        if (settings.detachRegistration != null) {
+            settings.detachRegistration.remove();
+            settings.detachRegistration = null;
+        }
+
+        if (!settings.hasPendingChanges()) {
+            return;
+        }
+
+        Map<String, String> saves = new LinkedHashMap<>(settings.pendingSaves);
+        Set<String> deletes = new LinkedHashSet<>(settings.pendingDeletes);
+
+        userSettingsService.saveAll(saves, deletes);
+
+        // cleared only after successful saving, so failed changes are written by the next flush
+        settings.pendingSaves.clear();
+        settings.pendingDeletes.clear();
+
+        log.debug("Flushed {} saved and {} deleted settings", saves.size(), deletes.size());
+    }
+
+    /**
+     * Writes pending changes when the UI is detached or the session is destroyed. The user may be not authenticated
+     * in the current thread at that moment, e.g. after logout.
+     */
+    protected void flushOnClose(UserSettings settings) {
+        try {
+            if (settings.username == null
+                    || (currentAuthentication.isSet()
+                    && settings.username.equals(currentAuthentication.getUser().getUsername()))) {
+                flush(settings);
+            } else {
+                systemAuthenticator.runWithUser(settings.username, () -> flush(settings));
+            }
+        } catch (RuntimeException e) {
+            log.error("Unable to save settings of user '{}'", settings.username, e);
+        }
+    }
+
+    @Override
+    public void serviceInit(ServiceInitEvent event) {
+        event.getSource().addSessionDestroyListener(this::onSessionDestroy);
+    }
+
+    protected void onSessionDestroy(SessionDestroyEvent event) {
+        UserSettings settings = (UserSettings) event.getSession().getAttribute(ATTRIBUTE_NAME);
+        if (settings != null && settings.hasPendingChanges()) {
+            flushOnClose(settings);
+        }
+    }
+
+    protected UserSettings getCache() {
         VaadinSession session = VaadinSession.getCurrent();
         if (session == null || !session.hasLock()) {
             throw new IllegalConcurrentAccessException("Illegal access to settings client from background thread");
         }
 
-        @SuppressWarnings("unchecked")
-        Map<String, Optional<String>> settings = (Map<String, Optional<String>>) session.getAttribute(ATTRIBUTE_NAME);
+        UserSettings settings = (UserSettings) session.getAttribute(ATTRIBUTE_NAME);
         if (settings == null) {
-            settings = new HashMap<>();
+            settings = createUserSettings();
             session.setAttribute(ATTRIBUTE_NAME, settings);
         }
         return settings;
     }
+
+    protected UserSettings createUserSettings() {
+        return new UserSettings();
+    }
 }
@@ -33,8 +33,7 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 @Component("flowui_UserSettingsServiceImpl")
 public class UserSettingsServiceImpl implements UserSettingsService {
@@ -79,6 +78,21 @@ public class UserSettingsServiceImpl implements UserSettingsService {
         return Optional.ofNullable(value);
     }
 
+    @Override
+    public Map<String, String> loadAll() {
+        Map<String, String> values = transaction.execute(status -> {
+            Map<String, String> result = new HashMap<>();
+            for (UiSetting us : findAllUserSettings()) {
+                result.put(us.getKey(), us.getValue());
+            }
+            return result;
+        });
+
+        log.trace("Loaded {} settings", values.size());
+
+        return values;
+    }
+
     @Override
     public void save(String key, @Nullable String value) {
         Preconditions.checkNotNullArgument(key);
@@ -110,6 +124,49 @@ public class UserSettingsServiceImpl implements UserSettingsService {
         });
     }
 
+    @Override
+    public void saveAll(Map<String, String> values, Collection<String> deletedKeys) {
+        Preconditions.checkNotNullArgument(values);
+        Preconditions.checkNotNullArgument(deletedKeys);
+
+        if (values.isEmpty() && deletedKeys.isEmpty()) {
+            return;
+        }
+
+        transaction.executeWithoutResult(status -> {
+            Set<String> keys = new HashSet<>(values.keySet());
+            keys.addAll(deletedKeys);
+
+            Map<String, UiSetting> existing = new HashMap<>();
+            for (UiSetting us : findUserSettings(keys)) {
+                existing.putIfAbsent(us.getKey(), us);
+            }
+
+            String username = authentication.getUser().getUsername();
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                UiSetting us = existing.get(entry.getKey());
+                if (us == null) {
+                    us = metadata.create(UiSetting.class);
+                    us.setUsername(username);
+                    us.setKey(entry.getKey());
+                    us.setValue(entry.getValue());
+                    entityEventManager.publishEntitySavingEvent(us, true); //workaround for jmix-framework/jmix#1069
+                    entityManager.persist(us);
+                } else {
+                    us.setValue(entry.getValue());
+                }
+            }
+            for (String key : deletedKeys) {
+                UiSetting us = existing.get(key);
+                if (us != null && !values.containsKey(key)) {
+                    entityManager.remove(us);
+                }
+            }
+        });
+
+        log.trace("Saved {} and deleted {} settings", values.size(), deletedKeys.size());
+    }
+
     @Override
     public void copy(String fromUsername, String toUsername) {
         Preconditions.checkNotNullArgument(fromUsername);
@@ -149,4 +206,19 @@ public class UserSettingsServiceImpl implements UserSettingsService {
 
         return result.isEmpty() ? null : result.get(0);
     }
+
+    protected List<UiSetting> findUserSettings(Collection<String> keys) {
+        return entityManager.createQuery(
+                        "select s from flowui_UiSetting s where s.username = ?1 and s.key in ?2",
+                        UiSetting.class)
+                .setParameter(1, authentication.getUser().getUsername())
+                .setParameter(2, keys)
+                .getResultList();
+    }
+
+    protected List<UiSetting> findAllUserSettings() {
+        return entityManager.createQuery("select s from flowui_UiSetting s where s.username = ?1", UiSetting.class)
+                .setParameter(1, authentication.getUser().getUsername())
+                .getResultList();
+    }
 }
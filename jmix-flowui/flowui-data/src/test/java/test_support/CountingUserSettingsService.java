@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package test_support;
+
+import io.jmix.flowui.settings.UserSettingsService;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delegates to the given service and counts calls reading or writing the store.
+ */
+public class CountingUserSettingsService implements UserSettingsService {
+
+    protected final UserSettingsService delegate;
+
+    protected final AtomicInteger loadCount = new AtomicInteger();
+    protected final AtomicInteger saveCount = new AtomicInteger();
+
+    public CountingUserSettingsService(UserSettingsService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Optional<String> load(String key) {
+        loadCount.incrementAndGet();
+        return delegate.load(key);
+    }
+
+    @Override
+    public Map<String, String> loadAll() {
+        loadCount.incrementAndGet();
+        return delegate.loadAll();
+    }
+
+    @Override
+    public void save(String key, @Nullable String value) {
+        saveCount.incrementAndGet();
+        delegate.save(key, value);
+    }
+
+    @Override
+    public void delete(String key) {
+        saveCount.incrementAndGet();
+        delegate.delete(key);
+    }
+
+    @Override
+    public void saveAll(Map<String, String> values, Collection<String> deletedKeys) {
+        saveCount.incrementAndGet();
+        delegate.saveAll(values, deletedKeys);
+    }
+
+    @Override
+    public void copy(String fromUsername, String toUsername) {
+        delegate.copy(fromUsername, toUsername);
+    }
+
+    public int getLoadCount() {
+        return loadCount.get();
+    }
+
+    public int getSaveCount() {
+        return saveCount.get();
+    }
+
+    public void resetCounts() {
+        loadCount.set(0);
+        saveCount.set(0);
+    }
+}
@@ -25,6 +25,7 @@ import io.jmix.data.impl.JmixEntityManagerFactoryBean;
 import io.jmix.data.impl.JmixTransactionManager;
 import io.jmix.data.persistence.DbmsSpecifics;
 import io.jmix.eclipselink.EclipselinkConfiguration;
+import io.jmix.eclipselink.testsupport.StatementCountingDataSource;
 import io.jmix.flowui.FlowuiConfiguration;
 import io.jmix.flowui.settings.UserSettingsCache;
 import io.jmix.flowui.settings.UserSettingsService;
@@ -66,7 +67,7 @@ public class FlowuiDataTestConfiguration {
         dataSource.setUrl("jdbc:hsqldb:mem:testdb");
         dataSource.setUsername("sa");
         dataSource.setPassword("");
-        return dataSource;
+        return new StatementCountingDataSource(dataSource);
     }
 
     @Bean
@@ -111,7 +112,7 @@ public class FlowuiDataTestConfiguration {
     @Bean("test_UserSettingsCache")
     @Primary
     UserSettingsCache userSettingsCache(UserSettingsService userSettingsService) {
-        return new TestUserSettingsCacheImpl(userSettingsService);
+        return new TestUserSettingsCacheImpl(new CountingUserSettingsService(userSettingsService));
     }
 
     @Order(JmixOrder.HIGHEST_PRECEDENCE + 100)
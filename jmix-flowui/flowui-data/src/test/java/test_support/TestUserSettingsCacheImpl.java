@@ -19,25 +19,49 @@ package test_support;
 import io.jmix.flowui.settings.UserSettingsService;
 import io.jmix.flowuidata.settings.UserSettingsCacheImpl;
 
-import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-
 public class TestUserSettingsCacheImpl extends UserSettingsCacheImpl {
 
     public TestUserSettingsCacheImpl(UserSettingsService userSettingsService) {
         super(userSettingsService);
     }
 
-    protected Map<String, Optional<String>> cache = new ConcurrentHashMap<>();
+    protected UserSettings cache = createUserSettings();
+
+    protected boolean writeBehind;
 
     @Override
-    protected Map<String, Optional<String>> getCache() {
+    protected UserSettings getCache() {
         return cache;
     }
 
+    @Override
+    protected void scheduleFlush(UserSettings settings) {
+        if (writeBehind) {
+            super.scheduleFlush(settings);
+        } else {
+            // tests read settings from the store right after closing views
+            flush();
+        }
+    }
+
     @Override
     public void clear() {
-        cache.clear();
+        cache = createUserSettings();
+    }
+
+    public UserSettingsService getUserSettingsService() {
+        return userSettingsService;
+    }
+
+    public void setUserSettingsService(UserSettingsService userSettingsService) {
+        this.userSettingsService = userSettingsService;
+    }
+
+    /**
+     * @param writeBehind whether changes are written before the response to the current request
+     *                    instead of immediately
+     */
+    public void setWriteBehind(boolean writeBehind) {
+        this.writeBehind = writeBehind;
     }
 }
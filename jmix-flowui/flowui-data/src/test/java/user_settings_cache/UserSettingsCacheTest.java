@@ -0,0 +1,230 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package user_settings_cache;
+
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.UI;
+import datagrid_settings.view.DataGridSettingsTestView;
+import io.jmix.eclipselink.testsupport.StatementCountingDataSource;
+import io.jmix.flowui.settings.UserSettingsCache;
+import io.jmix.flowui.settings.UserSettingsService;
+import io.jmix.flowui.testassist.FlowuiTestAssistConfiguration;
+import io.jmix.flowui.testassist.UiTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import test_support.AbstractSettingsTest;
+import test_support.CountingUserSettingsService;
+import test_support.FlowuiDataTestConfiguration;
+import test_support.TestUserSettingsCacheImpl;
+
+import java.util.Collection;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@UiTest(viewBasePackages = {"datagrid_settings.view", "test_support.view"})
+@SpringBootTest(classes = {FlowuiDataTestConfiguration.class, FlowuiTestAssistConfiguration.class})
+public class UserSettingsCacheTest extends AbstractSettingsTest {
+
+    @Autowired
+    UserSettingsCache userSettingsCache;
+    @Autowired
+    JdbcTemplate jdbc;
+    @Autowired
+    StatementCountingDataSource dataSource;
+
+    TestUserSettingsCacheImpl testCache;
+    CountingUserSettingsService countingService;
+
+    @BeforeEach
+    public void beforeEach() {
+        testCache = (TestUserSettingsCacheImpl) userSettingsCache;
+        countingService = (CountingUserSettingsService) testCache.getUserSettingsService();
+        countingService.resetCounts();
+    }
+
+    @AfterEach
+    public void afterEach() {
+        testCache.setWriteBehind(false);
+        testCache.setUserSettingsService(countingService);
+        jdbc.update("delete from FLOWUI_UI_SETTING");
+        userSettingsCache.clear();
+    }
+
+    @Test
+    @DisplayName("Settings are loaded from store once for repeatedly opened view")
+    @SuppressWarnings("OptionalGetWithoutIsPresent")
+    public void loadSettingsOnceTest() {
+        String viewId = null;
+        for (int i = 0; i < 5; i++) {
+            DataGridSettingsTestView view = navigateTo(DataGridSettingsTestView.class);
+            viewId = view.getId().get();
+            view.closeWithDefaultAction();
+        }
+
+        assertEquals(1, countingService.getLoadCount());
+        assertNotNull(userSettingsCache.get(viewId));
+    }
+
+    @Test
+    @DisplayName("Absent settings are not requested from store again")
+    public void absentSettingsTest() {
+        assertNull(userSettingsCache.get("absent-setting"));
+
+        dataSource.resetStatementCount();
+        for (int i = 0; i < 5; i++) {
+            assertNull(userSettingsCache.get("absent-setting"));
+        }
+
+        assertEquals(0, dataSource.getStatementCount());
+        assertEquals(1, countingService.getLoadCount());
+    }
+
+    @Test
+    @DisplayName("Changes are written to store by a single call before response to client")
+    public void writeBehindTest() {
+        testCache.setWriteBehind(true);
+        assertNull(userSettingsCache.get("setting-1"));
+
+        dataSource.resetStatementCount();
+        userSettingsCache.put("setting-1", "value-1");
+        userSettingsCache.put("setting-2", "value-2");
+        userSettingsCache.put("setting-3", "value-3");
+        userSettingsCache.delete("setting-3");
+
+        assertEquals(0, dataSource.getStatementCount());
+        assertEquals("value-1", userSettingsCache.get("setting-1"));
+        assertNull(userSettingsCache.get("setting-3"));
+        assertEquals(0, dataSource.getStatementCount());
+
+        runExecutionsBeforeClientResponse();
+
+        assertTrue(dataSource.getStatementCount() > 0);
+        assertEquals(1, countingService.getSaveCount());
+        assertEquals(2, countSettingsInStore());
+    }
+
+    @Test
+    @DisplayName("Settings of closed view are written to store before response to client")
+    public void writeBehindViewSettingsTest() {
+        testCache.setWriteBehind(true);
+
+        DataGridSettingsTestView view = navigateTo(DataGridSettingsTestView.class);
+        dataSource.resetStatementCount();
+        view.closeWithDefaultAction();
+
+        assertEquals(0, dataSource.getStatementCount());
+        assertEquals(0, countSettingsInStore());
+
+        runExecutionsBeforeClientResponse();
+
+        assertEquals(1, countingService.getSaveCount());
+        assertEquals(1, countSettingsInStore());
+    }
+
+    @Test
+    @DisplayName("Settings are loaded by key if service cannot load all settings")
+    public void loadByKeyTest() {
+        userSettingsCache.put("setting", "value");
+        userSettingsCache.clear();
+
+        CountingUserSettingsService byKeyService = new CountingUserSettingsService(countingService) {
+            @Override
+            public Map<String, String> loadAll() {
+                loadCount.incrementAndGet();
+                return null;
+            }
+        };
+        testCache.setUserSettingsService(byKeyService);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("value", userSettingsCache.get("setting"));
+            assertNull(userSettingsCache.get("absent-setting"));
+        }
+
+        // loadAll() and load() for each key
+        assertEquals(3, byKeyService.getLoadCount());
+    }
+
+    @Test
+    @DisplayName("Deleted settings are removed from store")
+    public void deleteSettingsTest() {
+        userSettingsCache.put("setting", "value");
+        userSettingsCache.delete("setting");
+
+        assertNull(userSettingsCache.get("setting"));
+
+        userSettingsCache.clear();
+
+        assertNull(userSettingsCache.get("setting"));
+        assertEquals(2, countingService.getLoadCount());
+    }
+
+    @Test
+    @DisplayName("Changes are written to store when UI is detached before response to client")
+    public void writeOnDetachTest() {
+        testCache.setWriteBehind(true);
+        userSettingsCache.put("setting", "value");
+
+        assertEquals(0, countSettingsInStore());
+
+        UI ui = UI.getCurrent();
+        ComponentUtil.fireEvent(ui, new DetachEvent(ui));
+
+        assertEquals(1, countingService.getSaveCount());
+        assertEquals(1, countSettingsInStore());
+
+        runExecutionsBeforeClientResponse();
+
+        assertEquals(1, countingService.getSaveCount());
+    }
+
+    @Test
+    @DisplayName("Changes are kept if writing to store fails")
+    public void failedWriteTest() {
+        testCache.setUserSettingsService(new CountingUserSettingsService(countingService) {
+            @Override
+            public void saveAll(Map<String, String> values, Collection<String> deletedKeys) {
+                throw new RuntimeException("Test failure");
+            }
+        });
+
+        assertThrows(RuntimeException.class, () -> userSettingsCache.put("setting", "value"));
+        assertEquals(0, countSettingsInStore());
+
+        testCache.setUserSettingsService(countingService);
+        userSettingsCache.flush();
+
+        assertEquals(1, countSettingsInStore());
+    }
+
+    protected void runExecutionsBeforeClientResponse() {
+        UI.getCurrent().getInternals().getStateTree().runExecutionsBeforeClientResponse();
+    }
+
+    protected int countSettingsInStore() {
+        Integer count = jdbc.queryForObject("select count(*) from FLOWUI_UI_SETTING", Integer.class);
+        return count == null ? 0 : count;
+    }
+}
@@ -51,6 +51,12 @@ public class UiViewProperties {
      */
     boolean reloadUnfetchedAttributesFromLookupViews;
 
+    /**
+     * Maximum number of threads used by {@link io.jmix.flowui.facet.DataLoadCoordinator} to perform data requests
+     * in parallel.
+     */
+    int parallelDataLoadingThreadsCount;
+
     public UiViewProperties(
             String closeShortcut,
             String saveShortcut,
@@ -59,7 +65,8 @@ public class UiViewProperties {
             @DefaultValue("DEFAULT") String validationNotificationType,
             @DefaultValue("BOTTOM_END") String validationNotificationPosition,
             @DefaultValue("3000") Integer validationNotificationDuration,
-            @DefaultValue("true") boolean reloadUnfetchedAttributesFromLookupViews
+            @DefaultValue("true") boolean reloadUnfetchedAttributesFromLookupViews,
+            @DefaultValue("20") int parallelDataLoadingThreadsCount
     ) {
         this.closeShortcut = closeShortcut;
         this.saveShortcut = saveShortcut;
@@ -69,6 +76,7 @@ public class UiViewProperties {
         this.validationNotificationPosition = validationNotificationPosition;
         this.validationNotificationDuration = validationNotificationDuration;
         this.reloadUnfetchedAttributesFromLookupViews = reloadUnfetchedAttributesFromLookupViews;
+        this.parallelDataLoadingThreadsCount = parallelDataLoadingThreadsCount;
     }
 
     public String getCloseShortcut() {
@@ -114,4 +122,11 @@ public class UiViewProperties {
     public boolean isReloadUnfetchedAttributesFromLookupViews() {
         return reloadUnfetchedAttributesFromLookupViews;
     }
-}
\ No newline at end of file
+
+    /**
+     * @see #parallelDataLoadingThreadsCount
+     */
+    public int getParallelDataLoadingThreadsCount() {
+        return parallelDataLoadingThreadsCount;
+    }
+}
@@ -16,11 +16,11 @@
 
 package io.jmix.flowui.backgroundtask.impl;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.server.VaadinSession;
 import io.jmix.core.TimeSource;
+import io.jmix.core.concurrent.TaskExecutorFactory;
 import io.jmix.core.security.CurrentAuthentication;
 import io.jmix.core.security.SecurityContextHelper;
 import io.jmix.flowui.event.BackgroundTaskUnhandledExceptionEvent;
@@ -64,6 +64,8 @@ public class BackgroundWorkerImpl implements BackgroundWorker {
     protected ApplicationEventPublisher applicationEventPublisher;
     @Autowired
     protected TimeSource timeSource;
+    @Autowired
+    protected TaskExecutorFactory taskExecutorFactory;
 
     protected UiBackgroundTaskProperties properties;
 
@@ -84,16 +86,7 @@ public class BackgroundWorkerImpl implements BackgroundWorker {
             return;
         }
 
-        this.executorService = new ThreadPoolExecutor(
-                properties.getThreadsCount(),
-                properties.getThreadsCount(),
-                10L, TimeUnit.MINUTES,
-                new LinkedBlockingQueue<>(),
-                new ThreadFactoryBuilder()
-                        .setNameFormat(THREAD_NAME_PREFIX + "%d")
-                        .build()
-        );
-        ((ThreadPoolExecutor) this.executorService).allowCoreThreadTimeOut(true);
+        this.executorService = taskExecutorFactory.create(THREAD_NAME_PREFIX, properties.getThreadsCount());
     }
 
     @PreDestroy
@@ -40,6 +40,23 @@ public interface DataLoadCoordinator extends Facet {
      */
     void setComponentPrefix(String value);
 
+    /**
+     * @return whether loaders triggered by the same view event perform their data requests in parallel
+     */
+    boolean isParallelLoading();
+
+    /**
+     * Sets whether loaders triggered by the same view event perform their data requests in parallel.
+     * <p>
+     * In the parallel mode, loaders implementing {@link io.jmix.flowui.model.ConcurrentDataLoader} send their
+     * {@code PreLoadEvent}s and then execute data requests concurrently in background threads with the current
+     * security context. Loaded data is applied to the containers in the UI thread in the order of trigger
+     * registration, so loaders depending on the containers are triggered as in the sequential mode.
+     * <p>
+     * Must be set before adding the triggers.
+     */
+    void setParallelLoading(boolean parallelLoading);
+
     /**
      * Adds trigger on view event.
      *
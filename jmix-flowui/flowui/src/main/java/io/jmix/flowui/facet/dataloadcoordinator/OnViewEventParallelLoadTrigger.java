@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.flowui.facet.dataloadcoordinator;
+
+import com.vaadin.flow.component.ComponentEventListener;
+import io.jmix.flowui.facet.DataLoadCoordinator;
+import io.jmix.flowui.model.ConcurrentDataLoader;
+import io.jmix.flowui.model.DataLoader;
+import io.jmix.flowui.sys.ViewControllerReflectionInspector;
+import io.jmix.flowui.view.View;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Trigger that loads a group of loaders on a view event, performing their data requests in parallel.
+ *
+ * @see DataLoadCoordinator#setParallelLoading(boolean)
+ */
+public class OnViewEventParallelLoadTrigger implements DataLoadCoordinator.Trigger {
+
+    protected final ConcurrentDataLoader loader;
+    protected final Group group;
+
+    public OnViewEventParallelLoadTrigger(ConcurrentDataLoader loader, Group group) {
+        this.loader = loader;
+        this.group = group;
+
+        group.loaders.add(loader);
+    }
+
+    @Override
+    public DataLoader getLoader() {
+        return loader;
+    }
+
+    /**
+     * Loaders triggered by the same view event.
+     */
+    public static class Group {
+
+        protected final ParallelLoadExecutor executor;
+        protected final List<ConcurrentDataLoader> loaders = new ArrayList<>();
+
+        public Group(View<?> view, ViewControllerReflectionInspector reflectionInspector,
+                     ParallelLoadExecutor executor, Class<?> eventClass) {
+            this.executor = executor;
+
+            MethodHandle addListenerMethod = reflectionInspector.getAddListenerMethod(view.getClass(), eventClass);
+            if (addListenerMethod == null) {
+                throw new IllegalStateException("Cannot find addListener method for " + eventClass);
+            }
+
+            try {
+                addListenerMethod.invoke(view, (ComponentEventListener<?>) event -> load());
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException("Unable to add listener for " + eventClass, e);
+            }
+        }
+
+        protected void load() {
+            List<Supplier<Runnable>> requests = new ArrayList<>(loaders.size());
+            for (ConcurrentDataLoader loader : loaders) {
+                Supplier<Runnable> request = loader.prepareLoad();
+                if (request != null) {
+                    requests.add(request);
+                }
+            }
+
+            if (requests.isEmpty()) {
+                return;
+            }
+
+            for (Runnable applyAction : executor.execute(requests)) {
+                applyAction.run();
+            }
+        }
+    }
+}
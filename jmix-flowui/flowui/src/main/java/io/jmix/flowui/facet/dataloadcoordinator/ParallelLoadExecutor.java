@@ -0,0 +1,119 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.flowui.facet.dataloadcoordinator;
+
+import io.jmix.core.concurrent.TaskExecutorFactory;
+import io.jmix.core.security.CurrentAuthentication;
+import io.jmix.flowui.UiViewProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Performs data requests of {@link io.jmix.flowui.model.ConcurrentDataLoader}s in parallel
+ * on behalf of {@link io.jmix.flowui.facet.DataLoadCoordinator}.
+ * <p>
+ * Requests are executed by an executor created by {@link TaskExecutorFactory}. Each request runs with the
+ * security context of the calling thread, so the current user, its tenant, locale and time zone are the same
+ * as in the UI thread. The locale is also exposed through {@link LocaleContextHolder}, because it can be
+ * resolved from the UI session which is not accessible outside the UI thread.
+ */
+@Component("flowui_ParallelLoadExecutor")
+public class ParallelLoadExecutor {
+
+    private static final String THREAD_NAME_PREFIX = "ParallelDataLoading-";
+
+    protected CurrentAuthentication currentAuthentication;
+
+    protected ExecutorService executorService;
+
+    public ParallelLoadExecutor(UiViewProperties viewProperties,
+                                TaskExecutorFactory taskExecutorFactory,
+                                CurrentAuthentication currentAuthentication) {
+        this.currentAuthentication = currentAuthentication;
+        this.executorService = taskExecutorFactory.create(THREAD_NAME_PREFIX,
+                viewProperties.getParallelDataLoadingThreadsCount());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Invokes the given suppliers concurrently with the security context of the calling thread
+     * and waits for all of them to complete.
+     *
+     * @param suppliers data request suppliers returned by {@code ConcurrentDataLoader.prepareLoad()}
+     * @return actions applying the loaded data, in the order of the suppliers
+     */
+    public List<Runnable> execute(List<Supplier<Runnable>> suppliers) {
+        if (suppliers.size() == 1) {
+            return List.of(suppliers.get(0).get());
+        }
+
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        Locale locale = currentAuthentication.isSet() ? currentAuthentication.getLocale() : null;
+
+        List<Future<Runnable>> futures = new ArrayList<>(suppliers.size());
+        for (Supplier<Runnable> supplier : suppliers) {
+            Callable<Runnable> request = () -> {
+                if (locale == null) {
+                    return supplier.get();
+                }
+                LocaleContextHolder.setLocale(locale);
+                try {
+                    return supplier.get();
+                } finally {
+                    LocaleContextHolder.resetLocaleContext();
+                }
+            };
+            futures.add(executorService.submit(DelegatingSecurityContextCallable.create(request, securityContext)));
+        }
+
+        List<Runnable> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<Runnable> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while loading data", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException("Error while loading data", cause);
+        }
+        return results;
+    }
+}
@@ -28,6 +28,9 @@ import io.jmix.flowui.facet.DataLoadCoordinator;
 import io.jmix.flowui.facet.dataloadcoordinator.OnComponentValueChangedLoadTrigger;
 import io.jmix.flowui.facet.dataloadcoordinator.OnContainerItemChangedLoadTrigger;
 import io.jmix.flowui.facet.dataloadcoordinator.OnViewEventLoadTrigger;
+import io.jmix.flowui.facet.dataloadcoordinator.OnViewEventParallelLoadTrigger;
+import io.jmix.flowui.facet.dataloadcoordinator.ParallelLoadExecutor;
+import io.jmix.flowui.model.ConcurrentDataLoader;
 import io.jmix.flowui.model.DataLoader;
 import io.jmix.flowui.model.InstanceContainer;
 import io.jmix.flowui.model.ViewData;
@@ -40,7 +43,9 @@ import io.jmix.flowui.sys.ViewControllerReflectionInspector;
 import org.springframework.lang.Nullable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -54,8 +59,12 @@ public class DataLoadCoordinatorImpl extends AbstractFacet implements DataLoadCo
 
     protected List<Trigger> triggers = new ArrayList<>();
 
+    protected boolean parallelLoading;
+    protected Map<Class<?>, OnViewEventParallelLoadTrigger.Group> parallelLoadGroups = new HashMap<>();
+
     protected ViewControllerReflectionInspector reflectionInspector;
     private final QueryParamValuesManager queryParamValuesManager;
+    protected ParallelLoadExecutor parallelLoadExecutor;
 
     public DataLoadCoordinatorImpl(ViewControllerReflectionInspector reflectionInspector,
                                    QueryParamValuesManager queryParamValuesManager) {
@@ -63,6 +72,13 @@ public class DataLoadCoordinatorImpl extends AbstractFacet implements DataLoadCo
         this.queryParamValuesManager = queryParamValuesManager;
     }
 
+    public DataLoadCoordinatorImpl(ViewControllerReflectionInspector reflectionInspector,
+                                   QueryParamValuesManager queryParamValuesManager,
+                                   ParallelLoadExecutor parallelLoadExecutor) {
+        this(reflectionInspector, queryParamValuesManager);
+        this.parallelLoadExecutor = parallelLoadExecutor;
+    }
+
     @Override
     public void setContainerPrefix(String value) {
         containerPrefix = value;
@@ -73,6 +89,16 @@ public class DataLoadCoordinatorImpl extends AbstractFacet implements DataLoadCo
         componentPrefix = value;
     }
 
+    @Override
+    public boolean isParallelLoading() {
+        return parallelLoading;
+    }
+
+    @Override
+    public void setParallelLoading(boolean parallelLoading) {
+        this.parallelLoading = parallelLoading;
+    }
+
     @Override
     public List<Trigger> getTriggers() {
         return Collections.unmodifiableList(triggers);
@@ -80,7 +106,14 @@ public class DataLoadCoordinatorImpl extends AbstractFacet implements DataLoadCo
 
     @Override
     public void addOnViewEventLoadTrigger(DataLoader loader, Class<?> eventClass) {
-        triggers.add(new OnViewEventLoadTrigger(getOwnerNN(), reflectionInspector, loader, eventClass));
+        if (parallelLoading && parallelLoadExecutor != null && loader instanceof ConcurrentDataLoader) {
+            OnViewEventParallelLoadTrigger.Group group = parallelLoadGroups.computeIfAbsent(eventClass, aClass ->
+                    new OnViewEventParallelLoadTrigger.Group(getOwnerNN(), reflectionInspector,
+                            parallelLoadExecutor, eventClass));
+            triggers.add(new OnViewEventParallelLoadTrigger((ConcurrentDataLoader) loader, group));
+        } else {
+            triggers.add(new OnViewEventLoadTrigger(getOwnerNN(), reflectionInspector, loader, eventClass));
+        }
     }
 
     @Override
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.flowui.model;
+
+import org.springframework.lang.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * Data loader that can perform its data request outside the UI thread.
+ * <p>
+ * Loading is split into two phases. {@link #prepareLoad()} is invoked in the UI thread and returns a supplier
+ * that performs the data request and can be invoked in any thread. The supplier returns an action which applies
+ * the loaded data to the container and must be invoked in the UI thread.
+ *
+ * @see io.jmix.flowui.facet.DataLoadCoordinator#setParallelLoading(boolean)
+ */
+public interface ConcurrentDataLoader extends DataLoader {
+
+    /**
+     * Prepares loading: creates the load context and sends {@code PreLoadEvent}.
+     *
+     * @return supplier that performs the data request and returns an action that applies the loaded data
+     * to the container, or null if loading is not needed or prevented by a {@code PreLoadEvent} listener
+     */
+    @Nullable
+    Supplier<Runnable> prepareLoad();
+}
@@ -61,8 +61,8 @@ public abstract class AbstractComparator<T> implements Comparator<T> {
             } else {
                 c = 0;
                 for (MetaProperty property : namePatternProperties) {
-                    Object v1 = EntityValues.getValue(o1, property.getName());
-                    Object v2 = EntityValues.getValue(o2, property.getName());
+                    Object v1 = EntityValues.getValue(o1, property);
+                    Object v2 = EntityValues.getValue(o2, property);
                     c = compareAsc(v1, v2);
                     if (c != 0)
                         break;
@@ -16,23 +16,36 @@
 
 package io.jmix.flowui.model.impl;
 
+import io.jmix.core.Entity;
+import io.jmix.core.Metadata;
+import io.jmix.core.MetadataTools;
 import io.jmix.core.Sort;
 import io.jmix.core.entity.EntityValues;
 import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.core.metamodel.model.MetaPropertyPath;
 import io.jmix.flowui.model.CollectionContainer;
 import io.jmix.flowui.model.Sorter;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.lang.Nullable;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
+import java.util.*;
 
 /**
  * Base implementation of sorting collection containers.
+ * <p>
+ * Before sorting, a sort key is extracted once for each item and each sort order: the value of the property path,
+ * where entities are replaced by their instance names or by the values of instance name related properties.
+ * Items are then sorted by these keys, so instance names are not built on each comparison. Large containers
+ * are sorted in parallel.
  */
 public abstract class BaseContainerSorter implements Sorter {
 
+    /**
+     * Minimal number of items sorted by {@link Arrays#parallelSort(Object[], Comparator)}
+     */
+    protected static final int PARALLEL_SORT_THRESHOLD = 10_000;
+
     protected BeanFactory beanFactory;
 
     private final CollectionContainer<?> container;
@@ -51,7 +64,6 @@ public abstract class BaseContainerSorter implements Sorter {
         sortInMemory(sort);
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     protected void sortInMemory(Sort sort) {
         List<Sort.Order> orders = sort.getOrders();
 
@@ -59,20 +71,97 @@ public abstract class BaseContainerSorter implements Sorter {
             return;
         }
 
-        List containerItems = new ArrayList<>(container.getItems());
         MetaClass metaClass = container.getEntityMetaClass();
+        MetadataTools metadataTools = beanFactory.getBean(MetadataTools.class);
+
+        MetaPropertyPath[] propertyPaths = new MetaPropertyPath[orders.size()];
+        Comparator<SortableItem> comparator = null;
+        for (int i = 0; i < orders.size(); i++) {
+            Sort.Order order = orders.get(i);
+            propertyPaths[i] = getPropertyPath(order, metaClass);
+
+            SortKeyComparator keyComparator = new SortKeyComparator(
+                    order.getDirection() == Sort.Direction.ASC, metaClass, beanFactory);
+            int index = i;
+            Comparator<SortableItem> orderComparator = (item1, item2) ->
+                    keyComparator.compare(item1.keys[index], item2.keys[index]);
+            comparator = comparator == null ? orderComparator : comparator.thenComparing(orderComparator);
+        }
+
+        List<?> items = container.getItems();
+        SortableItem[] sortableItems = new SortableItem[items.size()];
+        for (int i = 0; i < sortableItems.length; i++) {
+            Object item = items.get(i);
+            Object[] keys = new Object[propertyPaths.length];
+            for (int j = 0; j < propertyPaths.length; j++) {
+                keys[j] = createSortKey(EntityValues.getValueEx(item, propertyPaths[j]), metadataTools);
+            }
+            sortableItems[i] = new SortableItem(item, keys);
+        }
+
+        if (sortableItems.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(sortableItems, comparator);
+        } else {
+            Arrays.sort(sortableItems, comparator);
+        }
 
-        Comparator comparator = createComparator(orders.get(0), metaClass);
-        for (int i = 1; i < orders.size(); i++) {
-            comparator = comparator.thenComparing(createComparator(orders.get(i), metaClass));
+        List<Object> sortedItems = new ArrayList<>(sortableItems.length);
+        for (SortableItem sortableItem : sortableItems) {
+            sortedItems.add(sortableItem.item);
         }
+        setItemsToContainer(sortedItems);
+    }
 
-        containerItems.sort(comparator);
-        setItemsToContainer(containerItems);
+    /**
+     * Converts a property value to a key compared by {@link SortKeyComparator} the same way as
+     * {@link EntityValuesComparator} compares the value itself.
+     */
+    @Nullable
+    protected Object createSortKey(@Nullable Object value, MetadataTools metadataTools) {
+        if (value == null || value instanceof Comparable) {
+            return value;
+        }
+        if (value instanceof Entity) {
+            return createEntitySortKey(value, metadataTools);
+        }
+        return value.toString();
+    }
+
+    /**
+     * Creates a sort key of an entity. Keys of all entities are {@link EntitySortKey} instances, so that
+     * entities with and without instance name related properties are compared consistently.
+     */
+    protected EntitySortKey createEntitySortKey(Object entity, MetadataTools metadataTools) {
+        MetaClass metaClass = beanFactory.getBean(Metadata.class).getClass(entity);
+        Collection<MetaProperty> namePatternProperties = metadataTools.getInstanceNameRelatedProperties(metaClass, true);
+        if (namePatternProperties.isEmpty()) {
+            return new EntitySortKey(new Object[]{metadataTools.getInstanceName(entity)});
+        }
+
+        Object[] key = new Object[namePatternProperties.size()];
+        int i = 0;
+        for (MetaProperty property : namePatternProperties) {
+            Object value = EntityValues.getValue(entity, property);
+            key[i++] = value instanceof Entity ? createEntitySortKey(value, metadataTools) : value;
+        }
+        return new EntitySortKey(key);
+    }
+
+    protected MetaPropertyPath getPropertyPath(Sort.Order sortOrder, MetaClass metaClass) {
+        MetaPropertyPath propertyPath = metaClass.getPropertyPath(sortOrder.getProperty());
+        if (propertyPath == null) {
+            throw new IllegalArgumentException("Property " + sortOrder.getProperty() + " is invalid");
+        }
+        return propertyPath;
     }
 
     protected abstract void setItemsToContainer(List<?> list);
 
+    /**
+     * @deprecated items are sorted by keys created by {@link #createSortKey(Object, MetadataTools)} and compared
+     * by {@link SortKeyComparator}, this comparator is not used
+     */
+    @Deprecated
     protected Comparator<?> createComparator(Sort.Order sortOrder, MetaClass metaClass) {
         MetaPropertyPath propertyPath = metaClass.getPropertyPath(sortOrder.getProperty());
         if (propertyPath == null) {
@@ -83,4 +172,69 @@ public abstract class BaseContainerSorter implements Sorter {
         EntityValuesComparator<Object> comparator = new EntityValuesComparator<>(asc, metaClass, beanFactory);
         return Comparator.comparing(e -> EntityValues.getValueEx(e, propertyPath), comparator);
     }
+
+    /**
+     * Container item together with its precomputed sort keys.
+     */
+    protected static class SortableItem {
+
+        protected final Object item;
+        protected final Object[] keys;
+
+        public SortableItem(Object item, Object[] keys) {
+            this.item = item;
+            this.keys = keys;
+        }
+    }
+
+    /**
+     * Sort key of an entity: values of its instance name related properties or its instance name if there are
+     * no such properties.
+     */
+    protected static class EntitySortKey {
+
+        protected final Object[] values;
+
+        public EntitySortKey(Object[] values) {
+            this.values = values;
+        }
+    }
+
+    /**
+     * Compares sort keys created by {@link #createSortKey(Object, MetadataTools)}.
+     */
+    protected static class SortKeyComparator extends EntityValuesComparator<Object> {
+
+        public SortKeyComparator(boolean asc, MetaClass metaClass, BeanFactory beanFactory) {
+            super(asc, metaClass, beanFactory);
+        }
+
+        @Override
+        public int compare(Object key1, Object key2) {
+            // keys are already transformed
+            return __compare(key1, key2);
+        }
+
+        @Override
+        protected int compareAsc(@Nullable Object o1, @Nullable Object o2) {
+            boolean entityKey1 = o1 instanceof EntitySortKey;
+            boolean entityKey2 = o2 instanceof EntitySortKey;
+            if (entityKey1 && entityKey2) {
+                Object[] values1 = ((EntitySortKey) o1).values;
+                Object[] values2 = ((EntitySortKey) o2).values;
+                for (int i = 0; i < values1.length && i < values2.length; i++) {
+                    int c = compareAsc(values1[i], values2[i]);
+                    if (c != 0) {
+                        return c;
+                    }
+                }
+                return Integer.compare(values1.length, values2.length);
+            }
+            if (entityKey1 != entityKey2 && o1 != null && o2 != null) {
+                // entities are placed after values of other types, so that the ordering stays consistent
+                return entityKey1 ? 1 : -1;
+            }
+            return super.compareAsc(o1, o2);
+        }
+    }
 }
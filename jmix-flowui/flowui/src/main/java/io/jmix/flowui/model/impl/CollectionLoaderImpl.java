@@ -28,11 +28,12 @@ import java.io.Serializable;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  *
  */
-public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
+public class CollectionLoaderImpl<E> implements CollectionLoader<E>, ConcurrentDataLoader {
 
     @Autowired
     protected DataManager dataManager;
@@ -76,6 +77,18 @@ public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
     }
 
     protected boolean _load() {
+        Supplier<Runnable> loadSupplier = prepareLoad();
+        if (loadSupplier == null) {
+            return false;
+        }
+
+        loadSupplier.get().run();
+        return true;
+    }
+
+    @Nullable
+    @Override
+    public Supplier<Runnable> prepareLoad() {
         if (container == null)
             throw new IllegalStateException("container is null");
         if (query == null && delegate == null)
@@ -84,16 +97,22 @@ public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
         LoadContext<E> loadContext = createLoadContext();
 
         if (!sendPreLoadEvent(loadContext)) {
-            return false;
+            return null;
         }
 
-        List<E> list;
         if (delegate == null) {
-            list = dataManager.loadList(loadContext);
+            return () -> {
+                List<E> list = dataManager.loadList(loadContext);
+                return () -> applyLoadedEntities(list);
+            };
         } else {
-            list = delegate.apply(loadContext);
+            // delegates can use UI, so they are invoked in the calling thread
+            List<E> list = delegate.apply(loadContext);
+            return () -> () -> applyLoadedEntities(list);
         }
+    }
 
+    protected void applyLoadedEntities(List<E> list) {
         if (dataContext != null) {
             List<E> mergedList = new ArrayList<>(list.size());
             for (E entity : list) {
@@ -105,8 +124,6 @@ public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
         }
 
         sendPostLoadEvent(list);
-
-        return true;
     }
 
     @Override
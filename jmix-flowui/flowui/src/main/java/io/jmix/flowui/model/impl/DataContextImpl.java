@@ -79,6 +79,17 @@ public class DataContextImpl implements DataContextInternal {
 
     protected Set<Object> removedInstances = new HashSet<>();
 
+    /**
+     * Names of changed attributes of modified instances, if all changes of an instance have been reported by
+     * property change events.
+     */
+    protected Map<Object, Set<String>> changedAttributes = new HashMap<>();
+
+    /**
+     * Instances which have been changed without reporting the changed attributes, e.g. by merging.
+     */
+    protected Set<Object> untrackedChangedInstances = new HashSet<>();
+
     protected PropertyChangeListener propertyChangeListener = new PropertyChangeListener();
 
     protected boolean disableListeners;
@@ -198,6 +209,7 @@ public class DataContextImpl implements DataContextInternal {
             if (managed != null) {
                 mergedMap.put(entity, managed);
                 mergeState(entity, managed, mergedMap, isRoot, options);
+                registerUntrackedChange(managed);
                 return managed;
             } else {
                 throw new IllegalStateException("No managed instance for " + nullIdEntity);
@@ -232,6 +244,7 @@ public class DataContextImpl implements DataContextInternal {
             mergedMap.put(entity, managed);
             if (managed != entity) {
                 mergeState(entity, managed, mergedMap, isRoot, options);
+                registerUntrackedChange(managed);
             }
         }
         return managed;
@@ -501,6 +514,7 @@ public class DataContextImpl implements DataContextInternal {
         checkNotNullArgument(entity, "entity is null");
 
         modifiedInstances.remove(entity);
+        resetChangedAttributes(entity);
         if (!entityStates.isNew(entity) || parentContext != null) {
             removedInstances.add(entity);
         }
@@ -556,6 +570,7 @@ public class DataContextImpl implements DataContextInternal {
             }
             modifiedInstances.remove(entity);
             removedInstances.remove(entity);
+            resetChangedAttributes(entity);
         }
     }
 
@@ -617,9 +632,11 @@ public class DataContextImpl implements DataContextInternal {
             return;
         }
         if (modified) {
+            registerUntrackedChange(merged);
             modifiedInstances.add(merged);
         } else {
             modifiedInstances.remove(merged);
+            resetChangedAttributes(merged);
         }
     }
 
@@ -657,6 +674,8 @@ public class DataContextImpl implements DataContextInternal {
 
         modifiedInstances.clear();
         removedInstances.clear();
+        changedAttributes.clear();
+        untrackedChangedInstances.clear();
 
         return savedAndMerged;
     }
@@ -693,12 +712,16 @@ public class DataContextImpl implements DataContextInternal {
     }
 
     protected Set<Object> saveToDataManager() {
+        List entitiesToSave = filterSavedInstances(modifiedInstances);
+        Collection<Object> isolatedEntitiesToSave = isolate(entitiesToSave);
+
         SaveContext saveContext = new SaveContext()
-                .saving(isolate(filterSavedInstances(modifiedInstances)))
+                .saving(isolatedEntitiesToSave)
                 .removing(isolate(filterSavedInstances(removedInstances)));
 
         entityReferencesNormalizer.updateReferences(saveContext.getEntitiesToSave());
         updateFetchPlans(saveContext);
+        updateChangedAttributes(saveContext, entitiesToSave, isolatedEntitiesToSave);
 
         if (saveDelegate == null) {
             return dataManager.save(saveContext);
@@ -719,6 +742,21 @@ public class DataContextImpl implements DataContextInternal {
         }
     }
 
+    /**
+     * Passes names of changed attributes of the saved instances to the data store, which can apply them to
+     * the stored instances instead of merging whole entities.
+     */
+    protected void updateChangedAttributes(SaveContext saveContext, List<?> entities, Collection<Object> isolatedEntities) {
+        Iterator<Object> isolatedIterator = isolatedEntities.iterator();
+        for (Object entity : entities) {
+            Object isolatedEntity = isolatedIterator.next();
+            Set<String> attributes = changedAttributes.get(entity);
+            if (attributes != null && !attributes.isEmpty()) {
+                saveContext.getChangedAttributes().put(isolatedEntity, new HashSet<>(attributes));
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public Collection<Object> isolate(List entities) {
         // re-serialize the whole collection to preserve links between objects
@@ -788,6 +826,7 @@ public class DataContextImpl implements DataContextInternal {
 
     protected void modified(Object entity) {
         if (!disableListeners) {
+            registerUntrackedChange(entity);
             modifiedInstances.add(entity);
             fireChangeListener(entity);
         }
@@ -849,6 +888,32 @@ public class DataContextImpl implements DataContextInternal {
         return removedInstances;
     }
 
+    protected void registerChangedAttribute(Object entity, String attribute) {
+        if (entityStates.isNew(entity) || untrackedChangedInstances.contains(entity)) {
+            return;
+        }
+        Set<String> attributes = changedAttributes.get(entity);
+        if (attributes == null) {
+            if (modifiedInstances.contains(entity)) {
+                // the instance has been marked as modified without reporting attributes
+                return;
+            }
+            attributes = new HashSet<>();
+            changedAttributes.put(entity, attributes);
+        }
+        attributes.add(attribute);
+    }
+
+    protected void registerUntrackedChange(Object entity) {
+        changedAttributes.remove(entity);
+        untrackedChangedInstances.add(entity);
+    }
+
+    protected void resetChangedAttributes(Object entity) {
+        changedAttributes.remove(entity);
+        untrackedChangedInstances.remove(entity);
+    }
+
     protected MetaClass getEntityMetaClass(Object entity) {
         return metadata.getClass(entity);
     }
@@ -879,6 +944,7 @@ public class DataContextImpl implements DataContextInternal {
             }
 
             if (!disableListeners) {
+                registerChangedAttribute(e.getItem(), e.getProperty());
                 modifiedInstances.add(e.getItem());
                 fireChangeListener(e.getItem());
             }
@@ -896,6 +962,7 @@ public class DataContextImpl implements DataContextInternal {
         @Override
         public void propertyChanged(EntityPropertyChangeEvent e) {
             if (!disableListeners) {
+                registerUntrackedChange(entity);
                 modifiedInstances.add(entity);
                 fireChangeListener(entity);
             }
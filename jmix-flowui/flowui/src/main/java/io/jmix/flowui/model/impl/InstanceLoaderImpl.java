@@ -32,8 +32,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
-public class InstanceLoaderImpl<E> implements InstanceLoader<E> {
+public class InstanceLoaderImpl<E> implements InstanceLoader<E>, ConcurrentDataLoader {
 
     @Autowired
     protected DataManager dataManager;
@@ -70,33 +71,47 @@ public class InstanceLoaderImpl<E> implements InstanceLoader<E> {
 
     @Override
     public void load() {
+        Supplier<Runnable> loadSupplier = prepareLoad();
+        if (loadSupplier != null) {
+            loadSupplier.get().run();
+        }
+    }
+
+    @Nullable
+    @Override
+    public Supplier<Runnable> prepareLoad() {
         if (container == null)
             throw new IllegalStateException("container is null");
 
-        E entity;
-
         LoadContext<E> loadContext = createLoadContext();
 
         if (delegate == null) {
             if (!needLoad())
-                return;
+                return null;
 
             if (!sendPreLoadEvent(loadContext)) {
-                return;
+                return null;
             }
 
-            entity = dataManager.load(loadContext);
+            return () -> {
+                E entity = dataManager.load(loadContext);
 
-            if (entity == null) {
-                throw new EntityAccessException(container.getEntityMetaClass(), entityId);
-            }
+                if (entity == null) {
+                    throw new EntityAccessException(container.getEntityMetaClass(), entityId);
+                }
+                return () -> applyLoadedEntity(entity);
+            };
         } else {
             if (!sendPreLoadEvent(loadContext)) {
-                return;
+                return null;
             }
-            entity = delegate.apply(createLoadContext());
+            // delegates can use UI, so they are invoked in the calling thread
+            E entity = delegate.apply(createLoadContext());
+            return () -> () -> applyLoadedEntity(entity);
         }
+    }
 
+    protected void applyLoadedEntity(E entity) {
         if (dataContext != null) {
             entity = dataContext.merge(entity, new MergeOptions().setFresh(true));
         }
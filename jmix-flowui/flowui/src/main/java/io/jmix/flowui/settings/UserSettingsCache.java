@@ -33,7 +33,8 @@ public interface UserSettingsCache {
     String get(String key);
 
     /**
-     * Adds a value associated with a key to the cache and store.
+     * Adds a value associated with a key to the cache and store. The store can be updated later,
+     * see {@link #flush()}.
      *
      * @param key  setting identifier
      * @param value setting value
@@ -41,12 +42,19 @@ public interface UserSettingsCache {
     void put(String key, @Nullable String value);
 
     /**
-     * Deletes setting from cache and store.
+     * Deletes setting from cache and store. The store can be updated later, see {@link #flush()}.
      *
      * @param key setting identifier
      */
     void delete(String key);
 
+    /**
+     * Writes to the store settings that are put or deleted but not written yet. Does nothing
+     * if the cache writes settings to the store immediately.
+     */
+    default void flush() {
+    }
+
     /**
      * Clears cache.
      */
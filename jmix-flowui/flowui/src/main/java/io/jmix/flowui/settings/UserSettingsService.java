@@ -17,6 +17,8 @@ package io.jmix.flowui.settings;
 
 import org.springframework.lang.Nullable;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -35,6 +37,17 @@ public interface UserSettingsService {
      */
     Optional<String> load(String key);
 
+    /**
+     * Loads all settings of the current user.
+     *
+     * @return map of setting identifiers to values or {@code null} if the service cannot load all settings
+     * at once, in this case settings are loaded by {@link #load(String)}
+     */
+    @Nullable
+    default Map<String, String> loadAll() {
+        return null;
+    }
+
     /**
      * Saves value for the current user.
      *
@@ -48,6 +61,17 @@ public interface UserSettingsService {
      */
     void delete(String key);
 
+    /**
+     * Saves and deletes several settings of the current user at once.
+     *
+     * @param values      settings to save
+     * @param deletedKeys identifiers of settings to delete
+     */
+    default void saveAll(Map<String, String> values, Collection<String> deletedKeys) {
+        values.forEach(this::save);
+        deletedKeys.forEach(this::delete);
+    }
+
     /**
      * Copies all settings to another user.
      */
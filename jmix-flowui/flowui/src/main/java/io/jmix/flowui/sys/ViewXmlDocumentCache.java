@@ -19,14 +19,17 @@ package io.jmix.flowui.sys;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import org.dom4j.Document;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
 import org.springframework.lang.Nullable;
+import java.io.IOException;
 
 @Component("flowui_ViewXmlDocumentCache")
 public class ViewXmlDocumentCache {
 
     protected Cache<String, Document> cache;
+    protected Cache<String, CachedDescriptor> descriptors;
 
     public ViewXmlDocumentCache() {
         this(100);
@@ -34,6 +37,40 @@ public class ViewXmlDocumentCache {
 
     protected ViewXmlDocumentCache(int cacheDescriptorsCount) {
         cache = CacheBuilder.newBuilder().maximumSize(cacheDescriptorsCount).build();
+        descriptors = CacheBuilder.newBuilder().maximumSize(cacheDescriptorsCount).build();
+    }
+
+    /**
+     * Caches the processed descriptor read from the given resource.
+     *
+     * @param resourcePath path by which the resource has been requested
+     * @param resource     resource the descriptor has been read from
+     * @param document     processed descriptor
+     */
+    public void putDescriptor(String resourcePath, Resource resource, Document document) {
+        descriptors.put(resourcePath, new CachedDescriptor(document, resource));
+    }
+
+    /**
+     * Returns the processed descriptor cached for the given resource path. The descriptor is not returned if the path
+     * now resolves to another resource, e.g. a descriptor has been added to the {@code conf} directory to override
+     * the one from the classpath, or if the resource is a file which has been modified since it was read.
+     *
+     * @param resourcePath path by which the resource has been requested
+     * @param resource     resource the path currently resolves to
+     * @return processed descriptor or null if it is not cached or outdated
+     */
+    @Nullable
+    public Document getDescriptor(String resourcePath, Resource resource) {
+        CachedDescriptor descriptor = descriptors.getIfPresent(resourcePath);
+        if (descriptor == null) {
+            return null;
+        }
+        if (!descriptor.isUpToDate(resource)) {
+            descriptors.invalidate(resourcePath);
+            return null;
+        }
+        return descriptor.document;
     }
 
     public void put(String xml, Document document) {
@@ -47,5 +84,35 @@ public class ViewXmlDocumentCache {
 
     public void invalidateAll() {
         cache.invalidateAll();
+        descriptors.invalidateAll();
+    }
+
+    protected static class CachedDescriptor {
+
+        protected final Document document;
+        protected final Resource resource;
+        protected final long lastModified;
+
+        protected CachedDescriptor(Document document, Resource resource) {
+            this.document = document;
+            this.resource = resource;
+            this.lastModified = getLastModified(resource);
+        }
+
+        protected boolean isUpToDate(Resource currentResource) {
+            return resource.equals(currentResource) && getLastModified(currentResource) == lastModified;
+        }
+
+        protected static long getLastModified(Resource resource) {
+            if (!resource.isFile()) {
+                // resources in JAR files cannot change while the application is running
+                return 0;
+            }
+            try {
+                return resource.lastModified();
+            } catch (IOException e) {
+                return 0;
+            }
+        }
     }
 }
\ No newline at end of file
@@ -24,6 +24,7 @@ import org.dom4j.Document;
 import org.dom4j.Element;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
@@ -32,6 +33,11 @@ import java.nio.charset.StandardCharsets;
 
 /**
  * Loads view XML descriptors.
+ * <p>
+ * Processed descriptors are cached in {@link ViewXmlDocumentCache} by resource path, so the resource is read
+ * and parsed only on the first request. The path is resolved on each request, and the descriptor is read again
+ * if the path resolves to another resource, e.g. a descriptor added to the {@code conf} directory by hot deploy,
+ * or if the descriptor file has been modified.
  */
 @Component("flowui_ViewXmlLoader")
 public class ViewXmlLoader {
@@ -68,24 +74,39 @@ public class ViewXmlLoader {
      * @return root XML element
      */
     public Element load(String resourcePath) {
-        String template = loadTemplate(resourcePath);
-        Document document = getDocument(template);
+        Resource resource = resources.getResource(resourcePath);
+        Document document = viewXmlDocumentCache.getDescriptor(resourcePath, resource);
+        if (document == null) {
+            document = createDocument(loadTemplate(resource, resourcePath));
+            viewXmlDocumentCache.putDescriptor(resourcePath, resource, document);
+        }
 
         return document.getRootElement();
     }
 
-    private String loadTemplate(String resourcePath) {
-        try (InputStream stream = resources.getResourceAsStream(resourcePath)) {
-            if (stream == null) {
-                throw new DevelopmentException("Template is not found " + resourcePath, "Path", resourcePath);
-            }
+    /**
+     * Removes all cached descriptors, so they will be read and parsed again on next request.
+     */
+    public void clearCache() {
+        viewXmlDocumentCache.invalidateAll();
+    }
 
+    private String loadTemplate(Resource resource, String resourcePath) {
+        if (!resource.exists()) {
+            throw new DevelopmentException("Template is not found " + resourcePath, "Path", resourcePath);
+        }
+
+        try (InputStream stream = resource.getInputStream()) {
             return IOUtils.toString(stream, StandardCharsets.UTF_8);
         } catch (IOException e) {
             throw new RuntimeException(String.format("Unable to read %s template", View.class.getSimpleName()));
         }
     }
 
+    /**
+     * @deprecated descriptors are cached by resource path, see {@link ViewXmlDocumentCache#getDescriptor(String, Resource)}
+     */
+    @Deprecated
     protected Document getDocument(String template) {
         Document document = viewXmlDocumentCache.get(template);
         if (document == null) {
@@ -22,6 +22,8 @@ import io.jmix.core.MessageTools;
 import io.jmix.core.security.AuthenticationLocaleResolver;
 import io.jmix.core.security.CurrentAuthentication;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
@@ -31,7 +33,8 @@ import java.util.Locale;
 
 /**
  * Provides {@link Locale} from {@link VaadinSession#getCurrent()} instance that should be used if current
- * authentication is anonymous.
+ * authentication is anonymous. Outside the UI thread, the locale is taken from {@link LocaleContextHolder}
+ * if it is set there.
  *
  * @see CurrentAuthentication
  */
@@ -53,7 +56,8 @@ public class UiAnonymousAuthenticationLocaleResolver implements AuthenticationLo
             return VaadinSession.getCurrent().getLocale();
         }
 
-        return null;
+        LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+        return localeContext != null ? localeContext.getLocale() : null;
     }
 
     @Override
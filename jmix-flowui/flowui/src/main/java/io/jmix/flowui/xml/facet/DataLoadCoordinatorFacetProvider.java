@@ -23,6 +23,7 @@ import io.jmix.flowui.component.UiComponentUtils;
 import io.jmix.flowui.exception.GuiDevelopmentException;
 import io.jmix.flowui.facet.DataLoadCoordinator;
 import io.jmix.flowui.facet.DataLoadCoordinator.LikeClause;
+import io.jmix.flowui.facet.dataloadcoordinator.ParallelLoadExecutor;
 import io.jmix.flowui.facet.impl.DataLoadCoordinatorImpl;
 import io.jmix.flowui.model.DataLoader;
 import io.jmix.flowui.model.InstanceContainer;
@@ -34,6 +35,7 @@ import io.jmix.flowui.xml.layout.ComponentLoader;
 import io.jmix.flowui.xml.layout.ComponentLoader.ComponentContext;
 import io.jmix.flowui.xml.layout.support.LoaderSupport;
 import org.dom4j.Element;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import org.springframework.lang.Nullable;
 
@@ -43,6 +45,7 @@ public class DataLoadCoordinatorFacetProvider implements FacetProvider<DataLoadC
     protected LoaderSupport loaderSupport;
     protected ViewControllerReflectionInspector reflectionInspector;
     protected QueryParamValuesManager queryParamValuesManager;
+    protected ParallelLoadExecutor parallelLoadExecutor;
 
     public DataLoadCoordinatorFacetProvider(LoaderSupport loaderSupport,
                                             ViewControllerReflectionInspector reflectionInspector,
@@ -52,6 +55,11 @@ public class DataLoadCoordinatorFacetProvider implements FacetProvider<DataLoadC
         this.queryParamValuesManager = queryParamValuesManager;
     }
 
+    @Autowired
+    public void setParallelLoadExecutor(ParallelLoadExecutor parallelLoadExecutor) {
+        this.parallelLoadExecutor = parallelLoadExecutor;
+    }
+
     @Override
     public Class<DataLoadCoordinator> getFacetClass() {
         return DataLoadCoordinator.class;
@@ -59,7 +67,7 @@ public class DataLoadCoordinatorFacetProvider implements FacetProvider<DataLoadC
 
     @Override
     public DataLoadCoordinator create() {
-        return new DataLoadCoordinatorImpl(reflectionInspector, queryParamValuesManager);
+        return new DataLoadCoordinatorImpl(reflectionInspector, queryParamValuesManager, parallelLoadExecutor);
     }
 
     @Override
@@ -74,6 +82,7 @@ public class DataLoadCoordinatorFacetProvider implements FacetProvider<DataLoadC
         loaderSupport.loadString(element, "id", facet::setId);
         loaderSupport.loadString(element, "containerPrefix", facet::setContainerPrefix);
         loaderSupport.loadString(element, "componentPrefix", facet::setComponentPrefix);
+        loaderSupport.loadBoolean(element, "parallelLoading", facet::setParallelLoading);
 
         for (Element loaderEl : element.elements("refresh")) {
             loadRefresh(facet, context, loaderEl);
@@ -21,14 +21,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import org.springframework.lang.Nullable;
+import java.lang.reflect.Constructor;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component("flowui_LoaderResolver")
 public class LoaderResolver {
 
     protected List<LoaderConfig> loaderConfigs = Collections.emptyList();
 
+    protected Map<Class<?>, Constructor<? extends ComponentLoader>> loaderConstructors = new ConcurrentHashMap<>();
+
     @Autowired
     public void setLoaderConfigs(List<LoaderConfig> loaderConfigs) {
         this.loaderConfigs = loaderConfigs;
@@ -54,4 +59,22 @@ public class LoaderResolver {
         }
         return null;
     }
+
+    /**
+     * Returns the public no-arg constructor of the given loader class. Constructors are cached, so the reflective
+     * lookup is not repeated for each loaded element.
+     *
+     * @param loaderClass loader class
+     * @return loader constructor
+     * @throws NoSuchMethodException if the loader class has no public no-arg constructor
+     */
+    public Constructor<? extends ComponentLoader> getLoaderConstructor(Class<? extends ComponentLoader> loaderClass)
+            throws NoSuchMethodException {
+        Constructor<? extends ComponentLoader> constructor = loaderConstructors.get(loaderClass);
+        if (constructor == null) {
+            constructor = loaderClass.getConstructor();
+            loaderConstructors.put(loaderClass, constructor);
+        }
+        return constructor;
+    }
 }
@@ -511,6 +511,62 @@ class DataContextTest extends DataContextSpec {
         dataContext.find(Order, order1.id).number == 'saved through delegate'
     }
 
+    def "changed attributes are passed to save context"() {
+
+        Order order1 = makeSaved(new Order(number: "111", amount: 10.0))
+        Order order2 = makeSaved(new Order(number: "222", amount: 20.0))
+
+        def dataContext = factory.createDataContext()
+        SaveContext saveContext = null
+        dataContext.setSaveDelegate { SaveContext cc ->
+            saveContext = cc
+            cc.entitiesToSave.collect { makeSaved(it) }.toSet()
+        }
+
+        def mergedOrder1 = dataContext.merge(order1)
+        def mergedOrder2 = dataContext.merge(order2)
+
+        when:
+
+        mergedOrder1.number = '112'
+        mergedOrder1.amount = 11.0
+        mergedOrder2.number = '223'
+        def reloadedOrder2 = new Order(id: order2.id, number: '224', amount: 21.0)
+        makeDetached(reloadedOrder2)
+        dataContext.merge(reloadedOrder2)
+        dataContext.save()
+
+        then: "attributes are passed only for instances changed by setters"
+
+        saveContext.changedAttributes[mergedOrder1] == ['number', 'amount'] as Set
+        !saveContext.changedAttributes.containsKey(mergedOrder2)
+    }
+
+    def "changed attributes are not passed for instances registered as modified"() {
+
+        Order order1 = makeSaved(new Order(number: "111"))
+
+        def dataContext = factory.createDataContext()
+        SaveContext saveContext = null
+        dataContext.setSaveDelegate { SaveContext cc ->
+            saveContext = cc
+            cc.entitiesToSave.collect { makeSaved(it) }.toSet()
+        }
+
+        def mergedOrder1 = dataContext.merge(order1)
+
+        when:
+
+        dataContext.setModified(mergedOrder1, true)
+        mergedOrder1.number = '112'
+        dataContext.save()
+
+        then:
+
+        saveContext.entitiesToSave.contains(mergedOrder1)
+        saveContext.changedAttributes.isEmpty()
+    }
+
     def "read-only context"() {
         def dataContext = new NoopDataContext()
         def order1 = new Order(number: "111")
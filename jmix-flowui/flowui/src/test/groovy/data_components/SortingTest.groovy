@@ -27,6 +27,7 @@ import io.jmix.flowui.model.CollectionLoader
 import io.jmix.flowui.model.DataComponents
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.context.SpringBootTest
+import test_support.entity.sales.Customer
 import test_support.entity.sales.Order
 import test_support.spec.FlowuiTestSpecification
 
@@ -115,4 +116,44 @@ class SortingTest extends FlowuiTestSpecification {
         1 * dataManager.loadList(_ as LoadContext) >> orders.sort { it.number }.reverse()
         container.items[0].number == 'o3'
     }
+
+    def "sort in memory by reference and several properties"() {
+        def c1 = metadata.create(Customer)
+        c1.name = 'alpha'
+        def c2 = metadata.create(Customer)
+        c2.name = 'Beta'
+
+        def o1 = metadata.create(Order)
+        o1.number = 'o1'
+        o1.customer = c2
+        def o2 = metadata.create(Order)
+        o2.number = 'o2'
+        o2.customer = c1
+        def o3 = metadata.create(Order)
+        o3.number = 'o3'
+        o3.customer = c2
+
+        def dataManager = Mock(DataManager)
+        dataManager.loadList(_ as LoadContext) >> [o1, o2, o3]
+
+        loader.dataManager = dataManager
+        loader.setQuery('select e from test_Order e')
+        loader.load()
+
+        when:
+
+        container.getSorter().sort(Sort.by(Sort.Order.asc('customer'), Sort.Order.desc('number')))
+
+        then:
+
+        container.items*.number == ['o2', 'o3', 'o1']
+
+        when:
+
+        container.getSorter().sort(Sort.by(Sort.Order.desc('customer'), Sort.Order.asc('number')))
+
+        then:
+
+        container.items*.number == ['o1', 'o3', 'o2']
+    }
 }
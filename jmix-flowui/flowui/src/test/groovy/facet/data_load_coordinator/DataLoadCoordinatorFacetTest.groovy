@@ -20,12 +20,15 @@ import facet.data_load_coordinator.screen.DlcAutoProvidedParamTestScreen
 import facet.data_load_coordinator.screen.DlcAutoTestScreen
 import facet.data_load_coordinator.screen.DlcManualNoParamTestScreen
 import facet.data_load_coordinator.screen.DlcManualTestScreen
+import facet.data_load_coordinator.screen.DlcParallelTestScreen
 import io.jmix.core.Metadata
+import io.jmix.core.security.SecurityContextHelper
 import io.jmix.flowui.facet.DataLoadCoordinator
 import io.jmix.flowui.view.ViewControllerUtils
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.context.SpringBootTest
 import spock.lang.Unroll
+import test_support.ParallelLoadBarrier
 import test_support.entity.petclinic.OwnerCategory
 import test_support.spec.FlowuiTestSpecification
 
@@ -35,6 +38,9 @@ class DataLoadCoordinatorFacetTest extends FlowuiTestSpecification {
     @Autowired
     Metadata metadata
 
+    @Autowired
+    ParallelLoadBarrier parallelLoadBarrier
+
     @Override
     void setup() {
         registerViewBasePackages("facet.data_load_coordinator")
@@ -157,4 +163,51 @@ class DataLoadCoordinatorFacetTest extends FlowuiTestSpecification {
 
         screenClass << [DlcAutoTestScreen, DlcAutoProvidedParamTestScreen]
     }
+
+    def "parallel loading"() {
+        when: "show screen"
+
+        parallelLoadBarrier.expect(2)
+        def screen = navigateToView(DlcParallelTestScreen)
+        parallelLoadBarrier.reset()
+
+        then: "independent loaders are executed concurrently in worker threads with the current authentication"
+
+        screen.dlc.isParallelLoading()
+        parallelLoadBarrier.userNames.size() == 2
+        !parallelLoadBarrier.userNames.containsKey(Thread.currentThread().name)
+        parallelLoadBarrier.userNames.values().every { it == SecurityContextHelper.getAuthentication().name }
+
+        and: "main loader is triggered once"
+
+        screen.events.size() == 1
+        screen.events[0].loader == 'ownersDl'
+        screen.ownersDc.getItems().size() == 2
+
+        when: "main item is selected"
+
+        screen.events.clear()
+        screen.ownersDc.setItem(screen.ownersDc.getItems()[0])
+
+        then: "secondary loader is triggered"
+
+        screen.events.size() == 1
+        screen.events[0].loader == 'petsDl'
+        screen.events[0].loadContext.query.parameters['container_ownersDc'] == screen.ownersDc.getItem()
+
+        when: "string filter field is set"
+
+        screen.events.clear()
+        screen.nameFilterField.setValue("o")
+
+        then: "main loader is triggered"
+
+        screen.events.size() == 1
+        screen.events[0].loader == 'ownersDl'
+        screen.events[0].loadContext.query.parameters['component_nameFilterField'] == '(?i)%o%'
+
+        cleanup:
+
+        parallelLoadBarrier.reset()
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package view_xml_loader
+
+import io.jmix.core.Resources
+import io.jmix.flowui.sys.ViewXmlLoader
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.core.env.Environment
+import test_support.spec.FlowuiTestSpecification
+
+@SpringBootTest
+class ViewXmlLoaderTest extends FlowuiTestSpecification {
+
+    static final String DESCRIPTOR_PATH = "facet/data_load_coordinator/screen/dlc-auto-test-screen.xml"
+
+    @Autowired
+    ViewXmlLoader viewXmlLoader
+
+    @Autowired
+    Resources resources
+
+    @Autowired
+    Environment environment
+
+    def "descriptor is parsed once"() {
+        when: "Load the same descriptor twice"
+        def first = viewXmlLoader.load(DESCRIPTOR_PATH)
+        def second = viewXmlLoader.load(DESCRIPTOR_PATH)
+
+        then: "Cached root element is reused"
+        first.name == "view"
+        first.is(second)
+    }
+
+    def "descriptor is parsed again after clearing cache"() {
+        given:
+        def first = viewXmlLoader.load(DESCRIPTOR_PATH)
+
+        when: "Clear cache and load the descriptor"
+        viewXmlLoader.clearCache()
+        def second = viewXmlLoader.load(DESCRIPTOR_PATH)
+
+        then: "New root element with the same content is created"
+        !first.is(second)
+        first.asXML() == second.asXML()
+    }
+
+    def "descriptor is parsed again after its file is modified"() {
+        given:
+        def first = viewXmlLoader.load(DESCRIPTOR_PATH)
+        def file = resources.getResource(DESCRIPTOR_PATH).getFile()
+        def lastModified = file.lastModified()
+
+        when: "Change modification time of the descriptor file and load the descriptor"
+        file.setLastModified(lastModified + 1000)
+        def second = viewXmlLoader.load(DESCRIPTOR_PATH)
+
+        then: "New root element with the same content is created"
+        !first.is(second)
+        first.asXML() == second.asXML()
+
+        cleanup:
+        file?.setLastModified(lastModified)
+    }
+
+    def "descriptor added to conf directory overrides cached one"() {
+        given:
+        def first = viewXmlLoader.load(DESCRIPTOR_PATH)
+        def file = new File(environment.getProperty("jmix.core.conf-dir"), DESCRIPTOR_PATH)
+        def createdDirs = []
+        for (def dir = file.parentFile; dir != null && !dir.exists(); dir = dir.parentFile) {
+            createdDirs << dir
+        }
+
+        when: "Put a descriptor with the same path into conf directory and load the descriptor"
+        file.parentFile.mkdirs()
+        file.text = '<view xmlns="http://jmix.io/schema/flowui/view" title="Overridden"/>'
+        def second = viewXmlLoader.load(DESCRIPTOR_PATH)
+
+        then: "Descriptor from conf directory is loaded"
+        !first.is(second)
+        second.attributeValue("title") == "Overridden"
+
+        cleanup:
+        file?.delete()
+        createdDirs?.each { it.delete() }
+        viewXmlLoader.clearCache()
+    }
+}
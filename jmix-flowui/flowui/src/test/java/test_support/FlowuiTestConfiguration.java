@@ -97,6 +97,11 @@ public class FlowuiTestConfiguration {
         return new ConcurrentMapCacheManager();
     }
 
+    @Bean
+    public ParallelLoadBarrier parallelLoadBarrier() {
+        return new ParallelLoadBarrier();
+    }
+
     @Bean
     @Primary
     public ServletContext servletContext() {
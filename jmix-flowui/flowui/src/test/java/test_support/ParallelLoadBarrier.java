@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package test_support;
+
+import io.jmix.core.datastore.AbstractDataStore;
+import io.jmix.core.datastore.DataStore;
+import io.jmix.core.datastore.DataStoreBeforeEntityLoadEvent;
+import io.jmix.core.datastore.DataStoreCustomizer;
+import io.jmix.core.datastore.DataStoreEventListener;
+import io.jmix.core.security.SecurityContextHelper;
+import org.springframework.security.core.Authentication;
+
+import java.util.Map;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Makes the given number of entity loads wait for each other, so that the loads can complete only if they run
+ * concurrently. Records threads and users of the loads.
+ */
+public class ParallelLoadBarrier implements DataStoreEventListener, DataStoreCustomizer {
+
+    private volatile CyclicBarrier barrier;
+
+    private final Map<String, String> userNames = new ConcurrentHashMap<>();
+
+    /**
+     * Starts waiting for the given number of concurrent loads.
+     */
+    public void expect(int parties) {
+        userNames.clear();
+        barrier = new CyclicBarrier(parties);
+    }
+
+    public void reset() {
+        barrier = null;
+    }
+
+    /**
+     * @return names of users which performed the loads, by thread names; empty name if there was no authentication
+     */
+    public Map<String, String> getUserNames() {
+        return userNames;
+    }
+
+    @Override
+    public void beforeEntityLoad(DataStoreBeforeEntityLoadEvent event) {
+        CyclicBarrier currentBarrier = barrier;
+        if (currentBarrier == null) {
+            return;
+        }
+        Authentication authentication = SecurityContextHelper.getAuthentication();
+        userNames.put(Thread.currentThread().getName(), authentication != null ? authentication.getName() : "");
+        try {
+            currentBarrier.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+            throw new IllegalStateException("Entity loads have not been executed concurrently", e);
+        }
+    }
+
+    @Override
+    public void customize(DataStore dataStore) {
+        if (dataStore instanceof AbstractDataStore) {
+            ((AbstractDataStore) dataStore).registerInterceptor(this);
+        }
+    }
+}
@@ -55,6 +55,10 @@ class EnhancingAction implements Action<Task> {
         persistenceProviderEnhancing().run(project, sourceSet, classesInfo.allStores())
 
         runJmixEnhancing(project, sourceSet, classesInfo)
+
+        if (project.jmix.entitiesEnhancing.generateClasspathIndex) {
+            constructClasspathIndexes(project, sourceSet, classesInfo)
+        }
     }
 
     protected ClassesInfo collectClasses(Project project, SourceSet sourceSet) {
@@ -207,6 +211,18 @@ class EnhancingAction implements Action<Task> {
         }
     }
 
+    protected void constructClasspathIndexes(Project project, sourceSet, ClassesInfo classesInfo) {
+        File javaOutputDir = sourceSet.java.destinationDirectory.get().getAsFile()
+
+        for (String modulePath : classesInfo.modulePaths) {
+            String indexFileName = "$project.buildDir/tmp/entitiesEnhancing/resources/$sourceSetName/$modulePath/" +
+                    ClasspathIndexGenerationUtils.CLASSPATH_INDEX_FILE_NAME
+
+            //index enhanced classes, it is copied to the output resources dir together with persistence/orm xml files
+            ClasspathIndexGenerationUtils.constructClasspathIndex(javaOutputDir, modulePath, indexFileName)
+        }
+    }
+
     static void copyGeneratedFiles(Project project, String sourceSetName) {
         project.copy {
             from "$project.buildDir/tmp/entitiesEnhancing/resources/$sourceSetName/"
@@ -91,5 +91,11 @@ class JmixExtension {
          * </pre>
          */
         List<String> jpaConverters = []
+
+        /**
+         * Whether to generate the classpath index of the module classes. The index allows the application
+         * to skip runtime classpath scanning of the module's base package at startup.
+         */
+        boolean generateClasspathIndex = true
     }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.gradle;
+
+import javassist.bytecode.AnnotationsAttribute;
+import javassist.bytecode.ClassFile;
+import javassist.bytecode.annotation.Annotation;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates the classpath index used by {@code io.jmix.core.impl.scanning.JmixModulesClasspathScanner} to avoid
+ * scanning module packages at runtime.
+ * <p>
+ * The index maps names of annotations, interfaces and superclasses declared directly by module classes
+ * to the names of these classes.
+ */
+public class ClasspathIndexGenerationUtils {
+    private static final org.slf4j.Logger LOG = LoggerFactory.getLogger(ClasspathIndexGenerationUtils.class);
+
+    public static final String CLASSPATH_INDEX_FILE_NAME = "jmix-classpath-index.properties";
+
+    private static final String OBJECT_CLASS_NAME = "java.lang.Object";
+
+    public static File constructClasspathIndex(File classesDir, String modulePath, String indexFileName) {
+        Map<String, Set<String>> classNamesByType = new TreeMap<>();
+
+        Path packageDir = classesDir.toPath().resolve(modulePath);
+        if (Files.isDirectory(packageDir)) {
+            try (Stream<Path> paths = Files.walk(packageDir)) {
+                for (Path path : paths.filter(p -> p.toString().endsWith(".class")).collect(Collectors.toList())) {
+                    examineClassFile(path, classNamesByType);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to build classpath index for " + packageDir, e);
+            }
+        }
+
+        File file = new File(indexFileName);
+        file.getParentFile().mkdirs();
+
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.ISO_8859_1)) {
+            writer.write("# Generated by Jmix Gradle plugin\n");
+            for (Map.Entry<String, Set<String>> entry : classNamesByType.entrySet()) {
+                writer.write(entry.getKey());
+                writer.write('=');
+                writer.write(String.join(",", entry.getValue()));
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to write classpath index " + file, e);
+        }
+
+        LOG.debug("Classpath index for {} contains {} types", modulePath, classNamesByType.size());
+        return file;
+    }
+
+    private static void examineClassFile(Path path, Map<String, Set<String>> classNamesByType) throws IOException {
+        ClassFile classFile;
+        try (DataInputStream stream = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            classFile = new ClassFile(stream);
+        }
+
+        String className = classFile.getName();
+        if (className.endsWith("package-info") || className.equals("module-info")) {
+            return;
+        }
+
+        List<String> types = new ArrayList<>();
+        for (String attributeName : new String[]{AnnotationsAttribute.visibleTag, AnnotationsAttribute.invisibleTag}) {
+            AnnotationsAttribute attribute = (AnnotationsAttribute) classFile.getAttribute(attributeName);
+            if (attribute != null) {
+                for (Annotation annotation : attribute.getAnnotations()) {
+                    types.add(annotation.getTypeName());
+                }
+            }
+        }
+        types.addAll(Arrays.asList(classFile.getInterfaces()));
+        String superclass = classFile.getSuperclass();
+        if (superclass != null && !OBJECT_CLASS_NAME.equals(superclass)) {
+            types.add(superclass);
+        }
+
+        for (String type : types) {
+            classNamesByType.computeIfAbsent(type, k -> new TreeSet<>()).add(className);
+        }
+    }
+}
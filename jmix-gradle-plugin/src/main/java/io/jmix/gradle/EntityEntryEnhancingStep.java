@@ -17,15 +17,14 @@
 package io.jmix.gradle;
 
 import javassist.*;
+import javassist.bytecode.AccessFlag;
 import org.apache.commons.lang3.StringUtils;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
-import java.util.List;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static io.jmix.gradle.AnnotationsInfo.ClassAnnotation.*;
@@ -143,7 +142,7 @@ public class EntityEntryEnhancingStep extends BaseEnhancingStep {
         setupSoftDelete(nestedCtClass, ctClass, info);
         setupHasUuid(nestedCtClass, ctClass, info);
         setupVersion(nestedCtClass, ctClass, info);
-
+        setupOrdinalAccess(nestedCtClass, ctClass);
 
         nestedCtClass.writeFile(outputDir);
     }
@@ -281,6 +280,115 @@ public class EntityEntryEnhancingStep extends BaseEnhancingStep {
         }
     }
 
+    /**
+     * Generates the attribute names array and {@code switch}-based accessors used by
+     * {@code io.jmix.core.entity.BaseEntityEntry} to get and set attribute values by ordinal.
+     * <p>
+     * Ordinals are indexes of the fields in the class hierarchy starting from the root class, so an attribute
+     * has the same ordinal in the declaring class and all its descendants.
+     */
+    protected void setupOrdinalAccess(CtClass nestedClass, CtClass ctClass)
+            throws NotFoundException, CannotCompileException {
+        List<CtField> fields = collectOrdinalFields(ctClass);
+        if (fields.isEmpty()) {
+            return;
+        }
+
+        CtField namesField = CtField.make(String.format("public static final String[] %s = new String[]{%s};",
+                ATTRIBUTE_NAMES_FIELD_NAME,
+                fields.stream()
+                        .map(field -> '"' + field.getName() + '"')
+                        .collect(Collectors.joining(","))), nestedClass);
+        nestedClass.addField(namesField);
+
+        CtClass objectClass = classPool.get(Object.class.getName());
+
+        nestedClass.addMethod(CtNewMethod.make(Modifier.PROTECTED, classPool.get(String[].class.getName()),
+                "getOrdinalAttributeNames", null, null,
+                String.format("return %s;", ATTRIBUTE_NAMES_FIELD_NAME),
+                nestedClass));
+
+        StringBuilder getterBody = new StringBuilder();
+        StringBuilder setterBody = new StringBuilder();
+        getterBody.append(String.format("{ %s entity = (%s) getSource(); switch ($1) {", ctClass.getName(), ctClass.getName()));
+        setterBody.append(String.format("{ %s entity = (%s) getSource(); switch ($1) {", ctClass.getName(), ctClass.getName()));
+
+        for (int ordinal = 0; ordinal < fields.size(); ordinal++) {
+            String capitalizedName = StringUtils.capitalize(fields.get(ordinal).getName());
+
+            CtMethod getter = findAccessor(ctClass, "get" + capitalizedName, 0);
+            if (getter == null) {
+                getter = findAccessor(ctClass, "is" + capitalizedName, 0);
+            }
+            if (getter != null) {
+                getterBody.append(String.format(" case %d: return ($w) entity.%s();", ordinal, getter.getName()));
+            }
+
+            CtMethod setter = findAccessor(ctClass, "set" + capitalizedName, 1);
+            if (setter != null) {
+                setterBody.append(String.format(" case %d: entity.%s(%s); return;",
+                        ordinal, setter.getName(), castFromObject(setter.getParameterTypes()[0], "$2")));
+            }
+        }
+
+        // attributes without accessors are processed by name
+        getterBody.append(String.format(" } return getAttributeValue(%s[$1]); }", ATTRIBUTE_NAMES_FIELD_NAME));
+        setterBody.append(String.format(" } setAttributeValue(%s[$1], $2, false); }", ATTRIBUTE_NAMES_FIELD_NAME));
+
+        nestedClass.addMethod(CtNewMethod.make(Modifier.PROTECTED, objectClass, "getAttributeValueByOrdinal",
+                new CtClass[]{CtClass.intType}, null, getterBody.toString(), nestedClass));
+        nestedClass.addMethod(CtNewMethod.make(Modifier.PROTECTED, CtClass.voidType, "setAttributeValueByOrdinal",
+                new CtClass[]{CtClass.intType, objectClass}, null, setterBody.toString(), nestedClass));
+
+        logger.debug(String.format("Ordinal access enabled for %s. Attributes: %s", ctClass.getSimpleName(),
+                fields.stream().map(CtField::getName).collect(Collectors.joining(", "))));
+    }
+
+    protected List<CtField> collectOrdinalFields(CtClass ctClass) throws NotFoundException {
+        Deque<CtClass> hierarchy = new ArrayDeque<>();
+        for (CtClass current = ctClass;
+             current != null && !Object.class.getName().equals(current.getName());
+             current = current.getSuperclass()) {
+            hierarchy.push(current);
+        }
+
+        List<CtField> fields = new ArrayList<>();
+        for (CtClass current : hierarchy) {
+            for (CtField field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())
+                        || (field.getFieldInfo2().getAccessFlags() & AccessFlag.SYNTHETIC) != 0
+                        || field.getName().startsWith("_persistence_")
+                        || field.getName().equals(GEN_ENTITY_ENTRY_VAR_NAME)) {
+                    continue;
+                }
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    @Nullable
+    protected CtMethod findAccessor(CtClass ctClass, String name, int parameterCount) throws NotFoundException {
+        for (CtMethod method : ctClass.getMethods()) {
+            if (method.getName().equals(name)
+                    && !Modifier.isStatic(method.getModifiers())
+                    && method.getParameterTypes().length == parameterCount
+                    && (parameterCount != 0 || method.getReturnType() != CtClass.voidType)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    protected String castFromObject(CtClass type, String expression) {
+        if (type.isPrimitive()) {
+            CtPrimitiveType primitiveType = (CtPrimitiveType) type;
+            return String.format("((%s) %s).%s()",
+                    primitiveType.getWrapperName(), expression, primitiveType.getGetMethodName());
+        }
+        return String.format("(%s) %s", type.getName(), expression);
+    }
+
     protected void setupHasUuidForField(CtClass nestedClass, CtClass ctClass, String uuidFieldName)
             throws NotFoundException, CannotCompileException {
         CtClass uuidClass = classPool.get(UUID.class.getName());
@@ -59,6 +59,7 @@ public class MetaModelUtil {
 
     public static final String GEN_ENTITY_ENTRY_VAR_NAME = "_jmixEntityEntry";
     public static final String GEN_ENTITY_ENTRY_CLASS_NAME = "JmixEntityEntry";
+    public static final String ATTRIBUTE_NAMES_FIELD_NAME = "ATTRIBUTE_NAMES";
 
     public static boolean isSettersEnhanced(CtClass ctClass) throws NotFoundException {
         for (CtClass ctInterface : ctClass.getInterfaces()) {
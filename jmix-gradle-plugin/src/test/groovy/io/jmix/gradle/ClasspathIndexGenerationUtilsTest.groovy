@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.gradle
+
+import classpath_index.AnnotatedFixture
+import classpath_index.ExtendingFixture
+import classpath_index.ImplementingFixture
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Path
+import java.nio.file.Paths
+
+class ClasspathIndexGenerationUtilsTest extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    def "index maps annotations, interfaces and superclasses to classes declaring them"() {
+        given:
+        def classesDir = Paths.get(AnnotatedFixture.protectionDomain.codeSource.location.toURI()).toFile()
+        def indexFileName = tempDir.resolve("classpath_index/${ClasspathIndexGenerationUtils.CLASSPATH_INDEX_FILE_NAME}").toString()
+
+        when:
+        def indexFile = ClasspathIndexGenerationUtils.constructClasspathIndex(classesDir, 'classpath_index', indexFileName)
+        def index = new Properties()
+        indexFile.withInputStream { index.load(it) }
+
+        then:
+        index.getProperty(Deprecated.name) == AnnotatedFixture.name
+        index.getProperty(Serializable.name) == ImplementingFixture.name
+        index.getProperty(ImplementingFixture.name) == ExtendingFixture.name
+        !index.containsKey(Object.name)
+    }
+
+    def "index of a package without classes is empty"() {
+        given:
+        def indexFileName = tempDir.resolve("empty/${ClasspathIndexGenerationUtils.CLASSPATH_INDEX_FILE_NAME}").toString()
+
+        when:
+        def indexFile = ClasspathIndexGenerationUtils.constructClasspathIndex(
+                tempDir.resolve('classes').toFile(), 'not_existing', indexFileName)
+        def index = new Properties()
+        indexFile.withInputStream { index.load(it) }
+
+        then:
+        indexFile.exists()
+        index.isEmpty()
+    }
+}
@@ -17,6 +17,8 @@
 package io.jmix.graphql;
 
 import com.fasterxml.jackson.databind.ser.std.DateSerializer;
+import graphql.GraphQL;
+import graphql.execution.instrumentation.ChainedInstrumentation;
 import graphql.execution.instrumentation.Instrumentation;
 import graphql.schema.FieldCoordinates;
 import graphql.schema.GraphQLCodeRegistry;
@@ -26,6 +28,7 @@ import io.jmix.core.AccessManager;
 import io.jmix.core.CoreConfiguration;
 import io.jmix.core.Messages;
 import io.jmix.core.annotation.JmixModule;
+import io.jmix.graphql.cache.CachingPreparsedDocumentProvider;
 import io.jmix.graphql.datafetcher.MessagesDataFetcher;
 import io.jmix.graphql.datafetcher.PermissionDataFetcher;
 import io.jmix.graphql.limitation.JmixMaxQueryDepthInstrumentation;
@@ -143,6 +146,14 @@ public class GraphQLConfiguration {
         );
     }
 
+    @Bean
+    public GraphQL graphQL(GraphQLSchema graphQLSchema, CachingPreparsedDocumentProvider preparsedDocumentProvider) {
+        return GraphQL.newGraphQL(graphQLSchema)
+                .instrumentation(new ChainedInstrumentation(instrumentationList()))
+                .preparsedDocumentProvider(preparsedDocumentProvider)
+                .build();
+    }
+
     @Bean
     public Jackson2ObjectMapperBuilderCustomizer jacksonCustomizer() {
         return builder -> builder.serializerByType(Timestamp.class,
@@ -26,11 +26,97 @@ public class GraphQlProperties {
 
     Boolean multipleSortSupported = false;
 
-    public GraphQlProperties(@DefaultValue("false") Boolean multipleSortSupported) {
+    /**
+     * Maximum number of parsed and validated query documents kept in the cache. Zero disables caching.
+     */
+    int documentCacheSize;
+
+    /**
+     * Maximum number of fetch plans built for selection sets of queries kept in the cache. Zero disables caching.
+     */
+    int fetchPlanCacheSize;
+
+    /**
+     * Whether clients can send the SHA-256 hash of a previously sent query instead of the query text.
+     */
+    boolean persistedQueriesEnabled;
+
+    /**
+     * Whether query data fetchers return loaded entities as is, and entity attributes are read by property data
+     * fetchers. If false, entities are converted to maps before returning from query data fetchers.
+     */
+    boolean writeEntitiesDirectly;
+
+    /**
+     * Whether nested entities selected by list and by id queries are loaded separately for each nesting level,
+     * with one load of all references of the level. Works only if {@link #writeEntitiesDirectly} is true.
+     */
+    boolean batchLoadingEnabled;
+
+    /**
+     * Maximum number of identifiers passed to one query when nested entities are loaded by batches.
+     */
+    int batchLoadingMaxIds;
+
+    public GraphQlProperties(@DefaultValue("false") Boolean multipleSortSupported,
+                             @DefaultValue("1000") int documentCacheSize,
+                             @DefaultValue("1000") int fetchPlanCacheSize,
+                             @DefaultValue("false") boolean persistedQueriesEnabled,
+                             @DefaultValue("true") boolean writeEntitiesDirectly,
+                             @DefaultValue("false") boolean batchLoadingEnabled,
+                             @DefaultValue("500") int batchLoadingMaxIds) {
         this.multipleSortSupported = multipleSortSupported;
+        this.documentCacheSize = documentCacheSize;
+        this.fetchPlanCacheSize = fetchPlanCacheSize;
+        this.persistedQueriesEnabled = persistedQueriesEnabled;
+        this.writeEntitiesDirectly = writeEntitiesDirectly;
+        this.batchLoadingEnabled = batchLoadingEnabled;
+        this.batchLoadingMaxIds = batchLoadingMaxIds;
     }
 
     public Boolean isMultipleSortSupported() {
         return multipleSortSupported;
     }
+
+    /**
+     * @see #documentCacheSize
+     */
+    public int getDocumentCacheSize() {
+        return documentCacheSize;
+    }
+
+    /**
+     * @see #fetchPlanCacheSize
+     */
+    public int getFetchPlanCacheSize() {
+        return fetchPlanCacheSize;
+    }
+
+    /**
+     * @see #persistedQueriesEnabled
+     */
+    public boolean isPersistedQueriesEnabled() {
+        return persistedQueriesEnabled;
+    }
+
+    /**
+     * @see #writeEntitiesDirectly
+     */
+    public boolean isWriteEntitiesDirectly() {
+        return writeEntitiesDirectly;
+    }
+
+    /**
+     * @see #batchLoadingEnabled
+     */
+    public boolean isBatchLoadingEnabled() {
+        return batchLoadingEnabled;
+    }
+
+    /**
+     * @see #batchLoadingMaxIds
+     */
+    public int getBatchLoadingMaxIds() {
+        return batchLoadingMaxIds;
+    }
 }
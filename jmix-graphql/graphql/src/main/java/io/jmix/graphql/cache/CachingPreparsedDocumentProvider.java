@@ -0,0 +1,134 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.graphql.cache;
+
+import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import io.jmix.graphql.GraphQlProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Keeps parsed and validated query documents in a bounded cache, so repeated operations skip parsing and validation.
+ * <p>
+ * If {@link GraphQlProperties#isPersistedQueriesEnabled()} is true, supports the automatic persisted queries protocol:
+ * a client can send the SHA-256 hash of the query in the {@code persistedQuery.sha256Hash} extension instead of
+ * the query text. If the hash is unknown, the {@value #PERSISTED_QUERY_NOT_FOUND} error is returned and the client
+ * should repeat the request with both the hash and the query text.
+ */
+@Component("gql_CachingPreparsedDocumentProvider")
+public class CachingPreparsedDocumentProvider implements PreparsedDocumentProvider {
+
+    public static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+    public static final String PERSISTED_QUERY_HASH_MISMATCH = "PersistedQueryHashMismatch";
+
+    protected static final String PERSISTED_QUERY_EXTENSION = "persistedQuery";
+    protected static final String SHA256_HASH = "sha256Hash";
+
+    protected final boolean persistedQueriesEnabled;
+    protected final Cache<String, PreparsedDocumentEntry> documents;
+
+    @Autowired
+    public CachingPreparsedDocumentProvider(GraphQlProperties properties) {
+        persistedQueriesEnabled = properties.isPersistedQueriesEnabled();
+        documents = properties.getDocumentCacheSize() > 0 || persistedQueriesEnabled
+                ? CacheBuilder.newBuilder()
+                .maximumSize(Math.max(properties.getDocumentCacheSize(), 1))
+                .recordStats()
+                .build()
+                : null;
+    }
+
+    @Override
+    public PreparsedDocumentEntry getDocument(ExecutionInput executionInput,
+                                              Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        if (documents == null) {
+            return parseAndValidateFunction.apply(executionInput);
+        }
+
+        String query = executionInput.getQuery();
+        String key = query;
+
+        String hash = persistedQueriesEnabled ? getPersistedQueryHash(executionInput) : null;
+        if (hash != null) {
+            if (Strings.isNullOrEmpty(query)) {
+                PreparsedDocumentEntry entry = documents.getIfPresent(hash);
+                return entry != null ? entry : createErrorEntry(PERSISTED_QUERY_NOT_FOUND);
+            }
+            if (!hash.equalsIgnoreCase(Hashing.sha256().hashString(query, StandardCharsets.UTF_8).toString())) {
+                return createErrorEntry(PERSISTED_QUERY_HASH_MISMATCH);
+            }
+            key = hash.toLowerCase();
+        }
+
+        try {
+            return documents.get(key, () -> parseAndValidateFunction.apply(executionInput));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            // rethrow exceptions of instrumentations aborting the execution as is
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * @return hit and miss counters of the document cache, or null if caching is disabled
+     */
+    @Nullable
+    public CacheStats getStats() {
+        return documents != null ? documents.stats() : null;
+    }
+
+    public void invalidateAll() {
+        if (documents != null) {
+            documents.invalidateAll();
+        }
+    }
+
+    @Nullable
+    protected String getPersistedQueryHash(ExecutionInput executionInput) {
+        Map<String, Object> extensions = executionInput.getExtensions();
+        if (extensions == null) {
+            return null;
+        }
+        Object persistedQuery = extensions.get(PERSISTED_QUERY_EXTENSION);
+        if (persistedQuery instanceof Map) {
+            Object hash = ((Map<?, ?>) persistedQuery).get(SHA256_HASH);
+            return hash instanceof String ? (String) hash : null;
+        }
+        return null;
+    }
+
+    protected PreparsedDocumentEntry createErrorEntry(String message) {
+        return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError().message(message).build());
+    }
+}
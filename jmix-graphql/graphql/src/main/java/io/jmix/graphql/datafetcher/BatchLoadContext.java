@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.graphql.datafetcher;
+
+import io.jmix.core.FetchPlan;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Local context of entities loaded by {@link NestedEntityBatchLoader}. Keeps the requested fetch plan of the entities
+ * and the nested entities loaded separately, grouped by ids of the entities referencing them.
+ */
+public class BatchLoadContext {
+
+    protected final FetchPlan fetchPlan;
+    protected final FetchPlan loadFetchPlan;
+    protected final Map<String, Map<Object, Object>> values = new HashMap<>();
+    protected final Map<String, BatchLoadContext> nestedContexts = new HashMap<>();
+
+    public BatchLoadContext(FetchPlan fetchPlan, FetchPlan loadFetchPlan) {
+        this.fetchPlan = fetchPlan;
+        this.loadFetchPlan = loadFetchPlan;
+    }
+
+    /**
+     * @return fetch plan built for the query selection
+     */
+    public FetchPlan getFetchPlan() {
+        return fetchPlan;
+    }
+
+    /**
+     * @return fetch plan of the entities load, without the properties loaded separately
+     */
+    public FetchPlan getLoadFetchPlan() {
+        return loadFetchPlan;
+    }
+
+    /**
+     * @return true if values of the property are loaded separately
+     */
+    public boolean isBatched(String property) {
+        return values.containsKey(property);
+    }
+
+    /**
+     * @return nested entity or collection of nested entities referenced by the entity with the given id
+     */
+    @Nullable
+    public Object getValue(String property, Object id) {
+        Map<Object, Object> propertyValues = values.get(property);
+        return propertyValues != null ? propertyValues.get(id) : null;
+    }
+
+    /**
+     * @return local context of the nested entities
+     */
+    @Nullable
+    public BatchLoadContext getNestedContext(String property) {
+        return nestedContexts.get(property);
+    }
+
+    public void setValues(String property, Map<Object, Object> propertyValues, BatchLoadContext nestedContext) {
+        values.put(property, propertyValues);
+        nestedContexts.put(property, nestedContext);
+    }
+}
@@ -1,19 +1,33 @@
 package io.jmix.graphql.datafetcher;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import graphql.schema.DataFetchingEnvironment;
 import io.jmix.core.*;
 import io.jmix.core.accesscontext.EntityAttributeContext;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetadataObject;
+import io.jmix.core.security.CurrentAuthentication;
+import io.jmix.graphql.GraphQlProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.Nullable;
+import javax.annotation.PostConstruct;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 @Component("gql_DataFetcherPlanBuilder")
@@ -31,12 +45,53 @@ public class DataFetcherPlanBuilder {
     private AccessManager accessManager;
     @Autowired
     private FetchPlans fetchPlans;
+    @Autowired
+    private CurrentAuthentication currentAuthentication;
+    @Autowired
+    private GraphQlProperties graphQlProperties;
+
+    private Cache<FetchPlanKey, FetchPlan> fetchPlanCache;
 
     private final static Logger log = LoggerFactory.getLogger(DataFetcherPlanBuilder.class);
 
+    @PostConstruct
+    protected void init() {
+        if (graphQlProperties.getFetchPlanCacheSize() > 0) {
+            fetchPlanCache = CacheBuilder.newBuilder()
+                    .maximumSize(graphQlProperties.getFetchPlanCacheSize())
+                    .recordStats()
+                    .build();
+        }
+    }
+
     public <E extends Entity> FetchPlan buildFetchPlan(Class<E> entityClass, DataFetchingEnvironment environment) {
         MetaClass metaClass = metadata.getClass(entityClass);
-        List<String> properties = excludeForbiddenProperties(metaClass, environmentUtils.getEntityProperties(environment));
+        // the same selection gives the same fetch plan unless the user has other permissions
+        Set<String> propertyPaths = new TreeSet<>(environmentUtils.getDotDelimitedProps(environment));
+        if (fetchPlanCache == null) {
+            return buildFetchPlan(metaClass, propertyPaths);
+        }
+
+        FetchPlanKey key = new FetchPlanKey(metaClass.getName(), propertyPaths, getAuthorities());
+        try {
+            return fetchPlanCache.get(key, () -> buildFetchPlan(metaClass, propertyPaths));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * @return hit and miss counters of the fetch plan cache, or null if caching is disabled
+     */
+    @Nullable
+    public CacheStats getFetchPlanCacheStats() {
+        return fetchPlanCache != null ? fetchPlanCache.stats() : null;
+    }
+
+    protected FetchPlan buildFetchPlan(MetaClass metaClass, Set<String> propertyPaths) {
+        Class<?> entityClass = metaClass.getJavaClass();
+        List<String> properties = excludeForbiddenProperties(metaClass, environmentUtils.getEntityProperties(propertyPaths));
 
         log.debug("properties {}", properties);
 
@@ -44,7 +99,7 @@ public class DataFetcherPlanBuilder {
         io.jmix.core.FetchPlanBuilder fetchPlanBuilder = fetchPlans.builder(entityClass);
 
         // todo support _instName for nested entities too
-        if (environmentUtils.hasInstanceNameProperty(environment)) {
+        if (environmentUtils.hasInstanceNameProperty(propertyPaths)) {
             Collection<String> instanceNameRelatedProperties = metadataTools
                     .getInstanceNameRelatedProperties(metaClass).stream()
                     .map(MetadataObject::getName)
@@ -58,6 +113,16 @@ public class DataFetcherPlanBuilder {
                 .build();
     }
 
+    private Set<String> getAuthorities() {
+        Set<String> authorities = new TreeSet<>();
+        if (currentAuthentication.isSet()) {
+            for (GrantedAuthority authority : currentAuthentication.getAuthentication().getAuthorities()) {
+                authorities.add(authority.getAuthority());
+            }
+        }
+        return authorities;
+    }
+
     private List<String> excludeForbiddenProperties(MetaClass metaClass, Collection<String> properties) {
         List<String> result = new ArrayList<>();
         properties.forEach(property -> {
@@ -69,4 +134,31 @@ public class DataFetcherPlanBuilder {
         });
         return result;
     }
+
+    private static class FetchPlanKey {
+        private final String entityName;
+        private final Set<String> propertyPaths;
+        private final Set<String> authorities;
+
+        private FetchPlanKey(String entityName, Set<String> propertyPaths, Set<String> authorities) {
+            this.entityName = entityName;
+            this.propertyPaths = propertyPaths;
+            this.authorities = authorities;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            FetchPlanKey that = (FetchPlanKey) o;
+            return entityName.equals(that.entityName)
+                    && propertyPaths.equals(that.propertyPaths)
+                    && authorities.equals(that.authorities);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(entityName, propertyPaths, authorities);
+        }
+    }
 }
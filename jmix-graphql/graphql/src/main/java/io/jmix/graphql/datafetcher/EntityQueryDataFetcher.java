@@ -1,5 +1,6 @@
 package io.jmix.graphql.datafetcher;
 
+import graphql.execution.DataFetcherResult;
 import graphql.schema.DataFetcher;
 import io.jmix.core.AccessManager;
 import io.jmix.core.DataManager;
@@ -60,6 +61,8 @@ public class EntityQueryDataFetcher {
     protected QueryDataFetcherLoader queryDataFetcherLoader;
     @Autowired
     protected IdentifierService identifierService;
+    @Autowired
+    protected NestedEntityBatchLoader nestedEntityBatchLoader;
 
     private static final String GRAPHQL_ENTITY_LOADER_METHOD_NAME = GraphQLEntityDataFetcher.class.getDeclaredMethods()[0].getName();
 
@@ -84,21 +87,29 @@ public class EntityQueryDataFetcher {
 
             log.debug("loadEntity: with context {}", lc);
             if (queryDataFetcherLoader.getCustomEntityFetcher(metaClass.getJavaClass()) == null) {
+                if (nestedEntityBatchLoader.isEnabled()) {
+                    BatchLoadContext batchLoadContext = nestedEntityBatchLoader.createContext(fetchPlan);
+                    lc.setFetchPlan(batchLoadContext.getLoadFetchPlan());
+                    Object entity = dataManager.load(lc);
+                    if (entity == null) return null;
+                    nestedEntityBatchLoader.loadNested(batchLoadContext, Collections.singletonList(entity));
+                    return DataFetcherResult.newResult().data(entity).localContext(batchLoadContext).build();
+                }
                 Object entity = dataManager.load(lc);
                 if (entity == null) return null;
-                return responseBuilder.buildResponse((Entity) entity, fetchPlan, metaClass, environmentUtils.getDotDelimitedProps(environment));
+                return responseBuilder.buildResult((Entity) entity, fetchPlan, metaClass, environmentUtils.getDotDelimitedProps(environment));
             } else {
                 Object bean = queryDataFetcherLoader.getCustomEntityFetcher(metaClass.getJavaClass());
                 Method method = bean.getClass().getDeclaredMethod(GRAPHQL_ENTITY_LOADER_METHOD_NAME,
                         GraphQLEntityDataFetcherContext.class);
-                return responseBuilder.buildResponse((Entity) method.invoke(bean,
+                return responseBuilder.buildResult((Entity) method.invoke(bean,
                                 new GraphQLEntityDataFetcherContext(metaClass, id, lc, fetchPlan)), fetchPlan, metaClass,
                         environmentUtils.getDotDelimitedProps(environment));
             }
         };
     }
 
-    public DataFetcher<List<Map<String, Object>>> loadEntities(MetaClass metaClass) {
+    public DataFetcher<?> loadEntities(MetaClass metaClass) {
 
         return environment -> {
             checkCanReadEntity(metaClass);
@@ -146,6 +157,15 @@ public class EntityQueryDataFetcher {
             }
             List<Object> objects;
             if (queryDataFetcherLoader.getCustomEntitiesFetcher(metaClass.getJavaClass()) == null) {
+                if (nestedEntityBatchLoader.isEnabled()) {
+                    BatchLoadContext batchLoadContext = nestedEntityBatchLoader.createContext(fetchPan);
+                    ctx.setFetchPlan(batchLoadContext.getLoadFetchPlan());
+                    objects = dataManager.loadList(ctx);
+                    nestedEntityBatchLoader.loadNested(batchLoadContext, objects);
+
+                    log.debug("loadEntities return {} objects for {}", objects.size(), metaClass.getName());
+                    return DataFetcherResult.newResult().data(objects).localContext(batchLoadContext).build();
+                }
                 objects = dataManager.loadList(ctx);
             } else {
                 Object bean = queryDataFetcherLoader.getCustomEntitiesFetcher(metaClass.getJavaClass());
@@ -156,12 +176,8 @@ public class EntityQueryDataFetcher {
             }
 
             Set<String> props = environmentUtils.getDotDelimitedProps(environment);
-            List<Map<String, Object>> entitiesAsMap = objects.stream()
-                    .map(e -> responseBuilder.buildResponse((Entity) e, fetchPan, metaClass, props))
-                    .collect(Collectors.toList());
-
-            log.debug("loadEntities return {} objects for {}", entitiesAsMap.size(), metaClass.getName());
-            return entitiesAsMap;
+            log.debug("loadEntities return {} objects for {}", objects.size(), metaClass.getName());
+            return responseBuilder.buildResult(objects, fetchPan, metaClass, props);
         };
     }
 
@@ -34,6 +34,7 @@ import org.springframework.web.context.request.ServletWebRequest;
 import javax.annotation.Nullable;
 import javax.servlet.http.HttpServletRequest;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -81,7 +82,21 @@ public class EnvironmentUtils {
      * @return only properties that exist in entity as fields
      */
     public List<String> getEntityProperties(DataFetchingEnvironment environment) {
-        return getPropertyPaths(environment)
+        return getEntityProperties(getPropertyPaths(environment));
+    }
+
+    /**
+     * Filter out system properties such _instanceName or --typeName that not exist as entity fields.
+     *
+     * @param propertyPaths dot delimited property paths selected in query
+     * @return only properties that exist in entity as fields
+     */
+    public List<String> getEntityProperties(Collection<String> propertyPaths) {
+        return getEntityProperties(propertyPaths.stream());
+    }
+
+    protected List<String> getEntityProperties(Stream<String> propertyPaths) {
+        return propertyPaths
                 // remove '__typename' from fetch plan
                 .filter(propertyNotMatch(NamingUtils.SYS_ATTR_TYPENAME))
                 // todo fetch failed, if we need to return instanceName in nested entity,
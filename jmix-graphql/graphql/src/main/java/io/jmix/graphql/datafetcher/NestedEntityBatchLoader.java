@@ -0,0 +1,334 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.graphql.datafetcher;
+
+import com.google.common.collect.Iterables;
+import io.jmix.core.*;
+import io.jmix.core.entity.EntityValues;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.metamodel.model.Range;
+import io.jmix.graphql.GraphQlProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.OrderBy;
+import java.util.*;
+
+/**
+ * Loads nested entities selected by a query level by level: all references to the same entity and all collections
+ * of the same property found in the entities of a level are loaded by one {@link DataManager} call per chunk of
+ * identifiers, instead of being joined or fetched together with the referencing entities.
+ * <p>
+ * Batched are to-one references stored in the referencing entity and to-many collections mapped by such a reference.
+ * Other references are loaded by the fetch plan of their level as before. Collections are ordered according to
+ * their {@link OrderBy} annotation, soft deleted entities are returned in to-one references as by the regular load.
+ */
+@Component("gql_NestedEntityBatchLoader")
+public class NestedEntityBatchLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(NestedEntityBatchLoader.class);
+
+    protected static final String SOFT_DELETION_HINT = "jmix.softDeletion";
+
+    @Autowired
+    protected DataManager dataManager;
+    @Autowired
+    protected Metadata metadata;
+    @Autowired
+    protected MetadataTools metadataTools;
+    @Autowired
+    protected FetchPlans fetchPlans;
+    @Autowired
+    protected GraphQlProperties graphQlProperties;
+
+    protected boolean enabled;
+
+    @PostConstruct
+    protected void init() {
+        enabled = graphQlProperties.isBatchLoadingEnabled() && graphQlProperties.isWriteEntitiesDirectly();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Creates context for loading of entities by the given fetch plan. The entities must be loaded with
+     * {@link BatchLoadContext#getLoadFetchPlan()} and then passed to {@link #loadNested(BatchLoadContext, Collection)}.
+     *
+     * @param fetchPlan fetch plan built for the query selection
+     * @return batch load context
+     */
+    public BatchLoadContext createContext(FetchPlan fetchPlan) {
+        return new BatchLoadContext(fetchPlan, createLoadFetchPlan(fetchPlan));
+    }
+
+    /**
+     * Loads nested entities of all levels of the fetch plan and stores them in the context.
+     *
+     * @param context  context created for the entities
+     * @param entities loaded entities
+     */
+    public void loadNested(BatchLoadContext context, Collection<?> entities) {
+        List<LevelEntities> level = Collections.singletonList(new LevelEntities(context, entities));
+        while (!level.isEmpty()) {
+            level = loadLevel(level);
+        }
+    }
+
+    /**
+     * Loads batched properties of all entities of a level.
+     *
+     * @return entities of the next level
+     */
+    protected List<LevelEntities> loadLevel(List<LevelEntities> level) {
+        Map<MetaClass, List<PropertyBatch>> references = new LinkedHashMap<>();
+        Map<MetaProperty, List<PropertyBatch>> collections = new LinkedHashMap<>();
+        for (LevelEntities levelEntities : level) {
+            MetaClass metaClass = metadata.getClass(levelEntities.context.getFetchPlan().getEntityClass());
+            for (FetchPlanProperty property : levelEntities.context.getFetchPlan().getProperties()) {
+                MetaProperty metaProperty = metaClass.getProperty(property.getName());
+                if (property.getFetchPlan() == null || !isBatched(metaProperty)) {
+                    continue;
+                }
+                PropertyBatch batch = new PropertyBatch(levelEntities, metaProperty, createContext(property.getFetchPlan()));
+                if (metaProperty.getRange().getCardinality().isMany()) {
+                    collections.computeIfAbsent(metaProperty, key -> new ArrayList<>()).add(batch);
+                } else {
+                    references.computeIfAbsent(metaProperty.getRange().asClass(), key -> new ArrayList<>()).add(batch);
+                }
+            }
+        }
+
+        references.forEach(this::loadReferences);
+        collections.forEach(this::loadCollections);
+
+        List<LevelEntities> nextLevel = new ArrayList<>();
+        for (List<PropertyBatch> batches : Iterables.concat(references.values(), collections.values())) {
+            for (PropertyBatch batch : batches) {
+                batch.owner.context.setValues(batch.metaProperty.getName(), batch.values, batch.nestedContext);
+                if (!batch.nestedEntities.isEmpty()) {
+                    nextLevel.add(new LevelEntities(batch.nestedContext, batch.nestedEntities));
+                }
+            }
+        }
+        return nextLevel;
+    }
+
+    protected void loadReferences(MetaClass metaClass, List<PropertyBatch> batches) {
+        FetchPlanBuilder fetchPlanBuilder = fetchPlans.builder(metaClass.getJavaClass());
+        Set<Object> referenceIds = new LinkedHashSet<>();
+        Map<PropertyBatch, Map<Object, Object>> batchReferenceIds = new HashMap<>();
+        for (PropertyBatch batch : batches) {
+            fetchPlanBuilder.merge(batch.nestedContext.getLoadFetchPlan());
+            Map<Object, Object> ids = new HashMap<>();
+            for (Object entity : batch.owner.entities) {
+                Object reference = EntityValues.getValue(entity, batch.metaProperty.getName());
+                if (reference != null) {
+                    Object referenceId = EntityValues.getId(reference);
+                    ids.put(EntityValues.getId(entity), referenceId);
+                    referenceIds.add(referenceId);
+                }
+            }
+            batchReferenceIds.put(batch, ids);
+        }
+        if (referenceIds.isEmpty()) {
+            return;
+        }
+
+        FetchPlan fetchPlan = fetchPlanBuilder.build();
+        Map<Object, Object> referencesById = new HashMap<>();
+        loadByIds(metaClass, referenceIds, fetchPlan, true, referencesById);
+        if (referencesById.size() < referenceIds.size()) {
+            // references to soft deleted entities are loaded by the regular load too
+            Set<Object> missingIds = new LinkedHashSet<>(referenceIds);
+            missingIds.removeAll(referencesById.keySet());
+            loadByIds(metaClass, missingIds, fetchPlan, false, referencesById);
+        }
+        log.debug("Loaded {} instances of {}", referencesById.size(), metaClass);
+
+        for (PropertyBatch batch : batches) {
+            Map<Object, Object> nestedEntities = new LinkedHashMap<>();
+            batchReferenceIds.get(batch).forEach((id, referenceId) -> {
+                Object reference = referencesById.get(referenceId);
+                if (reference != null) {
+                    batch.values.put(id, reference);
+                    nestedEntities.put(referenceId, reference);
+                }
+            });
+            batch.nestedEntities = new ArrayList<>(nestedEntities.values());
+        }
+    }
+
+    protected void loadByIds(MetaClass metaClass, Collection<Object> ids, FetchPlan fetchPlan, boolean softDeletion,
+                             Map<Object, Object> result) {
+        for (List<Object> chunk : Iterables.partition(ids, graphQlProperties.getBatchLoadingMaxIds())) {
+            List<Object> entities = dataManager.load(metaClass.getJavaClass())
+                    .ids(chunk)
+                    .fetchPlan(fetchPlan)
+                    .hint(SOFT_DELETION_HINT, softDeletion)
+                    .list();
+            for (Object entity : entities) {
+                result.put(EntityValues.getId(entity), entity);
+            }
+        }
+    }
+
+    protected void loadCollections(MetaProperty metaProperty, List<PropertyBatch> batches) {
+        MetaClass nestedMetaClass = metaProperty.getRange().asClass();
+        String inverseProperty = metaProperty.getInverse().getName();
+
+        FetchPlanBuilder fetchPlanBuilder = fetchPlans.builder(nestedMetaClass.getJavaClass())
+                .add(inverseProperty);
+        Map<Object, List<Object>> collectionsById = new LinkedHashMap<>();
+        for (PropertyBatch batch : batches) {
+            fetchPlanBuilder.merge(batch.nestedContext.getLoadFetchPlan());
+            for (Object entity : batch.owner.entities) {
+                collectionsById.put(EntityValues.getId(entity), new ArrayList<>());
+            }
+        }
+        if (collectionsById.isEmpty()) {
+            return;
+        }
+
+        String queryString = String.format("select e from %s e where e.%s.%s in :ids order by %s",
+                nestedMetaClass.getName(), inverseProperty,
+                metadataTools.getPrimaryKeyName(metaProperty.getDomain()),
+                getOrderByClause(metaProperty));
+        FetchPlan fetchPlan = fetchPlanBuilder.build();
+
+        int count = 0;
+        for (List<Object> chunk : Iterables.partition(collectionsById.keySet(), graphQlProperties.getBatchLoadingMaxIds())) {
+            List<Object> nestedEntities = dataManager.load(nestedMetaClass.getJavaClass())
+                    .query(queryString)
+                    .parameter("ids", chunk)
+                    .fetchPlan(fetchPlan)
+                    .list();
+            for (Object nestedEntity : nestedEntities) {
+                Object owner = EntityValues.getValue(nestedEntity, inverseProperty);
+                if (owner != null) {
+                    collectionsById.get(EntityValues.getId(owner)).add(nestedEntity);
+                }
+            }
+            count += nestedEntities.size();
+        }
+        log.debug("Loaded {} instances of {}", count, metaProperty);
+
+        for (PropertyBatch batch : batches) {
+            Map<Object, Object> nestedEntities = new LinkedHashMap<>();
+            for (Object entity : batch.owner.entities) {
+                Object id = EntityValues.getId(entity);
+                List<Object> collection = collectionsById.get(id);
+                batch.values.put(id, new ArrayList<>(collection));
+                for (Object nestedEntity : collection) {
+                    nestedEntities.put(EntityValues.getId(nestedEntity), nestedEntity);
+                }
+            }
+            batch.nestedEntities = new ArrayList<>(nestedEntities.values());
+        }
+    }
+
+    /**
+     * Creates the order of collection elements by the {@link OrderBy} annotation of the collection property,
+     * or by the primary key if the annotation is absent or empty.
+     */
+    protected String getOrderByClause(MetaProperty metaProperty) {
+        OrderBy orderBy = metaProperty.getAnnotatedElement().getAnnotation(OrderBy.class);
+        if (orderBy == null || orderBy.value().trim().isEmpty()) {
+            return "e." + metadataTools.getPrimaryKeyName(metaProperty.getRange().asClass());
+        }
+        StringJoiner joiner = new StringJoiner(", ");
+        for (String item : orderBy.value().split(",")) {
+            joiner.add("e." + item.trim());
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Creates fetch plan of one level: batched references are replaced by their identifiers or excluded.
+     */
+    protected FetchPlan createLoadFetchPlan(FetchPlan fetchPlan) {
+        MetaClass metaClass = metadata.getClass(fetchPlan.getEntityClass());
+        FetchPlanBuilder builder = fetchPlans.builder(fetchPlan.getEntityClass());
+        for (FetchPlanProperty property : fetchPlan.getProperties()) {
+            MetaProperty metaProperty = metaClass.getProperty(property.getName());
+            if (property.getFetchPlan() == null || !isBatched(metaProperty)) {
+                builder.mergeProperty(property.getName(), property.getFetchPlan(), property.getFetchMode());
+            } else if (!metaProperty.getRange().getCardinality().isMany()) {
+                // only identifier of the reference
+                builder.add(property.getName());
+            }
+        }
+        return builder.build();
+    }
+
+    protected boolean isBatched(MetaProperty metaProperty) {
+        Range range = metaProperty.getRange();
+        if (!range.isClass()
+                || !metadataTools.isJpa(metaProperty)
+                || metadataTools.hasCompositePrimaryKey(metaProperty.getDomain())
+                || metadataTools.hasCompositePrimaryKey(range.asClass())) {
+            return false;
+        }
+        switch (range.getCardinality()) {
+            case MANY_TO_ONE:
+                return true;
+            case ONE_TO_ONE:
+                return metadataTools.isOwningSide(metaProperty);
+            case ONE_TO_MANY:
+                MetaProperty inverse = metaProperty.getInverse();
+                return inverse != null && inverse.getRange().getCardinality() == Range.Cardinality.MANY_TO_ONE;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Entities of a level together with their batch load context.
+     */
+    protected static class LevelEntities {
+        protected final BatchLoadContext context;
+        protected final Collection<?> entities;
+
+        protected LevelEntities(BatchLoadContext context, Collection<?> entities) {
+            this.context = context;
+            this.entities = entities;
+        }
+    }
+
+    /**
+     * Values of a batched property of the entities of a level.
+     */
+    protected static class PropertyBatch {
+        protected final LevelEntities owner;
+        protected final MetaProperty metaProperty;
+        protected final BatchLoadContext nestedContext;
+        protected final Map<Object, Object> values = new HashMap<>();
+        protected List<Object> nestedEntities = Collections.emptyList();
+
+        protected PropertyBatch(LevelEntities owner, MetaProperty metaProperty, BatchLoadContext nestedContext) {
+            this.owner = owner;
+            this.metaProperty = metaProperty;
+            this.nestedContext = nestedContext;
+        }
+    }
+}
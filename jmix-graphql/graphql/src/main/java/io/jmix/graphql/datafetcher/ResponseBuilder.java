@@ -16,7 +16,10 @@
 
 package io.jmix.graphql.datafetcher;
 
+import graphql.execution.DataFetcherResult;
+import graphql.schema.DataFetcher;
 import io.jmix.core.Entity;
+import io.jmix.core.EntityStates;
 import io.jmix.core.FetchPlan;
 import io.jmix.core.Metadata;
 import io.jmix.core.MetadataTools;
@@ -24,14 +27,18 @@ import io.jmix.core.entity.EntityValues;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.core.metamodel.model.Range;
+import io.jmix.graphql.GraphQlProperties;
 import io.jmix.graphql.NamingUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.Nullable;
+import javax.annotation.PostConstruct;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -39,7 +46,9 @@ import java.util.stream.Collectors;
 import static io.jmix.graphql.NamingUtils.ID_ATTR_NAME;
 
 /**
- * Converts entities to Map&lt;String, Object&gt; response format.
+ * Converts entities to Map&lt;String, Object&gt; response format, or passes them to graphql-java as is if
+ * {@link GraphQlProperties#isWriteEntitiesDirectly()} is true. In the latter case entity attributes are read by
+ * the data fetchers created by {@link #entityPropertyFetcher(MetaProperty)} and {@link #instanceNameFetcher()}.
  */
 @Component("gql_ResponseBuilder")
 public class ResponseBuilder {
@@ -52,6 +61,122 @@ public class ResponseBuilder {
     Metadata metadata;
     @Autowired
     protected EnvironmentUtils environmentUtils;
+    @Autowired
+    protected EntityStates entityStates;
+    @Autowired
+    protected GraphQlProperties graphQlProperties;
+
+    protected boolean writeEntitiesDirectly;
+
+    @PostConstruct
+    protected void init() {
+        writeEntitiesDirectly = graphQlProperties.isWriteEntitiesDirectly();
+    }
+
+    /**
+     * Convert loaded entity to data fetcher return format. The fetch plan is passed to the property data fetchers
+     * as local context, so they return only the loaded and permitted attributes like the map response does.
+     *
+     * @param entity loaded entity
+     * @param fetchPlan loaded entity properties
+     * @param metaClass entity meta class
+     * @param props full set of requested properties
+     * @return entity with its fetch plan or entity converted to Map&lt;String, Object&gt;
+     */
+    @Nullable
+    public Object buildResult(@Nullable Entity entity, FetchPlan fetchPlan, MetaClass metaClass, Set<String> props) {
+        if (entity == null) {
+            return null;
+        }
+        if (writeEntitiesDirectly) {
+            return DataFetcherResult.newResult().data(entity).localContext(fetchPlan).build();
+        }
+        return buildResponse(entity, fetchPlan, metaClass, props);
+    }
+
+    /**
+     * Convert loaded entities to data fetcher return format.
+     *
+     * @see #buildResult(Entity, FetchPlan, MetaClass, Set)
+     */
+    public Object buildResult(List<?> entities, FetchPlan fetchPlan, MetaClass metaClass, Set<String> props) {
+        if (writeEntitiesDirectly) {
+            return DataFetcherResult.newResult().data(entities).localContext(fetchPlan).build();
+        }
+        return entities.stream()
+                .map(e -> buildResponse((Entity) e, fetchPlan, metaClass, props))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Creates data fetcher of an entity output type field, which reads the attribute value from the source entity.
+     * Map sources, which are created by {@link #buildResponse(Entity, FetchPlan, MetaClass, Set)}, are supported too.
+     *
+     * @param metaProperty entity attribute
+     * @return data fetcher
+     */
+    public DataFetcher<?> entityPropertyFetcher(MetaProperty metaProperty) {
+        String propName = metaProperty.getName();
+        boolean isId = ID_ATTR_NAME.equals(propName);
+        boolean isClass = metaProperty.getRange().isClass();
+
+        return environment -> {
+            Object source = environment.getSource();
+            if (source instanceof Map) {
+                return ((Map<?, ?>) source).get(propName);
+            }
+            if (!(source instanceof Entity)) {
+                return null;
+            }
+
+            Entity entity = (Entity) source;
+            if (isId) {
+                return EntityValues.getId(entity);
+            }
+
+            Object localContext = environment.getLocalContext();
+            if (localContext instanceof BatchLoadContext) {
+                BatchLoadContext batchLoadContext = (BatchLoadContext) localContext;
+                if (batchLoadContext.isBatched(propName)) {
+                    Object value = batchLoadContext.getValue(propName, EntityValues.getId(entity));
+                    return value == null ? null : DataFetcherResult.newResult()
+                            .data(value)
+                            .localContext(batchLoadContext.getNestedContext(propName))
+                            .build();
+                }
+                localContext = batchLoadContext.getFetchPlan();
+            }
+            FetchPlan fetchPlan = localContext instanceof FetchPlan ? (FetchPlan) localContext : null;
+            if (fetchPlan != null ? !fetchPlan.containsProperty(propName) : !entityStates.isLoaded(entity, propName)) {
+                return null;
+            }
+
+            Object fieldValue = EntityValues.getValue(entity, propName);
+            if (fieldValue == null || !isClass || fetchPlan == null) {
+                return fieldValue;
+            }
+            // nested entities are read with the fetch plan of the reference
+            return DataFetcherResult.newResult()
+                    .data(fieldValue)
+                    .localContext(fetchPlan.getProperty(propName).getFetchPlan())
+                    .build();
+        };
+    }
+
+    /**
+     * Creates data fetcher of the {@link NamingUtils#SYS_ATTR_INSTANCE_NAME} field of entity output types.
+     *
+     * @return data fetcher
+     */
+    public DataFetcher<?> instanceNameFetcher() {
+        return environment -> {
+            Object source = environment.getSource();
+            if (source instanceof Map) {
+                return ((Map<?, ?>) source).get(NamingUtils.SYS_ATTR_INSTANCE_NAME);
+            }
+            return source instanceof Entity ? metadataTools.getInstanceName(source) : null;
+        };
+    }
 
 
     /**
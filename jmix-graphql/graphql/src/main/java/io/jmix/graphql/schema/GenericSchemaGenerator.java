@@ -25,6 +25,7 @@ import io.jmix.graphql.MetadataUtils;
 import io.jmix.graphql.NamingUtils;
 import io.jmix.graphql.datafetcher.EntityMutationDataFetcher;
 import io.jmix.graphql.datafetcher.EntityQueryDataFetcher;
+import io.jmix.graphql.datafetcher.ResponseBuilder;
 import io.jmix.graphql.schema.scalar.CustomScalars;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -45,6 +46,8 @@ public class GenericSchemaGenerator {
     private EntityMutationDataFetcher entityMutationDataFetcher;
     @Autowired
     private GraphQlProperties graphQlProperties;
+    @Autowired
+    private ResponseBuilder responseBuilder;
 
     public List<GraphQLFieldDefinition> generateQueryFields() {
 
@@ -173,6 +176,16 @@ public class GenericSchemaGenerator {
             codeRegistryBuilder.dataFetcher(
                     FieldCoordinates.coordinates("Mutation", NamingUtils.composeDeleteMutationName(metaClass)),
                     entityMutationDataFetcher.deleteEntity(metaClass));
+
+            // entity attributes
+            String typeName = NamingUtils.normalizeName(metaClass.getName());
+            metaClass.getProperties().forEach(metaProperty ->
+                    codeRegistryBuilder.dataFetcher(
+                            FieldCoordinates.coordinates(typeName, metaProperty.getName()),
+                            responseBuilder.entityPropertyFetcher(metaProperty)));
+            codeRegistryBuilder.dataFetcher(
+                    FieldCoordinates.coordinates(typeName, NamingUtils.SYS_ATTR_INSTANCE_NAME),
+                    responseBuilder.instanceNameFetcher());
         });
     }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.graphql.cache
+
+import io.jmix.graphql.AbstractGraphQLTest
+import io.jmix.graphql.datafetcher.DataFetcherPlanBuilder
+import org.springframework.beans.factory.annotation.Autowired
+
+class QueryCacheTest extends AbstractGraphQLTest {
+
+    @Autowired
+    CachingPreparsedDocumentProvider documentProvider
+    @Autowired
+    DataFetcherPlanBuilder fetchPlanBuilder
+
+    def "repeated query takes document and fetch plan from cache"() {
+        given:
+        documentProvider.invalidateAll()
+        def documentStats = documentProvider.stats
+        def fetchPlanStats = fetchPlanBuilder.fetchPlanCacheStats
+
+        when:
+        def first = query("datafetcher/query-cars.gql", "{}")
+        def second = query("datafetcher/query-cars.gql", "{}")
+
+        then:
+        first.rawResponse.body == second.rawResponse.body
+        second.get('$.data.scr_CarList[0]._instanceName') != null
+
+        documentProvider.stats.minus(documentStats).missCount() == 1
+        documentProvider.stats.minus(documentStats).hitCount() == 1
+        fetchPlanBuilder.fetchPlanCacheStats.minus(fetchPlanStats).hitCount() >= 1
+    }
+}
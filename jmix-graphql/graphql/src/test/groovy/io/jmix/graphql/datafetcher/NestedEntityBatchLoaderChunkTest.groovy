@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.graphql.datafetcher
+
+import io.jmix.eclipselink.testsupport.StatementCountingDataSource
+import io.jmix.graphql.AbstractGraphQLTest
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.TestPropertySource
+
+import javax.sql.DataSource
+
+@TestPropertySource(properties = ["io.jmix.graphql.batch-loading-max-ids = 1"])
+class NestedEntityBatchLoaderChunkTest extends AbstractGraphQLTest {
+
+    @Autowired
+    NestedEntityBatchLoader nestedEntityBatchLoader
+    @Autowired
+    DataSource dataSource
+
+    def setup() {
+        nestedEntityBatchLoader.enabled = true
+        new JdbcTemplate(dataSource).update("update SCR_CAR set GARAGE_ID = 'd99d468e-3cc0-01da-295e-595e48fec620' " +
+                "where REG_NUMBER in ('tm001', 'tm002')")
+    }
+
+    def cleanup() {
+        nestedEntityBatchLoader.enabled = false
+        new JdbcTemplate(dataSource).update("update SCR_CAR set GARAGE_ID = null " +
+                "where REG_NUMBER in ('tm001', 'tm002')")
+    }
+
+    def "identifiers are passed to queries by chunks"() {
+        StatementCountingDataSource countingDataSource = dataSource as StatementCountingDataSource
+
+        when:
+        countingDataSource.resetStatementCount()
+        def flatResponse = query("datafetcher/query-garages.gql")
+        def flatCount = countingDataSource.statementCount
+
+        countingDataSource.resetStatementCount()
+        def response = query("datafetcher/query-garages-with-cars.gql")
+        def nestedCount = countingDataSource.statementCount
+
+        List<Map<String, Object>> garages = response.get('$.data.scr_GarageList', List)
+        def garage = garages.find { it.name == 'P.S. 118' }
+
+        then:
+        !response.rawResponse.body.contains('"errors"')
+        garage.cars.regNumber == ['tm002', 'tm001', 'ab345']
+        garages.every { g -> g.cars.every { it.garage.name == g.name } }
+
+        // cars of each garage and the only garage of the cars
+        nestedCount - flatCount == garages.size() + 1
+    }
+}
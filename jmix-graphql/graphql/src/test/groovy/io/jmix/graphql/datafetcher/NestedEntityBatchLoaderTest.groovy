@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.graphql.datafetcher
+
+import io.jmix.eclipselink.testsupport.StatementCountingDataSource
+import io.jmix.graphql.AbstractGraphQLTest
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.jdbc.core.JdbcTemplate
+
+import javax.sql.DataSource
+
+class NestedEntityBatchLoaderTest extends AbstractGraphQLTest {
+
+    @Autowired
+    NestedEntityBatchLoader nestedEntityBatchLoader
+    @Autowired
+    DataSource dataSource
+
+    def setup() {
+        nestedEntityBatchLoader.enabled = true
+        new JdbcTemplate(dataSource).update("update SCR_CAR set GARAGE_ID = 'd99d468e-3cc0-01da-295e-595e48fec620' " +
+                "where REG_NUMBER in ('tm001', 'tm002', 'tm003')")
+    }
+
+    def cleanup() {
+        nestedEntityBatchLoader.enabled = false
+        new JdbcTemplate(dataSource).update("update SCR_CAR set GARAGE_ID = null " +
+                "where REG_NUMBER in ('tm001', 'tm002', 'tm003')")
+    }
+
+    def "nested entities are loaded by one statement per level"() {
+        StatementCountingDataSource countingDataSource = dataSource as StatementCountingDataSource
+
+        when:
+        countingDataSource.resetStatementCount()
+        def flatResponse = query("datafetcher/query-garages.gql")
+        def flatCount = countingDataSource.statementCount
+
+        countingDataSource.resetStatementCount()
+        def nestedResponse = query("datafetcher/query-garages-with-cars.gql")
+        def nestedCount = countingDataSource.statementCount
+
+        then:
+        !flatResponse.rawResponse.body.contains('"errors"')
+        !nestedResponse.rawResponse.body.contains('"errors"')
+
+        // garages, their cars and garages of the cars
+        nestedCount - flatCount == 2
+    }
+
+    def "nested entities are resolved for their owners"() {
+        when:
+        def response = query("datafetcher/query-garages-with-cars.gql")
+        List<Map<String, Object>> garages = response.get('$.data.scr_GarageList', List)
+        def garage = garages.find { it.name == 'P.S. 118' }
+
+        then:
+        garage.cars.regNumber.containsAll(['ab345', 'tm001', 'tm002', 'tm003'])
+        garages.every { g -> g.cars.every { it.garage.name == g.name } }
+    }
+
+    def "nested collections are ordered according to OrderBy annotation"() {
+        when:
+        def response = query("datafetcher/query-garages-with-cars.gql")
+        List<Map<String, Object>> garages = response.get('$.data.scr_GarageList', List)
+        def garage = garages.find { it.name == 'P.S. 118' }
+
+        then:
+        garage.cars.regNumber == ['tm003', 'tm002', 'tm001', 'ab345']
+    }
+}
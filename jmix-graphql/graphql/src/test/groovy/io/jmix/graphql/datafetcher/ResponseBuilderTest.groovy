@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.graphql.datafetcher
+
+import io.jmix.graphql.AbstractGraphQLTest
+import org.springframework.beans.factory.annotation.Autowired
+
+class ResponseBuilderTest extends AbstractGraphQLTest {
+
+    @Autowired
+    ResponseBuilder responseBuilder
+
+    def cleanup() {
+        responseBuilder.writeEntitiesDirectly = true
+    }
+
+    def "entities written directly give the same response as entities converted to maps"() {
+        when:
+        responseBuilder.writeEntitiesDirectly = false
+        def mapResponse = query(queryFile, "{}").rawResponse.body
+
+        responseBuilder.writeEntitiesDirectly = true
+        def directResponse = query(queryFile, "{}").rawResponse.body
+
+        then:
+        !mapResponse.contains('"errors"')
+        directResponse == mapResponse
+
+        where:
+        queryFile << ["datafetcher/query-cars.gql", "datafetcher/query-cars-with-garage.gql"]
+    }
+}
@@ -23,6 +23,7 @@ import io.jmix.core.security.InMemoryUserRepository;
 import io.jmix.core.security.UserRepository;
 import io.jmix.data.impl.JmixEntityManagerFactoryBean;
 import io.jmix.data.persistence.DbmsSpecifics;
+import io.jmix.eclipselink.testsupport.StatementCountingDataSource;
 import io.jmix.security.StandardSecurityConfiguration;
 import liquibase.integration.spring.SpringLiquibase;
 import org.springframework.boot.SpringApplication;
@@ -69,10 +70,10 @@ public class App {
     @Primary
     @LiquibaseDataSource
     DataSource dataSource() {
-        return new EmbeddedDatabaseBuilder()
+        return new StatementCountingDataSource(new EmbeddedDatabaseBuilder()
                 .generateUniqueName(true)
                 .setType(EmbeddedDatabaseType.HSQL)
-                .build();
+                .build());
     }
 
     @Bean("jmix_Liquibase")
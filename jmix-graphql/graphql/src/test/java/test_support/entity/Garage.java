@@ -23,6 +23,7 @@ public class Garage {
     @Column(name = "ID", nullable = false)
     private UUID id;
 
+    @OrderBy("regNumber desc")
     @OneToMany(mappedBy = "garage")
     private List<Car> cars;
 
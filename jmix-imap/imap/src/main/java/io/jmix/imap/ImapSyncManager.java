@@ -17,6 +17,7 @@
 package io.jmix.imap;
 
 
+import io.jmix.core.concurrent.TaskExecutorFactory;
 import io.jmix.core.security.SystemAuthenticator;
 import io.jmix.imap.data.ImapDataProvider;
 import io.jmix.imap.entity.ImapMailBox;
@@ -29,9 +30,8 @@ import org.springframework.context.event.ContextStoppedEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
-import jakarta.annotation.Nonnull;
+import jakarta.annotation.PostConstruct;
 import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicInteger;
 
 @Component("imap_SyncManager")
 public class ImapSyncManager {
@@ -44,20 +44,15 @@ public class ImapSyncManager {
     protected ImapEvents imapEvents;
     @Autowired
     protected SystemAuthenticator authentication;
+    @Autowired
+    protected TaskExecutorFactory taskExecutorFactory;
 
-    private final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactory() {
-        private final AtomicInteger threadNumber = new AtomicInteger(1);
-
-        @Override
-        public Thread newThread(@Nonnull Runnable r) {
-            Thread thread = new Thread(
-                    r, "ImapMailBoxSync-" + threadNumber.getAndIncrement()
-            );
-            thread.setDaemon(true);
-            return thread;
-        }
-    });
+    private ExecutorService executor;
 
+    @PostConstruct
+    protected void init() {
+        executor = taskExecutorFactory.create("ImapMailBoxSync-", 0);
+    }
 
     @EventListener
     public void applicationStarted(ContextStartedEvent event) {
@@ -16,6 +16,7 @@
 
 package io.jmix.imap.impl;
 
+import io.jmix.core.concurrent.TaskExecutorFactory;
 import io.jmix.core.security.SystemAuthenticator;
 import io.jmix.imap.ImapScheduler;
 import io.jmix.imap.data.ImapDataProvider;
@@ -28,15 +29,13 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import jakarta.annotation.Nonnull;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.atomic.AtomicInteger;
 
 @Component("imap_ImapScheduler")
 public class ImapSchedulerImpl implements ImapScheduler {
@@ -58,18 +57,20 @@ public class ImapSchedulerImpl implements ImapScheduler {
     @Autowired
     protected SystemAuthenticator authenticator;
 
-    protected final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactory() {
-        private final AtomicInteger threadNumber = new AtomicInteger(1);
+    @Autowired
+    protected TaskExecutorFactory taskExecutorFactory;
 
-        @Override
-        public Thread newThread(@Nonnull Runnable r) {
-            Thread thread = new Thread(
-                    r, "ImapMailBoxSync-" + threadNumber.getAndIncrement()
-            );
-            thread.setDaemon(true);
-            return thread;
-        }
-    });
+    protected ExecutorService executor;
+
+    @PostConstruct
+    protected void init() {
+        executor = taskExecutorFactory.create("ImapMailBoxSync-", 0);
+    }
+
+    @PreDestroy
+    protected void destroy() {
+        executor.shutdownNow();
+    }
 
     @Override
     public void syncImap() {
@@ -17,7 +17,6 @@
 package io.jmix.localfs;
 
 import com.google.common.collect.Maps;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.jmix.core.CoreProperties;
 import io.jmix.core.FileRef;
 import io.jmix.core.FileStorage;
@@ -25,6 +24,8 @@ import io.jmix.core.FileStorageException;
 import io.jmix.core.TimeSource;
 import io.jmix.core.UuidProvider;
 import io.jmix.core.annotation.Internal;
+import io.jmix.core.concurrent.TaskExecutorFactory;
+import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
@@ -47,7 +48,6 @@ import java.util.Calendar;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import static java.nio.file.StandardOpenOption.CREATE_NEW;
 
@@ -71,10 +71,12 @@ public class LocalFileStorage implements FileStorage {
     @Autowired
     protected TimeSource timeSource;
 
+    @Autowired
+    protected TaskExecutorFactory taskExecutorFactory;
+
     protected boolean isImmutableFileStorage;
 
-    protected ExecutorService writeExecutor = Executors.newFixedThreadPool(5,
-            new ThreadFactoryBuilder().setNameFormat("FileStorageWriter-%d").build());
+    protected ExecutorService writeExecutor;
 
     protected volatile Path[] storageRoots;
 
@@ -340,6 +342,11 @@ public class LocalFileStorage implements FileStorage {
         return path.toString().replace('\\', '/');
     }
 
+    @PostConstruct
+    protected void startWriteExecutor() {
+        writeExecutor = taskExecutorFactory.create("FileStorageWriter-", 5);
+    }
+
     @PreDestroy
     protected void stopWriteExecutor() {
         writeExecutor.shutdown();
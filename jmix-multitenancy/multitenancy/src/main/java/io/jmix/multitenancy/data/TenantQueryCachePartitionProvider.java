@@ -0,0 +1,41 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.multitenancy.data;
+
+import io.jmix.eclipselink.impl.entitycache.QueryCachePartitionProvider;
+import io.jmix.multitenancy.core.TenantProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Partitions the query cache by tenant of the current user, so each tenant has its own size limit
+ * and hit and miss statistics.
+ */
+@Component("mten_TenantQueryCachePartitionProvider")
+public class TenantQueryCachePartitionProvider implements QueryCachePartitionProvider {
+
+    private final TenantProvider tenantProvider;
+
+    public TenantQueryCachePartitionProvider(TenantProvider tenantProvider) {
+        this.tenantProvider = tenantProvider;
+    }
+
+    @Override
+    public String getCurrentPartition() {
+        return tenantProvider.getCurrentUserTenantId();
+    }
+}
@@ -10,6 +10,8 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 @Component("quartz_QuartzJobClassFinder")
@@ -37,6 +39,11 @@ public class QuartzJobClassFinder {
         public boolean isCandidate(MetadataReader metadataReader) {
             return Arrays.asList(metadataReader.getClassMetadata().getInterfaceNames()).contains(Job.class.getName());
         }
+
+        @Override
+        public Collection<String> getIndexedTypes() {
+            return Collections.singleton(Job.class.getName());
+        }
     }
 
 }
@@ -18,6 +18,7 @@ package io.jmix.reports;
 
 import io.jmix.core.CoreProperties;
 import io.jmix.core.annotation.JmixModule;
+import io.jmix.core.concurrent.TaskExecutorFactory;
 import io.jmix.data.DataConfiguration;
 import io.jmix.eclipselink.EclipselinkConfiguration;
 import io.jmix.reports.libintegration.*;
@@ -160,8 +161,9 @@ public class ReportsConfiguration {
     }
 
     @Bean("report_OfficeIntegration")
-    public JmixOfficeIntegration officeIntegration() {
-        JmixOfficeIntegration officeIntegration = new JmixOfficeIntegration(reportsProperties.getOfficePath(), reportsProperties.getOfficePorts());
+    public JmixOfficeIntegration officeIntegration(TaskExecutorFactory taskExecutorFactory) {
+        JmixOfficeIntegration officeIntegration = new JmixOfficeIntegration(reportsProperties.getOfficePath(),
+                reportsProperties.getOfficePorts(), taskExecutorFactory);
         officeIntegration.setDisplayDeviceAvailable(reportsProperties.getDisplayDeviceAvailable());
         officeIntegration.setTimeoutInSeconds(reportsProperties.getDocFormatterTimeout());
         officeIntegration.setTemporaryDirPath(Paths.get(coreProperties.getTempDir(), "reporting").toString());
@@ -22,6 +22,7 @@ import io.jmix.reports.yarg.formatters.impl.doc.connector.OfficeConnection;
 import io.jmix.reports.yarg.formatters.impl.doc.connector.OfficeIntegration;
 import io.jmix.reports.yarg.formatters.impl.doc.connector.OfficeTask;
 import com.sun.star.comp.helper.BootstrapException;
+import io.jmix.core.concurrent.TaskExecutorFactory;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -39,6 +40,11 @@ public class JmixOfficeIntegration extends OfficeIntegration {
         super(openOfficePath, ports.toArray(new Integer[0]));
     }
 
+    public JmixOfficeIntegration(String openOfficePath, List<Integer> ports, TaskExecutorFactory taskExecutorFactory) {
+        super(openOfficePath, taskExecutorFactory.create("OfficeIntegration-", ports.size()),
+                ports.toArray(new Integer[0]));
+    }
+
     @Override
     public void runTaskWithTimeout(final OfficeTask officeTask, int timeoutInSeconds) throws NoFreePortsException {
         final SecurityContext securityContext = SecurityContextHolder.getContext();
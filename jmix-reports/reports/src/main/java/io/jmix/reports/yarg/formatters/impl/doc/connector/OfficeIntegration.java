@@ -45,6 +45,16 @@ public class OfficeIntegration implements OfficeIntegrationAPI {
         executor = createExecutor();
     }
 
+    /**
+     * Creates integration running office tasks in the given executor,
+     * which must be able to run a task for each of the ports concurrently.
+     */
+    public OfficeIntegration(String openOfficePath, ExecutorService executor, Integer... ports) {
+        this.openOfficePath = openOfficePath;
+        initConnections(ports);
+        this.executor = executor;
+    }
+
     public void setTemporaryDirPath(String temporaryDirPath) {
         this.temporaryDirPath = temporaryDirPath;
     }
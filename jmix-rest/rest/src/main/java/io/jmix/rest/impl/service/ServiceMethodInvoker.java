@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.rest.impl.service;
+
+import io.jmix.rest.impl.config.RestServicesConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Service method resolved by {@link ServicesControllerManager} once per method signature: keeps the method handle,
+ * names of the parameters in the order of the method arguments and converters of their string values.
+ */
+public class ServiceMethodInvoker {
+
+    private static final Logger log = LoggerFactory.getLogger(ServiceMethodInvoker.class);
+
+    /**
+     * Converts a string value of a service method parameter to the argument value.
+     */
+    @FunctionalInterface
+    public interface ParamConverter {
+        @Nullable
+        Object convert(@Nullable String value, @Nullable String modelVersion) throws Exception;
+    }
+
+    protected final RestServicesConfiguration.RestMethodInfo restMethodInfo;
+    protected final String[] paramNames;
+    protected final ParamConverter[] paramConverters;
+    protected final MethodHandle methodHandle;
+
+    public ServiceMethodInvoker(RestServicesConfiguration.RestMethodInfo restMethodInfo,
+                                List<ParamConverter> paramConverters) {
+        this.restMethodInfo = restMethodInfo;
+        this.paramNames = restMethodInfo.getParams().stream()
+                .map(RestServicesConfiguration.RestMethodParamInfo::getName)
+                .toArray(String[]::new);
+        this.paramConverters = paramConverters.toArray(new ParamConverter[0]);
+        this.methodHandle = createMethodHandle(restMethodInfo.getMethod());
+    }
+
+    @Nullable
+    protected static MethodHandle createMethodHandle(Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method)
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            log.debug("Unable to create method handle for {}, reflection will be used", method, e);
+            return null;
+        }
+    }
+
+    public RestServicesConfiguration.RestMethodInfo getRestMethodInfo() {
+        return restMethodInfo;
+    }
+
+    public Method getMethod() {
+        return restMethodInfo.getMethod();
+    }
+
+    /**
+     * @return parameter names in the order of the method arguments
+     */
+    public String[] getParamNames() {
+        return paramNames;
+    }
+
+    /**
+     * Converts the parameter value to the argument value.
+     *
+     * @param index index of the method argument
+     */
+    @Nullable
+    public Object convertParam(int index, @Nullable String value, @Nullable String modelVersion) throws Exception {
+        return paramConverters[index].convert(value, modelVersion);
+    }
+
+    /**
+     * Invokes the method on the given service. Exceptions thrown by the method are rethrown as is.
+     */
+    @Nullable
+    public Object invoke(Object service, Object[] args) throws Throwable {
+        if (methodHandle != null) {
+            return (Object) methodHandle.invokeExact(service, args);
+        }
+        try {
+            return restMethodInfo.getMethod().invoke(service, args);
+        } catch (InvocationTargetException | IllegalAccessException ex) {
+            throw ex.getCause();
+        }
+    }
+}
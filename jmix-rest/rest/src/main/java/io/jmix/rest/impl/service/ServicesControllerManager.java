@@ -16,6 +16,8 @@
 
 package io.jmix.rest.impl.service;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.jmix.core.Entity;
 import io.jmix.core.EntitySerialization;
 import io.jmix.core.EntitySerializationOption;
@@ -38,14 +40,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import org.springframework.lang.Nullable;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.*;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 
@@ -77,6 +81,10 @@ public class ServicesControllerManager {
     @Autowired
     protected DatatypeRegistry datatypeRegistry;
 
+    protected Cache<InvokerKey, ServiceMethodInvoker> invokers = CacheBuilder.newBuilder()
+            .maximumSize(1000)
+            .build();
+
     private static final Logger log = LoggerFactory.getLogger(ServicesControllerManager.class);
 
     @Nullable
@@ -123,22 +131,16 @@ public class ServicesControllerManager {
                                                      List<String> paramValuesStr,
                                                      String modelVersion) throws Throwable {
         Object service = beanFactory.getBean(serviceName);
-        RestServicesConfiguration.RestMethodInfo restMethodInfo =
-                restServicesConfiguration.getRestMethodInfo(serviceName, methodName, httpMethod.name(), paramNames);
-        if (restMethodInfo == null) {
-            throw new RestAPIException("Service method not found",
-                    serviceName + "." + methodName + "(" + paramNames.stream().collect(Collectors.joining(",")) + ")",
-                    HttpStatus.NOT_FOUND);
-        }
-        Method serviceMethod = restMethodInfo.getMethod();
-        List<Object> paramValues = new ArrayList<>();
-        Type[] types = restMethodInfo.getMethod().getGenericParameterTypes();
-        for (int i = 0; i < types.length; i++) {
+        ServiceMethodInvoker invoker = getServiceMethodInvoker(serviceName, methodName, httpMethod, paramNames);
+        Method serviceMethod = invoker.getMethod();
+        String[] methodParamNames = invoker.getParamNames();
+        Object[] paramValues = new Object[methodParamNames.length];
+        for (int i = 0; i < methodParamNames.length; i++) {
             int idx = i;
             try {
-                idx = paramNames.indexOf(restMethodInfo.getParams().get(i).getName());
+                idx = paramNames.indexOf(methodParamNames[i]);
                 String valueStr = idx == -1 ? null : paramValuesStr.get(idx);
-                paramValues.add(restParseUtils.toObject(types[i], valueStr, modelVersion));
+                paramValues[i] = invoker.convertParam(i, valueStr, modelVersion);
             } catch (Exception e) {
                 log.error("Error on parsing service param value", e);
                 throw new RestAPIException("Invalid parameter value",
@@ -148,13 +150,18 @@ public class ServicesControllerManager {
             }
         }
 
-        Object methodResult;
-        try {
-            methodResult = serviceMethod.invoke(service, paramValues.toArray());
-        } catch (InvocationTargetException | IllegalAccessException ex) {
-            throw ex.getCause();
-        }
+        Object methodResult = invoker.invoke(service, paramValues);
 
+        return createServiceCallResult(serviceMethod, methodResult, modelVersion);
+    }
+
+    /**
+     * Serializes the result returned by the service method.
+     */
+    @Nullable
+    protected ServiceCallResult createServiceCallResult(Method serviceMethod,
+                                                        @Nullable Object methodResult,
+                                                        @Nullable String modelVersion) {
         if (methodResult == null) {
             return null;
         }
@@ -200,6 +207,81 @@ public class ServicesControllerManager {
         }
     }
 
+    /**
+     * Returns the invoker of the service method matching the given parameter names. Invokers are created once
+     * for each combination of the service, method, HTTP method and parameter names and then reused.
+     */
+    protected ServiceMethodInvoker getServiceMethodInvoker(String serviceName,
+                                                           String methodName,
+                                                           HttpMethod httpMethod,
+                                                           List<String> paramNames) {
+        InvokerKey key = new InvokerKey(serviceName, methodName, httpMethod.name(), paramNames);
+        ServiceMethodInvoker invoker = invokers.getIfPresent(key);
+        if (invoker == null) {
+            RestServicesConfiguration.RestMethodInfo restMethodInfo =
+                    restServicesConfiguration.getRestMethodInfo(serviceName, methodName, httpMethod.name(), paramNames);
+            if (restMethodInfo == null) {
+                throw new RestAPIException("Service method not found",
+                        serviceName + "." + methodName + "(" + paramNames.stream().collect(Collectors.joining(",")) + ")",
+                        HttpStatus.NOT_FOUND);
+            }
+            invoker = createServiceMethodInvoker(restMethodInfo);
+            invokers.put(key, invoker);
+        }
+        return invoker;
+    }
+
+    protected ServiceMethodInvoker createServiceMethodInvoker(RestServicesConfiguration.RestMethodInfo restMethodInfo) {
+        Type[] types = restMethodInfo.getMethod().getGenericParameterTypes();
+        List<ServiceMethodInvoker.ParamConverter> converters = new ArrayList<>(types.length);
+        for (Type type : types) {
+            converters.add(createParamConverter(type));
+        }
+        return new ServiceMethodInvoker(restMethodInfo, converters);
+    }
+
+    /**
+     * Creates a converter of the parameter value. Datatypes of simple types are resolved here once, other types
+     * are converted by {@link RestParseUtils#toObject(Type, String, String)}.
+     */
+    protected ServiceMethodInvoker.ParamConverter createParamConverter(Type type) {
+        if (type == String.class) {
+            return (value, modelVersion) -> value;
+        }
+        Class<?> datatypeClass = getParamDatatypeClass(type);
+        if (datatypeClass != null) {
+            Datatype<?> datatype = datatypeRegistry.find(datatypeClass);
+            if (datatype != null) {
+                return (value, modelVersion) -> value == null ? null : datatype.parse(value);
+            }
+        }
+        return (value, modelVersion) -> restParseUtils.toObject(type, value, modelVersion);
+    }
+
+    @Nullable
+    protected Class<?> getParamDatatypeClass(Type type) {
+        if (type == Integer.class || type == Integer.TYPE
+                || type == Byte.class || type == Byte.TYPE
+                || type == Short.class || type == Short.TYPE) {
+            return Integer.class;
+        }
+        if (type == Long.class || type == Long.TYPE) {
+            return Long.class;
+        }
+        if (type == Boolean.class || type == Boolean.TYPE) {
+            return Boolean.class;
+        }
+        if (type == Double.class || type == Double.TYPE
+                || type == Float.class || type == Float.TYPE) {
+            return Double.class;
+        }
+        if (type == BigDecimal.class || type == LocalDate.class || type == LocalDateTime.class
+                || type == LocalTime.class || type == OffsetDateTime.class || type == OffsetTime.class) {
+            return (Class<?>) type;
+        }
+        return null;
+    }
+
     @Nullable
     protected Type getMethodReturnTypeArgument(Method serviceMethod) {
         Type returnTypeArgument = null;
@@ -223,6 +305,36 @@ public class ServicesControllerManager {
         return true;
     }
 
+    protected static class InvokerKey {
+        protected final String serviceName;
+        protected final String methodName;
+        protected final String httpMethod;
+        protected final List<String> paramNames;
+
+        protected InvokerKey(String serviceName, String methodName, String httpMethod, List<String> paramNames) {
+            this.serviceName = serviceName;
+            this.methodName = methodName;
+            this.httpMethod = httpMethod;
+            this.paramNames = List.copyOf(paramNames);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            InvokerKey that = (InvokerKey) o;
+            return serviceName.equals(that.serviceName)
+                    && methodName.equals(that.methodName)
+                    && httpMethod.equals(that.httpMethod)
+                    && paramNames.equals(that.paramNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(serviceName, methodName, httpMethod, paramNames);
+        }
+    }
+
     public static class ServiceCallResult {
         protected String stringValue;
         protected boolean validJson;
@@ -113,6 +113,11 @@ public class TestInMemoryDataStore implements DataStore {
         return 0;
     }
 
+    @Override
+    public int executeBulkOperation(BulkOperationContext context) {
+        throw new BulkOperationNotSupportedException(name);
+    }
+
     public void clear() {
         entities.clear();
     }
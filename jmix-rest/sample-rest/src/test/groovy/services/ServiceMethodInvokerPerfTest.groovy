@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package services
+
+import io.jmix.core.security.SystemAuthenticator
+import io.jmix.rest.impl.service.ServicesControllerManager
+import io.jmix.samples.rest.service.RestTestService
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory
+import test_support.ReflectiveServicesControllerManager
+import test_support.RestSpec
+
+/**
+ * Compares the time of service calls through cached invokers with the reflective path used before them.
+ * Both paths go through {@link ServicesControllerManager#invokeServiceMethodGet}. Excluded from the {@code test}
+ * task, run by {@code gradlew :sample-rest:perfTest}.
+ */
+class ServiceMethodInvokerPerfTest extends RestSpec {
+
+    private static final Logger log = LoggerFactory.getLogger(ServiceMethodInvokerPerfTest)
+
+    private static final int WARMUP_ITERATIONS = 20_000
+    private static final int ITERATIONS = 100_000
+
+    @Autowired
+    ServicesControllerManager servicesControllerManager
+
+    @Autowired
+    SystemAuthenticator systemAuthenticator
+
+    @Autowired
+    AutowireCapableBeanFactory beanFactory
+
+    def "cached invokers are not slower than the reflective path"() {
+        given:
+        def reflectiveManager = beanFactory.createBean(ReflectiveServicesControllerManager)
+
+        when:
+        long reflectiveTime = systemAuthenticator.withSystem {
+            measure(reflectiveManager, WARMUP_ITERATIONS)
+            measure(reflectiveManager, ITERATIONS)
+        }
+        long invokerTime = systemAuthenticator.withSystem {
+            measure(servicesControllerManager, WARMUP_ITERATIONS)
+            measure(servicesControllerManager, ITERATIONS)
+        }
+        log.info("{} service calls: reflective path {} ms, cached invokers {} ms",
+                ITERATIONS, reflectiveTime.intdiv(1_000_000), invokerTime.intdiv(1_000_000))
+
+        then:
+        invokerTime <= reflectiveTime
+    }
+
+    private static long measure(ServicesControllerManager manager, int iterations) {
+        long start = System.nanoTime()
+        for (int i = 0; i < iterations; i++) {
+            def result = manager.invokeServiceMethodGet(RestTestService.NAME, 'sum',
+                    ['number1': '2', 'number2': '3'], null)
+            assert result.stringValue == '5'
+        }
+        return System.nanoTime() - start
+    }
+}
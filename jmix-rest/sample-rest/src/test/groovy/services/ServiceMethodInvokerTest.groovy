@@ -0,0 +1,105 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package services
+
+import io.jmix.core.security.SystemAuthenticator
+import io.jmix.rest.impl.service.ServicesControllerManager
+import io.jmix.samples.rest.service.RestTestService
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory
+import org.springframework.http.HttpMethod
+import spock.lang.Unroll
+import test_support.ReflectiveServicesControllerManager
+import test_support.RestSpec
+
+class ServiceMethodInvokerTest extends RestSpec {
+
+    @Autowired
+    ServicesControllerManager servicesControllerManager
+
+    @Autowired
+    SystemAuthenticator systemAuthenticator
+
+    @Autowired
+    AutowireCapableBeanFactory beanFactory
+
+    def "service method invoker is created once and reused"() {
+        when:
+        def result1 = invokeSum()
+        def invoker1 = getInvoker()
+        def result2 = invokeSum()
+        def invoker2 = getInvoker()
+
+        then:
+        result1.stringValue == '5'
+        !result1.validJson
+        result2.stringValue == '5'
+        invoker1 != null
+        invoker1.is(invoker2)
+    }
+
+    @Unroll
+    def "service method invoker produces the same result as the reflective invocation for #methodName"() {
+        given:
+        def reflectiveManager = beanFactory.createBean(ReflectiveServicesControllerManager)
+
+        when:
+        def reflectiveResult = systemAuthenticator.withSystem {
+            reflectiveManager.invokeServiceMethodGet(RestTestService.NAME, methodName, new LinkedHashMap(params), null)
+        }
+        def invokerResults = systemAuthenticator.withSystem {
+            (1..2).collect {
+                servicesControllerManager.invokeServiceMethodGet(RestTestService.NAME, methodName,
+                        new LinkedHashMap(params), null)
+            }
+        }
+
+        then:
+        reflectiveResult.stringValue == expectedValue
+        invokerResults.every {
+            it.stringValue == reflectiveResult.stringValue && it.validJson == reflectiveResult.validJson
+        }
+
+        where:
+        methodName            | params                                               | expectedValue
+        'sum'                 | ['number1': '2', 'number2': '3']                     | '5'
+        'sum'                 | ['number2': '3', 'number1': '2']                     | '5'
+        'overloadedMethod'    | ['intParam': '1']                                    | 'int'
+        'overloadedMethod'    | ['stringParam': 'str']                               | 'String'
+        'testDateParam'       | ['param': '2015-01-02']                              | '2015-01-02T00:00:00'
+        'testBigDecimalParam' | ['param': '1.5']                                     | '1.5'
+        'testJavaTimeParam'   | ['localDate'     : '2021-02-24',
+                                 'localDateTime' : '2021-02-24T15:15:15.053',
+                                 'localTime'     : '15:15:15',
+                                 'offsetDateTime': '2021-02-24T15:15:15.053+04:00',
+                                 'offsetTime'    : '15:15:15+04:00',
+                                 'time'          : '15:15:15']                       | '2021-02-24,2021-02-24T15:15:15.053,15:15:15,2021-02-24T15:15:15.053+04:00,15:15:15+04:00,15:15:15'
+    }
+
+    private ServicesControllerManager.ServiceCallResult invokeSum() {
+        systemAuthenticator.withSystem {
+            servicesControllerManager.invokeServiceMethodGet(RestTestService.NAME, 'sum',
+                    ['number1': '2', 'number2': '3'], null)
+        }
+    }
+
+    private def getInvoker() {
+        servicesControllerManager.invokers.asMap().find { key, value ->
+            key.serviceName == RestTestService.NAME && key.methodName == 'sum' && key.httpMethod == HttpMethod.GET.name()
+        }?.value
+    }
+}
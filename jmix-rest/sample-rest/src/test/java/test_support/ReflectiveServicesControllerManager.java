@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test_support;
+
+import io.jmix.rest.exception.RestAPIException;
+import io.jmix.rest.impl.config.RestServicesConfiguration;
+import io.jmix.rest.impl.service.ServicesControllerManager;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Invokes service methods the way {@link ServicesControllerManager} did before resolved methods were cached:
+ * looks up the method on each call, converts parameter values by {@code RestParseUtils} and invokes the method
+ * by reflection. The result is serialized the same way as by {@link ServicesControllerManager}.
+ */
+public class ReflectiveServicesControllerManager extends ServicesControllerManager {
+
+    @Override
+    protected ServiceCallResult _invokeServiceMethod(String serviceName,
+                                                     String methodName,
+                                                     HttpMethod httpMethod,
+                                                     List<String> paramNames,
+                                                     List<String> paramValuesStr,
+                                                     String modelVersion) throws Throwable {
+        Object service = beanFactory.getBean(serviceName);
+        RestServicesConfiguration.RestMethodInfo restMethodInfo =
+                restServicesConfiguration.getRestMethodInfo(serviceName, methodName, httpMethod.name(), paramNames);
+        if (restMethodInfo == null) {
+            throw new RestAPIException("Service method not found",
+                    serviceName + "." + methodName + "(" + String.join(",", paramNames) + ")",
+                    HttpStatus.NOT_FOUND);
+        }
+        Method serviceMethod = restMethodInfo.getMethod();
+        List<Object> paramValues = new ArrayList<>();
+        Type[] types = serviceMethod.getGenericParameterTypes();
+        for (int i = 0; i < types.length; i++) {
+            int idx = paramNames.indexOf(restMethodInfo.getParams().get(i).getName());
+            String valueStr = idx == -1 ? null : paramValuesStr.get(idx);
+            paramValues.add(restParseUtils.toObject(types[i], valueStr, modelVersion));
+        }
+
+        Object methodResult;
+        try {
+            methodResult = serviceMethod.invoke(service, paramValues.toArray());
+        } catch (InvocationTargetException | IllegalAccessException ex) {
+            throw ex.getCause();
+        }
+
+        return createServiceCallResult(serviceMethod, methodResult, modelVersion);
+    }
+}
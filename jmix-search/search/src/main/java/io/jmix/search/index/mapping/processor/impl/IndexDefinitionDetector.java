@@ -21,6 +21,9 @@ import io.jmix.search.index.annotation.JmixEntitySearchIndex;
 import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Collections;
+
 @Component("search_IndexDefinitionDetector")
 public class IndexDefinitionDetector implements ClasspathScanCandidateDetector {
 
@@ -28,4 +31,9 @@ public class IndexDefinitionDetector implements ClasspathScanCandidateDetector {
     public boolean isCandidate(MetadataReader metadataReader) {
         return metadataReader.getAnnotationMetadata().hasAnnotation(JmixEntitySearchIndex.class.getName());
     }
+
+    @Override
+    public Collection<String> getIndexedTypes() {
+        return Collections.singleton(JmixEntitySearchIndex.class.getName());
+    }
 }
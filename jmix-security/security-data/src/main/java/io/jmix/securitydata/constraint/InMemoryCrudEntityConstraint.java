@@ -16,6 +16,7 @@
 
 package io.jmix.securitydata.constraint;
 
+import com.google.common.base.Strings;
 import io.jmix.core.accesscontext.InMemoryCrudEntityContext;
 import io.jmix.core.constraint.InMemoryConstraint;
 import io.jmix.core.constraint.RowLevelConstraint;
@@ -51,7 +52,8 @@ public class InMemoryCrudEntityConstraint
                 if (policy.getAction() == RowLevelPolicyAction.CREATE) {
                     context.addCreatePredicate(policy.getBiPredicate());
                 } else if (policy.getAction() == RowLevelPolicyAction.READ) {
-                    context.addReadPredicate(policy.getBiPredicate());
+                    // the where clause is applied to queries by ReadEntityQueryConstraint
+                    context.addReadPredicate(policy.getBiPredicate(), !Strings.isNullOrEmpty(policy.getWhereClause()));
                 } else if (policy.getAction() == RowLevelPolicyAction.UPDATE) {
                     context.addUpdatePredicate(policy.getBiPredicate());
                 } else if (policy.getAction() == RowLevelPolicyAction.DELETE) {
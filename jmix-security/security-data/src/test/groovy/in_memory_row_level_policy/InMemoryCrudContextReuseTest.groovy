@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package in_memory_row_level_policy
+
+import io.jmix.core.DataManager
+import io.jmix.core.FetchPlan
+import io.jmix.core.Metadata
+import io.jmix.core.SaveContext
+import io.jmix.core.accesscontext.InMemoryCrudEntityContext
+import io.jmix.core.constraint.InMemoryConstraint
+import io.jmix.core.security.SystemAuthenticator
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.SecurityDataSpecification
+import test_support.entity.ManyToOneEntity
+import test_support.entity.OneToManyEntity
+
+class InMemoryCrudContextReuseTest extends SecurityDataSpecification {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    Metadata metadata
+
+    @Autowired
+    SystemAuthenticator systemAuthenticator
+
+    CountingConstraint constraint = new CountingConstraint()
+
+    def setup() {
+        def parent = metadata.create(OneToManyEntity)
+        parent.name = 'parent'
+
+        def saveContext = new SaveContext().saving(parent)
+        (1..3).each {
+            def child = metadata.create(ManyToOneEntity)
+            child.name = "child-$it"
+            child.oneToManyEntity = parent
+            saveContext.saving(child)
+        }
+        dataManager.unconstrained().save(saveContext)
+
+        systemAuthenticator.begin()
+    }
+
+    def cleanup() {
+        systemAuthenticator.end()
+        jdbcTemplate.update('delete from TEST_MANY_TO_ONE_ENTITY')
+        jdbcTemplate.update('delete from TEST_ONE_TO_MANY_ENTITY')
+    }
+
+    def "constraints are applied once per entity class when loading"() {
+        when:
+        def children = dataManager.unconstrained().load(ManyToOneEntity)
+                .all()
+                .fetchPlan { it.addFetchPlan(FetchPlan.BASE).add('oneToManyEntity', FetchPlan.BASE) }
+                .accessConstraints([constraint])
+                .list()
+
+        then: "a context is created for each entity class of the fetch plan only once"
+        children.size() == 3
+        constraint.appliedTo == ['test_ManyToOneEntity': 1, 'test_OneToManyEntity': 1]
+
+        and: "the reference shared by all loaded entities is tested once"
+        constraint.readTests == ['test_ManyToOneEntity': 3, 'test_OneToManyEntity': 1]
+    }
+
+    def "constraints are applied once per entity class when saving"() {
+        def saveContext = new SaveContext()
+        (1..3).each {
+            def child = metadata.create(ManyToOneEntity)
+            child.name = "new-child-$it"
+            saveContext.saving(child)
+        }
+        saveContext.setAccessConstraints([constraint])
+        // saved entities are not reloaded, as reloading is a separate load operation
+        saveContext.setDiscardSaved(true)
+
+        when:
+        dataManager.unconstrained().save(saveContext)
+
+        then:
+        constraint.appliedTo == ['test_ManyToOneEntity': 1]
+        constraint.createTests == 3
+    }
+
+    static class CountingConstraint implements InMemoryConstraint<InMemoryCrudEntityContext> {
+
+        Map<String, Integer> appliedTo = [:]
+        Map<String, Integer> readTests = [:]
+        int createTests
+
+        @Override
+        Class<InMemoryCrudEntityContext> getContextType() {
+            return InMemoryCrudEntityContext
+        }
+
+        @Override
+        void applyTo(InMemoryCrudEntityContext context) {
+            String entityName = context.entityClass.name
+            appliedTo.merge(entityName, 1, Integer::sum)
+            context.addReadPredicate { entity, applicationContext ->
+                readTests.merge(entityName, 1, Integer::sum)
+                return true
+            }
+            context.addCreatePredicate { entity, applicationContext ->
+                createTests++
+                return true
+            }
+        }
+    }
+}
@@ -17,13 +17,17 @@
 package in_memory_row_level_policy
 
 import io.jmix.core.DataManager
+import io.jmix.core.LoadContext
 import io.jmix.core.Metadata
+import io.jmix.core.Sort
 import io.jmix.core.security.InMemoryUserRepository
 import io.jmix.core.security.SecurityContextHelper
 import io.jmix.core.security.SystemAuthenticator
 import io.jmix.security.role.ResourceRoleRepository
 import io.jmix.security.role.RoleGrantedAuthorityUtils
 import io.jmix.security.role.RowLevelRoleRepository
+import io.jmix.security.model.RowLevelExpression
+import io.jmix.security.model.RowLevelPolicyAction
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.jdbc.core.JdbcTemplate
 import org.springframework.security.authentication.AuthenticationManager
@@ -32,10 +36,12 @@ import org.springframework.security.core.Authentication
 import org.springframework.security.core.userdetails.User
 import org.springframework.security.core.userdetails.UserDetails
 import test_support.SecurityDataSpecification
+import test_support.entity.OrderInfo
 import test_support.entity.TestOrder
 import test_support.role.TestInMemoryRowLevelConstraintsMethodArgsRole
 import test_support.role.TestInMemoryRowLevelConstraintsRole
 import test_support.role.TestOrderFullAccessRole
+import test_support.role.TestRowLevelExpressionRole
 
 import javax.sql.DataSource
 
@@ -70,7 +76,7 @@ class InMemoryRowLevelPolicyTest extends SecurityDataSpecification {
     @Autowired
     RoleGrantedAuthorityUtils roleGrantedAuthorityUtils
 
-    UserDetails user1, user2, user3
+    UserDetails user1, user2, user3, user4
 
     TestOrder order1, order2
 
@@ -111,6 +117,18 @@ class InMemoryRowLevelPolicyTest extends SecurityDataSpecification {
                 .build()
         userRepository.addUser(user3)
 
+        //user4 has row-level role TestRowLevelExpressionRole
+        def testRowLevelExpressionRole = rowLevelRoleRepository.getRoleByCode(TestRowLevelExpressionRole.NAME)
+        user4 = User.builder()
+                .username("user4")
+                .password("{noop}$PASSWORD")
+                .authorities(
+                        roleGrantedAuthorityUtils.createResourceRoleGrantedAuthority(testOrderFullAccessRole),
+                        roleGrantedAuthorityUtils.createRowLevelRoleGrantedAuthority(testRowLevelExpressionRole)
+                )
+                .build()
+        userRepository.addUser(user4)
+
         order1 = metadata.create(TestOrder)
         order1.number = 'A-1-B'
         dataManager.unconstrained().save(order1)
@@ -124,6 +142,8 @@ class InMemoryRowLevelPolicyTest extends SecurityDataSpecification {
         userRepository.removeUser(user1)
         userRepository.removeUser(user2)
         userRepository.removeUser(user3)
+        userRepository.removeUser(user4)
+        new JdbcTemplate(dataSource).execute('delete from TEST_ORDER_INFO')
         new JdbcTemplate(dataSource).execute('delete from TEST_ORDER')
     }
 
@@ -175,4 +195,87 @@ class InMemoryRowLevelPolicyTest extends SecurityDataSpecification {
         testOrders[0].number == 'A-1-B'
     }
 
+    def "row-level expression is translated to JPQL"() {
+
+        when:
+
+        def role = rowLevelRoleRepository.getRoleByCode(TestRowLevelExpressionRole.NAME)
+        def policy = role.rowLevelPolicies.find { it.entityName == 'test_Order' && it.action == RowLevelPolicyAction.READ }
+
+        then:
+
+        policy.whereClause == "{E}.number in ('A-1-B', 'A-2-B', 'A-3-B')"
+    }
+
+    def "row-level expression with disjunction traversing a reference is not translated to JPQL"() {
+
+        when:
+
+        def role = rowLevelRoleRepository.getRoleByCode(TestRowLevelExpressionRole.NAME)
+        def policy = role.rowLevelPolicies.find { it.entityName == 'test_OrderInfo' && it.action == RowLevelPolicyAction.READ }
+
+        then:
+
+        policy.whereClause == null
+        policy.biPredicate != null
+    }
+
+    def "row-level expression with disjunction traversing a reference keeps instances with null reference"() {
+
+        given:
+
+        [order1, order2, null].each {
+            def orderInfo = metadata.create(OrderInfo)
+            orderInfo.order = it
+            dataManager.unconstrained().save(orderInfo)
+        }
+
+        when:
+
+        systemAuthenticator.begin('user4')
+        def orderInfos = dataManager.load(OrderInfo).all().fetchPlan { it.addAll('order.number') }.list()
+        systemAuthenticator.end()
+
+        then:
+
+        orderInfos.size() == 2
+        orderInfos*.order*.number.toSet() == ['A-1-B', null].toSet()
+    }
+
+    def "ordering comparison of strings is rejected"() {
+
+        when:
+
+        RowLevelExpression.property('number').greater('A-1-B')
+
+        then:
+
+        thrown(IllegalArgumentException)
+    }
+
+    def "row-level expression restricts paging and counting in the database"() {
+
+        given:
+
+        ['A-2-B', 'A-2-C', 'A-3-B'].each {
+            def order = metadata.create(TestOrder)
+            order.number = it
+            dataManager.unconstrained().save(order)
+        }
+
+        when:
+
+        systemAuthenticator.begin('user4')
+        def firstPage = dataManager.load(TestOrder).all().sort(Sort.by('number')).firstResult(0).maxResults(2).list()
+        def secondPage = dataManager.load(TestOrder).all().sort(Sort.by('number')).firstResult(2).maxResults(2).list()
+        def count = dataManager.getCount(new LoadContext(metadata.getClass(TestOrder))
+                .setQuery(new LoadContext.Query('select e from test_Order e')))
+        systemAuthenticator.end()
+
+        then:
+
+        firstPage*.number == ['A-1-B', 'A-2-B']
+        secondPage*.number == ['A-3-B']
+        count == 3
+    }
 }
@@ -16,10 +16,17 @@
 
 package query_parameters
 
+import io.jmix.core.LoadContext
+import io.jmix.core.Metadata
+import io.jmix.core.UnconstrainedDataManager
+import io.jmix.core.security.InMemoryUserRepository
 import io.jmix.core.security.SystemAuthenticator
 import io.jmix.securitydata.impl.CurrentUserQueryParamValueProvider
 import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.security.core.GrantedAuthority
+import org.springframework.security.core.userdetails.UserDetails
 import test_support.SecurityDataSpecification
+import test_support.entity.TestOrder
 
 class QueryParametersTest extends SecurityDataSpecification {
 
@@ -29,6 +36,15 @@ class QueryParametersTest extends SecurityDataSpecification {
     @Autowired
     CurrentUserQueryParamValueProvider currentUserQueryParamValueProvider
 
+    @Autowired
+    UnconstrainedDataManager dataManager
+
+    @Autowired
+    Metadata metadata
+
+    @Autowired
+    InMemoryUserRepository userRepository
+
     def "test UserDetails attributes"() {
         when:
         def value = authenticator.withSystem {
@@ -46,4 +62,43 @@ class QueryParametersTest extends SecurityDataSpecification {
         then:
         value == true
     }
+
+    def "current user parameter in previous query"() {
+        def orders = ['1', '2', '3'].collect {
+            def order = dataManager.create(TestOrder)
+            order.number = it
+            dataManager.save(order)
+        }
+        def user = new UserWithId(id: orders[0].id, username: 'user_with_id')
+        userRepository.addUser(user)
+
+        def loadContext = new LoadContext(metadata.getClass(TestOrder))
+                .setQuery(new LoadContext.Query('select e from test_Order e where e.number <> :p')
+                        .setParameter('p', '3'))
+        loadContext.getPreviousQueries().add(
+                new LoadContext.Query('select e from test_Order e where e.id <> :current_user_id'))
+
+        when:
+        List<TestOrder> result = authenticator.withUser('user_with_id') {
+            dataManager.loadList(loadContext)
+        }
+
+        then:
+        result*.number == ['2']
+
+        cleanup:
+        userRepository.removeUser(user)
+        jdbcTemplate.update('delete from TEST_ORDER')
+    }
+
+    static class UserWithId implements UserDetails {
+        UUID id
+        String username
+        String password = '{noop}'
+        Collection<? extends GrantedAuthority> authorities = []
+        boolean accountNonExpired = true
+        boolean accountNonLocked = true
+        boolean credentialsNonExpired = true
+        boolean enabled = true
+    }
 }
@@ -21,6 +21,7 @@ import io.jmix.security.model.EntityPolicyAction;
 import io.jmix.security.role.annotation.EntityAttributePolicy;
 import io.jmix.security.role.annotation.EntityPolicy;
 import io.jmix.security.role.annotation.ResourceRole;
+import test_support.entity.OrderInfo;
 import test_support.entity.TestOrder;
 
 @ResourceRole(code = TestOrderFullAccessRole.NAME, name = TestOrderFullAccessRole.NAME)
@@ -30,4 +31,8 @@ public interface TestOrderFullAccessRole {
     @EntityPolicy(entityClass = TestOrder.class, actions = EntityPolicyAction.ALL)
     @EntityAttributePolicy(entityClass = TestOrder.class, attributes = "*", action = EntityAttributePolicyAction.MODIFY)
     void policies();
+
+    @EntityPolicy(entityClass = OrderInfo.class, actions = EntityPolicyAction.ALL)
+    @EntityAttributePolicy(entityClass = OrderInfo.class, attributes = "*", action = EntityAttributePolicyAction.MODIFY)
+    void orderInfoPolicies();
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package test_support.role;
+
+import io.jmix.security.model.RowLevelExpression;
+import io.jmix.security.model.RowLevelPolicyAction;
+import io.jmix.security.role.annotation.PredicateRowLevelPolicy;
+import io.jmix.security.role.annotation.RowLevelRole;
+import test_support.entity.OrderInfo;
+import test_support.entity.TestOrder;
+
+import java.util.Arrays;
+
+/**
+ * Test role for testing in-memory row-level policies translated to JPQL.
+ */
+@RowLevelRole(code = TestRowLevelExpressionRole.NAME, name = TestRowLevelExpressionRole.NAME)
+public interface TestRowLevelExpressionRole {
+
+    String NAME = "TestRowLevelExpressionRole";
+
+    @PredicateRowLevelPolicy(entityClass = TestOrder.class, actions = RowLevelPolicyAction.READ)
+    static RowLevelExpression<TestOrder> numberInList() {
+        return RowLevelExpression.property("number").in(Arrays.asList("A-1-B", "A-2-B", "A-3-B"));
+    }
+
+    @PredicateRowLevelPolicy(entityClass = OrderInfo.class, actions = RowLevelPolicyAction.READ)
+    static RowLevelExpression<OrderInfo> orderNumberOrNoOrder() {
+        return RowLevelExpression.property("order.number").<OrderInfo>eq("A-1-B")
+                .or(RowLevelExpression.property("order").isNull());
+    }
+}
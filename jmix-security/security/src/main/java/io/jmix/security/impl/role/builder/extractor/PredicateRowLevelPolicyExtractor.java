@@ -17,11 +17,13 @@
 package io.jmix.security.impl.role.builder.extractor;
 
 import io.jmix.core.Metadata;
+import io.jmix.core.MetadataTools;
 import io.jmix.core.common.util.ReflectionHelper;
 import io.jmix.core.impl.method.ContextArgumentResolverComposite;
 import io.jmix.core.impl.method.MethodArgumentsProvider;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.security.model.RowLevelBiPredicate;
+import io.jmix.security.model.RowLevelExpression;
 import io.jmix.security.model.RowLevelPolicy;
 import io.jmix.security.model.RowLevelPolicyAction;
 import io.jmix.security.model.RowLevelPredicate;
@@ -50,12 +52,15 @@ public class PredicateRowLevelPolicyExtractor implements RowLevelPolicyExtractor
     private static final Logger log = LoggerFactory.getLogger(PredicateRowLevelPolicyExtractor.class);
 
     protected Metadata metadata;
+    protected MetadataTools metadataTools;
     protected ConcurrentMap<Class<?>, Object> proxyCache = new ConcurrentHashMap<>();
     private final MethodArgumentsProvider methodArgumentsProvider;
 
     @Autowired
-    public PredicateRowLevelPolicyExtractor(Metadata metadata, ContextArgumentResolverComposite resolvers) {
+    public PredicateRowLevelPolicyExtractor(Metadata metadata, MetadataTools metadataTools,
+                                            ContextArgumentResolverComposite resolvers) {
         this.metadata = metadata;
+        this.metadataTools = metadataTools;
         this.methodArgumentsProvider = new MethodArgumentsProvider(resolvers);
     }
 
@@ -94,9 +99,19 @@ public class PredicateRowLevelPolicyExtractor implements RowLevelPolicyExtractor
                         continue;
                     }
 
+                    String whereClause = null;
+                    if (action == RowLevelPolicyAction.READ && policyFunction instanceof RowLevelExpression) {
+                        whereClause = ((RowLevelExpression<?>) policyFunction).toJpql(metaClass, metadataTools);
+                        if (whereClause == null) {
+                            log.debug("Row level policy {} of {} cannot be applied to JPQL queries and is tested in memory only",
+                                    method.getName(), method.getDeclaringClass().getName());
+                        }
+                    }
+
                     RowLevelPolicy rowLevelPolicy = new RowLevelPolicy(metaClass.getName(),
                             action,
                             biPredicate,
+                            whereClause,
                             Collections.singletonMap("uniqueKey", UUID.randomUUID().toString()));
                     policies.add(rowLevelPolicy);
                 } catch (Exception e) {
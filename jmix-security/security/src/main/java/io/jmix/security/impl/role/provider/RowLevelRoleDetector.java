@@ -21,6 +21,9 @@ import io.jmix.security.role.annotation.RowLevelRole;
 import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Collections;
+
 @Component("sec_RowLevelRoleDetector")
 public class RowLevelRoleDetector implements ClasspathScanCandidateDetector {
 
@@ -28,4 +31,9 @@ public class RowLevelRoleDetector implements ClasspathScanCandidateDetector {
     public boolean isCandidate(MetadataReader metadataReader) {
         return (metadataReader.getAnnotationMetadata().hasAnnotation(RowLevelRole.class.getName()));
     }
+
+    @Override
+    public Collection<String> getIndexedTypes() {
+        return Collections.singleton(RowLevelRole.class.getName());
+    }
 }
@@ -0,0 +1,472 @@
+/*
+ * Copyright 2023 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.security.model;
+
+import io.jmix.core.MetadataTools;
+import io.jmix.core.entity.EntityValues;
+import io.jmix.core.impl.QueryParamValuesManager;
+import io.jmix.core.metamodel.datatype.EnumClass;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.metamodel.model.MetaPropertyPath;
+import org.springframework.context.ApplicationContext;
+import org.springframework.lang.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * In-memory row-level predicate defined by a simple expression which can also be translated to a JPQL "where" clause.
+ * <p>
+ * If a method annotated with {@link io.jmix.security.role.annotation.PredicateRowLevelPolicy} returns
+ * an expression which can be translated to JPQL, the READ policy additionally restricts JPQL queries, so paging and
+ * counting are performed by the database. The predicate is still tested in memory for loaded instances.
+ * <p>
+ * Only comparisons of persistent properties not traversing to-many references with literals (strings, numbers,
+ * booleans and enums) or with query parameters supplied by {@link io.jmix.core.QueryParamValueProvider}s, like
+ * {@code current_user_username}, can be translated. A disjunction is translated only if none of its expressions
+ * traverses a reference: JPQL joins the reference with an inner join, which would hide instances having the
+ * reference null even if another expression of the disjunction is true for them. Other expressions are tested
+ * in memory only.
+ * <p>
+ * Ordering comparisons ({@code greater}, {@code less} and others) do not accept strings and enums and throw
+ * {@link IllegalArgumentException} for them: in JPQL, strings are ordered by the database collation and enums by
+ * their ids, which does not match the ordering in memory.
+ * <p>
+ * Example:
+ * <pre>
+ * &#064;PredicateRowLevelPolicy(entityClass = TestOrder.class, actions = {RowLevelPolicyAction.READ})
+ * static RowLevelExpression&lt;TestOrder&gt; ownOrders() {
+ *     return RowLevelExpression.property("manager.username").eqCurrentUser("username");
+ * }
+ * </pre>
+ *
+ * @param <T> entity type
+ */
+public abstract class RowLevelExpression<T> implements RowLevelBiPredicate<T, ApplicationContext> {
+    private static final long serialVersionUID = 3326812532493622301L;
+
+    /**
+     * Placeholder of the entity alias in the JPQL clause.
+     */
+    public static final String ENTITY_ALIAS_PLACEHOLDER = "{E}";
+
+    /**
+     * Starts a condition on a property.
+     *
+     * @param propertyPath path to the property relative to the entity, e.g. {@code customer.name}
+     */
+    public static Property property(String propertyPath) {
+        return new Property(propertyPath);
+    }
+
+    /**
+     * Returns an expression which is true if both this and the given expressions are true.
+     */
+    public RowLevelExpression<T> and(RowLevelExpression<T> other) {
+        return new Junction<>(Arrays.asList(this, other), true);
+    }
+
+    /**
+     * Returns an expression which is true if any of this and the given expressions is true.
+     */
+    public RowLevelExpression<T> or(RowLevelExpression<T> other) {
+        return new Junction<>(Arrays.asList(this, other), false);
+    }
+
+    /**
+     * Returns JPQL condition equivalent to this expression.
+     *
+     * @param metaClass     entity class the expression is defined for
+     * @param metadataTools metadata tools
+     * @return JPQL condition using {@link #ENTITY_ALIAS_PLACEHOLDER} as the entity alias, or null if the expression
+     * cannot be translated to JPQL
+     */
+    @Nullable
+    public abstract String toJpql(MetaClass metaClass, MetadataTools metadataTools);
+
+    /**
+     * Returns true if the expression uses a property path traversing a reference which is not embedded.
+     */
+    protected abstract boolean traversesReferences(MetaClass metaClass, MetadataTools metadataTools);
+
+    /**
+     * Creates conditions on a property.
+     */
+    public static class Property {
+
+        protected final String path;
+
+        protected Property(String path) {
+            this.path = path;
+        }
+
+        public <T> RowLevelExpression<T> eq(Object value) {
+            return new Comparison<>(path, Operator.EQUAL, value, null);
+        }
+
+        public <T> RowLevelExpression<T> notEq(Object value) {
+            return new Comparison<>(path, Operator.NOT_EQUAL, value, null);
+        }
+
+        public <T> RowLevelExpression<T> greater(Object value) {
+            return new Comparison<>(path, Operator.GREATER, value, null);
+        }
+
+        public <T> RowLevelExpression<T> greaterOrEqual(Object value) {
+            return new Comparison<>(path, Operator.GREATER_OR_EQUAL, value, null);
+        }
+
+        public <T> RowLevelExpression<T> less(Object value) {
+            return new Comparison<>(path, Operator.LESS, value, null);
+        }
+
+        public <T> RowLevelExpression<T> lessOrEqual(Object value) {
+            return new Comparison<>(path, Operator.LESS_OR_EQUAL, value, null);
+        }
+
+        /**
+         * Compares the property with the value of a query parameter provided by a
+         * {@link io.jmix.core.QueryParamValueProvider}.
+         */
+        public <T> RowLevelExpression<T> eqParameter(String parameterName) {
+            return new Comparison<>(path, Operator.EQUAL, null, parameterName);
+        }
+
+        /**
+         * Compares the property with an attribute of the current user.
+         *
+         * @param userAttribute name of the user object attribute, e.g. {@code username}
+         */
+        public <T> RowLevelExpression<T> eqCurrentUser(String userAttribute) {
+            return eqParameter("current_user_" + userAttribute);
+        }
+
+        public <T> RowLevelExpression<T> in(Collection<?> values) {
+            return new In<>(path, new ArrayList<>(values));
+        }
+
+        public <T> RowLevelExpression<T> isNull() {
+            return new NullCheck<>(path, true);
+        }
+
+        public <T> RowLevelExpression<T> isNotNull() {
+            return new NullCheck<>(path, false);
+        }
+    }
+
+    protected enum Operator {
+        EQUAL("="),
+        NOT_EQUAL("<>"),
+        GREATER(">"),
+        GREATER_OR_EQUAL(">="),
+        LESS("<"),
+        LESS_OR_EQUAL("<=");
+
+        private final String jpql;
+
+        Operator(String jpql) {
+            this.jpql = jpql;
+        }
+
+        boolean matches(int comparisonResult) {
+            switch (this) {
+                case EQUAL:
+                    return comparisonResult == 0;
+                case NOT_EQUAL:
+                    return comparisonResult != 0;
+                case GREATER:
+                    return comparisonResult > 0;
+                case GREATER_OR_EQUAL:
+                    return comparisonResult >= 0;
+                case LESS:
+                    return comparisonResult < 0;
+                default:
+                    return comparisonResult <= 0;
+            }
+        }
+    }
+
+    protected static class Comparison<T> extends RowLevelExpression<T> {
+        private static final long serialVersionUID = -1877367262962718062L;
+
+        protected final String path;
+        protected final Operator operator;
+        protected final Object value;
+        protected final String parameterName;
+
+        protected Comparison(String path, Operator operator, @Nullable Object value, @Nullable String parameterName) {
+            if (operator != Operator.EQUAL && operator != Operator.NOT_EQUAL
+                    && (value instanceof CharSequence || value instanceof EnumClass || value instanceof Enum)) {
+                throw new IllegalArgumentException(String.format(
+                        "Operator '%s' is not supported for string and enum values, property: %s",
+                        operator.jpql, path));
+            }
+            this.path = path;
+            this.operator = operator;
+            this.value = value;
+            this.parameterName = parameterName;
+        }
+
+        @Override
+        public boolean test(T entity, ApplicationContext applicationContext) {
+            Object propertyValue = EntityValues.getValueEx(entity, path);
+            Object comparedValue = parameterName != null
+                    ? applicationContext.getBean(QueryParamValuesManager.class).getValue(parameterName)
+                    : value;
+            // null does not satisfy any comparison, as in JPQL
+            if (propertyValue == null || comparedValue == null) {
+                return false;
+            }
+            if (operator == Operator.EQUAL || operator == Operator.NOT_EQUAL) {
+                boolean equal = propertyValue instanceof Number && comparedValue instanceof Number
+                        ? compareNumbers((Number) propertyValue, (Number) comparedValue) == 0
+                        : propertyValue.equals(comparedValue);
+                return equal == (operator == Operator.EQUAL);
+            }
+            Integer comparisonResult = compareValues(propertyValue, comparedValue);
+            return comparisonResult != null && operator.matches(comparisonResult);
+        }
+
+        @Nullable
+        @Override
+        public String toJpql(MetaClass metaClass, MetadataTools metadataTools) {
+            if (!isQueryablePath(metaClass, path, metadataTools, false)) {
+                return null;
+            }
+            String operand = parameterName != null ? ":" + parameterName : toJpqlLiteral(value);
+            if (operand == null) {
+                return null;
+            }
+            return ENTITY_ALIAS_PLACEHOLDER + "." + path + " " + operator.jpql + " " + operand;
+        }
+
+        @Override
+        protected boolean traversesReferences(MetaClass metaClass, MetadataTools metadataTools) {
+            return traversesReference(metaClass, path, metadataTools);
+        }
+    }
+
+    protected static class In<T> extends RowLevelExpression<T> {
+        private static final long serialVersionUID = 6113934869311593658L;
+
+        protected final String path;
+        protected final List<Object> values;
+
+        protected In(String path, List<Object> values) {
+            this.path = path;
+            this.values = values;
+        }
+
+        @Override
+        public boolean test(T entity, ApplicationContext applicationContext) {
+            Object propertyValue = EntityValues.getValueEx(entity, path);
+            if (propertyValue == null) {
+                return false;
+            }
+            for (Object value : values) {
+                if (value != null && (propertyValue instanceof Number && value instanceof Number
+                        ? compareNumbers((Number) propertyValue, (Number) value) == 0
+                        : propertyValue.equals(value))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Nullable
+        @Override
+        public String toJpql(MetaClass metaClass, MetadataTools metadataTools) {
+            if (values.isEmpty() || !isQueryablePath(metaClass, path, metadataTools, false)) {
+                return null;
+            }
+            List<String> literals = new ArrayList<>(values.size());
+            for (Object value : values) {
+                String literal = toJpqlLiteral(value);
+                if (literal == null) {
+                    return null;
+                }
+                literals.add(literal);
+            }
+            return ENTITY_ALIAS_PLACEHOLDER + "." + path + " in (" + String.join(", ", literals) + ")";
+        }
+
+        @Override
+        protected boolean traversesReferences(MetaClass metaClass, MetadataTools metadataTools) {
+            return traversesReference(metaClass, path, metadataTools);
+        }
+    }
+
+    protected static class NullCheck<T> extends RowLevelExpression<T> {
+        private static final long serialVersionUID = -3417282004917585316L;
+
+        protected final String path;
+        protected final boolean isNull;
+
+        protected NullCheck(String path, boolean isNull) {
+            this.path = path;
+            this.isNull = isNull;
+        }
+
+        @Override
+        public boolean test(T entity, ApplicationContext applicationContext) {
+            return (EntityValues.getValueEx(entity, path) == null) == isNull;
+        }
+
+        @Nullable
+        @Override
+        public String toJpql(MetaClass metaClass, MetadataTools metadataTools) {
+            // a path traversing references is an inner join in JPQL, which excludes instances with null references
+            if (!isQueryablePath(metaClass, path, metadataTools, true)) {
+                return null;
+            }
+            return ENTITY_ALIAS_PLACEHOLDER + "." + path + (isNull ? " is null" : " is not null");
+        }
+
+        @Override
+        protected boolean traversesReferences(MetaClass metaClass, MetadataTools metadataTools) {
+            return traversesReference(metaClass, path, metadataTools);
+        }
+    }
+
+    protected static class Junction<T> extends RowLevelExpression<T> {
+        private static final long serialVersionUID = -5905384563271624722L;
+
+        protected final List<RowLevelExpression<T>> expressions;
+        protected final boolean conjunction;
+
+        protected Junction(List<RowLevelExpression<T>> expressions, boolean conjunction) {
+            this.expressions = expressions;
+            this.conjunction = conjunction;
+        }
+
+        @Override
+        public boolean test(T entity, ApplicationContext applicationContext) {
+            for (RowLevelExpression<T> expression : expressions) {
+                if (expression.test(entity, applicationContext) != conjunction) {
+                    return !conjunction;
+                }
+            }
+            return conjunction;
+        }
+
+        @Nullable
+        @Override
+        public String toJpql(MetaClass metaClass, MetadataTools metadataTools) {
+            // inner joins of traversed references would exclude instances satisfying other expressions
+            if (!conjunction && traversesReferences(metaClass, metadataTools)) {
+                return null;
+            }
+            List<String> conditions = new ArrayList<>(expressions.size());
+            for (RowLevelExpression<T> expression : expressions) {
+                String condition = expression.toJpql(metaClass, metadataTools);
+                if (condition == null) {
+                    return null;
+                }
+                conditions.add("(" + condition + ")");
+            }
+            return String.join(conjunction ? " and " : " or ", conditions);
+        }
+
+        @Override
+        protected boolean traversesReferences(MetaClass metaClass, MetadataTools metadataTools) {
+            for (RowLevelExpression<T> expression : expressions) {
+                if (expression.traversesReferences(metaClass, metadataTools)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    protected static boolean isQueryablePath(MetaClass metaClass, String path, MetadataTools metadataTools,
+                                             boolean embeddedOnly) {
+        MetaPropertyPath propertyPath = metaClass.getPropertyPath(path);
+        if (propertyPath == null) {
+            return false;
+        }
+        MetaProperty[] metaProperties = propertyPath.getMetaProperties();
+        for (int i = 0; i < metaProperties.length; i++) {
+            MetaProperty metaProperty = metaProperties[i];
+            if (!metadataTools.isJpa(metaProperty)
+                    || metadataTools.isMethodBased(metaProperty)
+                    || metaProperty.getRange().getCardinality().isMany()) {
+                return false;
+            }
+            if (embeddedOnly && i < metaProperties.length - 1 && !metadataTools.isEmbedded(metaProperty)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected static boolean traversesReference(MetaClass metaClass, String path, MetadataTools metadataTools) {
+        MetaPropertyPath propertyPath = metaClass.getPropertyPath(path);
+        if (propertyPath == null) {
+            return false;
+        }
+        MetaProperty[] metaProperties = propertyPath.getMetaProperties();
+        for (int i = 0; i < metaProperties.length - 1; i++) {
+            if (!metadataTools.isEmbedded(metaProperties[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    protected static String toJpqlLiteral(@Nullable Object value) {
+        if (value instanceof EnumClass) {
+            value = ((EnumClass<?>) value).getId();
+        }
+        if (value instanceof String) {
+            return "'" + ((String) value).replace("'", "''") + "'";
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof BigInteger) {
+            return value.toString();
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        if (value instanceof Boolean) {
+            return value.toString();
+        }
+        return null;
+    }
+
+    protected static int compareNumbers(Number n1, Number n2) {
+        return new BigDecimal(n1.toString()).compareTo(new BigDecimal(n2.toString()));
+    }
+
+    @Nullable
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected static Integer compareValues(Object v1, Object v2) {
+        if (v1 instanceof Number && v2 instanceof Number) {
+            return compareNumbers((Number) v1, (Number) v2);
+        }
+        if (v1 instanceof Comparable && v1.getClass().isInstance(v2)) {
+            return ((Comparable) v1).compareTo(v2);
+        }
+        return null;
+    }
+}
@@ -73,9 +73,19 @@ public class RowLevelPolicy implements Serializable {
 
     public RowLevelPolicy(String entityName, RowLevelPolicyAction action, RowLevelBiPredicate<Object, ApplicationContext> biPredicate,
                           Map<String, String> customProperties) {
+        this(entityName, action, biPredicate, null, customProperties);
+    }
+
+    /**
+     * Creates an in-memory policy whose predicate is also expressed by the given JPQL "where" clause. The clause
+     * restricts queries for the READ action, and the predicate is tested for loaded instances.
+     */
+    public RowLevelPolicy(String entityName, RowLevelPolicyAction action, RowLevelBiPredicate<Object, ApplicationContext> biPredicate,
+                          @Nullable String whereClause, Map<String, String> customProperties) {
         this.entityName = entityName;
         this.action = action;
         this.biPredicate = biPredicate;
+        this.whereClause = whereClause;
         this.type = RowLevelPolicyType.PREDICATE;
         this.customProperties = customProperties;
     }
@@ -117,7 +127,8 @@ public class RowLevelPolicy implements Serializable {
     }
 
     /**
-     * Returns "where" clause for JPQL policy
+     * Returns "where" clause for JPQL policy. For in-memory policy, returns the clause equivalent to the predicate
+     * if the predicate is a {@link RowLevelExpression} which can be translated to JPQL.
      *
      * @return JPQL "where" clause
      */
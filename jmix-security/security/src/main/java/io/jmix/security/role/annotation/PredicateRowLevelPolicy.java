@@ -39,6 +39,9 @@ import java.lang.annotation.Target;
  * {@code RowLevelBiPredicate} must be used when you need to use Spring beans in the function. The second parameter of the
  * bi-predicate is {@link org.springframework.context.ApplicationContext}.
  * <p>
+ * If the method returns a {@link io.jmix.security.model.RowLevelExpression} that can be translated to JPQL, the READ
+ * policy is also applied to JPQL queries, so loading with paging and counting do not require filtering in memory.
+ * <p>
  * Example:
  * <pre>
  * &#064;RowLevelRole(name = "TestPredicateRoleLevelPolicyRole", code = "TestPredicateRoleLevelPolicyRole")
@@ -66,6 +69,7 @@ import java.lang.annotation.Target;
  * @see io.jmix.security.model.RowLevelPolicy
  * @see io.jmix.security.model.RowLevelPredicate
  * @see io.jmix.security.model.RowLevelBiPredicate
+ * @see io.jmix.security.model.RowLevelExpression
  */
 @Target({ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)